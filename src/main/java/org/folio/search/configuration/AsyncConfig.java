@@ -2,6 +2,8 @@ package org.folio.search.configuration;
 
 import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.configuration.properties.StreamIdsProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +15,12 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @RequiredArgsConstructor
 public class AsyncConfig {
 
+  public static final String TENANT_EVENTS_EXECUTOR_NAME = "tenantEventsExecutor";
+  public static final String INVENTORY_FETCH_EXECUTOR_NAME = "inventoryFetchExecutor";
+  public static final String DOCUMENT_CONVERSION_EXECUTOR_NAME = "documentConversionExecutor";
+  public static final String BULK_RETRY_EXECUTOR_NAME = "bulkRetryExecutor";
+  public static final String REFERENCE_DATA_REFRESH_EXECUTOR_NAME = "referenceDataRefreshExecutor";
+
   private final StreamIdsProperties streamIdsProperties;
 
   @Bean
@@ -25,5 +33,61 @@ public class AsyncConfig {
     executor.initialize();
     return executor;
   }
-}
 
+  @Bean(TENANT_EVENTS_EXECUTOR_NAME)
+  public Executor tenantEventsExecutor(SearchConfigurationProperties searchConfigurationProperties) {
+    var maxConcurrentTenants = searchConfigurationProperties.getIndexing().getTenantProcessing()
+      .getMaxConcurrentTenants();
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(maxConcurrentTenants);
+    executor.setMaxPoolSize(maxConcurrentTenants);
+    executor.setThreadNamePrefix("TenantEvents-");
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean(INVENTORY_FETCH_EXECUTOR_NAME)
+  public Executor inventoryFetchExecutor(SearchConfigurationProperties searchConfigurationProperties) {
+    var maxConcurrentRequests = searchConfigurationProperties.getIndexing().getInventoryFetch()
+      .getMaxConcurrentRequests();
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(maxConcurrentRequests);
+    executor.setMaxPoolSize(maxConcurrentRequests);
+    executor.setThreadNamePrefix("InventoryFetch-");
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean(DOCUMENT_CONVERSION_EXECUTOR_NAME)
+  public Executor documentConversionExecutor(SearchConfigurationProperties searchConfigurationProperties) {
+    var maxConcurrency = searchConfigurationProperties.getIndexing().getConversion().getMaxConcurrency();
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(maxConcurrency);
+    executor.setMaxPoolSize(maxConcurrency);
+    executor.setThreadNamePrefix("DocumentConversion-");
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean(BULK_RETRY_EXECUTOR_NAME)
+  public Executor bulkRetryExecutor(SearchConfigurationProperties searchConfigurationProperties) {
+    var maxInFlightRequests = searchConfigurationProperties.getIndexing().getBulk().getMaxInFlightRequests();
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(maxInFlightRequests);
+    executor.setMaxPoolSize(maxInFlightRequests);
+    executor.setThreadNamePrefix("BulkRetry-");
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean(REFERENCE_DATA_REFRESH_EXECUTOR_NAME)
+  public Executor referenceDataRefreshExecutor(SearchCacheConfigurationProperties cacheConfigurationProperties) {
+    var maxConcurrentRefreshes = cacheConfigurationProperties.getReferenceDataRefreshConcurrency();
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(maxConcurrentRefreshes);
+    executor.setMaxPoolSize(maxConcurrentRefreshes);
+    executor.setThreadNamePrefix("ReferenceDataRefresh-");
+    executor.initialize();
+    return executor;
+  }
+}
@@ -1,9 +1,15 @@
 package org.folio.search.configuration;
 
+import static org.folio.search.configuration.SearchCacheNames.INSTANCE_VIEW_CACHE;
+
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.util.List;
 import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.integration.ResourceFetchService;
+import org.folio.search.integration.ResourceFetchService.InstanceViewFetch;
 import org.folio.search.model.service.CallNumberBrowseRangeValue;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,4 +27,21 @@ public class CacheConfiguration {
     SearchCacheConfigurationProperties configuration) {
     return Caffeine.from(configuration.getCallNumberBrowseRangesCacheSpec()).build();
   }
+
+  /**
+   * Creates a {@link Cache} bean for instance view fetches from inventory during indexing.
+   *
+   * <p>Entries are replaced using {@link Cache#asMap()}, which does not record hits and misses, so they are recorded
+   * by {@link ResourceFetchService}.</p>
+   *
+   * @return created {@link Cache} bean with size and eviction metrics
+   */
+  @Bean
+  public Cache<String, InstanceViewFetch> instanceViewCache(SearchCacheConfigurationProperties configuration,
+                                                            MeterRegistry meterRegistry) {
+    Cache<String, InstanceViewFetch> cache = Caffeine.from(configuration.getInstanceViewCacheSpec())
+      .recordStats()
+      .build();
+    return CaffeineCacheMetrics.monitor(meterRegistry, cache, INSTANCE_VIEW_CACHE);
+  }
 }
@@ -13,4 +13,7 @@ public class SearchCacheNames {
   public static final String TENANT_FEATURES_CACHE = "tenant-features";
   public static final String SEARCH_PREFERENCE_CACHE = "search-preference";
   public static final String USER_TENANTS_CACHE = "user-tenants";
+  public static final String INSTANCE_VIEW_CACHE = "instance-view-cache";
+  public static final String CQL_QUERY_TEMPLATE_CACHE = "cql-query-template-cache";
+  public static final String SEARCH_RESULT_CACHE = "search-result-cache";
 }
@@ -1,7 +1,12 @@
 package org.folio.search.configuration.opensearch;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import java.util.Map;
 import java.util.function.Function;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.model.types.IndexingDataFormat;
+import org.folio.search.service.converter.StreamingDocumentWriter;
 import org.folio.search.utils.JsonConverter;
 import org.folio.search.utils.SmileConverter;
 import org.opensearch.common.bytes.BytesReference;
@@ -23,4 +28,11 @@ public class SearchDocumentBodyConverterConfig {
   public Function<Map<String, Object>, BytesReference> smileSearchDocumentBodyConverter(SmileConverter smileConverter) {
     return smileConverter::toSmile;
   }
+
+  @Bean
+  public StreamingDocumentWriter streamingDocumentWriter(SearchConfigurationProperties searchConfigurationProperties,
+                                                         ObjectMapper objectMapper) {
+    var dataFormat = searchConfigurationProperties.getIndexing().getDataFormat();
+    return new StreamingDocumentWriter(dataFormat == IndexingDataFormat.JSON ? objectMapper : new SmileMapper());
+  }
 }
@@ -1,5 +1,6 @@
 package org.folio.search.configuration.properties;
 
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -13,4 +14,69 @@ public class SearchCacheConfigurationProperties {
    * Caffeine cache configuration as {@link String} for call-number browsing.
    */
   private String callNumberBrowseRangesCacheSpec;
+
+  /**
+   * Specifies if instance views fetched from inventory must be cached for a short time and shared by concurrent
+   * fetches, a cached view or an in-flight fetch is used for instance, holding or item events only if it was started
+   * after the events were received.
+   */
+  private boolean instanceViewCacheEnabled = false;
+
+  /**
+   * Caffeine cache configuration as {@link String} for instance views fetched from inventory.
+   */
+  private String instanceViewCacheSpec = "maximumSize=10000,expireAfterWrite=5s";
+
+  /**
+   * Specifies if converted CQL queries must be cached as query templates.
+   */
+  private boolean cqlQueryTemplateCacheEnabled = false;
+
+  /**
+   * Caffeine cache configuration as {@link String} for converted CQL query templates.
+   */
+  private String cqlQueryTemplateCacheSpec = "maximumSize=1000,expireAfterAccess=1h";
+
+  /**
+   * Specifies if search results must be cached until the searched resource is changed or the cache entry expires.
+   */
+  private boolean searchResultCacheEnabled = false;
+
+  /**
+   * Caffeine cache configuration as {@link String} for search results.
+   */
+  private String searchResultCacheSpec = "maximumSize=1000,expireAfterWrite=30s";
+
+  /**
+   * Time after an index write, during which search results of the written resource are not cached, must be not less
+   * than the index refresh interval.
+   */
+  private Duration searchResultCacheRefreshDelay = Duration.ofSeconds(1);
+
+  /**
+   * Time to live for cached absent indices, so events of tenants without some indices do not trigger index existence
+   * checks on every poll.
+   */
+  private Duration indexExistenceNegativeTtl = Duration.ofSeconds(10);
+
+  /**
+   * Interval after which identifier type snapshots are refreshed in the background.
+   */
+  private Duration identifierTypesRefreshInterval = Duration.ofMinutes(10);
+
+  /**
+   * Caffeine cache configuration as {@link String} for identifier type snapshots, refresh interval is configured by
+   * {@link #identifierTypesRefreshInterval}.
+   */
+  private String identifierTypesCacheSpec = "maximumSize=1000,expireAfterAccess=1d";
+
+  /**
+   * Max number of reference data snapshots refreshed in the background at the same time.
+   */
+  private int referenceDataRefreshConcurrency = 2;
+
+  /**
+   * Time to live for tenant language and feature configuration snapshots used during resource conversion.
+   */
+  private Duration tenantConfigSnapshotTtl = Duration.ofHours(1);
 }
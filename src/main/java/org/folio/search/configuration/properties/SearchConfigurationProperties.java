@@ -14,6 +14,7 @@ import org.folio.search.domain.dto.TenantConfiguredFeature;
 import org.folio.search.model.types.IndexingDataFormat;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 @Data
@@ -69,6 +70,185 @@ public class SearchConfigurationProperties {
      * Data format to use for passing data to elasticsearch.
      */
     private IndexingDataFormat dataFormat;
+
+    /**
+     * Specifies if search documents must be written directly to the configured data format, without building the
+     * whole document as a map first.
+     */
+    private boolean streamingConversionEnabled = false;
+
+    /**
+     * Fallback strategy for batches failed after all retries: {@code bisect} or {@code one-by-one}.
+     */
+    private String batchFallbackStrategy = "bisect";
+
+    /**
+     * Bulk requests settings for indexing operations.
+     */
+    private BulkIndexingSettings bulk = new BulkIndexingSettings();
+
+    /**
+     * Settings for processing of multi-tenant event batches.
+     */
+    private TenantProcessingSettings tenantProcessing = new TenantProcessingSettings();
+
+    /**
+     * Settings for fetching instances from inventory during indexing.
+     */
+    private InventoryFetchSettings inventoryFetch = new InventoryFetchSettings();
+
+    /**
+     * Maximum time in milliseconds to wait for contributor and subject events to be acknowledged by Kafka.
+     */
+    @Min(1)
+    private long derivedEventsSendTimeoutMs = 30_000;
+
+    /**
+     * Settings for conversion of resource events to search documents.
+     */
+    private DocumentConversionSettings conversion = new DocumentConversionSettings();
+  }
+
+  @Data
+  @Validated
+  public static class DocumentConversionSettings {
+
+    /**
+     * Specifies if events of a batch must be converted to search documents concurrently.
+     */
+    private boolean parallelEnabled = false;
+
+    /**
+     * Maximum number of threads converting events of a batch.
+     */
+    @Min(1)
+    private int maxConcurrency = 4;
+
+    /**
+     * Minimal number of events in a tenant batch to convert it concurrently.
+     */
+    @Min(1)
+    private int parallelThreshold = 20;
+  }
+
+  @Data
+  @Validated
+  public static class InventoryFetchSettings {
+
+    /**
+     * Number of instance ids requested from inventory in a single call.
+     */
+    @Min(1)
+    private int batchSize = 50;
+
+    /**
+     * Maximum number of concurrent inventory calls.
+     */
+    @Min(1)
+    private int maxConcurrentRequests = 4;
+
+    /**
+     * Specifies if the batch size must be decreased when inventory responses become slow or oversized and increased
+     * back up to the batch size when they are fast again.
+     */
+    private boolean adaptiveEnabled = false;
+
+    /**
+     * Minimal batch size used by the adaptive mode.
+     */
+    @Min(1)
+    private int minBatchSize = 10;
+
+    /**
+     * Inventory call duration in milliseconds after which the adaptive mode decreases the batch size.
+     */
+    @Min(1)
+    private long slowCallThresholdMs = 2000;
+
+    /**
+     * Total number of holdings and items in a single response after which the adaptive mode decreases the batch
+     * size.
+     */
+    @Min(1)
+    private int maxResponseRecords = 5000;
+  }
+
+  @Data
+  @Validated
+  public static class TenantProcessingSettings {
+
+    /**
+     * Specifies if sub-batches of different tenants from the same poll must be processed concurrently.
+     */
+    private boolean parallelEnabled = false;
+
+    /**
+     * Maximum number of tenant sub-batches processed concurrently.
+     */
+    @Min(1)
+    private int maxConcurrentTenants = 4;
+
+    /**
+     * Maximum number of sub-batches of the same tenant processed concurrently by the tenant events executor, other
+     * sub-batches of that tenant are processed in the listener thread, so one busy tenant cannot occupy the executor.
+     */
+    @Min(1)
+    private int maxConcurrencyPerTenant = 1;
+  }
+
+  @Data
+  @Validated
+  public static class BulkIndexingSettings {
+
+    /**
+     * Specifies if bulk requests must be sent asynchronously, so preparation of the next documents overlaps with the
+     * bulk write of the previous ones.
+     */
+    private boolean asyncEnabled = false;
+
+    /**
+     * Maximum number of asynchronous bulk requests in flight per resource repository, including chunks of split bulk
+     * requests.
+     */
+    @Min(1)
+    private int maxInFlightRequests = 2;
+
+    /**
+     * Number of resource events prepared and sent within one asynchronous bulk request.
+     */
+    @Min(1)
+    private int pipelineBatchSize = 50;
+
+    /**
+     * Maximum estimated size of a single bulk request, bigger bulks are split into chunks sent in parallel, limited by
+     * {@link #maxInFlightRequests}.
+     */
+    private DataSize maxRequestSize = DataSize.ofMegabytes(10);
+
+    /**
+     * Maximum number of actions in a single bulk request, bigger bulks are split into chunks sent in parallel, limited
+     * by {@link #maxInFlightRequests}.
+     */
+    @Min(1)
+    private int maxRequestActions = 1000;
+
+    /**
+     * Number of retry attempts for bulk items rejected by the cluster or failed because of a server error.
+     */
+    @Min(0)
+    private int itemRetryAttempts = 3;
+
+    /**
+     * Initial backoff in milliseconds before retrying failed bulk items, doubled on each subsequent attempt.
+     */
+    @Min(1)
+    private long itemRetryInitialBackoffMs = 200;
+
+    /**
+     * Maximum backoff in milliseconds before retrying failed bulk items.
+     */
+    @Min(1)
+    private long itemRetryMaxBackoffMs = 5000;
   }
 
   @Data
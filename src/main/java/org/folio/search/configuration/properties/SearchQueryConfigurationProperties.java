@@ -28,4 +28,19 @@ public class SearchQueryConfigurationProperties {
    * Defines if call-number browse optimization is enabled or not.
    */
   private boolean callNumberBrowseOptimizationEnabled = true;
+
+  /**
+   * Time to keep point in time of a search cursor alive after each page request.
+   */
+  private Duration cursorKeepAlive = Duration.ofMinutes(5);
+
+  /**
+   * Secret key to sign search cursors, random key is generated on startup if it is not set.
+   */
+  private String cursorSecret;
+
+  /**
+   * Defines if search endpoints write found document sources to the response without conversion to result objects.
+   */
+  private boolean rawSourceResponseEnabled = false;
 }
@@ -0,0 +1,66 @@
+package org.folio.search.configuration.properties;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Component
+@ConfigurationProperties(prefix = "folio.query.execution")
+public class SearchRequestExecutionProperties {
+
+  /**
+   * Defines if search, browse and facet requests are executed asynchronously, releasing servlet threads while
+   * waiting for the search engine.
+   */
+  private boolean asyncEnabled = false;
+
+  /**
+   * Time to wait for the result of asynchronously executed request before responding with an error.
+   */
+  private Duration timeout = Duration.ofSeconds(60);
+
+  /**
+   * Concurrency limits for search endpoints.
+   */
+  @Valid
+  private EndpointSettings search = new EndpointSettings(20, 100);
+
+  /**
+   * Concurrency limits for browse endpoints.
+   */
+  @Valid
+  private EndpointSettings browse = new EndpointSettings(10, 50);
+
+  /**
+   * Concurrency limits for facets endpoint.
+   */
+  @Valid
+  private EndpointSettings facets = new EndpointSettings(10, 50);
+
+  @Data
+  @Validated
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class EndpointSettings {
+
+    /**
+     * Max number of requests executed at the same time.
+     */
+    @Min(1)
+    private int maxConcurrency = 10;
+
+    /**
+     * Max number of requests waiting for execution, requests exceeding it are rejected.
+     */
+    @Min(0)
+    private int queueCapacity = 50;
+  }
+}
@@ -11,6 +11,8 @@ import static org.folio.search.model.types.ErrorCode.VALIDATION_ERROR;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -30,6 +32,7 @@ import org.folio.search.exception.ValidationException;
 import org.folio.search.model.types.ErrorCode;
 import org.opensearch.OpenSearchException;
 import org.opensearch.index.Index;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -40,6 +43,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @Log4j2
@@ -233,6 +237,30 @@ public class ApiExceptionHandler {
     return buildResponseEntity(exception, BAD_REQUEST, VALIDATION_ERROR);
   }
 
+  /**
+   * Handles all {@link TaskRejectedException} exceptions, thrown when request exceeds concurrency limits of endpoint.
+   *
+   * @param exception {@link TaskRejectedException} object
+   * @return {@link ResponseEntity} with {@link ErrorResponse} body.
+   */
+  @ExceptionHandler(TaskRejectedException.class)
+  public ResponseEntity<ErrorResponse> handleTaskRejectedException(TaskRejectedException exception) {
+    logException(DEBUG, exception);
+    return buildResponseEntity(exception, "Too many concurrent requests", TOO_MANY_REQUESTS, SERVICE_ERROR);
+  }
+
+  /**
+   * Handles all {@link AsyncRequestTimeoutException} exceptions.
+   *
+   * @param exception {@link AsyncRequestTimeoutException} object
+   * @return {@link ResponseEntity} with {@link ErrorResponse} body.
+   */
+  @ExceptionHandler(AsyncRequestTimeoutException.class)
+  public ResponseEntity<ErrorResponse> handleAsyncRequestTimeoutException(AsyncRequestTimeoutException exception) {
+    logException(WARN, exception);
+    return buildResponseEntity(exception, "Request processing timed out", SERVICE_UNAVAILABLE, SERVICE_ERROR);
+  }
+
   /**
    * Handles all uncaught exceptions.
    *
@@ -270,9 +298,14 @@ public class ApiExceptionHandler {
   }
 
   private static ResponseEntity<ErrorResponse> buildResponseEntity(Exception e, HttpStatus status, ErrorCode code) {
+    return buildResponseEntity(e, e.getMessage(), status, code);
+  }
+
+  private static ResponseEntity<ErrorResponse> buildResponseEntity(Exception e, String message,
+                                                                   HttpStatus status, ErrorCode code) {
     var errorResponse = new ErrorResponse()
       .errors(List.of(new Error()
-        .message(e.getMessage())
+        .message(message)
         .type(e.getClass().getSimpleName())
         .code(code.getValue())))
       .totalRecords(1);
@@ -1,6 +1,7 @@
 package org.folio.search.controller;
 
 import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
+import static org.folio.search.service.SearchRequestExecutor.EndpointType.BROWSE;
 import static org.folio.search.utils.SearchUtils.AUTHORITY_BROWSING_FIELD;
 import static org.folio.search.utils.SearchUtils.AUTHORITY_RESOURCE;
 import static org.folio.search.utils.SearchUtils.CALL_NUMBER_BROWSING_FIELD;
@@ -22,6 +23,7 @@ import org.folio.search.exception.RequestValidationException;
 import org.folio.search.model.service.BrowseRequest;
 import org.folio.search.model.service.BrowseRequest.BrowseRequestBuilder;
 import org.folio.search.rest.resource.BrowseApi;
+import org.folio.search.service.SearchRequestExecutor;
 import org.folio.search.service.browse.AuthorityBrowseService;
 import org.folio.search.service.browse.CallNumberBrowseService;
 import org.folio.search.service.browse.ContributorBrowseService;
@@ -43,6 +45,7 @@ public class BrowseController implements BrowseApi {
   private final CallNumberBrowseService callNumberBrowseService;
   private final ContributorBrowseService contributorBrowseService;
   private final TenantProvider tenantProvider;
+  private final SearchRequestExecutor searchRequestExecutor;
 
   @Override
   public ResponseEntity<AuthorityBrowseResult> browseAuthorities(String query, String tenant,
@@ -51,12 +54,14 @@ public class BrowseController implements BrowseApi {
                                                                  Integer precedingRecordsCount) {
     var browseRequest = getBrowseRequestBuilder(query, tenant, limit, expandAll, highlightMatch, precedingRecordsCount)
       .resource(AUTHORITY_RESOURCE).targetField(AUTHORITY_BROWSING_FIELD).build();
-    var browseResult = authorityBrowseService.browse(browseRequest);
-    return ResponseEntity.ok(new AuthorityBrowseResult()
-      .items(browseResult.getRecords())
-      .totalRecords(browseResult.getTotalRecords())
-      .prev(browseResult.getPrev())
-      .next(browseResult.getNext()));
+    return searchRequestExecutor.execute(BROWSE, () -> {
+      var browseResult = authorityBrowseService.browse(browseRequest);
+      return new AuthorityBrowseResult()
+        .items(browseResult.getRecords())
+        .totalRecords(browseResult.getTotalRecords())
+        .prev(browseResult.getPrev())
+        .next(browseResult.getNext());
+    });
   }
 
   @Override
@@ -72,12 +77,14 @@ public class BrowseController implements BrowseApi {
       .refinedCondition(callNumberType != null ? callNumberType.getValue() : null)
       .build();
 
-    var instanceByCallNumber = callNumberBrowseService.browse(browseRequest);
-    return ResponseEntity.ok(new CallNumberBrowseResult()
-      .items(instanceByCallNumber.getRecords())
-      .totalRecords(instanceByCallNumber.getTotalRecords())
-      .prev(instanceByCallNumber.getPrev())
-      .next(instanceByCallNumber.getNext()));
+    return searchRequestExecutor.execute(BROWSE, () -> {
+      var instanceByCallNumber = callNumberBrowseService.browse(browseRequest);
+      return new CallNumberBrowseResult()
+        .items(instanceByCallNumber.getRecords())
+        .totalRecords(instanceByCallNumber.getTotalRecords())
+        .prev(instanceByCallNumber.getPrev())
+        .next(instanceByCallNumber.getNext());
+    });
   }
 
   @Override
@@ -87,12 +94,14 @@ public class BrowseController implements BrowseApi {
     var browseRequest = getBrowseRequestBuilder(query, tenant, limit, null, highlightMatch, precedingRecordsCount)
       .resource(CONTRIBUTOR_RESOURCE).targetField(CONTRIBUTOR_BROWSING_FIELD).build();
 
-    var browseResult = contributorBrowseService.browse(browseRequest);
-    return ResponseEntity.ok(new ContributorBrowseResult()
-      .items(browseResult.getRecords())
-      .totalRecords(browseResult.getTotalRecords())
-      .prev(browseResult.getPrev())
-      .next(browseResult.getNext()));
+    return searchRequestExecutor.execute(BROWSE, () -> {
+      var browseResult = contributorBrowseService.browse(browseRequest);
+      return new ContributorBrowseResult()
+        .items(browseResult.getRecords())
+        .totalRecords(browseResult.getTotalRecords())
+        .prev(browseResult.getPrev())
+        .next(browseResult.getNext());
+    });
   }
 
   @Override
@@ -102,12 +111,14 @@ public class BrowseController implements BrowseApi {
     var browseRequest = getBrowseRequestBuilder(query, tenant, limit, null, highlightMatch, precedingRecordsCount)
       .resource(INSTANCE_SUBJECT_RESOURCE).targetField(SUBJECT_BROWSING_FIELD).build();
 
-    var browseResult = subjectBrowseService.browse(browseRequest);
-    return ResponseEntity.ok(new SubjectBrowseResult()
-      .items(browseResult.getRecords())
-      .totalRecords(browseResult.getTotalRecords())
-      .prev(browseResult.getPrev())
-      .next(browseResult.getNext()));
+    return searchRequestExecutor.execute(BROWSE, () -> {
+      var browseResult = subjectBrowseService.browse(browseRequest);
+      return new SubjectBrowseResult()
+        .items(browseResult.getRecords())
+        .totalRecords(browseResult.getTotalRecords())
+        .prev(browseResult.getPrev())
+        .next(browseResult.getNext());
+    });
   }
 
   private BrowseRequestBuilder getBrowseRequestBuilder(String query, String tenant, Integer limit,
@@ -1,5 +1,6 @@
 package org.folio.search.controller;
 
+import static org.folio.search.service.SearchRequestExecutor.EndpointType.FACETS;
 import static org.folio.search.utils.SearchUtils.AUTHORITY_RESOURCE;
 import static org.folio.search.utils.SearchUtils.CONTRIBUTOR_RESOURCE;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
@@ -13,6 +14,7 @@ import org.folio.search.domain.dto.RecordType;
 import org.folio.search.model.service.CqlFacetRequest;
 import org.folio.search.rest.resource.FacetsApi;
 import org.folio.search.service.FacetService;
+import org.folio.search.service.SearchRequestExecutor;
 import org.folio.search.service.consortium.TenantProvider;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -34,6 +36,7 @@ public class FacetsController implements FacetsApi {
 
   private final FacetService facetService;
   private final TenantProvider tenantProvider;
+  private final SearchRequestExecutor searchRequestExecutor;
 
   @Override
   public ResponseEntity<FacetResult> getFacets(RecordType recordType, String query,
@@ -41,6 +44,6 @@ public class FacetsController implements FacetsApi {
     var recordResource = RECORD_TYPE_TO_RESOURCE_MAP.getOrDefault(recordType, recordType.getValue());
     tenantId = tenantProvider.getTenant(tenantId);
     var facetRequest = CqlFacetRequest.of(recordResource, tenantId, query, facet);
-    return ResponseEntity.ok(facetService.getFacets(facetRequest));
+    return searchRequestExecutor.execute(FACETS, () -> facetService.getFacets(facetRequest));
   }
 }
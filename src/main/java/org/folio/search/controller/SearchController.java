@@ -1,12 +1,21 @@
 package org.folio.search.controller;
 
+import static org.folio.search.service.SearchRequestExecutor.EndpointType.SEARCH;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+
 import lombok.RequiredArgsConstructor;
 import org.folio.search.domain.dto.Authority;
 import org.folio.search.domain.dto.AuthoritySearchResult;
 import org.folio.search.domain.dto.Instance;
+import org.folio.search.domain.dto.InstanceCursorSearchResult;
 import org.folio.search.domain.dto.InstanceSearchResult;
+import org.folio.search.model.SimpleResourceRequest;
+import org.folio.search.model.service.CqlCursorSearchRequest;
 import org.folio.search.model.service.CqlSearchRequest;
 import org.folio.search.rest.resource.SearchApi;
+import org.folio.search.service.CursorSearchService;
+import org.folio.search.service.RawSourceSearchHelper;
+import org.folio.search.service.SearchRequestExecutor;
 import org.folio.search.service.SearchService;
 import org.folio.search.service.consortium.TenantProvider;
 import org.springframework.http.ResponseEntity;
@@ -20,7 +29,13 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/")
 public class SearchController implements SearchApi {
 
+  private static final String INSTANCES_FIELD = "instances";
+  private static final String AUTHORITIES_FIELD = "authorities";
+
   private final SearchService searchService;
+  private final CursorSearchService cursorSearchService;
+  private final RawSourceSearchHelper rawSourceSearchHelper;
+  private final SearchRequestExecutor searchRequestExecutor;
   private final TenantProvider tenantProvider;
 
   @Override
@@ -28,10 +43,39 @@ public class SearchController implements SearchApi {
                                                               Integer offset, Boolean expandAll) {
     tenantId = tenantProvider.getTenant(tenantId);
     var searchRequest = CqlSearchRequest.of(Instance.class, tenantId, query, limit, offset, expandAll);
-    var result = searchService.search(searchRequest);
-    return ResponseEntity.ok(new InstanceSearchResult()
-      .instances(result.getRecords())
-      .totalRecords(result.getTotalRecords()));
+    if (rawSourceSearchHelper.isApplicable(searchRequest)) {
+      return searchRequestExecutor.executeInRequestThread(SEARCH,
+        () -> rawSourceSearchHelper.streamSearchResult(searchRequest, INSTANCES_FIELD));
+    }
+
+    return searchRequestExecutor.execute(SEARCH, () -> {
+      var result = searchService.search(searchRequest);
+      return new InstanceSearchResult()
+        .instances(result.getRecords())
+        .totalRecords(result.getTotalRecords());
+    });
+  }
+
+  @Override
+  public ResponseEntity<InstanceCursorSearchResult> searchInstancesByCursor(String tenantId, String query,
+                                                                           String cursor, Integer limit,
+                                                                           Boolean expandAll) {
+    tenantId = tenantProvider.getTenant(tenantId);
+    var searchRequest = CqlCursorSearchRequest.of(Instance.class, tenantId, query, cursor, limit, expandAll);
+    return searchRequestExecutor.execute(SEARCH, () -> {
+      var result = cursorSearchService.search(searchRequest);
+      return new InstanceCursorSearchResult()
+        .instances(result.getRecords())
+        .totalRecords(result.getTotalRecords())
+        .nextCursor(result.getNextCursor());
+    });
+  }
+
+  @Override
+  public ResponseEntity<Void> closeInstancesCursor(String tenantId, String cursor) {
+    tenantId = tenantProvider.getTenant(tenantId);
+    cursorSearchService.close(SimpleResourceRequest.of(INSTANCE_RESOURCE, tenantId), cursor);
+    return ResponseEntity.noContent().build();
   }
 
   @Override
@@ -41,9 +85,16 @@ public class SearchController implements SearchApi {
     tenant = tenantProvider.getTenant(tenant);
     var searchRequest = CqlSearchRequest.of(
       Authority.class, tenant, query, limit, offset, expandAll, includeNumberOfTitles);
-    var result = searchService.search(searchRequest);
-    return ResponseEntity.ok(new AuthoritySearchResult()
-      .authorities(result.getRecords())
-      .totalRecords(result.getTotalRecords()));
+    if (rawSourceSearchHelper.isApplicable(searchRequest)) {
+      return searchRequestExecutor.executeInRequestThread(SEARCH,
+        () -> rawSourceSearchHelper.streamSearchResult(searchRequest, AUTHORITIES_FIELD));
+    }
+
+    return searchRequestExecutor.execute(SEARCH, () -> {
+      var result = searchService.search(searchRequest);
+      return new AuthoritySearchResult()
+        .authorities(result.getRecords())
+        .totalRecords(result.getTotalRecords());
+    });
   }
 }
@@ -0,0 +1,98 @@
+package org.folio.search.cql;
+
+import static java.util.Collections.emptyList;
+import static org.folio.search.configuration.SearchCacheNames.CQL_QUERY_TEMPLATE_CACHE;
+import static org.opensearch.common.xcontent.smile.SmileXContent.smileXContent;
+import static org.opensearch.core.xcontent.DeprecationHandler.IGNORE_DEPRECATIONS;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
+import java.util.function.Supplier;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.exception.SearchServiceException;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of converted CQL queries.
+ *
+ * <p>Converted {@link SearchSourceBuilder} is stored as an immutable template (query and sort conditions serialized
+ * in SMILE format), keyed by resource name and CQL query. Each request receives its own copy, deserialized from the
+ * template, so callers can modify query and sort conditions (for example, add consortium affiliation filter) without
+ * affecting other requests. Query conversion does not depend on the tenant, so templates are shared between
+ * tenants.</p>
+ */
+@Component
+public class CqlQueryTemplateCache {
+
+  private static final NamedXContentRegistry NAMED_XCONTENT_REGISTRY =
+    new NamedXContentRegistry(new SearchModule(Settings.EMPTY, emptyList()).getNamedXContents());
+
+  private final boolean enabled;
+  private final Cache<TemplateKey, byte[]> templates;
+
+  /**
+   * Used by dependency injection.
+   *
+   * @param cacheConfiguration - cache configuration properties to get cache specification from
+   * @param meterRegistry      - meter registry to publish cache hit and miss metrics
+   */
+  public CqlQueryTemplateCache(SearchCacheConfigurationProperties cacheConfiguration, MeterRegistry meterRegistry) {
+    this.enabled = cacheConfiguration.isCqlQueryTemplateCacheEnabled();
+    Cache<TemplateKey, byte[]> cache = Caffeine.from(cacheConfiguration.getCqlQueryTemplateCacheSpec())
+      .recordStats()
+      .build();
+    this.templates = CaffeineCacheMetrics.monitor(meterRegistry, cache, CQL_QUERY_TEMPLATE_CACHE);
+  }
+
+  /**
+   * Returns a copy of the converted query for the given CQL query and resource, converting it on cache miss.
+   *
+   * <p>Conversion errors are not cached and rethrown to the caller. If cache is disabled, query is converted on each
+   * call.</p>
+   *
+   * @param query     - CQL query
+   * @param resource  - resource name
+   * @param converter - supplier, converting CQL query to the {@link SearchSourceBuilder} object
+   * @return new {@link SearchSourceBuilder} object, that can be modified by the caller
+   */
+  public SearchSourceBuilder get(String query, String resource, Supplier<SearchSourceBuilder> converter) {
+    if (!enabled) {
+      return converter.get();
+    }
+
+    var key = new TemplateKey(resource, query.strip());
+    var template = templates.get(key, templateKey -> serialize(converter.get(), templateKey));
+    return deserialize(template, key);
+  }
+
+  private static byte[] serialize(SearchSourceBuilder searchSource, TemplateKey key) {
+    try (var builder = XContentBuilder.builder(smileXContent)) {
+      searchSource.toXContent(builder, ToXContent.EMPTY_PARAMS);
+      return BytesReference.toBytes(BytesReference.bytes(builder));
+    } catch (IOException e) {
+      throw new SearchServiceException(String.format(
+        "Failed to create query template [cql: '%s', resource: %s]", key.query(), key.resource()), e);
+    }
+  }
+
+  private static SearchSourceBuilder deserialize(byte[] template, TemplateKey key) {
+    try (var parser = smileXContent.createParser(NAMED_XCONTENT_REGISTRY, IGNORE_DEPRECATIONS, template)) {
+      return SearchSourceBuilder.fromXContent(parser);
+    } catch (IOException e) {
+      throw new SearchServiceException(String.format(
+        "Failed to read query template [cql: '%s', resource: %s]", key.query(), key.resource()), e);
+    }
+  }
+
+  private record TemplateKey(String resource, String query) { }
+}
@@ -38,25 +38,20 @@ public class CqlSearchQueryConverter {
   private final SearchFieldProvider searchFieldProvider;
   private final CqlTermQueryConverter cqlTermQueryConverter;
   private final ConsortiumSearchHelper consortiumSearchHelper;
+  private final CqlQueryTemplateCache cqlQueryTemplateCache;
 
   /**
    * Converts given CQL search query value to the elasticsearch {@link SearchSourceBuilder} object.
    *
+   * <p>If enabled, converted queries are cached by {@link CqlQueryTemplateCache}, each call returns a new object,
+   * that can be modified by the caller.</p>
+   *
    * @param query    cql query to parse
    * @param resource resource name
    * @return search source as {@link SearchSourceBuilder} object with query and sorting conditions
    */
   public SearchSourceBuilder convert(String query, String resource) {
-    var cqlNode = cqlQueryParser.parseCqlQuery(query, resource);
-    var queryBuilder = new SearchSourceBuilder();
-
-    if (cqlNode instanceof CQLSortNode cqlSortNode) {
-      cqlSortProvider.getSort(cqlSortNode, resource).forEach(queryBuilder::sort);
-    }
-
-    var boolQuery = convertToQuery(cqlNode, resource);
-    var enhancedQuery = enhanceQuery(boolQuery, resource);
-    return queryBuilder.query(enhancedQuery);
+    return cqlQueryTemplateCache.get(query, resource, () -> doConvert(query, resource));
   }
 
   /**
@@ -87,6 +82,19 @@ public class CqlSearchQueryConverter {
     return convertToTermNode(cqlNode);
   }
 
+  private SearchSourceBuilder doConvert(String query, String resource) {
+    var cqlNode = cqlQueryParser.parseCqlQuery(query, resource);
+    var queryBuilder = new SearchSourceBuilder();
+
+    if (cqlNode instanceof CQLSortNode cqlSortNode) {
+      cqlSortProvider.getSort(cqlSortNode, resource).forEach(queryBuilder::sort);
+    }
+
+    var boolQuery = convertToQuery(cqlNode, resource);
+    var enhancedQuery = enhanceQuery(boolQuery, resource);
+    return queryBuilder.query(enhancedQuery);
+  }
+
   private CQLTermNode convertToTermNode(CQLNode cqlNode) {
     if (cqlNode instanceof CQLBooleanNode cqlBooleanNode) {
       var leftNode = cqlBooleanNode.getLeftOperand();
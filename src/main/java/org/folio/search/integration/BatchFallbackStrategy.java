@@ -0,0 +1,29 @@
+package org.folio.search.integration;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Strategy that is used by {@link FolioMessageBatchProcessor} to process a batch that failed after all retries.
+ */
+public interface BatchFallbackStrategy {
+
+  /**
+   * Returns strategy name, used in logs and metrics.
+   *
+   * @return strategy name as {@link String} object
+   */
+  String getName();
+
+  /**
+   * Processes failed batch of values.
+   *
+   * @param batch               failed batch of values
+   * @param batchConsumer       batch consumer with applied retry policy, throws an exception if batch is failed
+   * @param failedValueConsumer bi value consumer, where first - is the failed value, second is the related error
+   * @param <T>                 generic type for batch value
+   */
+  <T> void processFailedBatch(List<T> batch, Consumer<List<T>> batchConsumer,
+                              BiConsumer<T, Exception> failedValueConsumer);
+}
@@ -0,0 +1,54 @@
+package org.folio.search.integration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fallback strategy that recursively splits the failed batch in halves until the failing values are isolated.
+ *
+ * <p>A batch with a single poison value is resolved with about {@code 2 * log2(n)} batch calls instead of {@code n}
+ * calls required by the one-by-one processing, healthy halves are consumed as sub-batches.</p>
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "folio.search-config.indexing.batch-fallback-strategy",
+                       havingValue = "bisect", matchIfMissing = true)
+public class BisectingBatchFallbackStrategy implements BatchFallbackStrategy {
+
+  @Override
+  public String getName() {
+    return "bisect";
+  }
+
+  @Override
+  public <T> void processFailedBatch(List<T> batch, Consumer<List<T>> batchConsumer,
+                                     BiConsumer<T, Exception> failedValueConsumer) {
+    if (batch.size() <= 1) {
+      processSubBatch(batch, batchConsumer, failedValueConsumer);
+      return;
+    }
+
+    var middle = batch.size() / 2;
+    processSubBatch(new ArrayList<>(batch.subList(0, middle)), batchConsumer, failedValueConsumer);
+    processSubBatch(new ArrayList<>(batch.subList(middle, batch.size())), batchConsumer, failedValueConsumer);
+  }
+
+  private <T> void processSubBatch(List<T> subBatch, Consumer<List<T>> batchConsumer,
+                                   BiConsumer<T, Exception> failedValueConsumer) {
+    try {
+      batchConsumer.accept(subBatch);
+    } catch (Exception e) {
+      if (subBatch.size() == 1) {
+        failedValueConsumer.accept(subBatch.get(0), e);
+        return;
+      }
+      log.debug("Failed to process sub-batch, splitting it [size: {}]", subBatch.size());
+      processFailedBatch(subBatch, batchConsumer, failedValueConsumer);
+    }
+  }
+}
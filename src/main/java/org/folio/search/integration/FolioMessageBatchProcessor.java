@@ -1,8 +1,9 @@
 package org.folio.search.integration;
 
-import static java.util.Collections.singletonList;
 import static org.folio.search.configuration.RetryTemplateConfiguration.KAFKA_RETRY_TEMPLATE_NAME;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
@@ -19,15 +20,21 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class FolioMessageBatchProcessor {
 
+  static final String FALLBACK_METRIC_NAME = "folio.search.batch.fallback";
+  static final String FAILED_VALUES_METRIC_NAME = "folio.search.batch.fallback.failed.values";
+
   private final Map<String, RetryTemplate> retryTemplateBeans;
   @Qualifier(value = KAFKA_RETRY_TEMPLATE_NAME)
   private final RetryTemplate defaultRetryTemplate;
+  private final BatchFallbackStrategy fallbackStrategy;
+  private final MeterRegistry meterRegistry;
 
   /**
    * Consumes batch of values as list and tries to process them using the strategy with retry.
    *
    * <p> At first, a batch will be retried by the specified retry policy, then, if it's failing, it would be processed
-   * by single value at one time, if the value would be failed to process - failedValueConsumer will be executed.
+   * by the configured {@link BatchFallbackStrategy}, if the value would be failed to process - failedValueConsumer will
+   * be executed.
    * </p>
    *
    * @param batch               list of values as {@link List} object
@@ -51,22 +58,30 @@ public class FolioMessageBatchProcessor {
       if (batch.size() == 1) {
         failedValueConsumer.accept(batch.iterator().next(), e);
       } else {
-        log.warn("Failed to process batch, attempting to process resources one by one", e);
-        processMessagesOneByOne(batch, retryTemplate, batchConsumer, failedValueConsumer);
+        processFailedBatch(batch, retryTemplate, batchConsumer, failedValueConsumer, e);
       }
     }
   }
 
-  private <T> void processMessagesOneByOne(List<T> batch, RetryTemplate retryTemplate,
-                                           Consumer<List<T>> batchConsumer,
-                                           BiConsumer<T, Exception> failedValueConsumer) {
-    for (T batchValue : batch) {
-      try {
-        executeWithRetryTemplate(retryTemplate, singletonList(batchValue), batchConsumer);
-      } catch (Exception e) {
-        failedValueConsumer.accept(batchValue, e);
-      }
-    }
+  private <T> void processFailedBatch(List<T> batch, RetryTemplate retryTemplate,
+                                      Consumer<List<T>> batchConsumer,
+                                      BiConsumer<T, Exception> failedValueConsumer, Exception error) {
+    var strategyName = fallbackStrategy.getName();
+    log.warn("Failed to process batch, attempting to process it using fallback strategy [strategy: {}, size: {}]",
+      strategyName, batch.size(), error);
+    getCounter(FALLBACK_METRIC_NAME, strategyName).increment();
+
+    var failedValuesCounter = getCounter(FAILED_VALUES_METRIC_NAME, strategyName);
+    fallbackStrategy.processFailedBatch(batch,
+      values -> executeWithRetryTemplate(retryTemplate, values, batchConsumer),
+      (value, valueError) -> {
+        failedValuesCounter.increment();
+        failedValueConsumer.accept(value, valueError);
+      });
+  }
+
+  private Counter getCounter(String name, String strategyName) {
+    return Counter.builder(name).tag("strategy", strategyName).register(meterRegistry);
   }
 
   private <T> void executeWithRetryTemplate(RetryTemplate retryTemplate, List<T> batch, Consumer<List<T>> consumer) {
@@ -0,0 +1,112 @@
+package org.folio.search.integration;
+
+import static org.folio.search.client.InventoryReferenceDataClient.ReferenceDataType.IDENTIFIER_TYPES;
+import static org.folio.search.configuration.AsyncConfig.REFERENCE_DATA_REFRESH_EXECUTOR_NAME;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.model.client.CqlQueryParam;
+import org.folio.search.model.context.FolioExecutionContextBuilder;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Provides identifier type ids by identifier type names from immutable per-tenant snapshots.
+ *
+ * <p>Snapshot is loaded on the first request and refreshed in the background after the configured interval, the
+ * previous snapshot is returned until the refreshed one is loaded. Empty results, returned also if identifier types
+ * cannot be loaded, are never cached: the first load is repeated by the next request and the refresh keeps the
+ * previously loaded snapshot.</p>
+ */
+@Log4j2
+@Component
+public class IdentifierTypeProvider {
+
+  private final ReferenceDataService referenceDataService;
+  private final FolioExecutionContext folioExecutionContext;
+  private final FolioExecutionContextBuilder contextBuilder;
+  private final LoadingCache<SnapshotKey, Set<String>> snapshots;
+
+  /**
+   * Used by dependency injection.
+   *
+   * @param referenceDataService  - reference data service to load identifier types
+   * @param folioExecutionContext - folio execution context of the current request
+   * @param contextBuilder        - folio execution context builder for background refreshes
+   * @param cacheConfiguration    - cache configuration properties to get snapshot cache settings from
+   * @param refreshExecutor       - executor to refresh snapshots in the background
+   */
+  public IdentifierTypeProvider(ReferenceDataService referenceDataService,
+                                FolioExecutionContext folioExecutionContext,
+                                FolioExecutionContextBuilder contextBuilder,
+                                SearchCacheConfigurationProperties cacheConfiguration,
+                                @Qualifier(REFERENCE_DATA_REFRESH_EXECUTOR_NAME) Executor refreshExecutor) {
+    this.referenceDataService = referenceDataService;
+    this.folioExecutionContext = folioExecutionContext;
+    this.contextBuilder = contextBuilder;
+    this.snapshots = Caffeine.from(cacheConfiguration.getIdentifierTypesCacheSpec())
+      .refreshAfterWrite(cacheConfiguration.getIdentifierTypesRefreshInterval())
+      .executor(refreshExecutor)
+      .build(new SnapshotLoader());
+  }
+
+  /**
+   * Returns ids of identifier types with the given names for the current tenant.
+   *
+   * @param identifierNames - identifier type names
+   * @return immutable {@link Set} with identifier type ids, empty if identifier types cannot be loaded
+   */
+  public Set<String> getIdentifierTypeIds(List<String> identifierNames) {
+    var identifierTypeIds = snapshots.get(new SnapshotKey(folioExecutionContext.getTenantId(), identifierNames));
+    return identifierTypeIds != null ? identifierTypeIds : Collections.emptySet();
+  }
+
+  private Set<String> loadIdentifierTypeIds(SnapshotKey key) {
+    var identifierTypeIds = referenceDataService.loadReferenceData(IDENTIFIER_TYPES, CqlQueryParam.NAME, key.names());
+    return Set.copyOf(identifierTypeIds);
+  }
+
+  private record SnapshotKey(String tenantId, List<String> names) { }
+
+  private final class SnapshotLoader implements CacheLoader<SnapshotKey, Set<String>> {
+
+    /**
+     * Loads snapshot in the calling thread, empty results are not cached, so they are requested again as before.
+     */
+    @Override
+    public Set<String> load(SnapshotKey key) {
+      var identifierTypeIds = loadIdentifierTypeIds(key);
+      return identifierTypeIds.isEmpty() ? null : identifierTypeIds;
+    }
+
+    /**
+     * Reloads snapshot on the refresh executor with the execution context captured from the calling thread.
+     */
+    @Override
+    public CompletableFuture<Set<String>> asyncReload(SnapshotKey key, Set<String> oldValue, Executor executor) {
+      var executionContext = contextBuilder.builderFrom(folioExecutionContext).withTenantId(key.tenantId()).build();
+
+      return CompletableFuture.supplyAsync(() -> {
+        try (var ignored = new FolioExecutionContextSetter(executionContext)) {
+          var identifierTypeIds = loadIdentifierTypeIds(key);
+          if (identifierTypeIds.isEmpty()) {
+            log.warn("asyncReload:: identifier types not loaded, keeping previous snapshot [tenant: {}, names: {}]",
+              key.tenantId(), key.names());
+            return oldValue;
+          }
+          return identifierTypeIds;
+        }
+      }, executor);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package org.folio.search.integration;
+
+import static org.folio.search.utils.SearchConverterUtils.getOldAsMap;
+import static org.folio.search.utils.SearchUtils.INSTANCE_ID_FIELD;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.domain.dto.ResourceEventType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces instance events, mapped from instance, holding, item and bound-with events, by tenant and instance id.
+ *
+ * <p>Only events of the current poll are coalesced: the last event per instance is kept, where events from the same
+ * partition are ordered by offset, and events from different partitions by their position in the poll. A
+ * {@link ResourceEventType#CREATE} event never supersedes a {@link ResourceEventType#DELETE} one and events moving a
+ * holding or an item from another instance are always kept, because the previous instance must be reindexed as
+ * well. Events are never compared with events of the previous polls, because the instance is fetched from inventory
+ * at indexing time and record timestamps set by producers are not comparable with the local clock.</p>
+ */
+@Log4j2
+@Component
+public class InstanceEventCoalescer {
+
+  static final String COALESCED_EVENTS_METRIC_NAME = "folio.search.instance.events.coalesced";
+
+  private final Counter coalescedEventsCounter;
+
+  /**
+   * Used by dependency injection.
+   *
+   * @param meterRegistry - meter registry for coalesced events counter
+   */
+  public InstanceEventCoalescer(MeterRegistry meterRegistry) {
+    this.coalescedEventsCounter = Counter.builder(COALESCED_EVENTS_METRIC_NAME).register(meterRegistry);
+  }
+
+  /**
+   * Coalesces consumer records which values are already mapped to instance events.
+   *
+   * @param consumerRecords - consumer records with instance events as values
+   * @return list with coalesced instance events
+   */
+  public List<ResourceEvent> coalesce(List<ConsumerRecord<String, ResourceEvent>> consumerRecords) {
+    var coalescedRecords = new LinkedHashMap<Object, ConsumerRecord<String, ResourceEvent>>();
+    var collapsedEvents = 0;
+
+    for (var consumerRecord : consumerRecords) {
+      var event = consumerRecord.value();
+      if (isMoveEvent(event)) {
+        coalescedRecords.put(new Object(), consumerRecord);
+        continue;
+      }
+
+      var key = getKey(event);
+      var previousRecord = coalescedRecords.get(key);
+      if (previousRecord == null) {
+        coalescedRecords.put(key, consumerRecord);
+        continue;
+      }
+
+      collapsedEvents++;
+      if (supersedes(consumerRecord, previousRecord)) {
+        coalescedRecords.put(key, consumerRecord);
+      }
+    }
+
+    if (collapsedEvents > 0) {
+      log.debug("Instance events coalesced [collapsed: {}]", collapsedEvents);
+      coalescedEventsCounter.increment(collapsedEvents);
+    }
+
+    return coalescedRecords.values().stream().map(ConsumerRecord::value).toList();
+  }
+
+  private static boolean supersedes(ConsumerRecord<String, ResourceEvent> consumerRecord,
+                                    ConsumerRecord<String, ResourceEvent> previousRecord) {
+    if (previousRecord.value().getType() == ResourceEventType.DELETE
+      && consumerRecord.value().getType() == ResourceEventType.CREATE) {
+      return false;
+    }
+
+    var samePartition = Objects.equals(consumerRecord.topic(), previousRecord.topic())
+      && consumerRecord.partition() == previousRecord.partition();
+    return !samePartition || consumerRecord.offset() >= previousRecord.offset();
+  }
+
+  private static boolean isMoveEvent(ResourceEvent event) {
+    var oldInstanceId = getOldAsMap(event).get(INSTANCE_ID_FIELD);
+    return oldInstanceId != null && !Objects.equals(String.valueOf(oldInstanceId), event.getId());
+  }
+
+  private static String getKey(ResourceEvent event) {
+    return event.getTenant() + ":" + event.getId();
+  }
+}
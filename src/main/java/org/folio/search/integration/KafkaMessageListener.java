@@ -1,7 +1,10 @@
 package org.folio.search.integration;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 import static org.apache.commons.collections4.MapUtils.getString;
 import static org.apache.commons.lang3.RegExUtils.replaceAll;
+import static org.folio.search.configuration.AsyncConfig.TENANT_EVENTS_EXECUTOR_NAME;
 import static org.folio.search.configuration.RetryTemplateConfiguration.KAFKA_RETRY_TEMPLATE_NAME;
 import static org.folio.search.domain.dto.ResourceEventType.CREATE;
 import static org.folio.search.domain.dto.ResourceEventType.REINDEX;
@@ -16,20 +19,30 @@ import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
 import static org.folio.search.utils.SearchUtils.INSTANCE_SUBJECT_RESOURCE;
 import static org.folio.search.utils.SearchUtils.SOURCE_CONSORTIUM_PREFIX;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.logging.log4j.message.FormattedMessage;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.model.event.ConsortiumInstanceEvent;
 import org.folio.search.service.ResourceService;
 import org.folio.search.utils.KafkaConstants;
 import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -44,6 +57,11 @@ public class KafkaMessageListener {
   private final ResourceService resourceService;
   private final FolioMessageBatchProcessor folioMessageBatchProcessor;
   private final SystemUserScopedExecutionService executionService;
+  private final SearchConfigurationProperties searchConfigurationProperties;
+  @Qualifier(TENANT_EVENTS_EXECUTOR_NAME)
+  private final Executor tenantEventsExecutor;
+  private final InstanceEventCoalescer instanceEventCoalescer;
+  private final Map<String, Semaphore> tenantPermits = new ConcurrentHashMap<>();
 
   /**
    * Handles instance events and indexes them by id.
@@ -57,15 +75,11 @@ public class KafkaMessageListener {
     groupId = "#{folioKafkaProperties.listener['events'].groupId}",
     concurrency = "#{folioKafkaProperties.listener['events'].concurrency}")
   public void handleInstanceEvents(List<ConsumerRecord<String, ResourceEvent>> consumerRecords) {
+    var receivedTime = System.nanoTime();
     log.info("Processing instance ids from kafka events [number of events: {}]", consumerRecords.size());
     var batch = getInstanceResourceEvents(consumerRecords);
-    var batchByTenant = batch.stream().collect(Collectors.groupingBy(ResourceEvent::getTenant));
-    batchByTenant.forEach((tenant, resourceEvents) -> executionService.executeSystemUserScoped(tenant, () -> {
-      folioMessageBatchProcessor.consumeBatchWithFallback(batch, KAFKA_RETRY_TEMPLATE_NAME,
-        resourceService::indexInstancesById, KafkaMessageListener::logFailedEvent);
-      return null;
-    }));
-
+    consumeBatchByTenant(batch, ResourceEvent::getTenant,
+      events -> resourceService.indexInstancesById(events, receivedTime), KafkaMessageListener::logFailedEvent);
   }
 
   /**
@@ -144,42 +158,112 @@ public class KafkaMessageListener {
       .map(ConsumerRecord::value)
       .toList();
 
-    var batchByTenant = batch.stream().collect(Collectors.groupingBy(ConsortiumInstanceEvent::getTenant));
-
-    batchByTenant.forEach((tenant, resourceEvents) -> executionService.executeSystemUserScoped(tenant, () -> {
-      folioMessageBatchProcessor.consumeBatchWithFallback(batch, KAFKA_RETRY_TEMPLATE_NAME,
-        resourceService::indexConsortiumInstances, KafkaMessageListener::logFailedConsortiumEvent);
-      return null;
-    }));
+    consumeBatchByTenant(batch, ConsortiumInstanceEvent::getTenant,
+      resourceService::indexConsortiumInstances, KafkaMessageListener::logFailedConsortiumEvent);
   }
 
   private void indexResources(List<ResourceEvent> batch, Consumer<List<ResourceEvent>> indexConsumer) {
-    var batchByTenant = batch.stream().collect(Collectors.groupingBy(ResourceEvent::getTenant));
+    consumeBatchByTenant(batch, ResourceEvent::getTenant, indexConsumer, KafkaMessageListener::logFailedEvent);
+  }
 
-    batchByTenant.forEach((tenant, resourceEvents) -> executionService.executeSystemUserScoped(tenant, () -> {
-      folioMessageBatchProcessor.consumeBatchWithFallback(batch, KAFKA_RETRY_TEMPLATE_NAME,
-        indexConsumer, KafkaMessageListener::logFailedEvent);
+  /**
+   * Splits batch by tenant and consumes each tenant sub-batch in the scope of that tenant.
+   *
+   * <p>If parallel tenant processing is enabled, sub-batches are consumed concurrently using the tenant events
+   * executor, the method returns only when all sub-batches are processed, so the offset is committed after that.
+   * The executor is shared by all listeners, so each tenant can occupy only a limited number of its threads, the
+   * sub-batches of a tenant exceeding this limit are consumed in the listener thread.</p>
+   */
+  private <T> void consumeBatchByTenant(List<T> batch, Function<T, String> tenantExtractor,
+                                        Consumer<List<T>> batchConsumer,
+                                        BiConsumer<T, Exception> failedValueConsumer) {
+    var batchByTenant = batch.stream().collect(groupingBy(tenantExtractor, LinkedHashMap::new, toList()));
+    if (batchByTenant.size() <= 1 || !isParallelTenantProcessingEnabled()) {
+      batchByTenant.forEach((tenant, tenantBatch) ->
+        consumeTenantBatch(tenant, tenantBatch, batchConsumer, failedValueConsumer));
+      return;
+    }
+
+    log.debug("Processing tenant sub-batches concurrently [tenants: {}]", batchByTenant.keySet());
+    var futures = new ArrayList<CompletableFuture<Void>>();
+    var listenerThreadBatches = new LinkedHashMap<String, List<T>>();
+    batchByTenant.forEach((tenant, tenantBatch) -> {
+      var permits = getTenantPermits(tenant);
+      if (!permits.tryAcquire()) {
+        listenerThreadBatches.put(tenant, tenantBatch);
+        return;
+      }
+      futures.add(submitTenantBatch(tenant, tenantBatch, batchConsumer, failedValueConsumer, permits));
+    });
+
+    if (!listenerThreadBatches.isEmpty()) {
+      log.debug("Tenant concurrency limit reached, processing in listener thread [tenants: {}]",
+        listenerThreadBatches.keySet());
+      futures.add(CompletableFuture.runAsync(() -> listenerThreadBatches.forEach((tenant, tenantBatch) ->
+        consumeTenantBatch(tenant, tenantBatch, batchConsumer, failedValueConsumer)), Runnable::run));
+    }
+
+    try {
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+    }
+  }
+
+  private <T> void consumeTenantBatch(String tenant, List<T> tenantBatch, Consumer<List<T>> batchConsumer,
+                                      BiConsumer<T, Exception> failedValueConsumer) {
+    executionService.executeSystemUserScoped(tenant, () -> {
+      folioMessageBatchProcessor.consumeBatchWithFallback(tenantBatch, KAFKA_RETRY_TEMPLATE_NAME,
+        batchConsumer, failedValueConsumer);
       return null;
-    }));
+    });
   }
 
-  private static List<ResourceEvent> getInstanceResourceEvents(List<ConsumerRecord<String, ResourceEvent>> events) {
-    return events.stream()
-      .map(KafkaMessageListener::getInstanceResourceEvent)
-      .filter(Objects::nonNull)
-      .distinct()
-      .toList();
+  private <T> CompletableFuture<Void> submitTenantBatch(String tenant, List<T> tenantBatch,
+                                                        Consumer<List<T>> batchConsumer,
+                                                        BiConsumer<T, Exception> failedValueConsumer,
+                                                        Semaphore permits) {
+    try {
+      return CompletableFuture.runAsync(() ->
+          consumeTenantBatch(tenant, tenantBatch, batchConsumer, failedValueConsumer), tenantEventsExecutor)
+        .whenComplete((result, error) -> permits.release());
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
   }
 
-  private static ResourceEvent getInstanceResourceEvent(ConsumerRecord<String, ResourceEvent> consumerRecord) {
-    var instanceId = getInstanceId(consumerRecord);
-    var value = consumerRecord.value();
-    if (instanceId == null) {
-      log.warn("Failed to find instance id in record [record: {}]", replaceAll(value.toString(), "\\s+", " "));
-      return null;
+  private Semaphore getTenantPermits(String tenant) {
+    return tenantPermits.computeIfAbsent(tenant, key -> new Semaphore(
+      searchConfigurationProperties.getIndexing().getTenantProcessing().getMaxConcurrencyPerTenant()));
+  }
+
+  private boolean isParallelTenantProcessingEnabled() {
+    var indexingSettings = searchConfigurationProperties.getIndexing();
+    return indexingSettings != null && indexingSettings.getTenantProcessing().isParallelEnabled();
+  }
+
+  private List<ResourceEvent> getInstanceResourceEvents(List<ConsumerRecord<String, ResourceEvent>> events) {
+    var instanceRecords = new ArrayList<ConsumerRecord<String, ResourceEvent>>(events.size());
+    for (var consumerRecord : events) {
+      var instanceId = getInstanceId(consumerRecord);
+      if (instanceId == null) {
+        log.warn("Failed to find instance id in record [record: {}]",
+          replaceAll(consumerRecord.value().toString(), "\\s+", " "));
+        continue;
+      }
+      mapToInstanceResourceEvent(consumerRecord, instanceId);
+      instanceRecords.add(consumerRecord);
     }
+
+    return instanceEventCoalescer.coalesce(instanceRecords);
+  }
+
+  private static void mapToInstanceResourceEvent(ConsumerRecord<String, ResourceEvent> consumerRecord,
+                                                 String instanceId) {
+    var value = consumerRecord.value();
     var operation = isInstanceResource(consumerRecord) ? value.getType() : CREATE;
-    return value.id(instanceId).type(operation).resourceName(INSTANCE_RESOURCE);
+    value.id(instanceId).type(operation).resourceName(INSTANCE_RESOURCE);
   }
 
   private static String getInstanceId(ConsumerRecord<String, ResourceEvent> event) {
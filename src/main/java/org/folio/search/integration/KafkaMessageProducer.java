@@ -1,6 +1,7 @@
 package org.folio.search.integration;
 
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.commons.codec.digest.DigestUtils.sha1Hex;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
 import static org.apache.commons.collections4.MapUtils.getObject;
@@ -18,19 +19,26 @@ import static org.folio.search.utils.SearchUtils.INSTANCE_SUBJECT_RESOURCE;
 import static org.folio.search.utils.SearchUtils.SOURCE_CONSORTIUM_PREFIX;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.domain.dto.Contributor;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.search.exception.SearchServiceException;
 import org.folio.search.model.event.ContributorResourceEvent;
 import org.folio.search.model.event.SubjectResourceEvent;
 import org.folio.search.service.consortium.ConsortiumTenantService;
@@ -49,30 +57,71 @@ public class KafkaMessageProducer {
   private static final String INSTANCE_SUBJECTS_TOPIC_NAME = "search.instance-subject";
   private static final TypeReference<List<Contributor>> TYPE_REFERENCE = new TypeReference<>() { };
   private static final TypeReference<List<SubjectResourceEvent>> TYPE_REFERENCE_SUBJECT = new TypeReference<>() { };
+  static final String SEND_TIMER_NAME = "folio.search.kafka.send";
+
   private final JsonConverter jsonConverter;
   private final KafkaTemplate<String, ResourceEvent> kafkaTemplate;
   private final ConsortiumTenantService consortiumTenantService;
-
-  public void prepareAndSendContributorEvents(List<ResourceEvent> resourceEvents) {
-    prepareAndSendEvents(resourceEvents, this::getContributorEvents);
-  }
-
-  public void prepareAndSendSubjectEvents(List<ResourceEvent> resourceEvents) {
-    prepareAndSendEvents(resourceEvents, this::getSubjectsEvents);
-  }
-
-  private void prepareAndSendEvents(List<ResourceEvent> resourceEvents,
-                                    Function<ResourceEvent, List<ProducerRecord<String, ResourceEvent>>> toEventsFunc) {
+  private final SearchConfigurationProperties searchConfigurationProperties;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Prepares contributor and subject events for given instance events in one pass and sends them.
+   *
+   * @param resourceEvents - instance resource events
+   */
+  public void prepareAndSendContributorAndSubjectEvents(List<ResourceEvent> resourceEvents) {
     if (isNotEmpty(resourceEvents)) {
-      resourceEvents.stream()
+      var producerRecords = resourceEvents.stream()
         .filter(Objects::nonNull)
         .filter(instance -> !StringUtils.startsWith(getResourceSource(instance), SOURCE_CONSORTIUM_PREFIX))
-        .map(toEventsFunc)
+        .map(event -> ListUtils.union(getContributorEvents(event), getSubjectsEvents(event)))
         .flatMap(List::stream)
-        .forEach(kafkaTemplate::send);
+        .toList();
+      sendAndAwait(producerRecords);
+    }
+  }
+
+  /**
+   * Sends all records asynchronously and waits until they are acknowledged, so the consumed batch is committed only
+   * after all derived events are delivered.
+   */
+  private void sendAndAwait(List<ProducerRecord<String, ResourceEvent>> producerRecords) {
+    if (producerRecords.isEmpty()) {
+      return;
+    }
+
+    var futures = producerRecords.stream()
+      .map(this::send)
+      .toArray(CompletableFuture[]::new);
+
+    var sendTimeoutMs = searchConfigurationProperties.getIndexing().getDerivedEventsSendTimeoutMs();
+    try {
+      CompletableFuture.allOf(futures).get(sendTimeoutMs, MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SearchServiceException("Interrupted while sending events to Kafka", e);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new SearchServiceException(String.format(
+        "Failed to send events to Kafka [records: %s, cause: %s]", producerRecords.size(), e.getMessage()), e);
     }
   }
 
+  private CompletableFuture<?> send(ProducerRecord<String, ResourceEvent> producerRecord) {
+    var sample = Timer.start(meterRegistry);
+    return kafkaTemplate.send(producerRecord).whenComplete((result, error) -> sample.stop(
+      Timer.builder(SEND_TIMER_NAME)
+        .tag("topic", getMetricTopicName(producerRecord.topic()))
+        .tag("result", error == null ? "success" : "failure")
+        .register(meterRegistry)));
+  }
+
+  private static String getMetricTopicName(String topic) {
+    return topic.endsWith(INSTANCE_SUBJECTS_TOPIC_NAME)
+      ? INSTANCE_SUBJECTS_TOPIC_NAME
+      : INSTANCE_CONTRIBUTOR_TOPIC_NAME;
+  }
+
   private List<ProducerRecord<String, ResourceEvent>> getSubjectsEvents(ResourceEvent event) {
     var tenantId = event.getTenant();
     var oldSubjects = extractSubjects(getOldAsMap(event), tenantId);
@@ -88,11 +137,17 @@ public class KafkaMessageProducer {
   private List<SubjectResourceEvent> extractSubjects(Map<String, Object> objectMap, String tenantId) {
     var subjectsObject = getObject(objectMap, SUBJECTS_FIELD, emptyList());
     var subjectResourceEvents = jsonConverter.convert(subjectsObject, TYPE_REFERENCE_SUBJECT);
+    if (subjectResourceEvents.isEmpty()) {
+      return subjectResourceEvents;
+    }
+
+    var instanceId = getResourceEventId(objectMap);
+    var shared = isSharedResource(objectMap, tenantId);
     subjectResourceEvents.forEach(
       subjectResourceEvent -> {
-        subjectResourceEvent.setInstanceId(getResourceEventId(objectMap));
+        subjectResourceEvent.setInstanceId(instanceId);
         subjectResourceEvent.setValue(StringUtils.trim(subjectResourceEvent.getValue()));
-        subjectResourceEvent.setShared(isSharedResource(objectMap, tenantId));
+        subjectResourceEvent.setShared(shared);
       });
     subjectResourceEvents.removeIf(subjectResourceEvent -> StringUtils.isBlank(subjectResourceEvent.getInstanceId()));
     return subjectResourceEvents;
@@ -127,8 +182,7 @@ public class KafkaMessageProducer {
     subject.setId(id);
     var resourceEvent = new ResourceEvent().type(type).tenant(tenantId).id(id)
       .resourceName(INSTANCE_SUBJECT_RESOURCE);
-    var body = jsonConverter.convert(subject, Map.class);
-    return type == CREATE ? resourceEvent._new(body) : resourceEvent.old(body);
+    return type == CREATE ? resourceEvent._new(subject) : resourceEvent.old(subject);
   }
 
   private List<ProducerRecord<String, ResourceEvent>> getContributorEvents(ResourceEvent event) {
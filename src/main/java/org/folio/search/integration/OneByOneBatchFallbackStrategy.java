@@ -0,0 +1,34 @@
+package org.folio.search.integration;
+
+import static java.util.Collections.singletonList;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fallback strategy that processes each value of the failed batch separately.
+ */
+@Component
+@ConditionalOnProperty(name = "folio.search-config.indexing.batch-fallback-strategy", havingValue = "one-by-one")
+public class OneByOneBatchFallbackStrategy implements BatchFallbackStrategy {
+
+  @Override
+  public String getName() {
+    return "one-by-one";
+  }
+
+  @Override
+  public <T> void processFailedBatch(List<T> batch, Consumer<List<T>> batchConsumer,
+                                     BiConsumer<T, Exception> failedValueConsumer) {
+    for (T batchValue : batch) {
+      try {
+        batchConsumer.accept(singletonList(batchValue));
+      } catch (Exception e) {
+        failedValueConsumer.accept(batchValue, e);
+      }
+    }
+  }
+}
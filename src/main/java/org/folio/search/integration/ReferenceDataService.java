@@ -28,6 +28,18 @@ public class ReferenceDataService {
   @Cacheable(cacheNames = REFERENCE_DATA_CACHE, unless = "#result.isEmpty()",
              key = "@folioExecutionContext.tenantId + ':' + #values + ':' + #type.toString() + ':' + #param.toString()")
   public Set<String> fetchReferenceData(ReferenceDataType type, CqlQueryParam param, Collection<String> values) {
+    return loadReferenceData(type, param, values);
+  }
+
+  /**
+   * Loads ids of reference data records bypassing the reference data cache.
+   *
+   * @param type   - reference data type
+   * @param param  - reference data field to match values against
+   * @param values - values to match
+   * @return {@link Set} with ids of matched reference data records, empty if reference data cannot be loaded
+   */
+  public Set<String> loadReferenceData(ReferenceDataType type, CqlQueryParam param, Collection<String> values) {
     log.info("Fetching reference [type: {}, field: {}, values: {}]", type.toString(), param.toString(), values);
     var uri = type.getUri();
     var query = exactMatchAny(param, values);
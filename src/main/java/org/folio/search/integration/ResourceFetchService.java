@@ -2,26 +2,50 @@ package org.folio.search.integration;
 
 import static com.google.common.collect.Lists.partition;
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.collections4.MapUtils.getString;
+import static org.folio.search.configuration.AsyncConfig.INVENTORY_FETCH_EXECUTOR_NAME;
 import static org.folio.search.model.client.CqlQuery.exactMatchAny;
 import static org.folio.search.utils.CollectionUtils.findLast;
 import static org.folio.search.utils.SearchConverterUtils.getResourceEventId;
+import static org.folio.search.utils.SearchUtils.ID_FIELD;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections.CollectionUtils;
 import org.folio.search.client.InventoryViewClient;
 import org.folio.search.client.InventoryViewClient.InstanceView;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.configuration.properties.SearchConfigurationProperties.InventoryFetchSettings;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.domain.dto.ResourceEventType;
 import org.folio.search.model.client.CqlQueryParam;
-import org.folio.search.model.service.ResultList;
+import org.folio.search.model.context.FolioExecutionContextBuilder;
 import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 @Log4j2
@@ -29,38 +53,223 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ResourceFetchService {
 
-  private static final int BATCH_SIZE = 50;
+  static final String FETCH_TIMER_NAME = "folio.search.inventory.fetch";
+  static final String FETCH_SIZE_METRIC_NAME = "folio.search.inventory.fetch.size";
+  static final String INSTANCE_VIEW_CACHE_METRIC_NAME = "folio.search.inventory.fetch.cache";
 
   private final InventoryViewClient inventoryClient;
   private final FolioExecutionContext context;
+  private final FolioExecutionContextBuilder contextBuilder;
+  private final SearchConfigurationProperties searchConfigurationProperties;
+  private final MeterRegistry meterRegistry;
+  @Qualifier(INVENTORY_FETCH_EXECUTOR_NAME)
+  private final Executor inventoryFetchExecutor;
+  private final SearchCacheConfigurationProperties cacheConfigurationProperties;
+  private final Cache<String, InstanceViewFetch> instanceViewCache;
+  private final AtomicInteger adaptiveBatchSize = new AtomicInteger(Integer.MAX_VALUE);
 
   /**
-   * Fetches instances from inventory-storage module using CQL query.
+   * Fetches instances from inventory-storage module using CQL query, the events are considered received at the time
+   * of the call.
    *
    * @param events list of {@link ResourceEvent} objects to fetch
    * @return {@link List} of {@link ResourceEvent} object with fetched data.
    */
   public List<ResourceEvent> fetchInstancesByIds(List<ResourceEvent> events) {
+    return fetchInstancesByIds(events, System.nanoTime());
+  }
+
+  /**
+   * Fetches instances from inventory-storage module using CQL query.
+   *
+   * @param events       list of {@link ResourceEvent} objects to fetch
+   * @param receivedTime {@link System#nanoTime()} value taken when the events were received, cached instance views
+   *                     and in-flight fetches started before it are not used for events other than reindex ones
+   * @return {@link List} of {@link ResourceEvent} object with fetched data.
+   */
+  public List<ResourceEvent> fetchInstancesByIds(List<ResourceEvent> events, long receivedTime) {
     if (CollectionUtils.isEmpty(events)) {
       return emptyList();
     }
 
-    return fetchInstances(events);
+    return fetchInstances(events, receivedTime);
   }
 
-  private List<ResourceEvent> fetchInstances(List<ResourceEvent> events) {
+  private List<ResourceEvent> fetchInstances(List<ResourceEvent> events, long receivedTime) {
     var eventsById = events.stream().collect(groupingBy(ResourceEvent::getId, LinkedHashMap::new, toList()));
     var instanceIdList = List.copyOf(eventsById.keySet());
     var tenantId = context.getTenantId();
-    return partition(instanceIdList, BATCH_SIZE).stream()
-      .map(batchIds -> inventoryClient.getInstances(exactMatchAny(CqlQueryParam.ID, batchIds), batchIds.size()))
-      .map(ResultList::getResult)
+    var useInstanceViewCache = cacheConfigurationProperties.isInstanceViewCacheEnabled();
+    var changedInstanceIds = getChangedInstanceIds(eventsById);
+    return fetchInstanceViews(partition(instanceIdList, getBatchSize()), useInstanceViewCache,
+      id -> changedInstanceIds.contains(id) ? receivedTime : null).stream()
       .flatMap(instanceViews -> instanceViews.stream()
         .map(InstanceView::toInstance)
         .map(instanceMap -> mapToResourceEvent(tenantId, instanceMap, eventsById)))
       .toList();
   }
 
+  /**
+   * Returns ids of the instances changed by the given events, i.e. having events other than reindex ones.
+   */
+  private static Set<String> getChangedInstanceIds(Map<String, List<ResourceEvent>> eventsById) {
+    return eventsById.entrySet().stream()
+      .filter(entry -> entry.getValue().stream().anyMatch(event -> event.getType() != ResourceEventType.REINDEX))
+      .map(Map.Entry::getKey)
+      .collect(toSet());
+  }
+
+  private List<List<InstanceView>> fetchInstanceViews(List<List<String>> partitions, boolean useCache,
+                                                      Function<String, Long> receivedTimes) {
+    if (partitions.size() == 1 || getFetchSettings().getMaxConcurrentRequests() == 1) {
+      return partitions.stream().map(batchIds -> fetchInstanceViews(batchIds, useCache, receivedTimes)).toList();
+    }
+
+    var executionContext = contextBuilder.copyOf(context);
+    var futures = partitions.stream()
+      .map(batchIds -> CompletableFuture.supplyAsync(() -> {
+        try (var ignored = new FolioExecutionContextSetter(executionContext)) {
+          return fetchInstanceViews(batchIds, useCache, receivedTimes);
+        }
+      }, inventoryFetchExecutor))
+      .toList();
+
+    try {
+      return futures.stream().map(CompletableFuture::join).toList();
+    } catch (CompletionException e) {
+      futures.forEach(future -> future.cancel(false));
+      throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+    }
+  }
+
+  private List<InstanceView> fetchInstanceViews(List<String> batchIds, boolean useCache,
+                                                Function<String, Long> receivedTimes) {
+    return useCache ? fetchCachedInstanceViews(batchIds, receivedTimes) : fetchInventoryInstanceViews(batchIds);
+  }
+
+  /**
+   * Returns instance views from the cache, the missing ones are fetched from inventory in a single call, which is
+   * shared with concurrent requests for the same tenant and instance ids.
+   *
+   * <p>A cached view or an in-flight fetch is used for an instance only if it was started after the events of the
+   * instance were received, otherwise it can miss the change, so it is replaced by a new fetch. Instances having
+   * only reindex events have no received time and can use any cached view.</p>
+   *
+   * <p>Own fetch is completed before waiting for the fetches of concurrent requests, so requests sharing fetches of
+   * each other do not block each other. Cached views are returned as copies, because
+   * {@link InstanceView#toInstance()} modifies the instance map.</p>
+   */
+  private List<InstanceView> fetchCachedInstanceViews(List<String> batchIds, Function<String, Long> receivedTimes) {
+    var tenantId = context.getTenantId();
+    var fetchStartTime = System.nanoTime();
+    var inventoryFetch = new CompletableFuture<Map<String, InstanceView>>();
+    var newFetches = new LinkedHashMap<String, InstanceViewFetch>();
+    var cachedFetches = batchIds.stream()
+      .map(id -> instanceViewCache.asMap().compute(getCacheKey(tenantId, id), (key, cachedFetch) -> {
+        if (cachedFetch != null && cachedFetch.isUsableFor(receivedTimes.apply(id))) {
+          return cachedFetch;
+        }
+        var newFetch = new InstanceViewFetch(fetchStartTime, inventoryFetch.thenApply(views -> views.get(id)));
+        newFetches.put(id, newFetch);
+        return newFetch;
+      }))
+      .toList();
+
+    recordInstanceViewCacheResults(batchIds.size() - newFetches.size(), newFetches.size());
+    if (!newFetches.isEmpty()) {
+      fetchMissingInstanceViews(tenantId, newFetches, inventoryFetch);
+    }
+
+    try {
+      return cachedFetches.stream()
+        .map(cachedFetch -> cachedFetch.view().join())
+        .filter(Objects::nonNull)
+        .map(view -> new InstanceView(new LinkedHashMap<>(view.getInstance()), view.getHoldingsRecords(),
+          view.getItems(), view.getIsBoundWith()))
+        .toList();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+    }
+  }
+
+  /**
+   * Fetches views of the given instances from inventory and completes the shared fetch with them, the fetches of not
+   * found instances and failed fetches are removed from the cache.
+   */
+  private void fetchMissingInstanceViews(String tenantId, Map<String, InstanceViewFetch> newFetches,
+                                         CompletableFuture<Map<String, InstanceView>> inventoryFetch) {
+    try {
+      var fetchedViews = fetchInventoryInstanceViews(List.copyOf(newFetches.keySet())).stream()
+        .filter(view -> view.getInstance() != null && getString(view.getInstance(), ID_FIELD) != null)
+        .collect(toMap(view -> getString(view.getInstance(), ID_FIELD), identity(), (first, second) -> second));
+      inventoryFetch.complete(fetchedViews);
+      newFetches.forEach((id, newFetch) -> {
+        if (!fetchedViews.containsKey(id)) {
+          instanceViewCache.asMap().remove(getCacheKey(tenantId, id), newFetch);
+        }
+      });
+    } catch (RuntimeException e) {
+      inventoryFetch.completeExceptionally(e);
+      newFetches.forEach((id, newFetch) -> instanceViewCache.asMap().remove(getCacheKey(tenantId, id), newFetch));
+      throw e;
+    }
+  }
+
+  private void recordInstanceViewCacheResults(int hits, int misses) {
+    Counter.builder(INSTANCE_VIEW_CACHE_METRIC_NAME).tag("result", "hit").register(meterRegistry).increment(hits);
+    Counter.builder(INSTANCE_VIEW_CACHE_METRIC_NAME).tag("result", "miss").register(meterRegistry).increment(misses);
+  }
+
+  private List<InstanceView> fetchInventoryInstanceViews(List<String> batchIds) {
+    var sample = Timer.start(meterRegistry);
+    var instanceViews = inventoryClient.getInstances(exactMatchAny(CqlQueryParam.ID, batchIds), batchIds.size())
+      .getResult();
+    var durationNanos = sample.stop(Timer.builder(FETCH_TIMER_NAME).register(meterRegistry));
+    DistributionSummary.builder(FETCH_SIZE_METRIC_NAME).register(meterRegistry).record(instanceViews.size());
+    adjustBatchSize(durationNanos, instanceViews);
+    return instanceViews;
+  }
+
+  private static String getCacheKey(String tenantId, String instanceId) {
+    return tenantId + ":" + instanceId;
+  }
+
+  private int getBatchSize() {
+    var fetchSettings = getFetchSettings();
+    var batchSize = fetchSettings.getBatchSize();
+    return fetchSettings.isAdaptiveEnabled() ? Math.min(batchSize, adaptiveBatchSize.get()) : batchSize;
+  }
+
+  /**
+   * Halves the adaptive batch size if the call was slow or the response contained too many holdings and items, and
+   * increases it by 10% up to the configured batch size if the call was faster than half of the threshold.
+   */
+  private void adjustBatchSize(long durationNanos, List<InstanceView> instanceViews) {
+    var fetchSettings = getFetchSettings();
+    if (!fetchSettings.isAdaptiveEnabled()) {
+      return;
+    }
+
+    var durationMs = NANOSECONDS.toMillis(durationNanos);
+    var responseRecords = instanceViews.stream()
+      .mapToInt(view -> CollectionUtils.size(view.getHoldingsRecords()) + CollectionUtils.size(view.getItems()))
+      .sum();
+    var maxBatchSize = fetchSettings.getBatchSize();
+    var slowCallThresholdMs = fetchSettings.getSlowCallThresholdMs();
+    if (durationMs > slowCallThresholdMs || responseRecords > fetchSettings.getMaxResponseRecords()) {
+      var newBatchSize = adaptiveBatchSize.updateAndGet(
+        size -> Math.max(fetchSettings.getMinBatchSize(), Math.min(size, maxBatchSize) / 2));
+      log.debug("Inventory fetch batch size decreased [batchSize: {}, durationMs: {}, responseRecords: {}]",
+        newBatchSize, durationMs, responseRecords);
+    } else if (durationMs < slowCallThresholdMs / 2) {
+      adaptiveBatchSize.updateAndGet(size -> size >= maxBatchSize ? size : Math.min(maxBatchSize, size * 11 / 10 + 1));
+    }
+  }
+
+  private InventoryFetchSettings getFetchSettings() {
+    return searchConfigurationProperties.getIndexing().getInventoryFetch();
+  }
+
   private static ResourceEvent mapToResourceEvent(String tenantId, Map<String, Object> instanceMap,
                                                   Map<String, List<ResourceEvent>> eventsById) {
     var id = getResourceEventId(instanceMap);
@@ -74,4 +283,23 @@ public class ResourceFetchService {
     var sourceEvent = lastElement.get();
     return resourceEvent.type(sourceEvent.getType()).old(sourceEvent.getOld());
   }
+
+  /**
+   * Cached fetch of an instance view, the view is {@code null} if the instance is not found.
+   *
+   * @param startTime {@link System#nanoTime()} value taken when the fetch was started
+   * @param view      fetched or in-flight instance view
+   */
+  public record InstanceViewFetch(long startTime, CompletableFuture<InstanceView> view) {
+
+    /**
+     * Checks if the fetch can be used for the events received at the given time.
+     *
+     * @param receivedTime {@link System#nanoTime()} value taken when the events were received, null for reindex events
+     * @return true if the fetch was not failed and started after the events were received
+     */
+    boolean isUsableFor(Long receivedTime) {
+      return !view.isCompletedExceptionally() && (receivedTime == null || startTime - receivedTime >= 0);
+    }
+  }
 }
@@ -0,0 +1,27 @@
+package org.folio.search.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class CursorSearchResult<T> {
+
+  /**
+   * Amount of records found.
+   */
+  private int totalRecords;
+
+  /**
+   * Cursor to retrieve the next page, null if there are no more pages.
+   */
+  private String nextCursor;
+
+  /**
+   * List with found records.
+   */
+  private List<T> records;
+}
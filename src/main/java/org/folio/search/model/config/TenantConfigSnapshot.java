@@ -0,0 +1,52 @@
+package org.folio.search.model.config;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.folio.search.domain.dto.TenantConfiguredFeature;
+
+/**
+ * Immutable snapshot of the tenant language and feature configuration used during resource conversion.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TenantConfigSnapshot {
+
+  /**
+   * Language codes configured for tenant.
+   */
+  Set<String> languageCodes;
+
+  /**
+   * Features enabled for tenant.
+   */
+  Set<TenantConfiguredFeature> enabledFeatures;
+
+  /**
+   * Creates snapshot from the given language codes and enabled features.
+   *
+   * @param languageCodes   - language codes configured for tenant
+   * @param enabledFeatures - features enabled for tenant
+   * @return created {@link TenantConfigSnapshot} object
+   */
+  public static TenantConfigSnapshot of(Collection<String> languageCodes,
+                                        Collection<TenantConfiguredFeature> enabledFeatures) {
+    var features = EnumSet.noneOf(TenantConfiguredFeature.class);
+    features.addAll(enabledFeatures);
+    return new TenantConfigSnapshot(Set.copyOf(languageCodes), Collections.unmodifiableSet(features));
+  }
+
+  /**
+   * Checks if feature is enabled for tenant.
+   *
+   * @param feature - feature id as {@link TenantConfiguredFeature} object
+   * @return true if feature is enabled for tenant, false - otherwise.
+   */
+  public boolean isEnabled(TenantConfiguredFeature feature) {
+    return enabledFeatures.contains(feature);
+  }
+}
@@ -33,6 +33,36 @@ public class FolioExecutionContextBuilder {
     return builder().withTenantId(tenantId).build();
   }
 
+  /**
+   * Creates a copy of the given execution context, that can be passed to the threads of an executor, where the
+   * request scoped execution context is not available.
+   *
+   * @param context - execution context to copy
+   * @return copy of the execution context with the same tenant, okapi url, token and headers
+   */
+  public FolioExecutionContext copyOf(FolioExecutionContext context) {
+    return builderFrom(context).build();
+  }
+
+  /**
+   * Creates builder initialized with the tenant, okapi url, token and headers of the given execution context.
+   *
+   * @param context - execution context to copy
+   * @return execution context builder
+   */
+  public FolioExecutionContextBuilder.Builder builderFrom(FolioExecutionContext context) {
+    return builder()
+      .withTenantId(context.getTenantId())
+      .withOkapiUrl(context.getOkapiUrl())
+      .withToken(context.getToken())
+      .withAllHeaders(copyHeaders(context.getAllHeaders()))
+      .withOkapiHeaders(copyHeaders(context.getOkapiHeaders()));
+  }
+
+  private static Map<String, Collection<String>> copyHeaders(Map<String, Collection<String>> headers) {
+    return headers == null ? new HashMap<>() : new HashMap<>(headers);
+  }
+
   @With
   @AllArgsConstructor(access = AccessLevel.PRIVATE)
   public static class Builder {
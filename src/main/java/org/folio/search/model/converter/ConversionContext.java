@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.model.config.TenantConfigSnapshot;
 import org.folio.search.model.metadata.ResourceDescription;
 
 /**
@@ -29,4 +30,9 @@ public class ConversionContext {
    * List of supported language for resource.
    */
   private final List<String> languages;
+
+  /**
+   * Tenant configuration snapshot, taken once per batch of resource events.
+   */
+  private final TenantConfigSnapshot tenantConfig;
 }
@@ -1,5 +1,9 @@
 package org.folio.search.model.index;
 
+import static org.folio.search.utils.SearchConverterUtils.getEventPayload;
+
+import java.util.Map;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.folio.search.domain.dto.ResourceEvent;
@@ -9,11 +13,29 @@ import org.opensearch.common.bytes.BytesReference;
 
 /**
  * Contains all required field to perform elasticsearch index operation in mod-search service.
+ *
+ * <p>Resource event is not retained, only values required by resource repositories are taken from it, so event
+ * payloads can be garbage collected as soon as document body is serialized.</p>
  */
 @Data
-@AllArgsConstructor(staticName = "of")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class SearchDocumentBody {
 
+  /**
+   * Document id.
+   */
+  private String id;
+
+  /**
+   * Tenant id of the resource event.
+   */
+  private String tenant;
+
+  /**
+   * Resource name of the resource event.
+   */
+  private String resource;
+
   /**
    * Document body for elasticsearch index operation.
    */
@@ -24,41 +46,43 @@ public class SearchDocumentBody {
    */
   private IndexingDataFormat dataFormat;
 
-  /**
-   * Corresponding resource event value, used for delete operations.
-   */
-  private ResourceEvent resourceEvent;
-
   /**
    * Elasticsearch action - index or remove.
    */
   private IndexActionType action;
 
   /**
-   * Returns resource event id.
-   *
-   * @return resource event id as {@link String} object.
+   * Resource event payload, used by repositories that build scripted upsert requests from it, null for other resources.
    */
-  public String getId() {
-    return resourceEvent.getId();
-  }
+  private Map<String, Object> upsertPayload;
 
   /**
-   * Returns event tenant.
+   * Creates search document body, that does not retain resource event payload.
    *
-   * @return tenant from resource event as {@link String} object.
+   * @param documentBody  - serialized document body, null for delete operations
+   * @param dataFormat    - document body format
+   * @param resourceEvent - resource event to take document id, tenant and resource name from
+   * @param action        - elasticsearch action
+   * @return created {@link SearchDocumentBody} object
    */
-  public String getTenant() {
-    return resourceEvent.getTenant();
+  public static SearchDocumentBody of(BytesReference documentBody, IndexingDataFormat dataFormat,
+                                      ResourceEvent resourceEvent, IndexActionType action) {
+    return new SearchDocumentBody(resourceEvent.getId(), resourceEvent.getTenant(), resourceEvent.getResourceName(),
+      documentBody, dataFormat, action, null);
   }
 
   /**
-   * Returns resource event name.
+   * Creates search document body, that retains resource event payload for scripted upsert requests.
    *
-   * @return resource name from resource event as {@link String} object.
+   * @param documentBody  - serialized document body, null for delete operations
+   * @param dataFormat    - document body format
+   * @param resourceEvent - resource event to take document id, tenant, resource name and payload from
+   * @param action        - elasticsearch action
+   * @return created {@link SearchDocumentBody} object
    */
-  public String getResource() {
-    return resourceEvent.getResourceName();
+  public static SearchDocumentBody forUpsert(BytesReference documentBody, IndexingDataFormat dataFormat,
+                                             ResourceEvent resourceEvent, IndexActionType action) {
+    return new SearchDocumentBody(resourceEvent.getId(), resourceEvent.getTenant(), resourceEvent.getResourceName(),
+      documentBody, dataFormat, action, getEventPayload(resourceEvent));
   }
-
 }
@@ -0,0 +1,95 @@
+package org.folio.search.model.metadata;
+
+import static org.folio.search.utils.SearchUtils.PLAIN_FULLTEXT_PREFIX;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tree of flattened field paths of the resource description, used to resolve field properties while walking over
+ * resource data without building dotted path strings.
+ *
+ * <p>Each path segment is a tree node. Field names with the {@code plain_} prefix are resolved to the same node as
+ * the names without it, unknown names are resolved to the empty node, which has no children and no flags.</p>
+ */
+public final class FieldPathTree {
+
+  /**
+   * Field path tree without any fields.
+   */
+  public static final FieldPathTree EMPTY = new FieldPathTree(Node.EMPTY_NODE);
+
+  private final Node root;
+
+  private FieldPathTree(Node root) {
+    this.root = root;
+  }
+
+  /**
+   * Builds field path tree from the flattened resource description fields.
+   *
+   * @param flattenFields - map with plain field descriptions by dotted path
+   * @return built {@link FieldPathTree} object
+   */
+  public static FieldPathTree of(Map<String, PlainFieldDescription> flattenFields) {
+    var root = new Node();
+    flattenFields.forEach((path, fieldDescription) -> {
+      var node = root;
+      for (var segment : path.split("\\.")) {
+        node = node.children.computeIfAbsent(segment, name -> new Node());
+      }
+      node.multilang = fieldDescription.isMultilang();
+    });
+    root.addPlainNameAliases();
+    return new FieldPathTree(root);
+  }
+
+  /**
+   * Returns root node of the tree.
+   *
+   * @return root {@link Node} object
+   */
+  public Node getRoot() {
+    return root;
+  }
+
+  /**
+   * Node of the {@link FieldPathTree}, representing a field path segment.
+   */
+  public static final class Node {
+
+    private static final Node EMPTY_NODE = new Node();
+
+    private final Map<String, Node> children = new HashMap<>();
+    private boolean multilang;
+
+    private Node() { }
+
+    /**
+     * Returns child node for the field name.
+     *
+     * @param name - field name
+     * @return child {@link Node} object, empty node if field is not defined by the resource description
+     */
+    public Node getChild(String name) {
+      return children.getOrDefault(name, EMPTY_NODE);
+    }
+
+    /**
+     * Checks if field by node path is multi-language.
+     *
+     * @return true if field by node path is multi-language, false - otherwise
+     */
+    public boolean isMultilang() {
+      return multilang;
+    }
+
+    private void addPlainNameAliases() {
+      for (var entry : new ArrayList<>(children.entrySet())) {
+        children.putIfAbsent(PLAIN_FULLTEXT_PREFIX + entry.getKey(), entry.getValue());
+        entry.getValue().addPlainNameAliases();
+      }
+    }
+  }
+}
@@ -19,6 +19,7 @@ import org.folio.search.model.types.SearchType;
 public class PlainFieldDescription extends FieldDescription {
 
   public static final String NONE_FIELD_TYPE = "none";
+  public static final String SOURCE_FIELD_TYPE = "source";
 
   public static final String MULTILANG_FIELD_TYPE = "multilang";
   public static final String STANDARD_FIELD_TYPE = "standard";
@@ -110,6 +111,16 @@ public class PlainFieldDescription extends FieldDescription {
     return NONE_FIELD_TYPE.equals(index);
   }
 
+  /**
+   * Checks if field value is only stored in the document source and not indexed.
+   *
+   * @return true if field is stored in the document source only, false - otherwise
+   */
+  @JsonIgnore
+  public boolean isSourceOnly() {
+    return SOURCE_FIELD_TYPE.equals(index);
+  }
+
   /**
    * Checks if field description contains given {@link SearchType} value.
    *
@@ -16,6 +16,7 @@ import java.util.Map;
  * <li>Resolves types for object/plain fields. Type must be defined in {@code fieldTypes} section of the resource
  * description, and then it can be referenced in actual type via $type: [type] property.</li>
  * <li>Builds flattened map of field path and field description pairs.</li>
+ * <li>Builds tree of the flattened field paths.</li>
  * </ul>
  */
 public class PostProcessResourceDescriptionConverter extends StdConverter<ResourceDescription, ResourceDescription> {
@@ -24,6 +25,7 @@ public class PostProcessResourceDescriptionConverter extends StdConverter<Resour
   public ResourceDescription convert(ResourceDescription value) {
     resolveFieldByType(value, value.getFields());
     value.setFlattenFields(getFlattenFields(value));
+    value.setFieldPathTree(FieldPathTree.of(value.getFlattenFields()));
 
     return value;
   }
@@ -8,7 +8,9 @@ import java.util.List;
 import java.util.Map;
 import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.Setter;
+import lombok.ToString;
 
 /**
  * POJO class for specifying a resource description in local json files or dedicated database.
@@ -86,4 +88,13 @@ public class ResourceDescription {
   @JsonIgnore
   @Setter(AccessLevel.PACKAGE)
   private Map<String, PlainFieldDescription> flattenFields;
+
+  /**
+   * Tree of flattened field paths, used to resolve field properties while walking over resource data.
+   */
+  @JsonIgnore
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  @Setter(AccessLevel.PACKAGE)
+  private FieldPathTree fieldPathTree;
 }
@@ -0,0 +1,68 @@
+package org.folio.search.model.service;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.folio.search.model.ResourceRequest;
+import org.folio.search.utils.SearchUtils;
+
+/**
+ * CQL based search request model for paging with a search cursor.
+ */
+@Data
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CqlCursorSearchRequest<T> implements ResourceRequest {
+
+  /**
+   * Resource name.
+   */
+  private final String resource;
+
+  /**
+   * Resource class for response.
+   */
+  private final Class<T> resourceClass;
+
+  /**
+   * Request tenant id.
+   */
+  private final String tenantId;
+
+  /**
+   * A CQL query string with search conditions.
+   */
+  private final String query;
+
+  /**
+   * Search cursor returned with the previous page, null for the first page.
+   */
+  private final String cursor;
+
+  /**
+   * Limit the number of elements in the response.
+   */
+  private final Integer limit;
+
+  /**
+   * Whether to return only basic properties or entire record.
+   */
+  private final Boolean expandAll;
+
+  /**
+   * Creates {@link CqlCursorSearchRequest} object for given variables.
+   *
+   * @param resourceClass - resource class
+   * @param tenantId      - tenant id
+   * @param query         - CQL query
+   * @param cursor        - search cursor returned with the previous page, null for the first page
+   * @param limit         - search result records limit
+   * @param expandAll     - whether to return only response properties or entire record
+   * @param <R>           - generic type for {@link CqlCursorSearchRequest} object.
+   * @return created {@link CqlCursorSearchRequest} object
+   */
+  public static <R> CqlCursorSearchRequest<R> of(Class<R> resourceClass, String tenantId, String query,
+                                                 String cursor, Integer limit, Boolean expandAll) {
+    var resource = SearchUtils.getResourceName(resourceClass);
+    return new CqlCursorSearchRequest<>(resource, resourceClass, tenantId, query, cursor, limit, expandAll);
+  }
+}
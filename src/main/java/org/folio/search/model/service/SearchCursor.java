@@ -0,0 +1,15 @@
+package org.folio.search.model.service;
+
+import java.util.List;
+
+/**
+ * Search cursor state, passed to the client as an opaque token.
+ *
+ * @param pointInTimeId - point in time id, the cursor pages through
+ * @param searchAfter   - sort values of the last returned record
+ * @param totalRecords  - amount of records found, calculated for the first page only
+ * @param tenantId      - tenant id, the cursor is created for
+ * @param queryDigest   - SHA-256 digest of the CQL query, the cursor is created for
+ */
+public record SearchCursor(String pointInTimeId, List<Object> searchAfter, int totalRecords, String tenantId,
+                           String queryDigest) { }
@@ -1,43 +1,109 @@
 package org.folio.search.repository;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.folio.search.configuration.AsyncConfig.BULK_RETRY_EXECUTOR_NAME;
 import static org.folio.search.model.types.IndexActionType.INDEX;
 import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperationResponse;
 import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
 import static org.folio.search.utils.SearchUtils.performExceptionalOperation;
 import static org.opensearch.client.RequestOptions.DEFAULT;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.configuration.properties.SearchConfigurationProperties.BulkIndexingSettings;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
+import org.folio.search.exception.SearchOperationException;
 import org.folio.search.model.index.SearchDocumentBody;
+import org.folio.search.service.SearchResultCache;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.rest.RestStatus;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 
 @Log4j2
 public abstract class AbstractResourceRepository implements ResourceRepository {
 
   protected RestHighLevelClient elasticsearchClient;
   protected IndexNameProvider indexNameProvider;
+  private BulkIndexingSettings bulkSettings = new BulkIndexingSettings();
+  private Semaphore inFlightBulkRequests = new Semaphore(bulkSettings.getMaxInFlightRequests());
+  private Executor bulkRetryExecutor;
+  private SearchResultCache searchResultCache;
 
+  /**
+   * Saves provided list of {@link SearchDocumentBody} objects to elasticsearch using blocking bulk requests.
+   *
+   * <p>A bulk request, that is not split, is executed in the calling thread. Chunks of a split bulk request are sent
+   * concurrently as asynchronous bulk requests, limited by the maximum number of in-flight bulk requests for this
+   * repository, and the calling thread waits for all of them. Delayed retries of failed items are executed by the
+   * bulk retry executor. Cached search results of written resources are invalidated after the write.</p>
+   *
+   * @param documents list wth {@link SearchDocumentBody} object
+   * @return index operation response as {@link FolioIndexOperationResponse} object
+   */
   @Override
   public FolioIndexOperationResponse indexResources(List<SearchDocumentBody> documents) {
     if (CollectionUtils.isEmpty(documents)) {
       return getSuccessIndexOperationResponse();
     }
 
-    var bulkRequest = prepareBulkRequest(documents);
-    var bulkApiResponse = executeBulkRequest(bulkRequest);
+    var bulkRequests = splitBulkRequest(prepareBulkRequest(documents));
+    Function<BulkRequest, CompletableFuture<BulkResponse>> bulkRequestExecutor = bulkRequests.size() > 1
+      ? this::executeBulkRequestAsync : this::executeBulkRequestBlocking;
+    try {
+      return await(executeBulkRequests(bulkRequests, bulkRequestExecutor));
+    } finally {
+      invalidateSearchResults(documents);
+    }
+  }
 
-    return bulkApiResponse.hasFailures()
-           ? getErrorIndexOperationResponse(bulkApiResponse.buildFailureMessage())
-           : getSuccessIndexOperationResponse();
+  /**
+   * Saves provided list of {@link SearchDocumentBody} objects to elasticsearch using asynchronous bulk request.
+   *
+   * <p>The calling thread is blocked only while the number of in-flight bulk requests for this repository is at the
+   * configured maximum, which propagates backpressure to the message listener. Cached search results of written
+   * resources are invalidated when the write is completed.</p>
+   *
+   * @param documents list wth {@link SearchDocumentBody} object
+   * @return {@link CompletableFuture} with index operation response as {@link FolioIndexOperationResponse} object
+   */
+  @Override
+  public CompletableFuture<FolioIndexOperationResponse> indexResourcesAsync(List<SearchDocumentBody> documents) {
+    if (CollectionUtils.isEmpty(documents)) {
+      return completedFuture(getSuccessIndexOperationResponse());
+    }
+
+    var bulkRequests = splitBulkRequest(prepareBulkRequest(documents));
+    return executeBulkRequests(bulkRequests, this::executeBulkRequestAsync)
+      .whenComplete((response, error) -> invalidateSearchResults(documents));
   }
 
   @Autowired
@@ -50,11 +116,98 @@ public abstract class AbstractResourceRepository implements ResourceRepository {
     this.elasticsearchClient = elasticsearchClient;
   }
 
+  @Autowired
+  public void setSearchConfigurationProperties(SearchConfigurationProperties searchConfigurationProperties) {
+    this.bulkSettings = searchConfigurationProperties.getIndexing().getBulk();
+    this.inFlightBulkRequests = new Semaphore(bulkSettings.getMaxInFlightRequests());
+  }
+
+  @Autowired
+  public void setSearchResultCache(SearchResultCache searchResultCache) {
+    this.searchResultCache = searchResultCache;
+  }
+
+  @Autowired
+  public void setBulkRetryExecutor(@Qualifier(BULK_RETRY_EXECUTOR_NAME) Executor bulkRetryExecutor) {
+    this.bulkRetryExecutor = bulkRetryExecutor;
+  }
+
+  private void invalidateSearchResults(List<SearchDocumentBody> documents) {
+    documents.stream()
+      .collect(groupingBy(SearchDocumentBody::getResource, mapping(SearchDocumentBody::getTenant, toSet())))
+      .forEach((resource, tenants) -> tenants.forEach(tenant -> searchResultCache.invalidate(tenant, resource)));
+  }
+
   protected BulkResponse executeBulkRequest(BulkRequest bulkRequest) {
-    var indicesString = bulkRequest.requests().stream().map(DocWriteRequest::index).collect(joining(","));
+    var indicesString = getIndicesString(bulkRequest);
     return performExceptionalOperation(() -> elasticsearchClient.bulk(bulkRequest, DEFAULT), indicesString, "bulkApi");
   }
 
+  protected CompletableFuture<BulkResponse> executeBulkRequestAsync(BulkRequest bulkRequest) {
+    var indicesString = getIndicesString(bulkRequest);
+    acquireBulkRequestPermit(indicesString);
+
+    var future = new CompletableFuture<BulkResponse>();
+    try {
+      elasticsearchClient.bulkAsync(bulkRequest, DEFAULT,
+        ActionListener.wrap(future::complete, future::completeExceptionally));
+    } catch (Exception e) {
+      future.completeExceptionally(e);
+    }
+
+    return future.handle((bulkResponse, error) -> {
+      inFlightBulkRequests.release();
+      if (error != null) {
+        throw getBulkOperationException(indicesString, error);
+      }
+      return bulkResponse;
+    });
+  }
+
+  /**
+   * Splits the given {@link BulkRequest} into chunks limited by the configured estimated size and number of actions.
+   *
+   * <p>Requests for the same document are always placed to the same chunk, so chunks can be executed in parallel
+   * without changing the order of writes for a document.</p>
+   *
+   * @param bulkRequest - bulk request to split as {@link BulkRequest} object
+   * @return list with bulk requests as {@link BulkRequest} objects
+   */
+  protected List<BulkRequest> splitBulkRequest(BulkRequest bulkRequest) {
+    var maxRequestSize = bulkSettings.getMaxRequestSize().toBytes();
+    var maxRequestActions = bulkSettings.getMaxRequestActions();
+    if (bulkRequest.numberOfActions() <= maxRequestActions && bulkRequest.estimatedSizeInBytes() <= maxRequestSize) {
+      return List.of(bulkRequest);
+    }
+
+    var requestsByDocument = bulkRequest.requests().stream()
+      .collect(groupingBy(request -> request.index() + "/" + request.id(), LinkedHashMap::new, toList()));
+
+    var bulkRequests = new ArrayList<BulkRequest>();
+    var currentRequest = new BulkRequest();
+    for (var documentRequests : requestsByDocument.values()) {
+      var documentBulk = new BulkRequest().add(documentRequests);
+      var currentActions = currentRequest.numberOfActions();
+      if (currentActions > 0 && (currentActions + documentBulk.numberOfActions() > maxRequestActions
+        || currentRequest.estimatedSizeInBytes() + documentBulk.estimatedSizeInBytes() > maxRequestSize)) {
+        bulkRequests.add(currentRequest);
+        currentRequest = new BulkRequest();
+      }
+      currentRequest.add(documentRequests);
+    }
+    bulkRequests.add(currentRequest);
+
+    log.debug("splitBulkRequest:: bulk request split [actions: {}, sizeInBytes: {}, chunks: {}]",
+      bulkRequest.numberOfActions(), bulkRequest.estimatedSizeInBytes(), bulkRequests.size());
+    return bulkRequests;
+  }
+
+  /**
+   * Prepares {@link BulkRequest} object from the given list of {@link SearchDocumentBody} objects.
+   *
+   * @param documents - list of search document bodies as {@link SearchDocumentBody} objects.
+   * @return prepared {@link BulkRequest} request
+   */
   protected BulkRequest prepareBulkRequest(List<SearchDocumentBody> documents) {
     var request = new BulkRequest();
     for (var document : documents) {
@@ -84,4 +237,141 @@ public abstract class AbstractResourceRepository implements ResourceRepository {
   protected DeleteRequest prepareDeleteRequest(SearchDocumentBody doc) {
     return new DeleteRequest(indexNameProvider.getIndexName(doc)).id(doc.getId());
   }
+
+  private void acquireBulkRequestPermit(String indicesString) {
+    try {
+      inFlightBulkRequests.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw getBulkOperationException(indicesString, e);
+    }
+  }
+
+  private CompletableFuture<BulkResponse> executeBulkRequestBlocking(BulkRequest bulkRequest) {
+    try {
+      return completedFuture(executeBulkRequest(bulkRequest));
+    } catch (Exception e) {
+      return failedFuture(e);
+    }
+  }
+
+  /**
+   * Executes bulk request chunks and retries of their failed items using the given bulk request executor.
+   *
+   * @param bulkRequests        - bulk request chunks to execute
+   * @param bulkRequestExecutor - function executing a single bulk request, blocking or asynchronous
+   * @return {@link CompletableFuture} with index operation response for all chunks
+   */
+  private CompletableFuture<FolioIndexOperationResponse> executeBulkRequests(
+    List<BulkRequest> bulkRequests, Function<BulkRequest, CompletableFuture<BulkResponse>> bulkRequestExecutor) {
+    var failures = bulkRequests.stream()
+      .map(request -> bulkRequestExecutor.apply(request)
+        .thenCompose(response -> retryFailedItems(request, response, bulkRequestExecutor, 1)))
+      .toList();
+
+    return CompletableFuture.allOf(failures.toArray(CompletableFuture[]::new))
+      .thenApply(ignored -> toIndexOperationResponse(
+        failures.stream().map(CompletableFuture::join).flatMap(List::stream).toList()));
+  }
+
+  /**
+   * Re-submits only failed items of the bulk response that can be retried (rejected by the cluster or failed because
+   * of a server error) using exponential backoff with jitter. Other failed items are reported as permanent failures.
+   *
+   * <p>Retries are executed by the dedicated bulk retry executor, because waiting for an in-flight request permit
+   * or for a blocking bulk response must not occupy threads of the common pool.</p>
+   *
+   * @param bulkRequest         - executed bulk request as {@link BulkRequest} object
+   * @param bulkResponse        - received bulk response as {@link BulkResponse} object
+   * @param bulkRequestExecutor - function executing a single bulk request, blocking or asynchronous
+   * @param attempt             - number of the current attempt, starting from 1
+   * @return {@link CompletableFuture} with the list of permanent failure messages per document
+   */
+  private CompletableFuture<List<String>> retryFailedItems(
+    BulkRequest bulkRequest, BulkResponse bulkResponse,
+    Function<BulkRequest, CompletableFuture<BulkResponse>> bulkRequestExecutor, int attempt) {
+    if (!bulkResponse.hasFailures()) {
+      return completedFuture(emptyList());
+    }
+
+    var items = bulkResponse.getItems();
+    if (items == null) {
+      return completedFuture(singletonList(bulkResponse.buildFailureMessage()));
+    }
+
+    var failures = new ArrayList<String>();
+    var retryRequest = new BulkRequest();
+    for (var item : items) {
+      if (!item.isFailed()) {
+        continue;
+      }
+
+      if (attempt <= bulkSettings.getItemRetryAttempts() && isRetryableFailure(item)) {
+        retryRequest.add(bulkRequest.requests().get(item.getItemId()));
+      } else {
+        failures.add(getFailureMessage(item));
+      }
+    }
+
+    if (retryRequest.numberOfActions() == 0) {
+      return completedFuture(failures);
+    }
+
+    var retryDelay = getRetryDelay(attempt);
+    log.info("retryFailedItems:: retrying failed bulk items [attempt: {}, items: {}, delayMs: {}]",
+      attempt, retryRequest.numberOfActions(), retryDelay);
+
+    var retryExecutor = delayedExecutor(retryDelay, MILLISECONDS, bulkRetryExecutor);
+    return CompletableFuture.supplyAsync(() -> retryRequest, retryExecutor)
+      .thenCompose(bulkRequestExecutor)
+      .thenCompose(retryResponse -> retryFailedItems(retryRequest, retryResponse, bulkRequestExecutor, attempt + 1))
+      .thenApply(retryFailures -> ListUtils.union(failures, retryFailures));
+  }
+
+  private long getRetryDelay(int attempt) {
+    var maxBackoff = bulkSettings.getItemRetryMaxBackoffMs();
+    var exponentialBackoff = Math.min(maxBackoff, bulkSettings.getItemRetryInitialBackoffMs() << (attempt - 1));
+    return exponentialBackoff / 2 + ThreadLocalRandom.current().nextLong(exponentialBackoff / 2 + 1);
+  }
+
+  private static boolean isRetryableFailure(BulkItemResponse item) {
+    var status = item.status();
+    return status == RestStatus.TOO_MANY_REQUESTS || status.getStatus() >= RestStatus.INTERNAL_SERVER_ERROR.getStatus();
+  }
+
+  private static String getFailureMessage(BulkItemResponse item) {
+    return String.format("[index: %s, id: %s, status: %s, message: %s]",
+      item.getIndex(), item.getId(), item.status(), item.getFailureMessage());
+  }
+
+  private static FolioIndexOperationResponse toIndexOperationResponse(List<String> failures) {
+    if (failures.isEmpty()) {
+      return getSuccessIndexOperationResponse();
+    }
+
+    return failures.size() == 1
+           ? getErrorIndexOperationResponse(failures.get(0))
+           : getErrorIndexOperationResponse(String.join(", ", failures));
+  }
+
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  private static String getIndicesString(BulkRequest bulkRequest) {
+    return bulkRequest.requests().stream().map(DocWriteRequest::index).collect(joining(","));
+  }
+
+  private static SearchOperationException getBulkOperationException(String indicesString, Throwable error) {
+    return new SearchOperationException(String.format(
+      "Failed to perform elasticsearch request [index=%s, type=bulkApi, message: %s]",
+      indicesString, error.getMessage()), error);
+  }
 }
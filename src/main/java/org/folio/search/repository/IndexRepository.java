@@ -9,18 +9,26 @@ import static org.folio.search.utils.SearchUtils.performExceptionalOperation;
 import static org.opensearch.client.RequestOptions.DEFAULT;
 import static org.opensearch.common.xcontent.XContentType.JSON;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Set;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
 import org.folio.search.domain.dto.FolioCreateIndexResponse;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
 import org.opensearch.action.admin.indices.refresh.RefreshRequest;
 import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.CreateIndexRequest;
 import org.opensearch.client.indices.GetIndexRequest;
 import org.opensearch.client.indices.PutMappingRequest;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Repository;
@@ -29,10 +37,30 @@ import org.springframework.stereotype.Repository;
  * Search resource repository with set of operation to create/modify/update index settings and mappings.
  */
 @Repository
-@RequiredArgsConstructor
 public class IndexRepository {
 
+  private static final int MAX_ABSENT_INDICES = 5_000;
+
   private final RestHighLevelClient elasticsearchClient;
+  private final CacheManager cacheManager;
+  private final Cache<String, Boolean> absentIndices;
+
+  /**
+   * Used by dependency injection.
+   *
+   * @param elasticsearchClient - elasticsearch client
+   * @param cacheManager        - cache manager to resolve cached existing indices
+   * @param cacheConfiguration  - cache configuration properties to get time to live of absent indices from
+   */
+  public IndexRepository(RestHighLevelClient elasticsearchClient, CacheManager cacheManager,
+                         SearchCacheConfigurationProperties cacheConfiguration) {
+    this.elasticsearchClient = elasticsearchClient;
+    this.cacheManager = cacheManager;
+    this.absentIndices = Caffeine.newBuilder()
+      .maximumSize(MAX_ABSENT_INDICES)
+      .expireAfterWrite(cacheConfiguration.getIndexExistenceNegativeTtl())
+      .build();
+  }
 
   /**
    * Creates index using passed settings and mappings JSONs.
@@ -51,6 +79,7 @@ public class IndexRepository {
     var createIndexResponse = performExceptionalOperation(
       () -> elasticsearchClient.indices().create(createIndexRequest, RequestOptions.DEFAULT),
       index, "createIndexApi");
+    absentIndices.invalidate(index);
 
     return createIndexResponse.isAcknowledged()
       ? getSuccessFolioCreateIndexResponse(List.of(index))
@@ -111,6 +140,53 @@ public class IndexRepository {
       index, "indexExists");
   }
 
+  /**
+   * Checks which of the given indices exist in elasticsearch.
+   *
+   * <p>Indices are resolved from the same cache as {@link #indexExists(String)}, existence of not cached indices is
+   * checked using a single request and existing ones are put to the cache. Absent indices are cached for a short
+   * time, so events of tenants without some indices do not trigger the check on every poll. Both caches are evicted
+   * when an index is created or dropped by this module instance.</p>
+   *
+   * @param indices elasticsearch index names
+   * @return set with names of existing indices
+   */
+  public Set<String> getExistingIndices(Collection<String> indices) {
+    var cache = cacheManager.getCache(ES_INDICES_CACHE);
+    var existingIndices = new HashSet<String>();
+    var notCachedIndices = new ArrayList<String>();
+    for (var index : indices) {
+      if (cache != null && Boolean.TRUE.equals(cache.get(index, Boolean.class))) {
+        existingIndices.add(index);
+      } else if (absentIndices.getIfPresent(index) == null) {
+        notCachedIndices.add(index);
+      }
+    }
+
+    if (notCachedIndices.isEmpty()) {
+      return existingIndices;
+    }
+
+    var request = new GetIndexRequest(notCachedIndices.toArray(String[]::new))
+      .indicesOptions(IndicesOptions.lenientExpandOpen());
+    var response = performExceptionalOperation(
+      () -> elasticsearchClient.indices().get(request, RequestOptions.DEFAULT),
+      String.join(",", notCachedIndices), "getIndexApi");
+
+    var foundIndices = Set.of(response.getIndices());
+    for (var index : notCachedIndices) {
+      if (foundIndices.contains(index)) {
+        existingIndices.add(index);
+        if (cache != null) {
+          cache.put(index, true);
+        }
+      } else {
+        absentIndices.put(index, true);
+      }
+    }
+    return existingIndices;
+  }
+
   /**
    * Refreshes the Elasticsearch indices.
    *
@@ -133,5 +209,6 @@ public class IndexRepository {
 
     performExceptionalOperation(() -> elasticsearchClient.indices()
       .delete(request, RequestOptions.DEFAULT), index, "dropIndex");
+    absentIndices.invalidate(index);
   }
 }
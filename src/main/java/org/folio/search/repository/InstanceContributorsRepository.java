@@ -2,9 +2,6 @@ package org.folio.search.repository;
 
 import static java.util.stream.Collectors.groupingBy;
 import static org.folio.search.utils.CollectionUtils.subtract;
-import static org.folio.search.utils.SearchConverterUtils.getEventPayload;
-import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperationResponse;
-import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
 import static org.folio.search.utils.SearchUtils.INSTANCE_CONTRIBUTORS_UPSERT_SCRIPT_ID;
 import static org.opensearch.script.ScriptType.STORED;
 
@@ -15,7 +12,6 @@ import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
-import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.model.index.SearchDocumentBody;
 import org.folio.search.model.types.IndexActionType;
 import org.opensearch.action.bulk.BulkRequest;
@@ -33,7 +29,7 @@ public class InstanceContributorsRepository extends AbstractResourceRepository {
   private final SearchConfigurationProperties properties;
 
   @Override
-  public FolioIndexOperationResponse indexResources(List<SearchDocumentBody> esDocumentBodies) {
+  protected BulkRequest prepareBulkRequest(List<SearchDocumentBody> esDocumentBodies) {
     var byId = esDocumentBodies.stream().collect(groupingBy(SearchDocumentBody::getId));
     var bulkRequest = new BulkRequest();
     for (var entry : byId.entrySet()) {
@@ -67,11 +63,7 @@ public class InstanceContributorsRepository extends AbstractResourceRepository {
       bulkRequest.add(upsertRequest);
     }
 
-    var bulkApiResponse = executeBulkRequest(bulkRequest);
-
-    return bulkApiResponse.hasFailures()
-           ? getErrorIndexOperationResponse(bulkApiResponse.buildFailureMessage())
-           : getSuccessIndexOperationResponse();
+    return bulkRequest;
   }
 
   private Script prepareScript(HashSet<Map<String, Object>> instancesToCreate,
@@ -99,6 +91,6 @@ public class InstanceContributorsRepository extends AbstractResourceRepository {
   }
 
   private Map<String, Object> getPayload(SearchDocumentBody doc) {
-    return getEventPayload(doc.getResourceEvent());
+    return doc.getUpsertPayload();
   }
 }
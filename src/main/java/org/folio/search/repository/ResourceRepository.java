@@ -1,6 +1,7 @@
 package org.folio.search.repository;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.model.index.SearchDocumentBody;
 
@@ -12,4 +13,14 @@ public interface ResourceRepository {
    * @param esDocumentBodies list wth {@link SearchDocumentBody} object
    */
   FolioIndexOperationResponse indexResources(List<SearchDocumentBody> esDocumentBodies);
+
+  /**
+   * Saves provided list of {@link SearchDocumentBody} objects to elasticsearch asynchronously.
+   *
+   * @param documents list wth {@link SearchDocumentBody} object
+   * @return {@link CompletableFuture} with index operation response as {@link FolioIndexOperationResponse} object
+   */
+  default CompletableFuture<FolioIndexOperationResponse> indexResourcesAsync(List<SearchDocumentBody> documents) {
+    return CompletableFuture.completedFuture(indexResources(documents));
+  }
 }
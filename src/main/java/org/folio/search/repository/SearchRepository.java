@@ -17,6 +17,8 @@ import org.folio.search.exception.SearchServiceException;
 import org.folio.search.model.ResourceRequest;
 import org.folio.search.model.service.CqlResourceIdsRequest;
 import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.action.search.MultiSearchRequest;
 import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.MultiSearchResponse.Item;
@@ -41,6 +43,7 @@ public class SearchRepository {
 
   private static final TimeValue KEEP_ALIVE_INTERVAL = TimeValue.timeValueMinutes(1L);
   private static final String OPERATION_TYPE = "searchApi";
+  private static final String POINT_IN_TIME_OPERATION_TYPE = "pointInTimeApi";
   private final RestHighLevelClient client;
   @Qualifier(value = STREAM_IDS_RETRY_TEMPLATE_NAME)
   private final RetryTemplate retryTemplate;
@@ -129,6 +132,45 @@ public class SearchRepository {
     clearScrollAfterStreaming(index, scrollId);
   }
 
+  /**
+   * Opens point in time for the index of the given resource request.
+   *
+   * @param resourceRequest - resource request as {@link ResourceRequest} object.
+   * @param keepAlive       - point in time keep alive interval
+   * @return point in time id
+   */
+  public String openPointInTime(ResourceRequest resourceRequest, TimeValue keepAlive) {
+    var index = indexNameProvider.getIndexName(resourceRequest);
+    var request = new CreatePitRequest(keepAlive, false, index);
+    return performExceptionalOperation(() -> client.createPit(request, DEFAULT), index, POINT_IN_TIME_OPERATION_TYPE)
+      .getId();
+  }
+
+  /**
+   * Executes request to elasticsearch against point in time, specified in the given search source.
+   *
+   * @param resourceRequest resource request as {@link ResourceRequest} object.
+   * @param searchSource    elasticsearch search source with point in time as {@link SearchSourceBuilder} object.
+   * @return search result as {@link SearchResponse} object.
+   */
+  public SearchResponse searchPointInTime(ResourceRequest resourceRequest, SearchSourceBuilder searchSource) {
+    var index = indexNameProvider.getIndexName(resourceRequest);
+    var searchRequest = new SearchRequest().source(searchSource);
+    return performExceptionalOperation(() -> client.search(searchRequest, DEFAULT), index, OPERATION_TYPE);
+  }
+
+  /**
+   * Closes point in time by id.
+   *
+   * @param resourceRequest - resource request as {@link ResourceRequest} object.
+   * @param pointInTimeId   - point in time id to close
+   */
+  public void closePointInTime(ResourceRequest resourceRequest, String pointInTimeId) {
+    var index = indexNameProvider.getIndexName(resourceRequest);
+    var request = new DeletePitRequest(pointInTimeId);
+    performExceptionalOperation(() -> client.deletePit(request, DEFAULT), index, POINT_IN_TIME_OPERATION_TYPE);
+  }
+
   private static SearchRequest buildSearchRequest(String index, SearchSourceBuilder source) {
     return new SearchRequest().source(source).indices(index);
   }
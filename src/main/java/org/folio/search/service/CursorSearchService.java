@@ -0,0 +1,275 @@
+package org.folio.search.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.commons.codec.digest.DigestUtils.sha256Hex;
+import static org.apache.commons.codec.digest.HmacAlgorithms.HMAC_SHA_256;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
+import static org.folio.search.model.types.ResponseGroupType.SEARCH;
+import static org.opensearch.search.sort.SortBuilders.fieldSort;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.codec.digest.HmacUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
+import org.folio.search.cql.CqlSearchQueryConverter;
+import org.folio.search.exception.RequestValidationException;
+import org.folio.search.exception.SearchOperationException;
+import org.folio.search.model.CursorSearchResult;
+import org.folio.search.model.ResourceRequest;
+import org.folio.search.model.service.CqlCursorSearchRequest;
+import org.folio.search.model.service.SearchCursor;
+import org.folio.search.repository.SearchRepository;
+import org.folio.search.service.converter.ElasticsearchDocumentConverter;
+import org.folio.search.service.metadata.SearchFieldProvider;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Search service to page through search results with point in time and search_after, so each page costs the same
+ * regardless of its depth.
+ *
+ * <p>The first page opens point in time, that is kept alive for the configured interval after each page request and
+ * closed when the last page is returned. Records are sorted by the CQL query sort conditions and by the record id as
+ * a tiebreaker.</p>
+ *
+ * <p>Search cursors are signed with the configured secret key, so cursors modified or created by the client are
+ * rejected, as well as cursors of another tenant or query.</p>
+ */
+@Log4j2
+@Service
+public class CursorSearchService {
+
+  private static final String CURSOR_PARAMETER = "cursor";
+  private static final String TIEBREAKER_FIELD = "id";
+  private static final String SIGNATURE_SEPARATOR = ".";
+  private static final int RANDOM_SECRET_LENGTH = 32;
+
+  private final ObjectMapper objectMapper;
+  private final SearchRepository searchRepository;
+  private final SearchFieldProvider searchFieldProvider;
+  private final CqlSearchQueryConverter cqlSearchQueryConverter;
+  private final ElasticsearchDocumentConverter documentConverter;
+  private final SearchQueryConfigurationProperties searchQueryConfiguration;
+  private final byte[] cursorSecret;
+
+  /**
+   * Used by dependency injection.
+   *
+   * @param objectMapper             - object mapper to write and read search cursors
+   * @param searchRepository         - search repository to manage point in time and to search against it
+   * @param searchFieldProvider      - search field provider to get source fields of the response
+   * @param cqlSearchQueryConverter  - converter of CQL queries to search sources
+   * @param documentConverter        - converter of search responses to search results
+   * @param searchQueryConfiguration - search query configuration with cursor keep alive interval and secret key
+   */
+  public CursorSearchService(ObjectMapper objectMapper, SearchRepository searchRepository,
+                             SearchFieldProvider searchFieldProvider, CqlSearchQueryConverter cqlSearchQueryConverter,
+                             ElasticsearchDocumentConverter documentConverter,
+                             SearchQueryConfigurationProperties searchQueryConfiguration) {
+    this.objectMapper = objectMapper;
+    this.searchRepository = searchRepository;
+    this.searchFieldProvider = searchFieldProvider;
+    this.cqlSearchQueryConverter = cqlSearchQueryConverter;
+    this.documentConverter = documentConverter;
+    this.searchQueryConfiguration = searchQueryConfiguration;
+    this.cursorSecret = getCursorSecret(searchQueryConfiguration.getCursorSecret());
+  }
+
+  /**
+   * Returns the first page for the request without cursor, or the next page for the request with cursor.
+   *
+   * @param request cql cursor search request as {@link CqlCursorSearchRequest} object
+   * @return search result with the cursor to retrieve the next page
+   */
+  public <T> CursorSearchResult<T> search(CqlCursorSearchRequest<T> request) {
+    log.debug("search:: by [query: {}, resource: {}, cursor: {}]",
+      request.getQuery(), request.getResource(), request.getCursor());
+
+    var keepAlive = toTimeValue(searchQueryConfiguration.getCursorKeepAlive());
+    if (request.getCursor() != null) {
+      var cursor = decodeCursor(request);
+      return searchPage(request, cursor.pointInTimeId(), cursor, keepAlive);
+    }
+
+    var pointInTimeId = searchRepository.openPointInTime(request, keepAlive);
+    try {
+      return searchPage(request, pointInTimeId, null, keepAlive);
+    } catch (RuntimeException e) {
+      closePointInTime(request, pointInTimeId);
+      throw e;
+    }
+  }
+
+  /**
+   * Closes the given search cursor before its keep alive interval expires.
+   *
+   * @param request resource request as {@link ResourceRequest} object
+   * @param cursor  search cursor to close
+   */
+  public void close(ResourceRequest request, String cursor) {
+    log.debug("close:: by [resource: {}, cursor: {}]", request.getResource(), cursor);
+    var searchCursor = decodeCursor(cursor);
+    validateTenant(searchCursor, request.getTenantId(), cursor);
+    try {
+      searchRepository.closePointInTime(request, searchCursor.pointInTimeId());
+    } catch (SearchOperationException e) {
+      throw toCursorException(e, cursor);
+    }
+  }
+
+  /**
+   * Searches the page after the given cursor, or the first page if cursor is null.
+   */
+  private <T> CursorSearchResult<T> searchPage(CqlCursorSearchRequest<T> request, String pointInTimeId,
+                                               SearchCursor cursor, TimeValue keepAlive) {
+    var searchSource = buildSearchSource(request, pointInTimeId, cursor, keepAlive);
+    var searchResponse = searchPointInTime(request, searchSource);
+    var searchResult = documentConverter.convertToSearchResult(searchResponse, request.getResourceClass());
+    var totalRecords = cursor == null ? searchResult.getTotalRecords() : cursor.totalRecords();
+
+    var hits = searchResponse.getHits().getHits();
+    if (hits.length == 0 || hits.length < request.getLimit()) {
+      closePointInTime(request, pointInTimeId);
+      return CursorSearchResult.of(totalRecords, null, searchResult.getRecords());
+    }
+
+    var searchAfter = Arrays.asList(hits[hits.length - 1].getSortValues());
+    var nextCursor = new SearchCursor(pointInTimeId, searchAfter, totalRecords, request.getTenantId(),
+      sha256Hex(request.getQuery()));
+    return CursorSearchResult.of(totalRecords, encodeCursor(nextCursor), searchResult.getRecords());
+  }
+
+  private SearchResponse searchPointInTime(CqlCursorSearchRequest<?> request, SearchSourceBuilder searchSource) {
+    try {
+      return searchRepository.searchPointInTime(request, searchSource);
+    } catch (SearchOperationException e) {
+      throw request.getCursor() != null ? toCursorException(e, request.getCursor()) : e;
+    }
+  }
+
+  private SearchSourceBuilder buildSearchSource(CqlCursorSearchRequest<?> request, String pointInTimeId,
+                                                SearchCursor cursor, TimeValue keepAlive) {
+    var requestTimeout = searchQueryConfiguration.getRequestTimeout();
+    var searchSource = cqlSearchQueryConverter.convertForConsortia(request.getQuery(), request.getResource())
+      .size(request.getLimit())
+      .sort(fieldSort(TIEBREAKER_FIELD).order(SortOrder.ASC))
+      .trackTotalHits(cursor == null)
+      .pointInTimeBuilder(new PointInTimeBuilder(pointInTimeId).setKeepAlive(keepAlive))
+      .timeout(new TimeValue(requestTimeout.toMillis(), MILLISECONDS));
+
+    if (cursor != null) {
+      searchSource.searchAfter(cursor.searchAfter().toArray());
+    }
+
+    if (isFalse(request.getExpandAll())) {
+      searchSource.fetchSource(searchFieldProvider.getSourceFields(request.getResource(), SEARCH), null);
+    }
+
+    return searchSource;
+  }
+
+  private SearchCursor decodeCursor(CqlCursorSearchRequest<?> request) {
+    var cursor = request.getCursor();
+    var searchCursor = decodeCursor(cursor);
+    validateTenant(searchCursor, request.getTenantId(), cursor);
+    if (!Objects.equals(searchCursor.queryDigest(), sha256Hex(request.getQuery()))) {
+      throw new RequestValidationException("Search cursor is created for another query", CURSOR_PARAMETER, cursor);
+    }
+    return searchCursor;
+  }
+
+  private SearchCursor decodeCursor(String cursor) {
+    var separatorIndex = cursor.lastIndexOf(SIGNATURE_SEPARATOR);
+    if (separatorIndex < 0 || !isSignatureValid(cursor.substring(0, separatorIndex),
+      cursor.substring(separatorIndex + 1))) {
+      throw new RequestValidationException("Invalid search cursor", CURSOR_PARAMETER, cursor);
+    }
+
+    SearchCursor searchCursor;
+    try {
+      var payload = Base64.getUrlDecoder().decode(cursor.substring(0, separatorIndex));
+      searchCursor = objectMapper.readValue(payload, SearchCursor.class);
+    } catch (IOException | IllegalArgumentException e) {
+      throw new RequestValidationException("Invalid search cursor", CURSOR_PARAMETER, cursor);
+    }
+
+    if (searchCursor == null || searchCursor.pointInTimeId() == null || searchCursor.searchAfter() == null) {
+      throw new RequestValidationException("Invalid search cursor", CURSOR_PARAMETER, cursor);
+    }
+    return searchCursor;
+  }
+
+  private String encodeCursor(SearchCursor cursor) {
+    try {
+      var payload = Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(cursor));
+      return payload + SIGNATURE_SEPARATOR + Base64.getUrlEncoder().withoutPadding().encodeToString(sign(payload));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to create search cursor", e);
+    }
+  }
+
+  private boolean isSignatureValid(String payload, String signature) {
+    try {
+      return MessageDigest.isEqual(Base64.getUrlDecoder().decode(signature), sign(payload));
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private byte[] sign(String payload) {
+    return new HmacUtils(HMAC_SHA_256, cursorSecret).hmac(payload.getBytes(UTF_8));
+  }
+
+  private void closePointInTime(ResourceRequest request, String pointInTimeId) {
+    try {
+      searchRepository.closePointInTime(request, pointInTimeId);
+    } catch (RuntimeException e) {
+      log.warn("closePointInTime:: failed to close point in time, it will expire after keep alive interval "
+        + "[resource: {}, error: {}]", request.getResource(), e.getMessage());
+    }
+  }
+
+  private static void validateTenant(SearchCursor searchCursor, String tenantId, String cursor) {
+    if (!Objects.equals(searchCursor.tenantId(), tenantId)) {
+      throw new RequestValidationException("Search cursor is created for another tenant", CURSOR_PARAMETER, cursor);
+    }
+  }
+
+  private static RuntimeException toCursorException(SearchOperationException exception, String cursor) {
+    return exception.getCause() instanceof OpenSearchException openSearchException
+             && openSearchException.status() == RestStatus.NOT_FOUND
+           ? new RequestValidationException("Search cursor is expired or closed", CURSOR_PARAMETER, cursor)
+           : exception;
+  }
+
+  private static byte[] getCursorSecret(String secret) {
+    if (StringUtils.isNotBlank(secret)) {
+      return secret.getBytes(UTF_8);
+    }
+
+    log.warn("getCursorSecret:: search cursor secret is not set, cursors are signed with a random key "
+      + "and can be used only with this module instance");
+    var randomSecret = new byte[RANDOM_SECRET_LENGTH];
+    new SecureRandom().nextBytes(randomSecret);
+    return randomSecret;
+  }
+
+  private static TimeValue toTimeValue(Duration duration) {
+    return new TimeValue(duration.toMillis(), MILLISECONDS);
+  }
+}
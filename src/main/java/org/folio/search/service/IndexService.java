@@ -46,6 +46,7 @@ public class IndexService {
   private final ResourceDescriptionService resourceDescriptionService;
   private final IndexNameProvider indexNameProvider;
   private final TenantProvider tenantProvider;
+  private final SearchResultCache searchResultCache;
 
   /**
    * Creates index for resource with pre-defined settings and mappings.
@@ -161,6 +162,7 @@ public class IndexService {
     var index = indexNameProvider.getIndexName(resource, tenant);
     if (indexRepository.indexExists(index)) {
       indexRepository.dropIndex(index);
+      searchResultCache.invalidate(tenant, resource);
     }
   }
 
@@ -172,7 +174,9 @@ public class IndexService {
 
     log.info("Attempts to create index by [indexName: {}, mappings: {}, settings: {}]",
       index, mappings, indexSettings);
-    return indexRepository.createIndex(index, indexSettings, mappings);
+    var response = indexRepository.createIndex(index, indexSettings, mappings);
+    searchResultCache.invalidate(tenantId, resourceName);
+    return response;
   }
 
   private List<String> getResourceNamesToReindex(ReindexRequest reindexRequest) {
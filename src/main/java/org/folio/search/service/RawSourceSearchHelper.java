@@ -0,0 +1,78 @@
+package org.folio.search.service;
+
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
+import org.folio.search.exception.SearchServiceException;
+import org.folio.search.model.service.CqlSearchRequest;
+import org.folio.search.service.converter.ElasticsearchDocumentConverter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Writes search results to the http response directly from the found document sources, skipping their conversion to
+ * {@link java.util.Map} and result class objects and serialization of the result objects.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class RawSourceSearchHelper {
+
+  private final SearchService searchService;
+  private final ElasticsearchDocumentConverter documentConverter;
+  private final SearchQueryConfigurationProperties searchQueryConfiguration;
+
+  /**
+   * Checks if search result for the given request can be written from the raw document sources.
+   *
+   * <p>Requests with number of titles are not supported, because their results are post-processed.</p>
+   *
+   * @param request - cql search request as {@link CqlSearchRequest} object
+   * @return true if raw source response mode is enabled and supported by request, false - otherwise
+   */
+  public boolean isApplicable(CqlSearchRequest<?> request) {
+    return searchQueryConfiguration.isRawSourceResponseEnabled() && !isTrue(request.getIncludeNumberOfTitles());
+  }
+
+  /**
+   * Performs search and writes search result with raw document sources to the http response.
+   *
+   * @param request          - cql search request as {@link CqlSearchRequest} object
+   * @param recordsFieldName - name of the field with records in search result
+   * @param <T>              - generic type of response body, it is always empty as the result is already written
+   * @return response without body, because search result is written to the http response directly.
+   */
+  public <T> ResponseEntity<T> streamSearchResult(CqlSearchRequest<?> request, String recordsFieldName) {
+    log.debug("streamSearchResult:: by [query: {}, resource: {}]", request.getQuery(), request.getResource());
+
+    var searchResponse = searchService.searchRawSource(request);
+    try {
+      var httpServletResponse = prepareHttpResponse();
+      httpServletResponse.setContentType(APPLICATION_JSON_VALUE);
+      documentConverter.writeSearchResult(searchResponse, request.getResourceClass(), recordsFieldName,
+        httpServletResponse.getOutputStream());
+      return ResponseEntity.ok().build();
+    } catch (IOException e) {
+      throw new SearchServiceException("Failed to write search result to response", e);
+    }
+  }
+
+  private HttpServletResponse prepareHttpResponse() {
+    var requestAttributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+    Assert.notNull(requestAttributes, "Request attributes must be not null");
+
+    var httpServletResponse = requestAttributes.getResponse();
+    Assert.notNull(httpServletResponse, "HttpServletResponse must be not null");
+
+    httpServletResponse.setStatus(HttpServletResponse.SC_OK);
+    return httpServletResponse;
+  }
+}
@@ -17,15 +17,20 @@ import static org.folio.search.utils.SearchUtils.getNumberOfRequests;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.configuration.properties.SearchConfigurationProperties.BulkIndexingSettings;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.domain.dto.ResourceEventType;
@@ -66,6 +71,7 @@ public class ResourceService {
   private final ConsortiumTenantExecutor consortiumTenantExecutor;
   private final ConsortiumInstanceService consortiumInstanceService;
   private final IndexNameProvider indexNameProvider;
+  private final SearchConfigurationProperties searchConfigurationProperties;
 
   /**
    * Saves list of resourceEvents to elasticsearch.
@@ -81,6 +87,10 @@ public class ResourceService {
     }
 
     var eventsToIndex = getEventsToIndex(resourceEvents);
+    if (getBulkIndexingSettings().isAsyncEnabled()) {
+      return indexInPipeline(eventsToIndex, multiTenantSearchDocumentConverter::convert);
+    }
+
     var elasticsearchDocuments = multiTenantSearchDocumentConverter.convert(eventsToIndex);
     var bulkIndexResponse = indexSearchDocuments(elasticsearchDocuments);
     log.info("Records indexed to elasticsearch [indexRequests: {}. {}]",
@@ -93,9 +103,10 @@ public class ResourceService {
    * Index list of resource id event to elasticsearch.
    *
    * @param resourceIdEvents list of {@link ResourceEvent} objects.
+   * @param receivedTime     {@link System#nanoTime()} value taken when the events were received.
    * @return index operation response as {@link FolioIndexOperationResponse} object
    */
-  public FolioIndexOperationResponse indexInstancesById(List<ResourceEvent> resourceIdEvents) {
+  public FolioIndexOperationResponse indexInstancesById(List<ResourceEvent> resourceIdEvents, long receivedTime) {
     log.debug("indexResourcesById: by [resourceEvent.size: {}]", collectionToLogMsg(resourceIdEvents, true));
 
     if (CollectionUtils.isEmpty(resourceIdEvents)) {
@@ -103,9 +114,12 @@ public class ResourceService {
     }
 
     var eventsToIndex = getEventsToIndex(resourceIdEvents);
+    if (getBulkIndexingSettings().isAsyncEnabled()) {
+      return indexInPipeline(eventsToIndex, events -> prepareInstanceDocuments(events, receivedTime));
+    }
 
     var groupedByOperation = eventsToIndex.stream().collect(groupingBy(ResourceService::getEventIndexType));
-    var indexDocuments = processIndexInstanceEvents(groupedByOperation.get(INDEX));
+    var indexDocuments = processIndexInstanceEvents(groupedByOperation.get(INDEX), receivedTime);
     var removeDocuments = processDeleteInstanceEvents(groupedByOperation.get(DELETE));
 
     var bulkIndexResponse = indexSearchDocuments(mergeMaps(indexDocuments, removeDocuments));
@@ -149,23 +163,29 @@ public class ResourceService {
     return getEventsThatCanBeIndexed(events, indexNameProvider::getIndexName);
   }
 
-  private Map<String, List<SearchDocumentBody>> processIndexInstanceEvents(List<ResourceEvent> resourceEvents) {
+  private Map<String, List<SearchDocumentBody>> prepareInstanceDocuments(List<ResourceEvent> events,
+                                                                         long receivedTime) {
+    var groupedByOperation = events.stream().collect(groupingBy(ResourceService::getEventIndexType));
+    var indexDocuments = processIndexInstanceEvents(groupedByOperation.get(INDEX), receivedTime);
+    var removeDocuments = processDeleteInstanceEvents(groupedByOperation.get(DELETE));
+    return mergeMaps(indexDocuments, removeDocuments);
+  }
+
+  private Map<String, List<SearchDocumentBody>> processIndexInstanceEvents(List<ResourceEvent> resourceEvents,
+                                                                           long receivedTime) {
     var indexEvents = extractEventsForDataMove(resourceEvents);
-    var fetchedInstances = resourceFetchService.fetchInstancesByIds(indexEvents);
-    messageProducer.prepareAndSendContributorEvents(fetchedInstances);
-    messageProducer.prepareAndSendSubjectEvents(fetchedInstances);
+    var fetchedInstances = resourceFetchService.fetchInstancesByIds(indexEvents, receivedTime);
+    messageProducer.prepareAndSendContributorAndSubjectEvents(fetchedInstances);
     return multiTenantSearchDocumentConverter.convert(consortiumInstanceService.saveInstances(fetchedInstances));
   }
 
   private Map<String, List<SearchDocumentBody>> processDeleteInstanceEvents(List<ResourceEvent> deleteEvents) {
-    messageProducer.prepareAndSendContributorEvents(deleteEvents);
-    messageProducer.prepareAndSendSubjectEvents(deleteEvents);
+    messageProducer.prepareAndSendContributorAndSubjectEvents(deleteEvents);
     return multiTenantSearchDocumentConverter.convert(consortiumInstanceService.deleteInstances(deleteEvents));
   }
 
   private FolioIndexOperationResponse indexSearchDocuments(Map<String, List<SearchDocumentBody>> eventsByResource) {
-    var eventsByRepository = eventsByResource.entrySet().stream().collect(groupingBy(
-      entry -> getIndexingRepositoryName(entry.getKey()), flatMapping(entry -> entry.getValue().stream(), toList())));
+    var eventsByRepository = groupByRepository(eventsByResource);
 
     var responses = new ArrayList<FolioIndexOperationResponse>();
     var primaryResources = eventsByRepository.get(PRIMARY_INDEXING_REPOSITORY_NAME);
@@ -175,17 +195,59 @@ public class ResourceService {
     eventsByRepository.forEach((repository, events) ->
       responses.add(resourceRepositoryBeans.get(repository).indexResources(events)));
 
-    var errorMessage = responses.stream()
-      .map(FolioIndexOperationResponse::getErrorMessage)
-      .filter(Objects::nonNull)
-      .collect(joining(", "));
+    return mergeIndexOperationResponses(responses);
+  }
 
-    return errorMessage.isEmpty() ? getSuccessIndexOperationResponse() : getErrorIndexOperationResponse(errorMessage);
+  private CompletableFuture<FolioIndexOperationResponse> indexSearchDocumentsAsync(
+    Map<String, List<SearchDocumentBody>> eventsByResource) {
+    var eventsByRepository = groupByRepository(eventsByResource);
+
+    var responses = new ArrayList<CompletableFuture<FolioIndexOperationResponse>>();
+    var primaryResources = eventsByRepository.get(PRIMARY_INDEXING_REPOSITORY_NAME);
+    responses.add(primaryResourceRepository.indexResourcesAsync(primaryResources));
+    eventsByRepository.remove(PRIMARY_INDEXING_REPOSITORY_NAME);
+
+    eventsByRepository.forEach((repository, events) ->
+      responses.add(resourceRepositoryBeans.get(repository).indexResourcesAsync(events)));
+
+    return CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+      .thenApply(ignored -> mergeIndexOperationResponses(responses.stream().map(CompletableFuture::join).toList()));
+  }
+
+  /**
+   * Prepares and indexes search documents in batches, so the preparation of the next batch overlaps with the bulk
+   * write of the previous one. Events with the same id are always placed to the same batch to keep the order of
+   * writes for a document.
+   */
+  private FolioIndexOperationResponse indexInPipeline(List<ResourceEvent> events,
+    Function<List<ResourceEvent>, Map<String, List<SearchDocumentBody>>> documentsProvider) {
+    var responses = new ArrayList<CompletableFuture<FolioIndexOperationResponse>>();
+    var numberOfRequests = 0;
+    for (var batch : partitionById(events, getBulkIndexingSettings().getPipelineBatchSize())) {
+      var documents = documentsProvider.apply(batch);
+      numberOfRequests += getNumberOfRequests(documents);
+      responses.add(indexSearchDocumentsAsync(documents));
+    }
+
+    var bulkIndexResponse = mergeIndexOperationResponses(responses.stream().map(ResourceService::await).toList());
+    log.info("Records indexed to elasticsearch [indexRequests: {}, bulkRequests: {}{}]",
+      numberOfRequests, responses.size(), getErrorMessage(bulkIndexResponse));
+
+    return bulkIndexResponse;
+  }
+
+  private Map<String, List<SearchDocumentBody>> groupByRepository(Map<String, List<SearchDocumentBody>> docs) {
+    return docs.entrySet().stream().collect(groupingBy(
+      entry -> getIndexingRepositoryName(entry.getKey()), flatMapping(entry -> entry.getValue().stream(), toList())));
+  }
+
+  private BulkIndexingSettings getBulkIndexingSettings() {
+    return searchConfigurationProperties.getIndexing().getBulk();
   }
 
   private <T> List<T> getEventsThatCanBeIndexed(List<T> events, Function<T, String> eventToIndexNameFunc) {
     var esIndices = events.stream().map(eventToIndexNameFunc).collect(toSet());
-    var existingIndices = esIndices.stream().filter(indexRepository::indexExists).collect(toSet());
+    var existingIndices = indexRepository.getExistingIndices(esIndices);
     var eventsToIndex = new ArrayList<T>();
     var unknownEvents = new ArrayList<T>();
 
@@ -199,8 +261,8 @@ public class ResourceService {
 
     if (!unknownEvents.isEmpty()) {
       var absentIndexNames = unknownEvents.stream().map(eventToIndexNameFunc).collect(toSet());
-      log.warn("Ignoring incoming events [cause: Tenant(s) not initialized, indices {} are not exist, events: {}]",
-        absentIndexNames, unknownEvents.toString().replaceAll("\\s+", " "));
+      log.warn("Ignoring incoming events [cause: Tenant(s) not initialized, indices {} are not exist, "
+        + "eventsCount: {}]", absentIndexNames, unknownEvents.size());
     }
 
     return eventsToIndex;
@@ -237,6 +299,45 @@ public class ResourceService {
       .toList();
   }
 
+  private static List<List<ResourceEvent>> partitionById(List<ResourceEvent> events, int batchSize) {
+    var eventsById = events.stream().collect(groupingBy(ResourceEvent::getId, LinkedHashMap::new, toList()));
+    var batches = new ArrayList<List<ResourceEvent>>();
+    var currentBatch = new ArrayList<ResourceEvent>();
+    for (var sameIdEvents : eventsById.values()) {
+      if (!currentBatch.isEmpty() && currentBatch.size() + sameIdEvents.size() > batchSize) {
+        batches.add(currentBatch);
+        currentBatch = new ArrayList<>();
+      }
+      currentBatch.addAll(sameIdEvents);
+    }
+
+    if (!currentBatch.isEmpty()) {
+      batches.add(currentBatch);
+    }
+
+    return batches;
+  }
+
+  private static FolioIndexOperationResponse await(CompletableFuture<FolioIndexOperationResponse> response) {
+    try {
+      return response.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  private static FolioIndexOperationResponse mergeIndexOperationResponses(List<FolioIndexOperationResponse> responses) {
+    var errorMessage = responses.stream()
+      .map(FolioIndexOperationResponse::getErrorMessage)
+      .filter(Objects::nonNull)
+      .collect(joining(", "));
+
+    return errorMessage.isEmpty() ? getSuccessIndexOperationResponse() : getErrorIndexOperationResponse(errorMessage);
+  }
+
   private static <K, V> Map<K, List<V>> mergeMaps(Map<K, List<V>> map1, Map<K, List<V>> map2) {
     var resultMap = new HashMap<K, List<V>>();
     map1.forEach((key, value) -> resultMap.computeIfAbsent(key, v -> new ArrayList<>()).addAll(value));
@@ -0,0 +1,173 @@
+package org.folio.search.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.SearchRequestExecutionProperties;
+import org.folio.search.configuration.properties.SearchRequestExecutionProperties.EndpointSettings;
+import org.folio.search.model.context.FolioExecutionContextBuilder;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+/**
+ * Executes search, browse and facet requests on bounded executors, one per endpoint type, releasing the servlet
+ * thread while the request is waiting for the search engine.
+ *
+ * <p>If the executor of the endpoint type has no free thread and its queue is full, the request is rejected with
+ * {@link TaskRejectedException}. Requests, that must be executed in the servlet thread, share the concurrency limit
+ * of the endpoint type with the executor threads. If async execution is disabled, all requests are executed in the
+ * servlet thread without limits.</p>
+ */
+@Log4j2
+@Component
+public class SearchRequestExecutor implements DisposableBean {
+
+  private final SearchRequestExecutionProperties executionProperties;
+  private final FolioExecutionContext folioExecutionContext;
+  private final FolioExecutionContextBuilder contextBuilder;
+  private final Map<EndpointType, ThreadPoolTaskExecutor> executors = new EnumMap<>(EndpointType.class);
+  private final Map<EndpointType, Semaphore> permits = new EnumMap<>(EndpointType.class);
+
+  /**
+   * Used by dependency injection.
+   *
+   * @param executionProperties   - request execution settings as {@link SearchRequestExecutionProperties} object
+   * @param folioExecutionContext - folio execution context of the current request
+   * @param contextBuilder        - folio execution context builder to pass request context to executor threads
+   */
+  public SearchRequestExecutor(SearchRequestExecutionProperties executionProperties,
+                               FolioExecutionContext folioExecutionContext,
+                               FolioExecutionContextBuilder contextBuilder) {
+    this.executionProperties = executionProperties;
+    this.folioExecutionContext = folioExecutionContext;
+    this.contextBuilder = contextBuilder;
+    if (executionProperties.isAsyncEnabled()) {
+      initEndpoint(EndpointType.SEARCH, "SearchRequest-", executionProperties.getSearch());
+      initEndpoint(EndpointType.BROWSE, "BrowseRequest-", executionProperties.getBrowse());
+      initEndpoint(EndpointType.FACETS, "FacetsRequest-", executionProperties.getFacets());
+    }
+  }
+
+  /**
+   * Executes request and responds with the result of the given supplier.
+   *
+   * <p>If async execution is enabled, the method starts async processing of the current http request and returns
+   * null, the response is written by Spring MVC when the result is ready, errors are handled by
+   * {@link org.folio.search.controller.ApiExceptionHandler} as for synchronous requests. If the result is not ready
+   * in time, the request is responded with an error and its execution is interrupted.</p>
+   *
+   * @param endpointType - endpoint type to select executor with its concurrency limits
+   * @param bodySupplier - supplier of response body, performing search request
+   * @param <T>          - generic type of response body
+   * @return response with the body for synchronous execution, null - if async processing is started
+   */
+  public <T> ResponseEntity<T> execute(EndpointType endpointType, Supplier<T> bodySupplier) {
+    if (!executionProperties.isAsyncEnabled()) {
+      return ResponseEntity.ok(bodySupplier.get());
+    }
+
+    var deferredResult = new DeferredResult<T>(executionProperties.getTimeout().toMillis());
+    var executionContext = contextBuilder.copyOf(folioExecutionContext);
+    var permit = permits.get(endpointType);
+
+    // submitted before async processing is started, so rejected requests are handled as synchronous errors
+    var task = executors.get(endpointType).submit(() -> {
+      try (var ignored = new FolioExecutionContextSetter(executionContext)) {
+        permit.acquire();
+        try {
+          deferredResult.setResult(bodySupplier.get());
+        } finally {
+          permit.release();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        deferredResult.setErrorResult(e);
+      } catch (Exception e) {
+        deferredResult.setErrorResult(e);
+      }
+    });
+
+    deferredResult.onTimeout(() -> task.cancel(true));
+    startDeferredResultProcessing(deferredResult);
+    return null;
+  }
+
+  /**
+   * Executes request in the servlet thread within the concurrency limit of the endpoint type, used for requests
+   * writing the response directly to the http response.
+   *
+   * @param endpointType     - endpoint type to select concurrency limit
+   * @param responseSupplier - supplier of response, performing search request
+   * @param <T>              - generic type of response body
+   * @return response of the given supplier
+   * @throws TaskRejectedException if concurrency limit of the endpoint type is exceeded
+   */
+  public <T> ResponseEntity<T> executeInRequestThread(EndpointType endpointType,
+                                                      Supplier<ResponseEntity<T>> responseSupplier) {
+    if (!executionProperties.isAsyncEnabled()) {
+      return responseSupplier.get();
+    }
+
+    var permit = permits.get(endpointType);
+    if (!permit.tryAcquire()) {
+      throw new TaskRejectedException("Concurrency limit of " + endpointType + " requests is exceeded");
+    }
+
+    try {
+      return responseSupplier.get();
+    } finally {
+      permit.release();
+    }
+  }
+
+  @Override
+  public void destroy() {
+    executors.values().forEach(ThreadPoolTaskExecutor::shutdown);
+  }
+
+  private static void startDeferredResultProcessing(DeferredResult<?> deferredResult) {
+    var requestAttributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+    Assert.notNull(requestAttributes, "Request attributes must be not null");
+
+    try {
+      WebAsyncUtils.getAsyncManager(requestAttributes.getRequest()).startDeferredResultProcessing(deferredResult);
+    } catch (Exception e) {
+      log.warn("startDeferredResultProcessing:: failed to start async request processing", e);
+      throw new IllegalStateException("Failed to start async request processing", e);
+    }
+  }
+
+  private void initEndpoint(EndpointType endpointType, String threadNamePrefix, EndpointSettings settings) {
+    executors.put(endpointType, createExecutor(threadNamePrefix, settings));
+    permits.put(endpointType, new Semaphore(settings.getMaxConcurrency()));
+  }
+
+  private static ThreadPoolTaskExecutor createExecutor(String threadNamePrefix, EndpointSettings settings) {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(settings.getMaxConcurrency());
+    executor.setMaxPoolSize(settings.getMaxConcurrency());
+    executor.setQueueCapacity(settings.getQueueCapacity());
+    executor.setThreadNamePrefix(threadNamePrefix);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Endpoint types with separate concurrency limits.
+   */
+  public enum EndpointType {
+    SEARCH, BROWSE, FACETS
+  }
+}
@@ -0,0 +1,175 @@
+package org.folio.search.service;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.folio.search.configuration.SearchCacheNames.SEARCH_RESULT_CACHE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.exception.SearchServiceException;
+import org.folio.search.model.SearchResult;
+import org.folio.search.model.service.CqlSearchRequest;
+import org.folio.search.service.consortium.TenantProvider;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of search results.
+ *
+ * <p>Results are cached per context tenant, index tenant, resource, query, offset, limit and expandAll flag.
+ * Each cache key contains the generation of the searched tenant and resource, which is incremented by
+ * {@link #invalidate(String, String)} on every index write, so results cached before the write are never returned
+ * again and evicted by the cache size bound or expiration. Written documents become searchable only after the index
+ * refresh, so results of searches started within the configured refresh delay after the last write are not cached.
+ * Generations are local to the module instance, that's why results of writes made by other instances may be returned
+ * for up to the expiration time.</p>
+ *
+ * <p>Cached records are stored serialized, each request receives its own copy of the records.</p>
+ */
+@Log4j2
+@Component
+public class SearchResultCache {
+
+  static final String SAVED_TIME_METRIC_NAME = "folio.search.result.cache.saved";
+
+  private final boolean enabled;
+  private final long refreshDelayNanos;
+  private final TenantProvider tenantProvider;
+  private final FolioExecutionContext folioExecutionContext;
+  private final ObjectMapper objectMapper;
+  private final Cache<CacheKey, CachedSearchResult> searchResults;
+  private final Map<GenerationKey, Generation> generations = new ConcurrentHashMap<>();
+  private final Timer savedTimeTimer;
+
+  /**
+   * Used by dependency injection.
+   *
+   * @param tenantProvider        - tenant provider to resolve the tenant, whose index is searched
+   * @param folioExecutionContext - folio execution context of the current request
+   * @param objectMapper          - object mapper to store and copy cached records
+   * @param cacheConfiguration    - cache configuration properties to get cache specification from
+   * @param meterRegistry         - meter registry to publish cache hit ratio and saved time metrics
+   */
+  public SearchResultCache(TenantProvider tenantProvider, FolioExecutionContext folioExecutionContext,
+                           ObjectMapper objectMapper, SearchCacheConfigurationProperties cacheConfiguration,
+                           MeterRegistry meterRegistry) {
+    this.enabled = cacheConfiguration.isSearchResultCacheEnabled();
+    this.refreshDelayNanos = cacheConfiguration.getSearchResultCacheRefreshDelay().toNanos();
+    this.tenantProvider = tenantProvider;
+    this.folioExecutionContext = folioExecutionContext;
+    this.objectMapper = objectMapper;
+    Cache<CacheKey, CachedSearchResult> cache = Caffeine.from(cacheConfiguration.getSearchResultCacheSpec())
+      .recordStats()
+      .build();
+    this.searchResults = CaffeineCacheMetrics.monitor(meterRegistry, cache, SEARCH_RESULT_CACHE);
+    this.savedTimeTimer = Timer.builder(SAVED_TIME_METRIC_NAME)
+      .description("Time of search queries and result conversions saved by search result cache hits")
+      .register(meterRegistry);
+  }
+
+  /**
+   * Returns cached search result for the given request, performing the search on cache miss.
+   *
+   * <p>Concurrent misses for the same request are not coalesced, so a long search does not block other requests
+   * on the cache entry. If cache is disabled, search is performed on each call.</p>
+   *
+   * @param request        - cql search request
+   * @param searchFunction - supplier, performing the search for the given request
+   * @param <T>            - generic type for search result records
+   * @return new {@link SearchResult} object, which records can be modified by the caller
+   */
+  public <T> SearchResult<T> get(CqlSearchRequest<T> request, Supplier<SearchResult<T>> searchFunction) {
+    if (!enabled) {
+      return searchFunction.get();
+    }
+
+    var generation = getGeneration(request.getTenantId(), request.getResource());
+    var generationValue = generation.value.get();
+    var lastWriteTime = generation.lastWriteTime;
+    var key = new CacheKey(folioExecutionContext.getTenantId(), request.getTenantId(), request.getResource(),
+      request.getResourceClass(), request.getQuery(), request.getOffset(), request.getLimit(),
+      request.getExpandAll(), generationValue);
+
+    var cachedResult = searchResults.getIfPresent(key);
+    if (cachedResult != null) {
+      savedTimeTimer.record(cachedResult.searchTimeNanos(), NANOSECONDS);
+      return SearchResult.of(cachedResult.totalRecords(), readRecords(cachedResult, request.getResourceClass()));
+    }
+
+    var startTime = System.nanoTime();
+    var searchResult = searchFunction.get();
+    if (startTime - lastWriteTime >= refreshDelayNanos) {
+      searchResults.put(key, new CachedSearchResult(searchResult.getTotalRecords(),
+        writeRecords(searchResult.getRecords()), System.nanoTime() - startTime));
+    }
+    return searchResult;
+  }
+
+  /**
+   * Invalidates cached search results for the given tenant and resource.
+   *
+   * @param tenantId - tenant id of the written documents
+   * @param resource - resource name of the written documents
+   */
+  public void invalidate(String tenantId, String resource) {
+    if (enabled) {
+      log.debug("invalidate:: invalidating search results [tenant: {}, resource: {}]", tenantId, resource);
+      var generation = getGeneration(tenantId, resource);
+      // write time must be updated first, so a search, that reads new generation, reads the time of the write too
+      generation.lastWriteTime = System.nanoTime();
+      generation.value.incrementAndGet();
+    }
+  }
+
+  private Generation getGeneration(String tenantId, String resource) {
+    var generationKey = new GenerationKey(tenantProvider.getTenant(tenantId), resource);
+    return generations.computeIfAbsent(generationKey, key -> new Generation(System.nanoTime() - refreshDelayNanos));
+  }
+
+  private byte[] writeRecords(List<?> records) {
+    try {
+      return objectMapper.writeValueAsBytes(records);
+    } catch (JsonProcessingException e) {
+      throw new SearchServiceException("Failed to serialize search result records", e);
+    }
+  }
+
+  private <T> List<T> readRecords(CachedSearchResult cachedResult, Class<T> resourceClass) {
+    try {
+      var recordsType = objectMapper.getTypeFactory().constructCollectionType(ArrayList.class, resourceClass);
+      return objectMapper.readValue(cachedResult.records(), recordsType);
+    } catch (IOException e) {
+      throw new SearchServiceException("Failed to deserialize search result records", e);
+    }
+  }
+
+  private record GenerationKey(String tenantId, String resource) { }
+
+  private record CacheKey(String contextTenantId, String tenantId, String resource, Class<?> resourceClass,
+                          String query, Integer offset, Integer limit, Boolean expandAll, long generation) { }
+
+  private record CachedSearchResult(int totalRecords, byte[] records, long searchTimeNanos) { }
+
+  private static final class Generation {
+
+    private final AtomicLong value = new AtomicLong();
+    private volatile long lastWriteTime;
+
+    private Generation(long lastWriteTime) {
+      this.lastWriteTime = lastWriteTime;
+    }
+  }
+}
@@ -2,6 +2,7 @@ package org.folio.search.service;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.commons.lang3.BooleanUtils.isFalse;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
 import static org.folio.search.model.types.ResponseGroupType.SEARCH;
 
 import java.util.List;
@@ -18,6 +19,7 @@ import org.folio.search.repository.SearchRepository;
 import org.folio.search.service.converter.ElasticsearchDocumentConverter;
 import org.folio.search.service.metadata.SearchFieldProvider;
 import org.folio.search.service.setter.SearchResponsePostProcessor;
+import org.opensearch.action.search.SearchResponse;
 import org.opensearch.common.unit.TimeValue;
 import org.springframework.stereotype.Service;
 
@@ -36,6 +38,7 @@ public class SearchService {
   private final SearchQueryConfigurationProperties searchQueryConfiguration;
   private final SearchPreferenceService searchPreferenceService;
   private final Map<Class<?>, SearchResponsePostProcessor<?>> searchResponsePostProcessors;
+  private final SearchResultCache searchResultCache;
 
   /**
    * Prepares search query and executes search request to the search engine.
@@ -45,13 +48,47 @@ public class SearchService {
    */
   public <T> SearchResult<T>  search(CqlSearchRequest<T> request) {
     log.debug("search:: by [query: {}, resource: {}]", request.getQuery(), request.getResource());
+    validateRequest(request);
 
-    if (request.getOffset() + request.getLimit() > 10_000L) {
-      var validationException = new RequestValidationException("The sum of limit and offset should not exceed 10000.",
-        "offset + limit", String.valueOf(request.getOffset() + request.getLimit()));
-      log.warn(validationException.getMessage());
-      throw validationException;
+    // post-processed results depend on other resources, so they are not cached
+    if (hasPostProcessing(request)) {
+      var searchResult = doSearch(request);
+      searchResultPostProcessing(request.getResourceClass(), request.getIncludeNumberOfTitles(), searchResult);
+      return searchResult;
     }
+
+    return searchResultCache.get(request, () -> doSearch(request));
+  }
+
+  /**
+   * Prepares search query and executes search request to the search engine without conversion of found documents.
+   *
+   * <p>Document sources are always filtered to the resource fields with plain values of fulltext fields, so they can
+   * be written to the response as is by {@link ElasticsearchDocumentConverter#writeSearchResult}.</p>
+   *
+   * @param request cql search request as {@link CqlSearchRequest} object
+   * @return search response with filtered document sources.
+   */
+  public SearchResponse searchRawSource(CqlSearchRequest<?> request) {
+    log.debug("searchRawSource:: by [query: {}, resource: {}]", request.getQuery(), request.getResource());
+    validateRequest(request);
+
+    var resource = request.getResource();
+    var includes = isFalse(request.getExpandAll())
+                   ? searchFieldProvider.getSourceFields(resource, SEARCH)
+                   : searchFieldProvider.getAllSourceFields(resource);
+    return performSearch(request, includes);
+  }
+
+  private <T> SearchResult<T> doSearch(CqlSearchRequest<T> request) {
+    var includes = isFalse(request.getExpandAll())
+                   ? searchFieldProvider.getSourceFields(request.getResource(), SEARCH)
+                   : null;
+    var searchResponse = performSearch(request, includes);
+    return documentConverter.convertToSearchResult(searchResponse, request.getResourceClass());
+  }
+
+  private SearchResponse performSearch(CqlSearchRequest<?> request, String[] includes) {
     var resource = request.getResource();
     var requestTimeout = searchQueryConfiguration.getRequestTimeout();
     var queryBuilder = cqlSearchQueryConverter.convertForConsortia(request.getQuery(), resource)
@@ -62,24 +99,32 @@ public class SearchService {
     var preferenceKey = buildPreferenceKey(request.getTenantId(), resource, request.getQuery());
     var preference = searchPreferenceService.getPreferenceForString(preferenceKey);
 
-    if (isFalse(request.getExpandAll())) {
-      var includes = searchFieldProvider.getSourceFields(resource, SEARCH);
-      log.debug("search:: expandAll to include: {}]", (Object) includes);
+    if (includes != null) {
+      log.debug("search:: source fields to include: {}]", (Object) includes);
       queryBuilder.fetchSource(includes, null);
     }
 
-    var searchResponse = searchRepository.search(request, queryBuilder, preference);
-    var searchResult = documentConverter.convertToSearchResult(searchResponse, request.getResourceClass());
-
-    searchResultPostProcessing(request.getResourceClass(), request.getIncludeNumberOfTitles(), searchResult);
+    return searchRepository.search(request, queryBuilder, preference);
+  }
 
-    return searchResult;
+  private static void validateRequest(CqlSearchRequest<?> request) {
+    if (request.getOffset() + request.getLimit() > 10_000L) {
+      var validationException = new RequestValidationException("The sum of limit and offset should not exceed 10000.",
+        "offset + limit", String.valueOf(request.getOffset() + request.getLimit()));
+      log.warn(validationException.getMessage());
+      throw validationException;
+    }
   }
 
   private String buildPreferenceKey(String tenantId, String resource, String query) {
     return tenantId + "-" + resource + "-" + query;
   }
 
+  private boolean hasPostProcessing(CqlSearchRequest<?> request) {
+    return Objects.nonNull(request.getResourceClass()) && isTrue(request.getIncludeNumberOfTitles())
+      && Objects.nonNull(searchResponsePostProcessors.get(request.getResourceClass()));
+  }
+
   private <T> void searchResultPostProcessing(Class<?> resourceClass, boolean includeNumberOfTitles,
                                               SearchResult<T> searchResult) {
     if (Objects.isNull(resourceClass)) {
@@ -13,6 +13,7 @@ public class FeatureConfigServiceDecorator {
 
   private final ConsortiumTenantExecutor consortiumTenantExecutor;
   private final FeatureConfigService featureConfigService;
+  private final TenantConfigSnapshotProvider tenantConfigSnapshotProvider;
 
   public boolean isEnabled(TenantConfiguredFeature feature) {
     return consortiumTenantExecutor.execute(() -> featureConfigService.isEnabled(feature));
@@ -23,15 +24,20 @@ public class FeatureConfigServiceDecorator {
   }
 
   public FeatureConfig create(FeatureConfig featureConfig) {
-    return consortiumTenantExecutor.execute(() -> featureConfigService.create(featureConfig));
+    var createdConfig = consortiumTenantExecutor.execute(() -> featureConfigService.create(featureConfig));
+    tenantConfigSnapshotProvider.refresh();
+    return createdConfig;
   }
 
   public FeatureConfig update(TenantConfiguredFeature feature, FeatureConfig featureConfig) {
-    return consortiumTenantExecutor.execute(() -> featureConfigService.update(feature, featureConfig));
+    var updatedConfig = consortiumTenantExecutor.execute(() -> featureConfigService.update(feature, featureConfig));
+    tenantConfigSnapshotProvider.refresh();
+    return updatedConfig;
   }
 
   public void delete(TenantConfiguredFeature feature) {
     consortiumTenantExecutor.run(() -> featureConfigService.delete(feature));
+    tenantConfigSnapshotProvider.refresh();
   }
 
 }
@@ -13,17 +13,23 @@ public class LanguageConfigServiceDecorator {
 
   private final ConsortiumTenantExecutor consortiumTenantExecutor;
   private final LanguageConfigService languageConfigService;
+  private final TenantConfigSnapshotProvider tenantConfigSnapshotProvider;
 
   public LanguageConfig create(LanguageConfig languageConfig) {
-    return consortiumTenantExecutor.execute(() -> languageConfigService.create(languageConfig));
+    var createdConfig = consortiumTenantExecutor.execute(() -> languageConfigService.create(languageConfig));
+    tenantConfigSnapshotProvider.refresh();
+    return createdConfig;
   }
 
   public LanguageConfig update(String code, LanguageConfig languageConfig) {
-    return consortiumTenantExecutor.execute(() -> languageConfigService.update(code, languageConfig));
+    var updatedConfig = consortiumTenantExecutor.execute(() -> languageConfigService.update(code, languageConfig));
+    tenantConfigSnapshotProvider.refresh();
+    return updatedConfig;
   }
 
   public void delete(String code) {
     consortiumTenantExecutor.run(() -> languageConfigService.delete(code));
+    tenantConfigSnapshotProvider.refresh();
   }
 
   public LanguageConfigs getAll() {
@@ -0,0 +1,91 @@
+package org.folio.search.service.consortium;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Arrays;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.domain.dto.TenantConfiguredFeature;
+import org.folio.search.model.config.TenantConfigSnapshot;
+import org.folio.search.service.FeatureConfigService;
+import org.folio.search.service.LanguageConfigService;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Provides immutable snapshots of the tenant language and feature configuration.
+ *
+ * <p>Snapshot is loaded once per tenant, whose configuration is used (central tenant for consortium members), and
+ * replaced with the reloaded one on language or feature configuration changes. Snapshots expire after the configured
+ * time to live, so changes made by other module instances are picked up as well.</p>
+ */
+@Log4j2
+@Component
+public class TenantConfigSnapshotProvider {
+
+  private static final int MAX_SNAPSHOTS = 1_000;
+
+  private final FolioExecutionContext folioExecutionContext;
+  private final TenantProvider tenantProvider;
+  private final ConsortiumTenantExecutor consortiumTenantExecutor;
+  private final LanguageConfigService languageConfigService;
+  private final FeatureConfigService featureConfigService;
+  private final Cache<String, TenantConfigSnapshot> snapshots;
+
+  /**
+   * Used by dependency injection.
+   *
+   * @param folioExecutionContext    - folio execution context of the current request
+   * @param tenantProvider           - tenant provider to resolve the tenant, whose configuration is used
+   * @param consortiumTenantExecutor - executor to load configuration in the context of that tenant
+   * @param languageConfigService    - language configuration service
+   * @param featureConfigService     - feature configuration service
+   * @param cacheConfiguration       - cache configuration properties to get snapshot time to live from
+   */
+  public TenantConfigSnapshotProvider(FolioExecutionContext folioExecutionContext, TenantProvider tenantProvider,
+                                      ConsortiumTenantExecutor consortiumTenantExecutor,
+                                      LanguageConfigService languageConfigService,
+                                      FeatureConfigService featureConfigService,
+                                      SearchCacheConfigurationProperties cacheConfiguration) {
+    this.folioExecutionContext = folioExecutionContext;
+    this.tenantProvider = tenantProvider;
+    this.consortiumTenantExecutor = consortiumTenantExecutor;
+    this.languageConfigService = languageConfigService;
+    this.featureConfigService = featureConfigService;
+    this.snapshots = Caffeine.newBuilder()
+      .maximumSize(MAX_SNAPSHOTS)
+      .expireAfterWrite(cacheConfiguration.getTenantConfigSnapshotTtl())
+      .build();
+  }
+
+  /**
+   * Returns configuration snapshot for the current tenant.
+   *
+   * @return {@link TenantConfigSnapshot} object
+   */
+  public TenantConfigSnapshot getSnapshot() {
+    return snapshots.get(getConfigTenantId(), tenantId -> loadSnapshot());
+  }
+
+  /**
+   * Reloads configuration snapshot of the current tenant and replaces the existing one.
+   */
+  public void refresh() {
+    var tenantId = getConfigTenantId();
+    log.debug("refresh:: reloading tenant configuration snapshot [tenant: {}]", tenantId);
+    snapshots.put(tenantId, loadSnapshot());
+  }
+
+  private String getConfigTenantId() {
+    return tenantProvider.getTenant(folioExecutionContext.getTenantId());
+  }
+
+  private TenantConfigSnapshot loadSnapshot() {
+    return consortiumTenantExecutor.execute(() -> {
+      var enabledFeatures = Arrays.stream(TenantConfiguredFeature.values())
+        .filter(featureConfigService::isEnabled)
+        .toList();
+      return TenantConfigSnapshot.of(languageConfigService.getAllLanguageCodes(), enabledFeatures);
+    });
+  }
+}
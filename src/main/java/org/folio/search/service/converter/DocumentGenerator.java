@@ -0,0 +1,122 @@
+package org.folio.search.service.converter;
+
+import static org.folio.search.utils.SearchUtils.MULTILANG_SOURCE_SUBFIELD;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Wrapper over {@link JsonGenerator} used to write search documents without building them as {@link Map} first.
+ *
+ * <p>Objects are opened lazily: the field name and the object start are written only when the first value is
+ * written inside them, so objects without values are omitted the same way as empty maps are dropped by
+ * {@link ResourceConversionPlan#convert(Map, List)}. Root fields from the overridden set are skipped, because they
+ * are written later with values from search field processors.</p>
+ */
+final class DocumentGenerator {
+
+  private final JsonGenerator generator;
+  private final Set<String> overriddenRootFields;
+  private final List<String> frameNames = new ArrayList<>();
+  private final List<Boolean> arrayFrames = new ArrayList<>();
+  private int openedFrames;
+  private boolean hasValues;
+
+  DocumentGenerator(JsonGenerator generator, Set<String> overriddenRootFields) {
+    this.generator = generator;
+    this.overriddenRootFields = overriddenRootFields;
+  }
+
+  boolean hasValues() {
+    return hasValues;
+  }
+
+  boolean isOverridden(String name) {
+    return frameNames.isEmpty() && overriddenRootFields.contains(name);
+  }
+
+  void writeField(String name, Object value) throws IOException {
+    if (isOverridden(name)) {
+      return;
+    }
+
+    flushPendingObjects();
+    writeFieldName(name);
+    generator.writeObject(value);
+    hasValues = true;
+  }
+
+  void writeMultilangField(String name, Object value, List<String> languages) throws IOException {
+    if (isOverridden(name)) {
+      return;
+    }
+
+    flushPendingObjects();
+    generator.writeFieldName(name);
+    generator.writeStartObject();
+    for (var language : languages) {
+      generator.writeFieldName(language);
+      generator.writeObject(value);
+    }
+    generator.writeFieldName(MULTILANG_SOURCE_SUBFIELD);
+    generator.writeObject(value);
+    generator.writeEndObject();
+    hasValues = true;
+  }
+
+  void startObject(String name) {
+    frameNames.add(name);
+    arrayFrames.add(false);
+  }
+
+  void endObject() throws IOException {
+    var lastFrame = frameNames.size() - 1;
+    if (openedFrames > lastFrame) {
+      generator.writeEndObject();
+      openedFrames--;
+    }
+    removeLastFrame();
+  }
+
+  void startArray(String name) throws IOException {
+    flushPendingObjects();
+    writeFieldName(name);
+    generator.writeStartArray();
+    frameNames.add(name);
+    arrayFrames.add(true);
+    openedFrames++;
+    hasValues = true;
+  }
+
+  void endArray() throws IOException {
+    generator.writeEndArray();
+    openedFrames--;
+    removeLastFrame();
+  }
+
+  private void writeFieldName(String name) throws IOException {
+    if (name != null) {
+      generator.writeFieldName(name);
+    }
+  }
+
+  private void flushPendingObjects() throws IOException {
+    for (var i = openedFrames; i < frameNames.size(); i++) {
+      if (!arrayFrames.get(i)) {
+        writeFieldName(frameNames.get(i));
+        generator.writeStartObject();
+      }
+    }
+    openedFrames = frameNames.size();
+  }
+
+  private void removeLastFrame() {
+    var lastFrame = frameNames.size() - 1;
+    frameNames.remove(lastFrame);
+    arrayFrames.remove(lastFrame);
+  }
+}
@@ -1,20 +1,35 @@
 package org.folio.search.service.converter;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static org.apache.commons.lang3.StringUtils.removeStart;
 import static org.folio.search.utils.SearchUtils.PLAIN_FULLTEXT_PREFIX;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.MapUtils;
 import org.folio.search.model.SearchResult;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.springframework.stereotype.Component;
@@ -23,7 +38,10 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ElasticsearchDocumentConverter {
 
+  private static final String TOTAL_RECORDS_FIELD = "totalRecords";
+
   private final ObjectMapper objectMapper;
+  private final Map<Class<?>, ResponseFields> responseFields = new ConcurrentHashMap<>();
 
   /**
    * Converts an Elasticsearch {@link SearchResponse} object into {@link SearchResult} object.
@@ -75,6 +93,40 @@ public class ElasticsearchDocumentConverter {
     return objectMapper.convertValue(processMap(elasticsearchHit), resultClass);
   }
 
+  /**
+   * Writes an Elasticsearch {@link SearchResponse} object as search result JSON with total records and hit sources.
+   *
+   * <p>Hit sources are copied token by token, without conversion to {@link Map} and result class objects, but in the
+   * same shape as serialized result class objects: the {@code plain_} prefix of field names is removed, fields
+   * unknown to the result class and null values are skipped, and missing fields with non-null default values in the
+   * result class (e.g. required arrays) are written with these values. Sources must be filtered at query time to
+   * contain only plain values of fulltext fields.</p>
+   *
+   * @param response         - an Elasticsearch search response as {@link SearchResponse} object
+   * @param resultClass      - result class, which serialized objects define the shape of written hit sources
+   * @param recordsFieldName - name of the field with records in search result
+   * @param outputStream     - output stream to write search result to
+   * @throws IOException if search result cannot be written to the output stream
+   */
+  public void writeSearchResult(SearchResponse response, Class<?> resultClass, String recordsFieldName,
+                                OutputStream outputStream) throws IOException {
+    var hits = response != null ? response.getHits() : null;
+    var resultFields = responseFields.computeIfAbsent(resultClass, type -> collectResponseFields(
+      objectMapper.constructType(type)));
+    try (var generator = objectMapper.createGenerator(outputStream)) {
+      generator.writeStartObject();
+      generator.writeNumberField(TOTAL_RECORDS_FIELD, hits != null ? getTotalRecords(hits) : 0);
+      generator.writeArrayFieldStart(recordsFieldName);
+      if (hits != null && hits.getHits() != null) {
+        for (var searchHit : hits.getHits()) {
+          writeSource(searchHit.getSourceRef(), resultFields, generator);
+        }
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+  }
+
   private <T, R> List<R> convertSearchHits(SearchHit[] searchHits, Class<T> type,
                                            BiFunction<SearchHit, T, R> searchHitMapper) {
     if (searchHits == null) {
@@ -115,8 +167,121 @@ public class ElasticsearchDocumentConverter {
     return value;
   }
 
+  private void writeSource(BytesReference source, ResponseFields fields, JsonGenerator generator)
+    throws IOException {
+    if (source == null || source.length() == 0) {
+      generator.writeStartObject();
+      writeDefaultValues(fields, Set.of(), generator);
+      generator.writeEndObject();
+      return;
+    }
+
+    var sourceBytes = source.toBytesRef();
+    try (var parser = objectMapper.createParser(sourceBytes.bytes, sourceBytes.offset, sourceBytes.length)) {
+      parser.nextToken();
+      writeValue(parser, fields, generator);
+    }
+  }
+
+  /**
+   * Collects fields of the given result class type, nested fields are collected for fields with object values.
+   */
+  private ResponseFields collectResponseFields(JavaType type) {
+    var names = new HashSet<String>();
+    var objectFields = new HashMap<String, ResponseFields>();
+    for (var property : objectMapper.getSerializationConfig().introspect(type).findProperties()) {
+      if (!property.couldSerialize()) {
+        continue;
+      }
+
+      names.add(property.getName());
+      var valueType = property.getPrimaryType();
+      valueType = valueType.isCollectionLikeType() || valueType.isArrayType() ? valueType.getContentType() : valueType;
+      if (isObjectType(valueType)) {
+        objectFields.put(property.getName(), collectResponseFields(valueType));
+      }
+    }
+
+    ObjectNode defaultValues = objectMapper.valueToTree(objectMapper.convertValue(emptyMap(), type));
+    return new ResponseFields(names, objectFields, defaultValues);
+  }
+
+  private static void writeValue(JsonParser parser, ResponseFields fields, JsonGenerator generator)
+    throws IOException {
+    switch (parser.currentToken()) {
+      case START_OBJECT -> writeObject(parser, fields, generator);
+      case START_ARRAY -> writeArray(parser, fields, generator);
+      default -> generator.copyCurrentEvent(parser);
+    }
+  }
+
+  private static void writeArray(JsonParser parser, ResponseFields fields, JsonGenerator generator)
+    throws IOException {
+    generator.writeStartArray();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (parser.currentToken() != JsonToken.VALUE_NULL) {
+        writeValue(parser, fields, generator);
+      }
+    }
+    generator.writeEndArray();
+  }
+
+  /**
+   * Writes the object, the parser points to, with the given fields. If fields are null, all fields are written.
+   */
+  private static void writeObject(JsonParser parser, ResponseFields fields, JsonGenerator generator)
+    throws IOException {
+    generator.writeStartObject();
+    var fieldNames = new HashSet<String>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      var fieldName = removeStart(parser.getCurrentName(), PLAIN_FULLTEXT_PREFIX);
+      parser.nextToken();
+      if (fields != null && !fields.names().contains(fieldName) || !fieldNames.add(fieldName)) {
+        parser.skipChildren();
+        continue;
+      }
+
+      if (parser.currentToken() != JsonToken.VALUE_NULL) {
+        generator.writeFieldName(fieldName);
+        writeValue(parser, fields != null ? fields.objectFields().get(fieldName) : null, generator);
+      }
+    }
+
+    if (fields != null) {
+      writeDefaultValues(fields, fieldNames, generator);
+    }
+    generator.writeEndObject();
+  }
+
+  private static void writeDefaultValues(ResponseFields fields, Set<String> writtenFields, JsonGenerator generator)
+    throws IOException {
+    var defaultValues = fields.defaultValues().fields();
+    while (defaultValues.hasNext()) {
+      var defaultValue = defaultValues.next();
+      if (!writtenFields.contains(defaultValue.getKey())) {
+        generator.writeFieldName(defaultValue.getKey());
+        generator.writeTree(defaultValue.getValue());
+      }
+    }
+  }
+
+  private static boolean isObjectType(JavaType type) {
+    return !type.isContainerType() && !type.isEnumType() && !type.isPrimitive() && !type.isJavaLangObject()
+      && !ClassUtil.isJDKClass(type.getRawClass());
+  }
+
   private static int getTotalRecords(SearchHits hits) {
     var totalHits = hits.getTotalHits();
     return totalHits != null ? (int) totalHits.value : 0;
   }
+
+  /**
+   * Fields of the result class, hit sources are written with.
+   *
+   * @param names         - names of the result class fields
+   * @param objectFields  - fields of the nested objects by the result class field name
+   * @param defaultValues - non-null values of the result class fields in the new result class object
+   */
+  private record ResponseFields(Set<String> names, Map<String, ResponseFields> objectFields,
+                                ObjectNode defaultValues) { }
 }
@@ -2,27 +2,45 @@ package org.folio.search.service.converter;
 
 import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.groupingBy;
+import static org.folio.search.configuration.AsyncConfig.DOCUMENT_CONVERSION_EXECUTOR_NAME;
 import static org.folio.search.utils.LogUtils.collectionToLogMsg;
 import static org.folio.search.utils.SearchConverterUtils.getResourceEventId;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.configuration.properties.SearchConfigurationProperties.DocumentConversionSettings;
 import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.model.config.TenantConfigSnapshot;
+import org.folio.search.model.context.FolioExecutionContextBuilder;
 import org.folio.search.model.index.SearchDocumentBody;
 import org.folio.search.model.metadata.ResourceDescription;
 import org.folio.search.model.metadata.ResourceIndexingConfiguration;
 import org.folio.search.service.consortium.ConsortiumTenantExecutor;
+import org.folio.search.service.consortium.TenantConfigSnapshotProvider;
 import org.folio.search.service.converter.preprocessor.EventPreProcessor;
 import org.folio.search.service.metadata.ResourceDescriptionService;
 import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.opensearch.common.bytes.BytesReference;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 @Log4j2
@@ -30,11 +48,20 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class MultiTenantSearchDocumentConverter {
 
+  static final String CONVERSION_TIMER_NAME = "folio.search.documents.conversion";
+  static final String BATCH_SIZE_METRIC_NAME = "folio.search.documents.batch.size";
+
   private final SearchDocumentConverter searchDocumentConverter;
   private final ResourceDescriptionService resourceDescriptionService;
   private final Map<String, EventPreProcessor> eventPreProcessorBeans;
   private final ConsortiumTenantExecutor consortiumTenantExecutor;
+  private final TenantConfigSnapshotProvider tenantConfigSnapshotProvider;
   private final FolioExecutionContext folioExecutionContext;
+  private final FolioExecutionContextBuilder contextBuilder;
+  private final SearchConfigurationProperties searchConfigurationProperties;
+  private final MeterRegistry meterRegistry;
+  @Qualifier(DOCUMENT_CONVERSION_EXECUTOR_NAME)
+  private final Executor documentConversionExecutor;
 
   /**
    * Converts {@link ResourceEvent} objects to a list with {@link SearchDocumentBody} objects.
@@ -49,21 +76,40 @@ public class MultiTenantSearchDocumentConverter {
       return emptyMap();
     }
 
+    var sample = Timer.start(meterRegistry);
     var eventsByTenant = resourceEvents.stream().collect(groupingBy(ResourceEvent::getTenant));
-    return eventsByTenant.entrySet().stream()
+    var documents = eventsByTenant.entrySet().stream()
       .map(this::convertForTenant)
       .flatMap(Collection::stream)
       .collect(groupingBy(SearchDocumentBody::getResource));
+    sample.stop(meterRegistry.timer(CONVERSION_TIMER_NAME));
+    recordBatchSize(documents);
+    return documents;
+  }
+
+  /**
+   * Records total size of serialized document bodies, retained by the converted batch until it is indexed.
+   */
+  private void recordBatchSize(Map<String, List<SearchDocumentBody>> documents) {
+    var batchSize = documents.values().stream()
+      .flatMap(Collection::stream)
+      .map(SearchDocumentBody::getDocumentBody)
+      .filter(Objects::nonNull)
+      .mapToLong(BytesReference::length)
+      .sum();
+    DistributionSummary.builder(BATCH_SIZE_METRIC_NAME)
+      .baseUnit(BaseUnits.BYTES)
+      .register(meterRegistry)
+      .record(batchSize);
   }
 
   private List<SearchDocumentBody> convertForTenant(Entry<String, List<ResourceEvent>> entry) {
-    var convert = (Supplier<List<SearchDocumentBody>>) () ->
-      entry.getValue().stream()
-        .flatMap(this::populateResourceEvents)
-        .map(event -> event.getId() != null ? event : event.id(getResourceEventId(event)))
-        .map(searchDocumentConverter::convert)
-        .flatMap(Optional::stream)
-        .toList();
+    var convert = (Supplier<List<SearchDocumentBody>>) () -> {
+      var tenantConfig = tenantConfigSnapshotProvider.getSnapshot();
+      return isParallelConversion(entry.getValue())
+        ? convertConcurrently(entry.getValue(), tenantConfig)
+        : convertEvents(entry.getValue(), tenantConfig);
+    };
 
     if (entry.getKey().equals(folioExecutionContext.getTenantId())) {
       return convert.get();
@@ -72,6 +118,52 @@ public class MultiTenantSearchDocumentConverter {
     }
   }
 
+  private List<SearchDocumentBody> convertEvents(List<ResourceEvent> events, TenantConfigSnapshot tenantConfig) {
+    return events.stream()
+      .flatMap(this::populateResourceEvents)
+      .map(event -> event.getId() != null ? event : event.id(getResourceEventId(event)))
+      .map(event -> searchDocumentConverter.convert(event, tenantConfig))
+      .flatMap(Optional::stream)
+      .toList();
+  }
+
+  /**
+   * Converts events in contiguous chunks on the document conversion executor, so documents are returned in the
+   * order of the events.
+   */
+  private List<SearchDocumentBody> convertConcurrently(List<ResourceEvent> events,
+                                                       TenantConfigSnapshot tenantConfig) {
+    var conversionSettings = getConversionSettings();
+    var chunkSize = (events.size() + conversionSettings.getMaxConcurrency() - 1)
+      / conversionSettings.getMaxConcurrency();
+    var executionContext = contextBuilder.copyOf(folioExecutionContext);
+    var futures = ListUtils.partition(events, chunkSize).stream()
+      .map(chunk -> CompletableFuture.supplyAsync(() -> {
+        try (var ignored = new FolioExecutionContextSetter(executionContext)) {
+          return convertEvents(chunk, tenantConfig);
+        }
+      }, documentConversionExecutor))
+      .toList();
+
+    try {
+      return futures.stream().map(CompletableFuture::join).flatMap(Collection::stream).toList();
+    } catch (CompletionException e) {
+      futures.forEach(future -> future.cancel(false));
+      throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+    }
+  }
+
+  private boolean isParallelConversion(List<ResourceEvent> events) {
+    var conversionSettings = getConversionSettings();
+    return conversionSettings.isParallelEnabled()
+      && conversionSettings.getMaxConcurrency() > 1
+      && events.size() >= conversionSettings.getParallelThreshold();
+  }
+
+  private DocumentConversionSettings getConversionSettings() {
+    return searchConfigurationProperties.getIndexing().getConversion();
+  }
+
   private Stream<ResourceEvent> populateResourceEvents(ResourceEvent event) {
     var resourceName = event.getResourceName();
     return resourceDescriptionService.find(resourceName)
@@ -0,0 +1,242 @@
+package org.folio.search.service.converter;
+
+import static org.folio.search.utils.SearchUtils.CONST_SIZE_LOAD_FACTOR;
+import static org.folio.search.utils.SearchUtils.MULTILANG_SOURCE_SUBFIELD;
+import static org.folio.search.utils.SearchUtils.PLAIN_FULLTEXT_PREFIX;
+import static org.folio.search.utils.SearchUtils.getMultilangValue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.folio.search.model.metadata.FieldDescription;
+import org.folio.search.model.metadata.ObjectFieldDescription;
+import org.folio.search.model.metadata.PlainFieldDescription;
+import org.folio.search.model.service.MultilangValue;
+
+/**
+ * Immutable converter tree compiled from the fields of a resource description.
+ *
+ * <p>Field descriptions are resolved once: not indexed fields are dropped, default values and the kind of value to
+ * produce (plain, fulltext with plain copy or multi-language) are stored in the tree nodes together with the
+ * generated field names. Converting a document is a straight walk over the nodes, writing values directly to the
+ * resulting map or to the {@link DocumentGenerator}.</p>
+ */
+public final class ResourceConversionPlan {
+
+  private final FieldConverter[] fieldConverters;
+
+  private ResourceConversionPlan(FieldConverter[] fieldConverters) {
+    this.fieldConverters = fieldConverters;
+  }
+
+  /**
+   * Compiles resource description fields into the conversion plan.
+   *
+   * @param fields - resource description fields
+   * @return compiled {@link ResourceConversionPlan} object
+   */
+  public static ResourceConversionPlan compile(Map<String, FieldDescription> fields) {
+    var converters = new ArrayList<FieldConverter>(fields.size());
+    for (var entry : fields.entrySet()) {
+      var fieldConverter = compileField(entry.getKey(), entry.getValue());
+      if (fieldConverter != null) {
+        converters.add(fieldConverter);
+      }
+    }
+    return new ResourceConversionPlan(converters.toArray(FieldConverter[]::new));
+  }
+
+  /**
+   * Converts resource data using the compiled fields.
+   *
+   * @param data      - resource data as {@link Map} object
+   * @param languages - resource languages for multi-language fields
+   * @return converted resource data, null if no values were found
+   */
+  public Map<String, Object> convert(Map<String, Object> data, List<String> languages) {
+    var resultMap = new LinkedHashMap<String, Object>();
+    for (var fieldConverter : fieldConverters) {
+      fieldConverter.convert(data, languages, resultMap);
+    }
+    return resultMap.isEmpty() ? null : resultMap;
+  }
+
+  /**
+   * Writes resource data using the compiled fields to the document generator.
+   *
+   * @param data      - resource data as {@link Map} object
+   * @param languages - resource languages for multi-language fields
+   * @param generator - document generator to write values to
+   * @throws IOException if values cannot be written
+   */
+  void write(Map<String, Object> data, List<String> languages, DocumentGenerator generator) throws IOException {
+    for (var fieldConverter : fieldConverters) {
+      fieldConverter.write(data, languages, generator);
+    }
+  }
+
+  private static FieldConverter compileField(String name, FieldDescription fieldDescription) {
+    if (fieldDescription instanceof PlainFieldDescription plainFieldDescription) {
+      return compilePlainField(name, plainFieldDescription);
+    }
+
+    var objectFieldDescription = (ObjectFieldDescription) fieldDescription;
+    return new ObjectFieldConverter(name, compile(objectFieldDescription.getProperties()));
+  }
+
+  private static FieldConverter compilePlainField(String name, PlainFieldDescription desc) {
+    if (desc.isNotIndexed()) {
+      return null;
+    }
+
+    var type = desc.isMultilang() ? PlainValueType.MULTILANG
+      : desc.hasFulltextIndex() ? PlainValueType.FULLTEXT_WITH_PLAIN
+      : PlainValueType.PLAIN;
+    return new PlainFieldConverter(name, PLAIN_FULLTEXT_PREFIX + name, desc.getDefaultValue(), type);
+  }
+
+  private enum PlainValueType {
+    PLAIN, FULLTEXT_WITH_PLAIN, MULTILANG
+  }
+
+  private interface FieldConverter {
+
+    void convert(Map<String, Object> data, List<String> languages, Map<String, Object> target);
+
+    void write(Map<String, Object> data, List<String> languages, DocumentGenerator generator) throws IOException;
+  }
+
+  private record PlainFieldConverter(String name, String plainName, Object defaultValue, PlainValueType type)
+    implements FieldConverter {
+
+    @Override
+    public void convert(Map<String, Object> data, List<String> languages, Map<String, Object> target) {
+      var value = getValue(data);
+      if (value == null) {
+        return;
+      }
+
+      switch (type) {
+        case PLAIN -> target.put(name, value);
+        case FULLTEXT_WITH_PLAIN -> {
+          target.put(name, value);
+          target.put(plainName, value);
+        }
+        case MULTILANG -> putMultilangValue(value, languages, target);
+        default -> throw new IllegalStateException("Unexpected plain value type: " + type);
+      }
+    }
+
+    @Override
+    public void write(Map<String, Object> data, List<String> languages, DocumentGenerator generator)
+      throws IOException {
+      var value = getValue(data);
+      if (value == null) {
+        return;
+      }
+
+      switch (type) {
+        case PLAIN -> generator.writeField(name, value);
+        case FULLTEXT_WITH_PLAIN -> {
+          generator.writeField(name, value);
+          generator.writeField(plainName, value);
+        }
+        case MULTILANG -> writeMultilangValue(value, languages, generator);
+        default -> throw new IllegalStateException("Unexpected plain value type: " + type);
+      }
+    }
+
+    private Object getValue(Map<String, Object> data) {
+      var value = data != null ? data.get(name) : null;
+      return value != null ? value : defaultValue;
+    }
+
+    private void putMultilangValue(Object value, List<String> languages, Map<String, Object> target) {
+      if (value instanceof MultilangValue) {
+        target.putAll(getMultilangValue(name, value, languages));
+        return;
+      }
+
+      var multilangValueMap = new LinkedHashMap<String, Object>(languages.size() + 1, CONST_SIZE_LOAD_FACTOR);
+      for (var language : languages) {
+        multilangValueMap.put(language, value);
+      }
+      multilangValueMap.put(MULTILANG_SOURCE_SUBFIELD, value);
+      target.put(name, multilangValueMap);
+      target.put(plainName, value);
+    }
+
+    private void writeMultilangValue(Object value, List<String> languages, DocumentGenerator generator)
+      throws IOException {
+      if (value instanceof MultilangValue) {
+        for (var entry : getMultilangValue(name, value, languages).entrySet()) {
+          generator.writeField(entry.getKey(), entry.getValue());
+        }
+        return;
+      }
+
+      generator.writeMultilangField(name, value, languages);
+      generator.writeField(plainName, value);
+    }
+  }
+
+  private record ObjectFieldConverter(String name, ResourceConversionPlan properties) implements FieldConverter {
+
+    @Override
+    public void convert(Map<String, Object> data, List<String> languages, Map<String, Object> target) {
+      var value = convertValue(data != null ? data.get(name) : null, languages);
+      if (value != null) {
+        target.put(name, value);
+      }
+    }
+
+    @Override
+    public void write(Map<String, Object> data, List<String> languages, DocumentGenerator generator)
+      throws IOException {
+      if (data != null && !generator.isOverridden(name)) {
+        writeValue(name, data.get(name), languages, generator);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeValue(String fieldName, Object value, List<String> languages, DocumentGenerator generator)
+      throws IOException {
+      if (value instanceof Map) {
+        generator.startObject(fieldName);
+        properties.write((Map<String, Object>) value, languages, generator);
+        generator.endObject();
+        return;
+      }
+
+      if (value instanceof List<?> listValue) {
+        generator.startArray(fieldName);
+        for (var listItem : listValue) {
+          writeValue(null, listItem, languages, generator);
+        }
+        generator.endArray();
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object convertValue(Object value, List<String> languages) {
+      if (value instanceof Map) {
+        return properties.convert((Map<String, Object>) value, languages);
+      }
+
+      if (value instanceof List<?> listValue) {
+        var result = new ArrayList<>(listValue.size());
+        for (var listItem : listValue) {
+          var convertedItem = convertValue(listItem, languages);
+          if (convertedItem != null) {
+            result.add(convertedItem);
+          }
+        }
+        return result;
+      }
+
+      return null;
+    }
+  }
+}
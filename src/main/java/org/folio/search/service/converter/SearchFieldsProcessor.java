@@ -11,10 +11,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.folio.search.domain.dto.Instance;
+import org.folio.search.model.config.TenantConfigSnapshot;
 import org.folio.search.model.converter.ConversionContext;
 import org.folio.search.model.metadata.SearchFieldDescriptor;
-import org.folio.search.service.consortium.FeatureConfigServiceDecorator;
 import org.folio.search.service.setter.FieldProcessor;
+import org.folio.search.service.setter.instance.InstanceFieldVisitor;
+import org.folio.search.service.setter.instance.InstanceTraversal;
 import org.folio.search.utils.JsonConverter;
 import org.folio.search.utils.SearchUtils;
 import org.springframework.stereotype.Component;
@@ -25,7 +28,6 @@ import org.springframework.stereotype.Component;
 public class SearchFieldsProcessor {
 
   private final JsonConverter jsonConverter;
-  private final FeatureConfigServiceDecorator featureConfigService;
   private final Map<String, FieldProcessor<?, ?>> fieldProcessors;
 
   /**
@@ -45,30 +47,60 @@ public class SearchFieldsProcessor {
     }
     var data = getNewAsMap(ctx.getResourceEvent());
     var resourceClass = resourceDescription.getEventBodyJavaClass();
-    var resourceObject = resourceClass != null ? jsonConverter.convert(data, resourceClass) : data;
+    var resourceObject = new ResourceObject(data, resourceClass);
 
-    var resultMap = new LinkedHashMap<String, Object>();
+    var enabledSearchFields = new LinkedHashMap<String, SearchFieldDescriptor>();
     searchFields.forEach((name, fieldDescriptor) -> {
-      var resource = fieldDescriptor.isRawProcessing() ? data : resourceObject;
-      if (isSearchProcessorEnabled(fieldDescriptor)) {
-        resultMap.putAll(getSearchFieldValue(resource, ctx.getLanguages(), name, fieldDescriptor));
+      if (isSearchProcessorEnabled(fieldDescriptor, ctx.getTenantConfig())) {
+        enabledSearchFields.put(name, fieldDescriptor);
       } else {
         log.debug("Search processor has been ignored [processor: {}]", fieldDescriptor.getProcessor());
       }
     });
+
+    var visitors = getInstanceFieldVisitors(resourceClass, enabledSearchFields);
+    Map<String, Object> visitorValues = visitors.isEmpty() ? emptyMap()
+      : InstanceTraversal.traverse(data, visitors);
+
+    var resultMap = new LinkedHashMap<String, Object>();
+    enabledSearchFields.forEach((name, fieldDescriptor) -> {
+      if (visitors.containsKey(name)) {
+        resultMap.putAll(getPlainFieldValue(visitorValues.get(name), ctx.getLanguages(), name, fieldDescriptor));
+      } else {
+        var resource = fieldDescriptor.isRawProcessing() ? data : resourceObject.get();
+        resultMap.putAll(getSearchFieldValue(resource, ctx.getLanguages(), name, fieldDescriptor));
+      }
+    });
     return resultMap;
   }
 
+  /**
+   * Returns processors of search fields, that can collect values during the single traversal of the raw instance.
+   */
+  private Map<String, InstanceFieldVisitor<?, ?>> getInstanceFieldVisitors(
+    Class<?> resourceClass, Map<String, SearchFieldDescriptor> searchFields) {
+
+    if (resourceClass != Instance.class) {
+      return emptyMap();
+    }
+
+    var visitors = new LinkedHashMap<String, InstanceFieldVisitor<?, ?>>();
+    searchFields.forEach((name, fieldDescriptor) -> {
+      var fieldProcessor = fieldProcessors.get(fieldDescriptor.getProcessor());
+      if (fieldProcessor instanceof InstanceFieldVisitor<?, ?> visitor) {
+        visitors.put(name, visitor);
+      }
+    });
+    return visitors;
+  }
+
   @SuppressWarnings("unchecked")
   private Map<String, Object> getSearchFieldValue(
     Object resource, List<String> languages, String name, SearchFieldDescriptor descriptor) {
 
     var fieldProcessor = (FieldProcessor<Object, ?>) fieldProcessors.get(descriptor.getProcessor());
     try {
-      var value = fieldProcessor.getFieldValue(resource);
-      if (ObjectUtils.isNotEmpty(value)) {
-        return SearchUtils.getPlainFieldValue(descriptor, name, value, languages);
-      }
+      return getPlainFieldValue(fieldProcessor.getFieldValue(resource), languages, name, descriptor);
     } catch (Exception e) {
       log.warn("Failed to retrieve field value", e);
     }
@@ -76,8 +108,41 @@ public class SearchFieldsProcessor {
     return emptyMap();
   }
 
-  private boolean isSearchProcessorEnabled(SearchFieldDescriptor desc) {
+  private static Map<String, Object> getPlainFieldValue(
+    Object value, List<String> languages, String name, SearchFieldDescriptor descriptor) {
+    return ObjectUtils.isNotEmpty(value)
+      ? SearchUtils.getPlainFieldValue(descriptor, name, value, languages)
+      : emptyMap();
+  }
+
+  private static boolean isSearchProcessorEnabled(SearchFieldDescriptor desc, TenantConfigSnapshot tenantConfig) {
     var dependsOnFeature = desc.getDependsOnFeature();
-    return dependsOnFeature == null || featureConfigService.isEnabled(dependsOnFeature);
+    return dependsOnFeature == null || tenantConfig.isEnabled(dependsOnFeature);
+  }
+
+  /**
+   * Resource data converted to the event body java class on first request, so the conversion of the whole resource
+   * is done at most once per event and is skipped if only raw or disabled search field processors are defined.
+   *
+   * <p>Instance search fields are collected by {@link InstanceTraversal} over the raw event body, so instance events
+   * are converted only if an enabled typed processor is not an {@link InstanceFieldVisitor}.</p>
+   */
+  private final class ResourceObject {
+
+    private final Map<String, Object> data;
+    private final Class<?> resourceClass;
+    private Object value;
+
+    private ResourceObject(Map<String, Object> data, Class<?> resourceClass) {
+      this.data = data;
+      this.resourceClass = resourceClass;
+    }
+
+    private Object get() {
+      if (value == null) {
+        value = resourceClass != null ? jsonConverter.convert(data, resourceClass) : data;
+      }
+      return value;
+    }
   }
 }
@@ -0,0 +1,91 @@
+package org.folio.search.service.converter;
+
+import static org.folio.search.utils.SmileConverter.SERIALIZATION_ERROR_MSG_TEMPLATE;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.SerializationException;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+
+/**
+ * Writes search documents directly to JSON or SMILE bytes, without merging base and search fields into an
+ * intermediate {@link Map}.
+ *
+ * <p>Documents are written to an output buffer reused by the calling thread, only the resulting bytes are copied.
+ * Buffers that have grown over {@link #MAX_RETAINED_BUFFER_SIZE} are released after use.</p>
+ */
+public class StreamingDocumentWriter {
+
+  static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+  private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+
+  private final ObjectMapper objectMapper;
+  private final ThreadLocal<ReusableOutputStream> outputBuffers =
+    ThreadLocal.withInitial(ReusableOutputStream::new);
+
+  /**
+   * Creates writer for the given mapper, which defines the output format and the serialization of field values.
+   *
+   * @param objectMapper - JSON or SMILE object mapper
+   */
+  public StreamingDocumentWriter(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Writes search document using conversion plan for resource data and values of search fields.
+   *
+   * @param conversionPlan - compiled conversion plan for resource description fields
+   * @param data           - resource data as {@link Map} object
+   * @param languages      - resource languages for multi-language fields
+   * @param searchFields   - values of search fields, written after resource description fields
+   * @return serialized search document, null if document has no values
+   */
+  public BytesReference write(ResourceConversionPlan conversionPlan, Map<String, Object> data,
+                              List<String> languages, Map<String, Object> searchFields) {
+    var outputBuffer = outputBuffers.get();
+    try {
+      var hasValues = writeDocument(outputBuffer, conversionPlan, data, languages, searchFields);
+      return hasValues ? new BytesArray(outputBuffer.toByteArray()) : null;
+    } catch (IOException e) {
+      throw new SerializationException(String.format(SERIALIZATION_ERROR_MSG_TEMPLATE, e.getMessage()), e);
+    } finally {
+      outputBuffer.release();
+    }
+  }
+
+  private boolean writeDocument(OutputStream outputStream, ResourceConversionPlan conversionPlan,
+                                Map<String, Object> data, List<String> languages,
+                                Map<String, Object> searchFields) throws IOException {
+    try (var jsonGenerator = objectMapper.createGenerator(outputStream)) {
+      var documentGenerator = new DocumentGenerator(jsonGenerator, searchFields.keySet());
+      jsonGenerator.writeStartObject();
+      conversionPlan.write(data, languages, documentGenerator);
+      for (var searchField : searchFields.entrySet()) {
+        jsonGenerator.writeFieldName(searchField.getKey());
+        jsonGenerator.writeObject(searchField.getValue());
+      }
+      jsonGenerator.writeEndObject();
+      return documentGenerator.hasValues() || !searchFields.isEmpty();
+    }
+  }
+
+  private static final class ReusableOutputStream extends ByteArrayOutputStream {
+
+    ReusableOutputStream() {
+      super(INITIAL_BUFFER_SIZE);
+    }
+
+    void release() {
+      reset();
+      if (buf.length > MAX_RETAINED_BUFFER_SIZE) {
+        buf = new byte[INITIAL_BUFFER_SIZE];
+      }
+    }
+  }
+}
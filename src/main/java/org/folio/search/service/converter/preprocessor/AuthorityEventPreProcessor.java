@@ -4,6 +4,8 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.function.Function.identity;
 import static java.util.stream.StreamSupport.stream;
+import static org.folio.search.domain.dto.TenantConfiguredFeature.AUTHORITY_TRIMMED_REFERENCE_BODIES;
+import static org.folio.search.model.index.AuthRefType.AUTHORIZED;
 import static org.folio.search.utils.CollectionUtils.toMap;
 import static org.folio.search.utils.SearchConverterUtils.copyEntityFields;
 import static org.folio.search.utils.SearchConverterUtils.getNewAsMap;
@@ -12,9 +14,12 @@ import static org.folio.search.utils.SearchUtils.AUTHORITY_RESOURCE;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -22,7 +27,11 @@ import lombok.extern.log4j.Log4j2;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.domain.dto.ResourceEventType;
 import org.folio.search.model.metadata.AuthorityFieldDescription;
+import org.folio.search.model.metadata.FieldDescription;
+import org.folio.search.model.metadata.ObjectFieldDescription;
+import org.folio.search.model.metadata.PlainFieldDescription;
 import org.folio.search.service.consortium.ConsortiumTenantService;
+import org.folio.search.service.consortium.TenantConfigSnapshotProvider;
 import org.folio.search.service.metadata.ResourceDescriptionService;
 import org.springframework.stereotype.Component;
 
@@ -33,8 +42,11 @@ public class AuthorityEventPreProcessor implements EventPreProcessor {
 
   private final ResourceDescriptionService resourceDescriptionService;
   private final ConsortiumTenantService consortiumTenantService;
+  private final TenantConfigSnapshotProvider tenantConfigSnapshotProvider;
   private Map<String, List<String>> fieldTypes;
   private List<String> commonFields;
+  private Set<String> referenceFields;
+  private Map<String, FieldDescription> trimmedCommonFields;
 
   /**
    * Initializes {@link AuthorityEventPreProcessor} spring bean.
@@ -45,22 +57,37 @@ public class AuthorityEventPreProcessor implements EventPreProcessor {
     var fields = resourceDescriptionService.get(AUTHORITY_RESOURCE);
     var fieldPerDistinctiveType = new LinkedHashMap<String, List<String>>();
     var commonFieldsList = new ArrayList<String>();
+    var referenceFieldsSet = new HashSet<String>();
+    var trimmedCommonFieldsMap = new LinkedHashMap<String, FieldDescription>();
     for (var entry : fields.getFields().entrySet()) {
+      var fieldName = entry.getKey();
       if (entry.getValue() instanceof AuthorityFieldDescription fieldDesc) {
-        var fieldName = entry.getKey();
         fieldPerDistinctiveType.computeIfAbsent(fieldDesc.getDistinctType(), v -> new ArrayList<>()).add(fieldName);
+        if (!AUTHORIZED.getTypeValue().equals(fieldDesc.getAuthRefType())) {
+          referenceFieldsSet.add(fieldName);
+        }
         continue;
       }
-      commonFieldsList.add(entry.getKey());
+      commonFieldsList.add(fieldName);
+      if (isTrimmedBodyField(entry.getValue())) {
+        trimmedCommonFieldsMap.put(fieldName, getTrimmedDescription(entry.getValue()));
+      }
     }
 
     this.fieldTypes = Collections.unmodifiableMap(fieldPerDistinctiveType);
     this.commonFields = Collections.unmodifiableList(commonFieldsList);
+    this.referenceFields = Collections.unmodifiableSet(referenceFieldsSet);
+    this.trimmedCommonFields = Collections.unmodifiableMap(trimmedCommonFieldsMap);
   }
 
   /**
    * Divides authority record event into several events based on distinctive type of resource description fields.
    *
+   * <p>If trimmed reference bodies are enabled for tenant, events for reference and auth/ref headings contain only
+   * indexed and response values of common fields, other source-only values (notes, metadata user ids, etc.) are kept
+   * in the event of authorized heading only. Because of that, reference and auth/ref records returned with
+   * {@code expandAll=true} don't contain these values, the full record is returned for the authorized heading.</p>
+   *
    * @param event - resource event to process as {@link ResourceEvent} object
    * @return list with divided authority event objects
    */
@@ -79,37 +106,43 @@ public class AuthorityEventPreProcessor implements EventPreProcessor {
       }
     }
     if (event.getType() == ResourceEventType.UPDATE) {
-      return getResourceEventsToUpdate(event);
+      return getResourceEventsToUpdate(event, isReferenceBodiesTrimmed());
     }
-    return getResourceEvents(event, event.getType());
+    var trimReferenceBodies = isCreateOperation(event.getType()) && isReferenceBodiesTrimmed();
+    return getResourceEvents(event, event.getType(), trimReferenceBodies);
   }
 
-  private List<ResourceEvent> getResourceEvents(ResourceEvent event, ResourceEventType eventType) {
+  private List<ResourceEvent> getResourceEvents(ResourceEvent event, ResourceEventType eventType,
+                                                boolean trimReferenceBodies) {
     log.debug("getResourceEvents:: by [id: {}, tenant: {}, type: {}]", event.getId(), event.getTenant(), eventType);
 
     var isCreateOperation = isCreateOperation(eventType);
-    var events = generateResourceEvents(event, eventType, isCreateOperation ? getNewAsMap(event) : getOldAsMap(event));
+    var eventPayload = isCreateOperation ? getNewAsMap(event) : getOldAsMap(event);
+    var events = generateResourceEvents(event, eventType, eventPayload, trimReferenceBodies);
     if (events.isEmpty()) {
       return singletonList(event.id("other" + 0 + "_" + event.getId()));
     }
     return events;
   }
 
-  private List<ResourceEvent> getResourceEventsToUpdate(ResourceEvent event) {
-    var eventsToDeleteMap = toMap(getResourceEvents(event, ResourceEventType.DELETE), ResourceEvent::getId, identity());
-    var resultResourceEvents = new ArrayList<>(getResourceEvents(event, ResourceEventType.CREATE));
+  private List<ResourceEvent> getResourceEventsToUpdate(ResourceEvent event, boolean trimReferenceBodies) {
+    var eventsToDelete = getResourceEvents(event, ResourceEventType.DELETE, false);
+    var eventsToDeleteMap = toMap(eventsToDelete, ResourceEvent::getId, identity());
+    var resultResourceEvents = new ArrayList<>(getResourceEvents(event, ResourceEventType.CREATE, trimReferenceBodies));
     resultResourceEvents.forEach(evt -> eventsToDeleteMap.remove(evt.getId()));
     resultResourceEvents.addAll(eventsToDeleteMap.values());
     return resultResourceEvents;
   }
 
   private List<ResourceEvent> generateResourceEvents(ResourceEvent event, ResourceEventType eventType,
-                                                     Map<String, Object> eventPayload) {
+                                                     Map<String, Object> eventPayload, boolean trimReferenceBodies) {
     var result = new ArrayList<ResourceEvent>();
     for (var entry : fieldTypes.entrySet()) {
       for (var field : entry.getValue()) {
         var counter = new AtomicInteger();
-        result.addAll(createResourceEvents(event, entry.getKey(), field, counter, eventType, eventPayload));
+        var trimmedBody = trimReferenceBodies && referenceFields.contains(field);
+        result.addAll(
+          createResourceEvents(event, entry.getKey(), field, counter, eventType, eventPayload, trimmedBody));
       }
     }
     return result;
@@ -117,15 +150,17 @@ public class AuthorityEventPreProcessor implements EventPreProcessor {
 
   private List<ResourceEvent> createResourceEvents(ResourceEvent event, String type, String name,
                                                    AtomicInteger counter, ResourceEventType eventType,
-                                                   Map<String, Object> body) {
+                                                   Map<String, Object> body, boolean trimmedBody) {
     var value = body.get(name);
     if (value instanceof String) {
-      return singletonList(createResourceEvent(type, event, name, value, eventType, counter.getAndIncrement(), body));
+      return singletonList(
+        createResourceEvent(type, event, name, value, eventType, counter.getAndIncrement(), body, trimmedBody));
     }
 
     if (value instanceof Iterable<?>) {
       return stream(((Iterable<?>) value).spliterator(), false)
-        .map(v -> createResourceEvent(type, event, name, singletonList(v), eventType, counter.getAndIncrement(), body))
+        .map(v -> createResourceEvent(type, event, name, singletonList(v), eventType, counter.getAndIncrement(),
+          body, trimmedBody))
         .toList();
     }
 
@@ -134,22 +169,87 @@ public class AuthorityEventPreProcessor implements EventPreProcessor {
 
   private ResourceEvent createResourceEvent(String type, ResourceEvent sourceEvent,
                                             String fieldName, Object fieldValue, ResourceEventType eventType,
-                                            int counter, Map<String, Object> eventPayload) {
+                                            int counter, Map<String, Object> eventPayload, boolean trimmedBody) {
+    var newEventBody = isCreateOperation(eventType)
+      ? getNewEventBody(eventPayload, fieldName, fieldValue, trimmedBody)
+      : null;
     return new ResourceEvent()
       .id(type + counter + "_" + sourceEvent.getId())
       .resourceName(sourceEvent.getResourceName())
       .tenant(sourceEvent.getTenant())
-      ._new(isCreateOperation(eventType) ? getNewEventBody(eventPayload, fieldName, fieldValue) : null)
+      ._new(newEventBody)
       .type(eventType);
   }
 
-  private LinkedHashMap<String, Object> getNewEventBody(Map<String, Object> eventPayload, String field, Object value) {
+  private LinkedHashMap<String, Object> getNewEventBody(Map<String, Object> eventPayload, String field, Object value,
+                                                        boolean trimmedBody) {
     var newEventBody = new LinkedHashMap<String, Object>();
     newEventBody.put(field, value);
-    copyEntityFields(eventPayload, newEventBody, commonFields);
+    if (trimmedBody) {
+      copyTrimmedFields(eventPayload, newEventBody, trimmedCommonFields);
+    } else {
+      copyEntityFields(eventPayload, newEventBody, commonFields);
+    }
     return newEventBody;
   }
 
+  private boolean isReferenceBodiesTrimmed() {
+    return tenantConfigSnapshotProvider.getSnapshot().isEnabled(AUTHORITY_TRIMMED_REFERENCE_BODIES);
+  }
+
+  private static void copyTrimmedFields(Map<?, ?> source, Map<String, Object> target,
+                                        Map<String, FieldDescription> fields) {
+    for (var entry : fields.entrySet()) {
+      var value = getTrimmedValue(entry.getValue(), source.get(entry.getKey()));
+      if (value != null) {
+        target.put(entry.getKey(), value);
+      }
+    }
+  }
+
+  private static Object getTrimmedValue(FieldDescription description, Object value) {
+    if (!(description instanceof ObjectFieldDescription objectDescription) || value == null) {
+      return value;
+    }
+    if (value instanceof Map<?, ?> mapValue) {
+      var trimmedValues = new LinkedHashMap<String, Object>();
+      copyTrimmedFields(mapValue, trimmedValues, objectDescription.getProperties());
+      return trimmedValues.isEmpty() ? null : trimmedValues;
+    }
+    if (value instanceof List<?> listValue) {
+      var trimmedValues = listValue.stream()
+        .map(listItem -> getTrimmedValue(description, listItem))
+        .filter(Objects::nonNull)
+        .toList();
+      return trimmedValues.isEmpty() ? null : trimmedValues;
+    }
+    return null;
+  }
+
+  private static FieldDescription getTrimmedDescription(FieldDescription description) {
+    if (!(description instanceof ObjectFieldDescription objectDescription)) {
+      return description;
+    }
+    var trimmedProperties = new LinkedHashMap<String, FieldDescription>();
+    objectDescription.getProperties().forEach((name, property) -> {
+      if (isTrimmedBodyField(property)) {
+        trimmedProperties.put(name, getTrimmedDescription(property));
+      }
+    });
+    var trimmedDescription = new ObjectFieldDescription();
+    trimmedDescription.setProperties(trimmedProperties);
+    return trimmedDescription;
+  }
+
+  private static boolean isTrimmedBodyField(FieldDescription description) {
+    if (description instanceof ObjectFieldDescription objectDescription) {
+      return objectDescription.getProperties().values().stream()
+        .anyMatch(AuthorityEventPreProcessor::isTrimmedBodyField);
+    }
+    return !(description instanceof PlainFieldDescription plainDescription) || !plainDescription.isSourceOnly()
+      || !plainDescription.getShowInResponse().isEmpty();
+  }
+
   private static boolean isCreateOperation(ResourceEventType typeEnum) {
     return typeEnum == ResourceEventType.CREATE || typeEnum == ResourceEventType.REINDEX;
   }
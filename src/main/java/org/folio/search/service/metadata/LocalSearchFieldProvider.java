@@ -37,6 +37,7 @@ import org.apache.commons.collections.CollectionUtils;
 import org.folio.search.cql.SearchFieldModifier;
 import org.folio.search.exception.ResourceDescriptionException;
 import org.folio.search.model.Pair;
+import org.folio.search.model.metadata.FieldPathTree;
 import org.folio.search.model.metadata.PlainFieldDescription;
 import org.folio.search.model.metadata.ResourceDescription;
 import org.folio.search.model.metadata.SearchFieldType;
@@ -59,6 +60,7 @@ public class LocalSearchFieldProvider implements SearchFieldProvider {
 
   private Set<String> supportedLanguages;
   private Map<String, Map<ResponseGroupType, String[]>> sourceFields;
+  private Map<String, String[]> allSourceFields;
   private Map<String, SearchFieldType> elasticsearchFieldTypes;
   private Map<String, Map<String, List<String>>> fieldsBySearchAlias;
 
@@ -72,6 +74,7 @@ public class LocalSearchFieldProvider implements SearchFieldProvider {
     var resourceDescriptions = metadataResourceProvider.getResourceDescriptions();
     elasticsearchFieldTypes = unmodifiableMap(metadataResourceProvider.getSearchFieldTypes());
     sourceFields = collectSourceFields(resourceDescriptions);
+    allSourceFields = collectAllSourceFields(resourceDescriptions);
     supportedLanguages = getSupportedLanguages();
     fieldsBySearchAlias = resourceDescriptions.stream().collect(toUnmodifiableMap(
       ResourceDescription::getName, LocalSearchFieldProvider::collectFieldsBySearchAlias));
@@ -99,6 +102,11 @@ public class LocalSearchFieldProvider implements SearchFieldProvider {
     return sourceFields.getOrDefault(resource, emptyMap()).get(groupType);
   }
 
+  @Override
+  public String[] getAllSourceFields(String resource) {
+    return allSourceFields.get(resource);
+  }
+
   @Override
   public Optional<PlainFieldDescription> getPlainFieldByPath(String resource, String path) {
     return metadataResourceProvider.getResourceDescription(resource)
@@ -116,6 +124,13 @@ public class LocalSearchFieldProvider implements SearchFieldProvider {
     return this.getPlainFieldByPath(resourceName, path).filter(PlainFieldDescription::isMultilang).isPresent();
   }
 
+  @Override
+  public FieldPathTree getFieldPathTree(String resourceName) {
+    return metadataResourceProvider.getResourceDescription(resourceName)
+      .map(ResourceDescription::getFieldPathTree)
+      .orElse(FieldPathTree.EMPTY);
+  }
+
   @Override
   public String getModifiedField(String field, String resource) {
     var queryWrapper = new Object() {
@@ -221,12 +236,31 @@ public class LocalSearchFieldProvider implements SearchFieldProvider {
     return unmodifiableMap(sourceFieldPerResource);
   }
 
+  private static Map<String, String[]> collectAllSourceFields(List<ResourceDescription> descriptions) {
+    var sourceFieldPerResource = new LinkedHashMap<String, String[]>();
+
+    for (var desc : descriptions) {
+      var searchFields = desc.getSearchFields().keySet();
+      var sourcePaths = desc.getFlattenFields().entrySet().stream()
+        .filter(entry -> !searchFields.contains(entry.getKey())
+          || CollectionUtils.isNotEmpty(entry.getValue().getShowInResponse()))
+        .map(LocalSearchFieldProvider::getSourceFieldName)
+        .toArray(String[]::new);
+      sourceFieldPerResource.put(desc.getName(), sourcePaths);
+    }
+
+    return unmodifiableMap(sourceFieldPerResource);
+  }
+
   private static Stream<Pair<ResponseGroupType, String>> getResponseGroupFieldNamePairs(
     Entry<String, PlainFieldDescription> entry) {
+    var sourceFieldName = getSourceFieldName(entry);
+    return entry.getValue().getShowInResponse().stream().map(groupType -> Pair.of(groupType, sourceFieldName));
+  }
+
+  private static String getSourceFieldName(Entry<String, PlainFieldDescription> entry) {
     var name = entry.getKey();
-    var fieldDesc = entry.getValue();
-    var sourceFieldName = fieldDesc.hasFulltextIndex() ? getPathToFulltextPlainValue(name) : name;
-    return fieldDesc.getShowInResponse().stream().map(groupType -> Pair.of(groupType, sourceFieldName));
+    return entry.getValue().hasFulltextIndex() ? getPathToFulltextPlainValue(name) : name;
   }
 
   private Set<String> getSupportedLanguages() {
@@ -2,6 +2,7 @@ package org.folio.search.service.metadata;
 
 import java.util.List;
 import java.util.Optional;
+import org.folio.search.model.metadata.FieldPathTree;
 import org.folio.search.model.metadata.PlainFieldDescription;
 import org.folio.search.model.metadata.SearchFieldType;
 import org.folio.search.model.types.ResponseGroupType;
@@ -47,6 +48,16 @@ public interface SearchFieldProvider {
    */
   String[] getSourceFields(String resource, ResponseGroupType groupType);
 
+  /**
+   * Provides list of source fields for all resource fields, excluding search fields not shown in the response.
+   *
+   * <p>Fulltext fields are provided as paths to their plain values.</p>
+   *
+   * @param resource resource type as {@link String}
+   * @return array of fields.
+   */
+  String[] getAllSourceFields(String resource);
+
   /**
    * Checks if given language is supported.
    *
@@ -63,6 +74,14 @@ public interface SearchFieldProvider {
    */
   boolean isMultilangField(String resourceName, String path);
 
+  /**
+   * Provides tree of field paths for the resource.
+   *
+   * @param resourceName resource name as {@link String} object
+   * @return {@link FieldPathTree} of the resource description, empty tree if resource is not found
+   */
+  FieldPathTree getFieldPathTree(String resourceName);
+
   /**
    * Apply resource field modifiers for field.
    *
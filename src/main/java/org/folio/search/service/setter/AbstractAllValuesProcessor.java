@@ -3,7 +3,6 @@ package org.folio.search.service.setter;
 import static org.folio.search.utils.CollectionUtils.noneMatch;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
 import static org.folio.search.utils.SearchUtils.MULTILANG_SOURCE_SUBFIELD;
-import static org.folio.search.utils.SearchUtils.updateMultilangPlainFieldKey;
 
 import java.util.Collection;
 import java.util.Map;
@@ -14,11 +13,17 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.folio.search.model.metadata.FieldPathTree.Node;
 import org.folio.search.model.service.MultilangValue;
 import org.folio.search.service.metadata.SearchFieldProvider;
+import org.folio.search.service.setter.instance.InstanceFieldVisitor;
 import org.springframework.beans.factory.annotation.Autowired;
 
-public abstract class AbstractAllValuesProcessor implements FieldProcessor<Map<String, Object>, MultilangValue> {
+/**
+ * Collects all string values of the instance event body, that are not identifiers, as {@link MultilangValue} during
+ * the single {@link org.folio.search.service.setter.instance.InstanceTraversal}.
+ */
+public abstract class AbstractAllValuesProcessor implements InstanceFieldVisitor<MultilangValue, MultilangValue> {
 
   protected SearchFieldProvider searchFieldProvider;
   protected final Set<String> excludedFieldEndings = Set.of("Id", "Ids");
@@ -33,17 +38,36 @@ public abstract class AbstractAllValuesProcessor implements FieldProcessor<Map<S
     this.searchFieldProvider = localSearchFieldProvider;
   }
 
-  protected MultilangValue getAllFieldValues(Object eventBody, String initialPath, Predicate<String> keyFilter) {
-    var multilangValue = MultilangValue.empty();
+  @Override
+  public MultilangValue createAccumulator() {
+    return MultilangValue.empty();
+  }
+
+  @Override
+  public MultilangValue getResult(MultilangValue multilangValue) {
+    return multilangValue;
+  }
+
+  /**
+   * Collects all field values of the given event body part to the accumulator.
+   *
+   * @param eventBody      - instance event body or its holding or item to analyze
+   * @param initialPath    - path of the event body part in the instance field path tree, null for the instance
+   * @param keyFilter      - filter for the field names of the event body part
+   * @param multilangValue - accumulator to collect values to
+   */
+  protected void collectAllFieldValues(Map<String, Object> eventBody, String initialPath,
+                                       Predicate<String> keyFilter, MultilangValue multilangValue) {
     if (ObjectUtils.isEmpty(eventBody)) {
-      return multilangValue;
+      return;
     }
 
-    collectFieldValuesFromEventBody(initialPath, multilangValue, eventBody, keyFilter);
-    return multilangValue;
+    var root = searchFieldProvider.getFieldPathTree(INSTANCE_RESOURCE).getRoot();
+    var node = initialPath != null ? root.getChild(initialPath) : root;
+    collectFieldValuesFromEventBody(node, multilangValue, eventBody, keyFilter);
   }
 
-  private void collectFieldValuesFromEventBody(String path, MultilangValue context,
+  private void collectFieldValuesFromEventBody(Node node, MultilangValue context,
                                                Map<String, Object> fields, Predicate<String> keyFilter) {
     if (MapUtils.isEmpty(fields)) {
       return;
@@ -57,32 +81,32 @@ public abstract class AbstractAllValuesProcessor implements FieldProcessor<Map<S
     for (Entry<String, Object> entry : fields.entrySet()) {
       String key = entry.getKey();
       if (isIncludedField(key) && keyFilter.test(key)) {
-        var newKey = updateMultilangPlainFieldKey(key);
-        var newPath = path != null ? path + "." + newKey : newKey;
-        collectFieldValuesFromEventBody(newPath, context, entry.getValue(), keyFilter);
+        collectFieldValuesFromEventBody(node.getChild(key), context, entry.getValue(), keyFilter);
       }
     }
   }
 
-  private void collectFieldValuesFromEventBody(String path, MultilangValue ctx,
+  private void collectFieldValuesFromEventBody(Node node, MultilangValue ctx,
                                                Collection<?> collection, Predicate<String> keyFilter) {
     if (CollectionUtils.isNotEmpty(collection)) {
-      collection.forEach(value -> collectFieldValuesFromEventBody(path, ctx, value, keyFilter));
+      for (var value : collection) {
+        collectFieldValuesFromEventBody(node, ctx, value, keyFilter);
+      }
     }
   }
 
   @SuppressWarnings("unchecked")
-  private void collectFieldValuesFromEventBody(String path, MultilangValue ctx, Object v, Predicate<String> filter) {
+  private void collectFieldValuesFromEventBody(Node node, MultilangValue ctx, Object v, Predicate<String> filter) {
     if (v instanceof String) {
-      ctx.addValue(StringUtils.strip((String) v), searchFieldProvider.isMultilangField(INSTANCE_RESOURCE, path));
+      ctx.addValue(StringUtils.strip((String) v), node.isMultilang());
     }
 
     if (v instanceof Collection<?>) {
-      collectFieldValuesFromEventBody(path, ctx, (Collection<?>) v, filter);
+      collectFieldValuesFromEventBody(node, ctx, (Collection<?>) v, filter);
     }
 
     if (v instanceof Map<?, ?>) {
-      collectFieldValuesFromEventBody(path, ctx, (Map<String, Object>) v, filter);
+      collectFieldValuesFromEventBody(node, ctx, (Map<String, Object>) v, filter);
     }
   }
 
@@ -1,24 +1,25 @@
 package org.folio.search.service.setter;
 
 import static java.util.stream.Collectors.toCollection;
-import static org.folio.search.client.InventoryReferenceDataClient.ReferenceDataType.IDENTIFIER_TYPES;
+import static org.apache.commons.collections4.MapUtils.getString;
 import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static org.folio.search.utils.SearchConverterUtils.getMapListValue;
 
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.search.domain.dto.Identifiers;
-import org.folio.search.integration.ReferenceDataService;
-import org.folio.search.model.client.CqlQueryParam;
+import org.folio.search.integration.IdentifierTypeProvider;
 
 @Log4j2
 @RequiredArgsConstructor
 public abstract class AbstractIdentifierProcessor<T> implements FieldProcessor<T, Set<String>> {
 
-  private final ReferenceDataService referenceDataService;
+  private final IdentifierTypeProvider identifierTypeProvider;
   private final List<String> identifierNames;
 
   public List<String> getIdentifierNames() {
@@ -43,13 +44,29 @@ public abstract class AbstractIdentifierProcessor<T> implements FieldProcessor<T
   }
 
   /**
-   * Returns set of identifier ids from cache.
+   * Returns set of filtered identifiers value from raw event body by specified set of types.
    *
-   * @return {@link List} of {@link String} identifier ids that matches names.
+   * @param eventBody event body as map to process
+   * @return {@link Set} of filtered identifiers value
+   */
+  protected Set<String> filterIdentifiersValue(Map<String, Object> eventBody) {
+    var identifierTypeIds = fetchIdentifierIdsFromCache();
+
+    return getMapListValue(eventBody, "identifiers").stream()
+      .filter(identifier -> identifierTypeIds.contains(getString(identifier, "identifierTypeId")))
+      .map(identifier -> getString(identifier, "value"))
+      .filter(Objects::nonNull)
+      .map(String::trim)
+      .collect(toCollection(LinkedHashSet::new));
+  }
+
+  /**
+   * Returns set of identifier ids from the tenant snapshot.
+   *
+   * @return {@link Set} of {@link String} identifier ids that matches names.
    */
   private Set<String> fetchIdentifierIdsFromCache() {
-    var identifierTypeIds = referenceDataService.fetchReferenceData(IDENTIFIER_TYPES, CqlQueryParam.NAME,
-      getIdentifierNames());
+    var identifierTypeIds = identifierTypeProvider.getIdentifierTypeIds(getIdentifierNames());
     if (identifierTypeIds.isEmpty()) {
       log.warn("Failed to provide identifiers for processor: {}]",
         this.getClass().getSimpleName());
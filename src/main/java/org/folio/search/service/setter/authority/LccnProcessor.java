@@ -3,7 +3,7 @@ package org.folio.search.service.setter.authority;
 import java.util.List;
 import java.util.Set;
 import org.folio.search.domain.dto.Authority;
-import org.folio.search.integration.ReferenceDataService;
+import org.folio.search.integration.IdentifierTypeProvider;
 import org.folio.search.service.setter.AbstractIdentifierProcessor;
 import org.springframework.stereotype.Component;
 
@@ -16,10 +16,10 @@ public class LccnProcessor extends AbstractIdentifierProcessor<Authority> {
   /**
    * Used by dependency injection.
    *
-   * @param referenceDataService {@link ReferenceDataService} bean
+   * @param identifierTypeProvider {@link IdentifierTypeProvider} bean
    */
-  public LccnProcessor(ReferenceDataService referenceDataService) {
-    super(referenceDataService, LCCN_IDENTIFIER_NAME);
+  public LccnProcessor(IdentifierTypeProvider identifierTypeProvider) {
+    super(identifierTypeProvider, LCCN_IDENTIFIER_NAME);
   }
 
   @Override
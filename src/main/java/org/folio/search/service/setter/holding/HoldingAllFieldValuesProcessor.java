@@ -1,23 +1,35 @@
 package org.folio.search.service.setter.holding;
 
-import static org.apache.commons.collections.MapUtils.getObject;
+import static org.folio.search.service.setter.instance.InstancePath.HOLDINGS;
+import static org.folio.search.service.setter.instance.InstancePath.INSTANCE;
 import static org.folio.search.utils.SearchUtils.INSTANCE_HOLDING_FIELD_NAME;
 
 import java.util.Map;
+import java.util.Set;
 import org.folio.search.model.service.MultilangValue;
 import org.folio.search.service.setter.AbstractAllValuesProcessor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.springframework.stereotype.Component;
 
 @Component
 public class HoldingAllFieldValuesProcessor extends AbstractAllValuesProcessor {
 
   @Override
-  public MultilangValue getFieldValue(Map<String, Object> eventBody) {
-    var holdings = getObject(eventBody, INSTANCE_HOLDING_FIELD_NAME);
-    var resultMultilangValue = getAllFieldValues(holdings, INSTANCE_HOLDING_FIELD_NAME, key -> true);
-    var searchMultilangValue = getAllFieldValues(eventBody, null, key -> key.startsWith("holding"));
-    resultMultilangValue.getPlainValues().addAll(searchMultilangValue.getPlainValues());
-    resultMultilangValue.getMultilangValues().addAll(searchMultilangValue.getMultilangValues());
-    return resultMultilangValue;
+  public Set<InstancePath> getPaths() {
+    return Set.of(INSTANCE, HOLDINGS);
+  }
+
+  @Override
+  public void visitInstance(Map<String, Object> instance, MultilangValue multilangValue) {
+    collectAllFieldValues(instance, null, HoldingAllFieldValuesProcessor::isHoldingSearchField, multilangValue);
+  }
+
+  @Override
+  public void visitHolding(Map<String, Object> holding, MultilangValue multilangValue) {
+    collectAllFieldValues(holding, INSTANCE_HOLDING_FIELD_NAME, key -> true, multilangValue);
+  }
+
+  private static boolean isHoldingSearchField(String key) {
+    return key.startsWith("holding") && !INSTANCE_HOLDING_FIELD_NAME.equals(key);
   }
 }
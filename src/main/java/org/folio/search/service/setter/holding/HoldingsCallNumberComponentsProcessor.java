@@ -1,23 +1,44 @@
 package org.folio.search.service.setter.holding;
 
-import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.collections4.MapUtils.getString;
+import static org.folio.search.service.setter.instance.InstancePath.HOLDINGS;
+import static org.folio.search.utils.CallNumberUtils.CALL_NUMBER_FIELD;
+import static org.folio.search.utils.CallNumberUtils.CALL_NUMBER_PREFIX_FIELD;
+import static org.folio.search.utils.CallNumberUtils.CALL_NUMBER_SUFFIX_FIELD;
 import static org.folio.search.utils.CallNumberUtils.getEffectiveCallNumber;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
 
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.service.setter.FieldProcessor;
+import org.folio.search.service.setter.instance.InstanceFieldVisitor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.springframework.stereotype.Component;
 
 @Component
-public class HoldingsCallNumberComponentsProcessor implements FieldProcessor<Instance, Set<String>> {
+public class HoldingsCallNumberComponentsProcessor implements InstanceFieldVisitor<Set<String>, Set<String>> {
 
   @Override
-  public Set<String> getFieldValue(Instance instance) {
-    return toStreamSafe(instance.getHoldings())
-      .map(hr -> getEffectiveCallNumber(hr.getCallNumberPrefix(), hr.getCallNumber(), hr.getCallNumberSuffix()))
-      .filter(StringUtils::isNotBlank)
-      .collect(toSet());
+  public Set<InstancePath> getPaths() {
+    return Set.of(HOLDINGS);
+  }
+
+  @Override
+  public Set<String> createAccumulator() {
+    return new HashSet<>();
+  }
+
+  @Override
+  public void visitHolding(Map<String, Object> hr, Set<String> callNumbers) {
+    var callNumber = getEffectiveCallNumber(getString(hr, CALL_NUMBER_PREFIX_FIELD), getString(hr, CALL_NUMBER_FIELD),
+      getString(hr, CALL_NUMBER_SUFFIX_FIELD));
+    if (StringUtils.isNotBlank(callNumber)) {
+      callNumbers.add(callNumber);
+    }
+  }
+
+  @Override
+  public Set<String> getResult(Set<String> callNumbers) {
+    return callNumbers;
   }
 }
@@ -1,26 +1,46 @@
 package org.folio.search.service.setter.holding;
 
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static org.apache.commons.collections4.MapUtils.getString;
+import static org.folio.search.service.setter.instance.InstancePath.HOLDINGS;
+import static org.folio.search.utils.SearchConverterUtils.getStringStreamFromValue;
+import static org.folio.search.utils.SearchUtils.ID_FIELD;
 
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import one.util.streamex.StreamEx;
 import org.apache.commons.lang3.StringUtils;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.service.setter.FieldProcessor;
+import org.folio.search.service.setter.instance.InstanceFieldVisitor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.springframework.stereotype.Component;
 
 @Component
-public class HoldingsIdentifiersProcessor implements FieldProcessor<Instance, Set<String>> {
+public class HoldingsIdentifiersProcessor implements InstanceFieldVisitor<Set<String>, Set<String>> {
 
   @Override
-  public Set<String> getFieldValue(Instance instance) {
-    return toStreamSafe(instance.getHoldings())
-      .flatMap(holding -> StreamEx.of(toStreamSafe(holding.getFormerIds()))
-        .append(Stream.of(holding.getHrid()))
-        .append(Stream.of(holding.getId())))
-      .filter(StringUtils::isNotEmpty)
-      .collect(Collectors.toSet());
+  public Set<InstancePath> getPaths() {
+    return Set.of(HOLDINGS);
+  }
+
+  @Override
+  public Set<String> createAccumulator() {
+    return new LinkedHashSet<>();
+  }
+
+  @Override
+  public void visitHolding(Map<String, Object> holding, Set<String> identifiers) {
+    getStringStreamFromValue(holding.get("formerIds")).forEach(formerId -> addIdentifier(formerId, identifiers));
+    addIdentifier(getString(holding, "hrid"), identifiers);
+    addIdentifier(getString(holding, ID_FIELD), identifiers);
+  }
+
+  @Override
+  public Set<String> getResult(Set<String> identifiers) {
+    return identifiers;
+  }
+
+  private static void addIdentifier(String value, Set<String> identifiers) {
+    if (StringUtils.isNotEmpty(value)) {
+      identifiers.add(value);
+    }
   }
 }
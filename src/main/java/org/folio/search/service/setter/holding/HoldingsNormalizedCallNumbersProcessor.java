@@ -1,28 +1,46 @@
 package org.folio.search.service.setter.holding;
 
+import static org.apache.commons.collections4.MapUtils.getString;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+import static org.folio.search.service.setter.instance.InstancePath.HOLDINGS;
+import static org.folio.search.utils.CallNumberUtils.CALL_NUMBER_FIELD;
+import static org.folio.search.utils.CallNumberUtils.CALL_NUMBER_PREFIX_FIELD;
+import static org.folio.search.utils.CallNumberUtils.CALL_NUMBER_SUFFIX_FIELD;
 import static org.folio.search.utils.CallNumberUtils.normalizeCallNumberComponents;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.service.setter.FieldProcessor;
+import org.folio.search.service.setter.instance.InstanceFieldVisitor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.springframework.stereotype.Component;
 
 @Component
-public class HoldingsNormalizedCallNumbersProcessor implements FieldProcessor<Instance, Set<String>> {
+public class HoldingsNormalizedCallNumbersProcessor implements InstanceFieldVisitor<Set<String>, Set<String>> {
 
   @Override
-  public Set<String> getFieldValue(Instance instance) {
-    var result = new HashSet<String>();
-    toStreamSafe(instance.getHoldings())
-      .filter(holding -> isNotEmpty(holding.getCallNumber()) || isNotEmpty(holding.getCallNumberPrefix()))
-      .forEach(holding -> {
-        result.add(normalizeCallNumberComponents(holding.getCallNumberPrefix(), holding.getCallNumber(),
-          holding.getCallNumberSuffix()));
-        result.add(normalizeCallNumberComponents(holding.getCallNumber(), holding.getCallNumberSuffix()));
-      });
-    return result;
+  public Set<InstancePath> getPaths() {
+    return Set.of(HOLDINGS);
+  }
+
+  @Override
+  public Set<String> createAccumulator() {
+    return new HashSet<>();
+  }
+
+  @Override
+  public void visitHolding(Map<String, Object> holding, Set<String> callNumbers) {
+    var prefix = getString(holding, CALL_NUMBER_PREFIX_FIELD);
+    var callNumber = getString(holding, CALL_NUMBER_FIELD);
+    if (isNotEmpty(callNumber) || isNotEmpty(prefix)) {
+      var suffix = getString(holding, CALL_NUMBER_SUFFIX_FIELD);
+      callNumbers.add(normalizeCallNumberComponents(prefix, callNumber, suffix));
+      callNumbers.add(normalizeCallNumberComponents(callNumber, suffix));
+    }
+  }
+
+  @Override
+  public Set<String> getResult(Set<String> callNumbers) {
+    return callNumbers;
   }
 }
@@ -1,24 +1,23 @@
 package org.folio.search.service.setter.holding;
 
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static org.folio.search.service.setter.instance.InstancePath.HOLDINGS;
 
-import java.util.Collection;
-import java.util.stream.Stream;
-import org.apache.commons.collections.CollectionUtils;
-import org.folio.search.domain.dto.Holding;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Note;
+import java.util.Map;
+import java.util.Set;
 import org.folio.search.service.setter.instance.AbstractPublicNotesProcessor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.springframework.stereotype.Component;
 
 @Component
 public class HoldingsPublicNotesProcessor extends AbstractPublicNotesProcessor {
 
   @Override
-  protected Stream<Note> getNotes(Instance instance) {
-    return toStreamSafe(instance.getHoldings())
-      .map(Holding::getNotes)
-      .filter(CollectionUtils::isNotEmpty)
-      .flatMap(Collection::stream);
+  public Set<InstancePath> getPaths() {
+    return Set.of(HOLDINGS);
+  }
+
+  @Override
+  public void visitHolding(Map<String, Object> holding, PublicNotes publicNotes) {
+    addNotes(holding, publicNotes);
   }
 }
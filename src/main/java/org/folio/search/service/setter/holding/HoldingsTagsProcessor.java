@@ -1,19 +1,23 @@
 package org.folio.search.service.setter.holding;
 
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static org.folio.search.service.setter.instance.InstancePath.HOLDINGS;
 
-import java.util.stream.Stream;
-import org.folio.search.domain.dto.Holding;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Tags;
+import java.util.Map;
+import java.util.Set;
 import org.folio.search.service.setter.instance.AbstractTagsProcessor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.springframework.stereotype.Component;
 
 @Component
 public class HoldingsTagsProcessor extends AbstractTagsProcessor {
 
   @Override
-  protected Stream<Tags> getTags(Instance instance) {
-    return toStreamSafe(instance.getHoldings()).map(Holding::getTags);
+  public Set<InstancePath> getPaths() {
+    return Set.of(HOLDINGS);
+  }
+
+  @Override
+  public void visitHolding(Map<String, Object> holding, Set<String> tags) {
+    addTags(holding, tags);
   }
 }
@@ -1,22 +1,39 @@
 package org.folio.search.service.setter.holding;
 
-import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.collections4.MapUtils.getString;
 import static org.codehaus.plexus.util.StringUtils.isNotBlank;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static org.folio.search.service.setter.instance.InstancePath.HOLDINGS;
 
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.service.setter.FieldProcessor;
+import org.folio.search.service.setter.instance.InstanceFieldVisitor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.springframework.stereotype.Component;
 
 @Component
-public class HoldingsTypeIdProcessor implements FieldProcessor<Instance, Set<String>> {
+public class HoldingsTypeIdProcessor implements InstanceFieldVisitor<Set<String>, Set<String>> {
 
   @Override
-  public Set<String> getFieldValue(Instance instance) {
-    return toStreamSafe(instance.getHoldings())
-      .filter(holding -> isNotBlank(holding.getHoldingsTypeId()))
-      .map(holding -> holding.getHoldingsTypeId().trim())
-      .collect(toSet());
+  public Set<InstancePath> getPaths() {
+    return Set.of(HOLDINGS);
+  }
+
+  @Override
+  public Set<String> createAccumulator() {
+    return new HashSet<>();
+  }
+
+  @Override
+  public void visitHolding(Map<String, Object> holding, Set<String> holdingsTypeIds) {
+    var holdingsTypeId = getString(holding, "holdingsTypeId");
+    if (isNotBlank(holdingsTypeId)) {
+      holdingsTypeIds.add(holdingsTypeId.trim());
+    }
+  }
+
+  @Override
+  public Set<String> getResult(Set<String> holdingsTypeIds) {
+    return holdingsTypeIds;
   }
 }
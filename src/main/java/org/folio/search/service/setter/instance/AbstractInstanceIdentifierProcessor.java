@@ -0,0 +1,37 @@
+package org.folio.search.service.setter.instance;
+
+import static org.folio.search.service.setter.instance.InstancePath.INSTANCE;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.folio.search.integration.IdentifierTypeProvider;
+import org.folio.search.service.setter.AbstractIdentifierProcessor;
+
+/**
+ * Identifier processor, which collects values from instance identifiers during the instance traversal.
+ */
+public abstract class AbstractInstanceIdentifierProcessor extends AbstractIdentifierProcessor<Map<String, Object>>
+  implements InstanceFieldVisitor<Set<String>, Set<String>> {
+
+  protected AbstractInstanceIdentifierProcessor(IdentifierTypeProvider identifierTypeProvider,
+                                                List<String> identifierNames) {
+    super(identifierTypeProvider, identifierNames);
+  }
+
+  @Override
+  public Set<InstancePath> getPaths() {
+    return Set.of(INSTANCE);
+  }
+
+  @Override
+  public Set<String> createAccumulator() {
+    return new LinkedHashSet<>();
+  }
+
+  @Override
+  public Set<String> getResult(Set<String> identifiers) {
+    return identifiers;
+  }
+}
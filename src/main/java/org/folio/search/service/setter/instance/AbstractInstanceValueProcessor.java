@@ -0,0 +1,52 @@
+package org.folio.search.service.setter.instance;
+
+import static org.folio.search.service.setter.instance.InstancePath.INSTANCE;
+
+import java.util.Map;
+import java.util.Set;
+import org.folio.search.service.setter.instance.AbstractInstanceValueProcessor.InstanceValue;
+
+/**
+ * Instance field visitor, which computes its value from the instance record only, without visiting holdings and
+ * items.
+ *
+ * @param <R> generic type for return value
+ */
+public abstract class AbstractInstanceValueProcessor<R> implements InstanceFieldVisitor<InstanceValue<R>, R> {
+
+  @Override
+  public Set<InstancePath> getPaths() {
+    return Set.of(INSTANCE);
+  }
+
+  @Override
+  public InstanceValue<R> createAccumulator() {
+    return new InstanceValue<>();
+  }
+
+  @Override
+  public void visitInstance(Map<String, Object> instance, InstanceValue<R> accumulator) {
+    accumulator.value = getInstanceValue(instance);
+  }
+
+  @Override
+  public R getResult(InstanceValue<R> accumulator) {
+    return accumulator.value;
+  }
+
+  /**
+   * Computes field value from the given instance.
+   *
+   * @param instance - instance event body to analyze
+   * @return field value as {@link R} object
+   */
+  protected abstract R getInstanceValue(Map<String, Object> instance);
+
+  /**
+   * Accumulator for the field value computed from the instance record.
+   */
+  public static final class InstanceValue<R> {
+
+    private R value;
+  }
+}
@@ -1,49 +1,69 @@
 package org.folio.search.service.setter.instance;
 
+import static org.apache.commons.collections4.MapUtils.getBoolean;
+import static org.apache.commons.collections4.MapUtils.getString;
+import static org.folio.search.utils.SearchConverterUtils.getMapListValue;
+
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Stream;
-import org.folio.search.domain.dto.CirculationNote;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Note;
-import org.folio.search.service.setter.FieldProcessor;
+import org.folio.search.service.setter.instance.AbstractPublicNotesProcessor.PublicNotes;
+
+public abstract class AbstractPublicNotesProcessor implements InstanceFieldVisitor<PublicNotes, Set<String>> {
+
+  private static final String NOTE_FIELD = "note";
+  private static final String STAFF_ONLY_FIELD = "staffOnly";
 
-public abstract class AbstractPublicNotesProcessor implements FieldProcessor<Instance, Set<String>> {
+  @Override
+  public PublicNotes createAccumulator() {
+    return new PublicNotes();
+  }
 
   @Override
-  public Set<String> getFieldValue(Instance instance) {
-    var result = new LinkedHashSet<String>();
-    result.addAll(getNotesAsList(getNotes(instance), note -> getNote(note.getStaffOnly(), note.getNote())));
-    result.addAll(getNotesAsList(getCirculationNotes(instance), note -> getNote(note.getStaffOnly(), note.getNote())));
+  public Set<String> getResult(PublicNotes publicNotes) {
+    var result = new LinkedHashSet<String>(publicNotes.notes);
+    result.addAll(publicNotes.circulationNotes);
     return result;
   }
 
   /**
-   * Returns {@link Stream} with {@link CirculationNote} objects from holding/item.
+   * Adds values of public notes from instance/holding/item to the accumulator.
    *
-   * @param instance instance object to analyze
-   * @return {@link Stream} with {@link CirculationNote} object
+   * @param eventBody   - instance, holding or item event body to analyze
+   * @param publicNotes - accumulator to collect values to
    */
-  protected Stream<CirculationNote> getCirculationNotes(Instance instance) {
-    return Stream.empty();
+  protected static void addNotes(Map<String, Object> eventBody, PublicNotes publicNotes) {
+    for (var note : getMapListValue(eventBody, "notes")) {
+      addNote(getBoolean(note, STAFF_ONLY_FIELD), getString(note, NOTE_FIELD), publicNotes.notes);
+    }
   }
 
   /**
-   * Returns {@link Stream} with {@link Note} objects from instance/holding/item.
+   * Adds values of public circulation notes from item to the accumulator.
    *
-   * @param instance instance object to analyze
-   * @return {@link Stream} with {@link Note} object
+   * @param eventBody   - item event body to analyze
+   * @param publicNotes - accumulator to collect values to
    */
-  protected abstract Stream<Note> getNotes(Instance instance);
+  protected static void addCirculationNotes(Map<String, Object> eventBody, PublicNotes publicNotes) {
+    for (var note : getMapListValue(eventBody, "circulationNotes")) {
+      addNote(getBoolean(note, STAFF_ONLY_FIELD), getString(note, NOTE_FIELD), publicNotes.circulationNotes);
+    }
+  }
 
-  private static <T> List<String> getNotesAsList(Stream<T> notesStream, Function<T, String> func) {
-    return notesStream.filter(Objects::nonNull).map(func).filter(Objects::nonNull).toList();
+  private static void addNote(Boolean staffOnly, String value, List<String> values) {
+    if ((staffOnly == null || !staffOnly) && value != null) {
+      values.add(value);
+    }
   }
 
-  private static String getNote(Boolean staffOnly, String value) {
-    return staffOnly == null || !staffOnly ? value : null;
+  /**
+   * Accumulator for public notes, circulation notes are added to the field value after regular notes.
+   */
+  public static final class PublicNotes {
+
+    private final List<String> notes = new ArrayList<>();
+    private final List<String> circulationNotes = new ArrayList<>();
   }
 }
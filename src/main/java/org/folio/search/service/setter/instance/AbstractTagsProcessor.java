@@ -1,44 +1,39 @@
 package org.folio.search.service.setter.instance;
 
-import static java.util.stream.Collectors.toCollection;
+import static org.folio.search.utils.SearchConverterUtils.getMapValue;
+import static org.folio.search.utils.SearchConverterUtils.getStringStreamFromValue;
 
-import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Stream;
-import lombok.RequiredArgsConstructor;
-import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Tags;
-import org.folio.search.service.setter.FieldProcessor;
 
-@RequiredArgsConstructor
-public abstract class AbstractTagsProcessor implements FieldProcessor<Instance, Set<String>> {
+public abstract class AbstractTagsProcessor implements InstanceFieldVisitor<Set<String>, Set<String>> {
 
   @Override
-  public Set<String> getFieldValue(Instance instance) {
-    return getTagsValuesAsStream(instance)
-      .filter(StringUtils::isNotBlank)
-      .map(String::trim)
-      .collect(toCollection(LinkedHashSet::new));
+  public Set<String> createAccumulator() {
+    return new LinkedHashSet<>();
+  }
+
+  @Override
+  public Set<String> getResult(Set<String> tags) {
+    return tags;
   }
 
   /**
-   * Returns list of tags from event body.
+   * Adds trimmed non-blank tag values to the accumulator.
    *
-   * @param instance resource event body as {@link Map}
-   * @return list with tag values
+   * @param eventBody   - instance, holding or item event body to analyze
+   * @param accumulator - accumulator to collect values to
    */
-  protected abstract Stream<Tags> getTags(Instance instance);
+  protected static void addTags(Map<String, Object> eventBody, Set<String> accumulator) {
+    var tags = getMapValue(eventBody, "tags");
+    if (tags == null) {
+      return;
+    }
 
-  private Stream<String> getTagsValuesAsStream(Instance instance) {
-    return getTags(instance)
-      .filter(Objects::nonNull)
-      .map(Tags::getTagList)
-      .filter(CollectionUtils::isNotEmpty)
-      .flatMap(Collection::stream);
+    getStringStreamFromValue(tags.get("tagList"))
+      .filter(StringUtils::isNotBlank)
+      .forEach(tag -> accumulator.add(tag.trim()));
   }
 }
@@ -1,5 +1,6 @@
 package org.folio.search.service.setter.instance;
 
+import static org.folio.search.service.setter.instance.InstancePath.INSTANCE;
 import static org.folio.search.utils.CollectionUtils.noneMatch;
 
 import java.util.Map;
@@ -14,7 +15,12 @@ public class InstanceAllFieldValuesProcessor extends AbstractAllValuesProcessor
   private final Set<String> nestedResourcePrefixes = Set.of("item", "holding");
 
   @Override
-  public MultilangValue getFieldValue(Map<String, Object> event) {
-    return getAllFieldValues(event, null, key -> noneMatch(nestedResourcePrefixes, key::startsWith));
+  public Set<InstancePath> getPaths() {
+    return Set.of(INSTANCE);
+  }
+
+  @Override
+  public void visitInstance(Map<String, Object> instance, MultilangValue multilangValue) {
+    collectAllFieldValues(instance, null, key -> noneMatch(nestedResourcePrefixes, key::startsWith), multilangValue);
   }
 }
@@ -0,0 +1,71 @@
+package org.folio.search.service.setter.instance;
+
+import java.util.Map;
+import java.util.Set;
+import org.folio.search.service.setter.FieldProcessor;
+
+/**
+ * Field processor, which collects its value while {@link InstanceTraversal} walks over an instance, its holdings
+ * and items once for all processors of the resource.
+ *
+ * <p>Instance, holdings and items are visited as raw event body maps, so the event body is not converted to the
+ * typed instance. The visitor must be stateless, values are collected into the accumulator created for each
+ * traversal. {@link #getFieldValue(Map)} runs the traversal for this visitor only, so it can be used as a regular
+ * {@link FieldProcessor}.</p>
+ *
+ * @param <A> generic type for accumulator of collected values
+ * @param <R> generic type for return value
+ */
+public interface InstanceFieldVisitor<A, R> extends FieldProcessor<Map<String, Object>, R> {
+
+  /**
+   * Returns parts of an instance, that must be visited by this processor.
+   *
+   * @return {@link Set} with {@link InstancePath} values
+   */
+  Set<InstancePath> getPaths();
+
+  /**
+   * Creates accumulator for values collected during the single traversal.
+   *
+   * @return new accumulator as {@link A} object
+   */
+  A createAccumulator();
+
+  /**
+   * Visits instance record, called if {@link #getPaths()} contains {@link InstancePath#INSTANCE}.
+   *
+   * @param instance    - instance event body to analyze
+   * @param accumulator - accumulator to collect values to
+   */
+  default void visitInstance(Map<String, Object> instance, A accumulator) { }
+
+  /**
+   * Visits instance holding, called if {@link #getPaths()} contains {@link InstancePath#HOLDINGS}.
+   *
+   * @param holding     - holding from the instance event body to analyze, never null
+   * @param accumulator - accumulator to collect values to
+   */
+  default void visitHolding(Map<String, Object> holding, A accumulator) { }
+
+  /**
+   * Visits instance item, called if {@link #getPaths()} contains {@link InstancePath#ITEMS}.
+   *
+   * @param item        - item from the instance event body to analyze, never null
+   * @param accumulator - accumulator to collect values to
+   */
+  default void visitItem(Map<String, Object> item, A accumulator) { }
+
+  /**
+   * Returns field value from the accumulator after the traversal is completed.
+   *
+   * @param accumulator - accumulator with collected values
+   * @return field value as {@link R} object
+   */
+  R getResult(A accumulator);
+
+  @Override
+  default R getFieldValue(Map<String, Object> instance) {
+    return getResult(InstanceTraversal.traverse(instance, this));
+  }
+}
@@ -0,0 +1,22 @@
+package org.folio.search.service.setter.instance;
+
+/**
+ * Parts of an instance, that are visited by {@link InstanceTraversal}.
+ */
+public enum InstancePath {
+
+  /**
+   * Instance record itself.
+   */
+  INSTANCE,
+
+  /**
+   * Each holding from {@code instance.holdings}.
+   */
+  HOLDINGS,
+
+  /**
+   * Each item from {@code instance.items}.
+   */
+  ITEMS
+}
@@ -0,0 +1,148 @@
+package org.folio.search.service.setter.instance;
+
+import static org.folio.search.service.setter.instance.InstancePath.HOLDINGS;
+import static org.folio.search.service.setter.instance.InstancePath.INSTANCE;
+import static org.folio.search.service.setter.instance.InstancePath.ITEMS;
+import static org.folio.search.utils.SearchConverterUtils.getMapListValue;
+import static org.folio.search.utils.SearchUtils.INSTANCE_HOLDING_FIELD_NAME;
+import static org.folio.search.utils.SearchUtils.INSTANCE_ITEM_FIELD_NAME;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Walks over an instance event body, its holdings and items once, feeding each visited part to every
+ * {@link InstanceFieldVisitor} that declared the corresponding {@link InstancePath}.
+ */
+@Log4j2
+@UtilityClass
+public class InstanceTraversal {
+
+  /**
+   * Collects values of a single visitor.
+   *
+   * @param instance - instance event body to traverse
+   * @param visitor  - visitor to feed
+   * @param <A>      - generic type for visitor accumulator
+   * @return accumulator with collected values
+   */
+  public static <A> A traverse(Map<String, Object> instance, InstanceFieldVisitor<A, ?> visitor) {
+    var accumulator = visitor.createAccumulator();
+    var paths = visitor.getPaths();
+    if (paths.contains(INSTANCE)) {
+      visitor.visitInstance(instance, accumulator);
+    }
+    if (paths.contains(HOLDINGS)) {
+      for (var holding : getMapListValue(instance, INSTANCE_HOLDING_FIELD_NAME)) {
+        visitor.visitHolding(holding, accumulator);
+      }
+    }
+    if (paths.contains(ITEMS)) {
+      for (var item : getMapListValue(instance, INSTANCE_ITEM_FIELD_NAME)) {
+        visitor.visitItem(item, accumulator);
+      }
+    }
+    return accumulator;
+  }
+
+  /**
+   * Collects values of all given visitors during the single walk over instance.
+   *
+   * <p>Visitor, that failed with an exception, is excluded from the rest of the traversal and has no value in the
+   * result, the failure is logged.</p>
+   *
+   * @param instance - instance event body to traverse
+   * @param visitors - visitors to feed, grouped by key
+   * @param <K>      - generic type for visitor key
+   * @return map with field values by visitor keys
+   */
+  public static <K> Map<K, Object> traverse(Map<String, Object> instance,
+                                            Map<K, InstanceFieldVisitor<?, ?>> visitors) {
+    var statesByPath = new EnumMap<InstancePath, List<VisitorState<K>>>(InstancePath.class);
+    var states = new ArrayList<VisitorState<K>>(visitors.size());
+    visitors.forEach((key, visitor) -> {
+      var state = VisitorState.create(key, visitor);
+      if (state != null) {
+        states.add(state);
+        visitor.getPaths().forEach(path -> statesByPath.computeIfAbsent(path, k -> new ArrayList<>()).add(state));
+      }
+    });
+
+    visit(statesByPath.get(INSTANCE), instance, InstanceFieldVisitor::visitInstance);
+    if (statesByPath.containsKey(HOLDINGS)) {
+      for (var holding : getMapListValue(instance, INSTANCE_HOLDING_FIELD_NAME)) {
+        visit(statesByPath.get(HOLDINGS), holding, InstanceFieldVisitor::visitHolding);
+      }
+    }
+    if (statesByPath.containsKey(ITEMS)) {
+      for (var item : getMapListValue(instance, INSTANCE_ITEM_FIELD_NAME)) {
+        visit(statesByPath.get(ITEMS), item, InstanceFieldVisitor::visitItem);
+      }
+    }
+
+    var result = new LinkedHashMap<K, Object>(states.size());
+    for (var state : states) {
+      if (!state.failed) {
+        try {
+          result.put(state.key, state.visitor.getResult(state.accumulator));
+        } catch (Exception e) {
+          log.warn("Failed to retrieve field value", e);
+        }
+      }
+    }
+    return result;
+  }
+
+  private static <K> void visit(List<VisitorState<K>> states, Map<String, Object> value, VisitMethod visitMethod) {
+    if (states == null || value == null) {
+      return;
+    }
+
+    for (var state : states) {
+      if (state.failed) {
+        continue;
+      }
+      try {
+        visitMethod.visit(state.visitor, value, state.accumulator);
+      } catch (Exception e) {
+        state.failed = true;
+        log.warn("Failed to retrieve field value", e);
+      }
+    }
+  }
+
+  private interface VisitMethod {
+
+    void visit(InstanceFieldVisitor<Object, Object> visitor, Map<String, Object> value, Object accumulator);
+  }
+
+  private static final class VisitorState<K> {
+
+    private final K key;
+    private final InstanceFieldVisitor<Object, Object> visitor;
+    private final Object accumulator;
+    private boolean failed;
+
+    private VisitorState(K key, InstanceFieldVisitor<Object, Object> visitor, Object accumulator) {
+      this.key = key;
+      this.visitor = visitor;
+      this.accumulator = accumulator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> VisitorState<K> create(K key, InstanceFieldVisitor<?, ?> visitor) {
+      var objectVisitor = (InstanceFieldVisitor<Object, Object>) visitor;
+      try {
+        return new VisitorState<>(key, objectVisitor, objectVisitor.createAccumulator());
+      } catch (Exception e) {
+        log.warn("Failed to retrieve field value", e);
+        return null;
+      }
+    }
+  }
+}
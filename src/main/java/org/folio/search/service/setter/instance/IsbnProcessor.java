@@ -2,22 +2,16 @@ package org.folio.search.service.setter.instance;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
-import static java.util.stream.Collectors.toCollection;
 import static org.folio.isbn.IsbnUtil.convertTo13DigitNumber;
 import static org.folio.isbn.IsbnUtil.isValid10DigitNumber;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.apache.commons.lang3.CharUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.integration.ReferenceDataService;
-import org.folio.search.service.setter.AbstractIdentifierProcessor;
+import org.folio.search.integration.IdentifierTypeProvider;
 import org.springframework.stereotype.Component;
 
 /**
@@ -26,83 +20,189 @@ import org.springframework.stereotype.Component;
  * <p><a href="http://en.wikipedia.org/wiki/ISBN">Wikipedia - International Standard Book Number (ISBN)</a></p>
  */
 @Component
-public class IsbnProcessor extends AbstractIdentifierProcessor<Instance> {
+public class IsbnProcessor extends AbstractInstanceIdentifierProcessor {
 
   private static final List<String> ISBN_IDENTIFIER_NAMES = List.of("ISBN", "Invalid ISBN");
 
-  private static final String SEP = "[-\\s]";
-  private static final String GROUP_1 = "(\\d{1,5})";
-  private static final String GROUP_2 = "(\\d{1,7})";
-  private static final String GROUP_3 = "(\\d{1,6})";
+  private static final int ISBN10_LENGTH = 10;
+  private static final int ISBN13_PREFIX_LENGTH = 3;
+  private static final int ISBN13_DIGITS_AFTER_PREFIX = 10;
 
   /**
-   * ISBN-10 consists of 4 groups of numbers separated by either dashes (-) or spaces.  The first group is 1-5
-   * characters, second 1-7, third 1-6, and fourth is 1 digit or an X.
+   * Maximum lengths of the digit groups separated by either dashes (-) or spaces in ISBN-10 and ISBN-13 values (after
+   * 978 or 979 prefix). The first group is 1-5 characters, second 1-7, third 1-6, and they are followed by the check
+   * character.
    */
-  private static final Pattern ISBN10_REGEX = Pattern.compile(
-    "^(?:(\\d{9}[\\dX])|(" + GROUP_1 + SEP + GROUP_2 + SEP + GROUP_3 + SEP + "([\\dX])))");
-
-  /**
-   * ISBN-13 consists of 5 groups of numbers separated by either dashes (-) or spaces.  The first group is 978 or 979,
-   * the second group is 1-5 characters, third 1-7, fourth 1-6, and fifth is 1 digit.
-   */
-  private static final Pattern ISBN13_REGEX = Pattern.compile(
-    "^(978|979)(?:(\\d{10})|(" + SEP + GROUP_1 + SEP + GROUP_2 + SEP + GROUP_3 + SEP + "(\\d)))");
+  private static final int[] GROUP_MAX_LENGTHS = {5, 7, 6};
 
   /**
    * Used by dependency injection.
    *
-   * @param referenceDataService {@link ReferenceDataService} bean
+   * @param identifierTypeProvider {@link IdentifierTypeProvider} bean
    */
-  public IsbnProcessor(ReferenceDataService referenceDataService) {
-    super(referenceDataService, ISBN_IDENTIFIER_NAMES);
+  public IsbnProcessor(IdentifierTypeProvider identifierTypeProvider) {
+    super(identifierTypeProvider, ISBN_IDENTIFIER_NAMES);
   }
 
   @Override
-  public Set<String> getFieldValue(Instance instance) {
-    return filterIdentifiersValue(instance.getIdentifiers()).stream()
-      .map(this::normalizeIsbn)
-      .flatMap(Collection::stream)
-      .collect(toCollection(LinkedHashSet::new));
+  public void visitInstance(Map<String, Object> instance, Set<String> isbnValues) {
+    for (var identifier : filterIdentifiersValue(instance)) {
+      isbnValues.addAll(normalizeIsbn(identifier));
+    }
   }
 
   /**
    * Returns normalized isbn value.
    *
+   * <p>Value is scanned once char by char: ISBN-13 value is matched first, then ISBN-10 value is matched and
+   * validated, otherwise spaces and hyphens between digits are removed from the value.</p>
+   *
    * @param value value to process as {@link String}
    * @return normalized isbn value
    */
   public List<String> normalizeIsbn(String value) {
-    String isbnValue = StringUtils.trim(value).replaceAll("\\s+", " ");
-    if (StringUtils.isEmpty(isbnValue)) {
+    var isbnValue = collapseWhitespaces(StringUtils.trim(value));
+    if (isbnValue.isEmpty()) {
       return emptyList();
     }
-    var isbn13Matcher = ISBN13_REGEX.matcher(isbnValue);
-    if (isbn13Matcher.find()) {
-      return getNormalizedIsbnValue(isbn13Matcher, singletonList(isbn13Matcher.group(0)));
+
+    var isbn13End = matchIsbn13(isbnValue);
+    if (isbn13End > 0) {
+      return getNormalizedIsbnValue(isbnValue, isbn13End, singletonList(isbnValue.substring(0, isbn13End)));
     }
 
-    var isbn10Matcher = ISBN10_REGEX.matcher(isbnValue);
-    if (isbn10Matcher.find() && isValid10DigitNumber(isbn10Matcher.group(0))) {
-      var isbn10Value = isbn10Matcher.group(0);
-      return getNormalizedIsbnValue(isbn10Matcher, List.of(isbn10Value, convertTo13DigitNumber(isbn10Value)));
+    var isbn10End = matchIsbn10(isbnValue);
+    if (isbn10End > 0) {
+      var isbn10Value = isbnValue.substring(0, isbn10End);
+      if (isValid10DigitNumber(isbn10Value)) {
+        return getNormalizedIsbnValue(isbnValue, isbn10End,
+          List.of(isbn10Value, convertTo13DigitNumber(isbn10Value)));
+      }
     }
 
     return List.of(replaceCharactersBetweenDigits(isbnValue));
   }
 
-  private static List<String> getNormalizedIsbnValue(Matcher isbnRegexMatcher, List<String> isbnValues) {
+  private static List<String> getNormalizedIsbnValue(String value, int matchEnd, List<String> isbnValues) {
     var normalizedIsbnTokens = new ArrayList<String>();
     for (String isbnValue : isbnValues) {
       normalizedIsbnTokens.add(normalizeIsbnValue(isbnValue));
     }
-    var isbnQualifierValue = isbnRegexMatcher.replaceFirst("").trim();
+    var isbnQualifierValue = value.substring(matchEnd).trim();
     if (StringUtils.isNotBlank(isbnQualifierValue)) {
       normalizedIsbnTokens.add(isbnQualifierValue);
     }
     return normalizedIsbnTokens;
   }
 
+  /**
+   * Matches ISBN-13 value at the beginning of the given value: 978 or 979 prefix followed either by 10 digits or by
+   * the separated groups of digits and the check digit.
+   *
+   * @return end index of the matched value, -1 if value does not start with ISBN-13 value
+   */
+  private static int matchIsbn13(String value) {
+    if (!value.startsWith("978") && !value.startsWith("979")) {
+      return -1;
+    }
+
+    if (countDigits(value, ISBN13_PREFIX_LENGTH) >= ISBN13_DIGITS_AFTER_PREFIX) {
+      return ISBN13_PREFIX_LENGTH + ISBN13_DIGITS_AFTER_PREFIX;
+    }
+
+    return isSeparator(value, ISBN13_PREFIX_LENGTH) ? matchGroups(value, ISBN13_PREFIX_LENGTH + 1, false) : -1;
+  }
+
+  /**
+   * Matches ISBN-10 value at the beginning of the given value: either 9 digits followed by digit or X, or the
+   * separated groups of digits and the check character.
+   *
+   * @return end index of the matched value, -1 if value does not start with ISBN-10 value
+   */
+  private static int matchIsbn10(String value) {
+    var digits = countDigits(value, 0);
+    if (digits >= ISBN10_LENGTH || (digits == ISBN10_LENGTH - 1 && isCheckCharacter(value, digits, true))) {
+      return ISBN10_LENGTH;
+    }
+    return matchGroups(value, 0, true);
+  }
+
+  private static int matchGroups(String value, int offset, boolean allowX) {
+    var position = offset;
+    for (var groupMaxLength : GROUP_MAX_LENGTHS) {
+      var digits = countDigits(value, position);
+      if (digits == 0 || digits > groupMaxLength || !isSeparator(value, position + digits)) {
+        return -1;
+      }
+      position += digits + 1;
+    }
+    return isCheckCharacter(value, position, allowX) ? position + 1 : -1;
+  }
+
+  private static int countDigits(String value, int offset) {
+    var position = offset;
+    while (position < value.length() && CharUtils.isAsciiNumeric(value.charAt(position))) {
+      position++;
+    }
+    return position - offset;
+  }
+
+  private static boolean isSeparator(String value, int position) {
+    return position < value.length() && isHyphenOrSpace(value.charAt(position));
+  }
+
+  private static boolean isCheckCharacter(String value, int position, boolean allowX) {
+    if (position >= value.length()) {
+      return false;
+    }
+    var current = value.charAt(position);
+    return CharUtils.isAsciiNumeric(current) || (allowX && current == 'X');
+  }
+
+  /**
+   * Replaces each sequence of whitespace characters with a single space, returns the given value if it does not
+   * contain such sequences.
+   */
+  private static String collapseWhitespaces(String value) {
+    var length = value.length();
+    var position = 0;
+    while (position < length && !isWhitespaceToCollapse(value, position)) {
+      position++;
+    }
+    if (position == length) {
+      return value;
+    }
+
+    var resultBuilder = new StringBuilder(length);
+    resultBuilder.append(value, 0, position);
+    var previousIsWhitespace = false;
+    for (var i = position; i < length; i++) {
+      var current = value.charAt(i);
+      var isWhitespace = isWhitespace(current);
+      if (!isWhitespace) {
+        resultBuilder.append(current);
+      } else if (!previousIsWhitespace) {
+        resultBuilder.append(' ');
+      }
+      previousIsWhitespace = isWhitespace;
+    }
+    return resultBuilder.toString();
+  }
+
+  private static boolean isWhitespaceToCollapse(String value, int position) {
+    var current = value.charAt(position);
+    return isWhitespace(current)
+      && (current != ' ' || position + 1 < value.length() && isWhitespace(value.charAt(position + 1)));
+  }
+
+  /**
+   * Checks if character is a whitespace character matched by {@code \s} regular expression.
+   */
+  private static boolean isWhitespace(char current) {
+    return current == ' ' || current == '\t' || current == '\n' || current == '\u000B' || current == '\f'
+      || current == '\r';
+  }
+
   /**
    * Normalizes of invalid isbn value to prevent creation of tokens which can contain partial value.
    *
@@ -1,63 +1,75 @@
 package org.folio.search.service.setter.instance;
 
-import static java.util.stream.Collectors.toCollection;
 import static org.apache.commons.lang3.StringUtils.trim;
 
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Pattern;
-import org.apache.commons.lang3.StringUtils;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.integration.ReferenceDataService;
-import org.folio.search.service.setter.AbstractIdentifierProcessor;
+import org.apache.commons.lang3.CharUtils;
+import org.folio.search.integration.IdentifierTypeProvider;
 import org.springframework.stereotype.Component;
 
 /**
  * Identifier field processor, which normalize OCLC numbers.
  */
 @Component
-public class OclcProcessor extends AbstractIdentifierProcessor<Instance> {
+public class OclcProcessor extends AbstractInstanceIdentifierProcessor {
 
   private static final List<String> OCLC_IDENTIFIER_NAMES = List.of("OCLC", "Cancelled OCLC");
 
-  private static final Pattern OCLC_REGEX = Pattern.compile("([1-9][\\d\\-]*)");
-  private static final Pattern WHITESPACE_REGEX = Pattern.compile("\\s+");
-
   /**
    * Used by dependency injection.
    *
-   * @param referenceDataService {@link org.folio.search.integration.ReferenceDataService} bean
+   * @param identifierTypeProvider {@link IdentifierTypeProvider} bean
    */
-  public OclcProcessor(ReferenceDataService referenceDataService) {
-    super(referenceDataService, OCLC_IDENTIFIER_NAMES);
+  public OclcProcessor(IdentifierTypeProvider identifierTypeProvider) {
+    super(identifierTypeProvider, OCLC_IDENTIFIER_NAMES);
   }
 
   @Override
-  public Set<String> getFieldValue(Instance instance) {
-    return filterIdentifiersValue(instance.getIdentifiers()).stream()
-      .map(this::normalizeOclc)
-      .filter(Objects::nonNull)
-      .collect(toCollection(LinkedHashSet::new));
+  public void visitInstance(Map<String, Object> instance, Set<String> oclcValues) {
+    for (var identifier : filterIdentifiersValue(instance)) {
+      var oclcValue = normalizeOclc(identifier);
+      if (oclcValue != null) {
+        oclcValues.add(oclcValue);
+      }
+    }
   }
 
   /**
    * Returns normalized oclc value.
    *
+   * <p>Value is scanned once char by char: the number starts from the first non-zero digit and contains digits and
+   * hyphens, each sequence of whitespace characters inside the number is replaced with a single hyphen.</p>
+   *
    * @param value value to process as {@link String}
    * @return normalized oclc value
    */
   public String normalizeOclc(String value) {
-    var oclcValue = normalizeOclcValue(value);
-    if (StringUtils.isBlank(oclcValue)) {
+    var oclcValue = trim(value);
+    if (isBlankOclcValue(oclcValue)) {
       return null;
     }
 
-    var sb = new StringBuilder();
-    var matcher = OCLC_REGEX.matcher(oclcValue);
-    if (matcher.find()) {
-      sb.append(matcher.group(0));
+    var sb = new StringBuilder(oclcValue.length() + 1);
+    var position = 0;
+    while (position < oclcValue.length() && !isNonZeroDigit(oclcValue.charAt(position))) {
+      position++;
+    }
+
+    var previousIsWhitespace = false;
+    for (; position < oclcValue.length(); position++) {
+      var current = oclcValue.charAt(position);
+      var isWhitespace = isWhitespace(current);
+      if (!isWhitespace && !CharUtils.isAsciiNumeric(current) && current != '-') {
+        break;
+      }
+      if (!isWhitespace) {
+        sb.append(current);
+      } else if (!previousIsWhitespace) {
+        sb.append('-');
+      }
+      previousIsWhitespace = isWhitespace;
     }
 
     if (value.charAt(value.length() - 1) == '*') {
@@ -67,8 +79,29 @@ public class OclcProcessor extends AbstractIdentifierProcessor<Instance> {
     return sb.toString();
   }
 
-  private String normalizeOclcValue(String value) {
-    return WHITESPACE_REGEX.matcher(trim(value)).replaceAll("-");
+  /**
+   * Checks if value is blank after replacing whitespace sequences with hyphens: it consists only of whitespace
+   * characters, that are not matched by {@code \s} regular expression.
+   */
+  private static boolean isBlankOclcValue(String value) {
+    for (var i = 0; i < value.length(); i++) {
+      var current = value.charAt(i);
+      if (!Character.isWhitespace(current) || isWhitespace(current)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isNonZeroDigit(char current) {
+    return current >= '1' && current <= '9';
   }
 
+  /**
+   * Checks if character is a whitespace character matched by {@code \s} regular expression.
+   */
+  private static boolean isWhitespace(char current) {
+    return current == ' ' || current == '\t' || current == '\n' || current == '\u000B' || current == '\f'
+      || current == '\r';
+  }
 }
@@ -1,17 +1,21 @@
 package org.folio.search.service.setter.instance;
 
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static org.folio.search.service.setter.instance.InstancePath.INSTANCE;
 
-import java.util.stream.Stream;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Note;
+import java.util.Map;
+import java.util.Set;
 import org.springframework.stereotype.Component;
 
 @Component
 public class PublicNotesProcessor extends AbstractPublicNotesProcessor {
 
   @Override
-  protected Stream<Note> getNotes(Instance instance) {
-    return toStreamSafe(instance.getNotes());
+  public Set<InstancePath> getPaths() {
+    return Set.of(INSTANCE);
+  }
+
+  @Override
+  public void visitInstance(Map<String, Object> instance, PublicNotes publicNotes) {
+    addNotes(instance, publicNotes);
   }
 }
@@ -1,28 +1,30 @@
 package org.folio.search.service.setter.instance;
 
+import static org.apache.commons.collections4.MapUtils.getBoolean;
+import static org.apache.commons.collections4.MapUtils.getString;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
+import static org.folio.search.utils.SearchConverterUtils.getMapListValue;
+import static org.folio.search.utils.SearchUtils.INSTANCE_CONTRIBUTORS_FIELD_NAME;
 
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.collections.CollectionUtils;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.service.setter.FieldProcessor;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
-public final class SortContributorsProcessor implements FieldProcessor<Instance, String> {
+public final class SortContributorsProcessor extends AbstractInstanceValueProcessor<String> {
 
   @Override
-  public String getFieldValue(Instance instance) {
-    var contributors = instance.getContributors();
-    if (CollectionUtils.isEmpty(contributors)) {
+  protected String getInstanceValue(Map<String, Object> instance) {
+    var contributors = getMapListValue(instance, INSTANCE_CONTRIBUTORS_FIELD_NAME);
+    if (contributors.isEmpty()) {
       return null;
     }
 
-    return contributors.stream()
-      .filter(contributor -> isTrue(contributor.getPrimary()))
+    var contributor = contributors.stream()
+      .filter(value -> isTrue(getBoolean(value, "primary")))
       .findFirst()
-      .orElse(contributors.get(0))
-      .getName();
+      .orElse(contributors.get(0));
+    return getString(contributor, "name");
   }
 }
@@ -1,20 +1,20 @@
 package org.folio.search.service.setter.instance;
 
+import static org.apache.commons.collections4.MapUtils.getString;
 import static org.apache.commons.lang3.StringUtils.defaultIfBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.service.setter.FieldProcessor;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
-public final class SortTitleProcessor implements FieldProcessor<Instance, String> {
+public final class SortTitleProcessor extends AbstractInstanceValueProcessor<String> {
 
   @Override
-  public String getFieldValue(Instance instance) {
-    var indexTitle = instance.getIndexTitle();
-    return isNotBlank(indexTitle) ? indexTitle : defaultIfBlank(instance.getTitle(), null);
+  protected String getInstanceValue(Map<String, Object> instance) {
+    var indexTitle = getString(instance, "indexTitle");
+    return isNotBlank(indexTitle) ? indexTitle : defaultIfBlank(getString(instance, "title"), null);
   }
 }
@@ -1,37 +1,52 @@
 package org.folio.search.service.setter.instance;
 
-import static java.util.stream.Collectors.toSet;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static org.folio.search.service.setter.instance.InstancePath.HOLDINGS;
+import static org.folio.search.service.setter.instance.InstancePath.INSTANCE;
+import static org.folio.search.service.setter.instance.InstancePath.ITEMS;
+import static org.folio.search.utils.SearchConverterUtils.getStringStreamFromValue;
 
 import java.util.HashSet;
-import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
-import org.folio.search.domain.dto.Holding;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Item;
-import org.folio.search.service.setter.FieldProcessor;
-import org.folio.search.utils.CollectionUtils;
 import org.springframework.stereotype.Component;
 
 @Component
-public class StatisticalCodesProcessor implements FieldProcessor<Instance, Set<String>> {
+public class StatisticalCodesProcessor implements InstanceFieldVisitor<Set<String>, Set<String>> {
 
   @Override
-  public Set<String> getFieldValue(Instance instance) {
-    var result = new HashSet<String>();
-    result.addAll(getStatisticalCodesList(Stream.of(instance), Instance::getStatisticalCodeIds));
-    result.addAll(getStatisticalCodesList(toStreamSafe(instance.getHoldings()), Holding::getStatisticalCodeIds));
-    result.addAll(getStatisticalCodesList(toStreamSafe(instance.getItems()), Item::getStatisticalCodeIds));
-    return result;
+  public Set<InstancePath> getPaths() {
+    return Set.of(INSTANCE, HOLDINGS, ITEMS);
   }
 
-  private static <T> Set<String> getStatisticalCodesList(Stream<T> objectsStream, Function<T, List<String>> func) {
-    return objectsStream.filter(Objects::nonNull)
-      .map(func).flatMap(CollectionUtils::toStreamSafe)
-      .filter(StringUtils::isNotBlank).collect(toSet());
+  @Override
+  public Set<String> createAccumulator() {
+    return new HashSet<>();
+  }
+
+  @Override
+  public void visitInstance(Map<String, Object> instance, Set<String> statisticalCodes) {
+    addStatisticalCodes(instance, statisticalCodes);
+  }
+
+  @Override
+  public void visitHolding(Map<String, Object> holding, Set<String> statisticalCodes) {
+    addStatisticalCodes(holding, statisticalCodes);
+  }
+
+  @Override
+  public void visitItem(Map<String, Object> item, Set<String> statisticalCodes) {
+    addStatisticalCodes(item, statisticalCodes);
+  }
+
+  @Override
+  public Set<String> getResult(Set<String> statisticalCodes) {
+    return statisticalCodes;
+  }
+
+  private static void addStatisticalCodes(Map<String, Object> eventBody, Set<String> statisticalCodes) {
+    getStringStreamFromValue(eventBody.get("statisticalCodeIds"))
+      .filter(StringUtils::isNotBlank)
+      .forEach(statisticalCodes::add);
   }
 }
@@ -1,15 +1,21 @@
 package org.folio.search.service.setter.instance;
 
-import java.util.stream.Stream;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Tags;
+import static org.folio.search.service.setter.instance.InstancePath.INSTANCE;
+
+import java.util.Map;
+import java.util.Set;
 import org.springframework.stereotype.Component;
 
 @Component
 public class TagsProcessor extends AbstractTagsProcessor {
 
   @Override
-  protected Stream<Tags> getTags(Instance instance) {
-    return Stream.of(instance.getTags());
+  public Set<InstancePath> getPaths() {
+    return Set.of(INSTANCE);
+  }
+
+  @Override
+  public void visitInstance(Map<String, Object> instance, Set<String> tags) {
+    addTags(instance, tags);
   }
 }
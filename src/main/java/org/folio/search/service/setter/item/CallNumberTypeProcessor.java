@@ -3,43 +3,55 @@ package org.folio.search.service.setter.item;
 import static org.folio.search.client.InventoryReferenceDataClient.ReferenceDataType.CALL_NUMBER_TYPES;
 import static org.folio.search.model.client.CqlQueryParam.SOURCE;
 import static org.folio.search.model.types.CallNumberTypeSource.LOCAL;
-import static org.folio.search.utils.CollectionUtils.toLinkedHashSet;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static org.folio.search.service.setter.instance.InstancePath.ITEMS;
+import static org.folio.search.utils.CallNumberUtils.getCallNumberTypeId;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import lombok.RequiredArgsConstructor;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Item;
-import org.folio.search.domain.dto.ItemEffectiveCallNumberComponents;
 import org.folio.search.integration.ReferenceDataService;
 import org.folio.search.model.types.CallNumberType;
-import org.folio.search.service.setter.FieldProcessor;
+import org.folio.search.service.setter.instance.InstanceFieldVisitor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
-public class CallNumberTypeProcessor implements FieldProcessor<Instance, Set<String>> {
+public class CallNumberTypeProcessor implements InstanceFieldVisitor<Set<String>, Set<String>> {
 
   static final List<String> LOCAL_CALL_NUMBER_TYPES_SOURCES = Collections.singletonList(LOCAL.getSource());
 
   private final ReferenceDataService referenceDataService;
 
   @Override
-  public Set<String> getFieldValue(Instance instance) {
-    return toStreamSafe(instance.getItems())
-      .map(this::itemToCallNumberTypeString)
-      .filter(Objects::nonNull)
-      .sorted()
-      .collect(toLinkedHashSet());
+  public Set<InstancePath> getPaths() {
+    return Set.of(ITEMS);
   }
 
-  private String itemToCallNumberTypeString(Item item) {
-    return Optional.ofNullable(item.getEffectiveCallNumberComponents())
-      .map(ItemEffectiveCallNumberComponents::getTypeId)
+  @Override
+  public Set<String> createAccumulator() {
+    return new TreeSet<>();
+  }
+
+  @Override
+  public void visitItem(Map<String, Object> item, Set<String> callNumberTypes) {
+    var callNumberType = itemToCallNumberTypeString(item);
+    if (callNumberType != null) {
+      callNumberTypes.add(callNumberType);
+    }
+  }
+
+  @Override
+  public Set<String> getResult(Set<String> callNumberTypes) {
+    return callNumberTypes;
+  }
+
+  private String itemToCallNumberTypeString(Map<String, Object> item) {
+    return Optional.ofNullable(getCallNumberTypeId(item))
       .map(this::callNumberTypeIdToString)
       .orElse(null);
   }
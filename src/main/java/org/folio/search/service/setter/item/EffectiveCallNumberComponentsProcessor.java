@@ -1,27 +1,48 @@
 package org.folio.search.service.setter.item;
 
-import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.collections4.MapUtils.getString;
+import static org.folio.search.service.setter.instance.InstancePath.ITEMS;
+import static org.folio.search.utils.CallNumberUtils.EFFECTIVE_CALL_NUMBER_COMPONENTS_FIELD;
 import static org.folio.search.utils.CallNumberUtils.getEffectiveCallNumber;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static org.folio.search.utils.SearchConverterUtils.getMapValue;
 
-import java.util.Objects;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Item;
-import org.folio.search.service.setter.FieldProcessor;
+import org.folio.search.service.setter.instance.InstanceFieldVisitor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.springframework.stereotype.Component;
 
 @Component
-public class EffectiveCallNumberComponentsProcessor implements FieldProcessor<Instance, Set<String>> {
+public class EffectiveCallNumberComponentsProcessor implements InstanceFieldVisitor<Set<String>, Set<String>> {
 
   @Override
-  public Set<String> getFieldValue(Instance instance) {
-    return toStreamSafe(instance.getItems())
-      .map(Item::getEffectiveCallNumberComponents)
-      .filter(Objects::nonNull)
-      .map(cn -> getEffectiveCallNumber(cn.getPrefix(), cn.getCallNumber(), cn.getSuffix()))
-      .filter(StringUtils::isNotBlank)
-      .collect(toSet());
+  public Set<InstancePath> getPaths() {
+    return Set.of(ITEMS);
+  }
+
+  @Override
+  public Set<String> createAccumulator() {
+    return new HashSet<>();
+  }
+
+  @Override
+  public void visitItem(Map<String, Object> item, Set<String> callNumbers) {
+    var cn = getMapValue(item, EFFECTIVE_CALL_NUMBER_COMPONENTS_FIELD);
+    if (cn == null) {
+      return;
+    }
+
+    var effectiveCallNumber = getEffectiveCallNumber(getString(cn, "prefix"), getString(cn, "callNumber"),
+      getString(cn, "suffix"));
+    if (StringUtils.isNotBlank(effectiveCallNumber)) {
+      callNumbers.add(effectiveCallNumber);
+    }
+  }
+
+  @Override
+  public Set<String> getResult(Set<String> callNumbers) {
+    return callNumbers;
   }
 }
@@ -1,6 +1,7 @@
 package org.folio.search.service.setter.item;
 
-import static org.apache.commons.collections.MapUtils.getObject;
+import static org.folio.search.service.setter.instance.InstancePath.INSTANCE;
+import static org.folio.search.service.setter.instance.InstancePath.ITEMS;
 import static org.folio.search.utils.CollectionUtils.noneMatch;
 import static org.folio.search.utils.SearchUtils.INSTANCE_ITEM_FIELD_NAME;
 
@@ -8,6 +9,7 @@ import java.util.Map;
 import java.util.Set;
 import org.folio.search.model.service.MultilangValue;
 import org.folio.search.service.setter.AbstractAllValuesProcessor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -16,17 +18,26 @@ public class ItemAllFieldValuesProcessor extends AbstractAllValuesProcessor {
   private final Set<String> includedFieldNames = Set.of("formerIds");
 
   @Override
-  public MultilangValue getFieldValue(Map<String, Object> eventBody) {
-    var items = getObject(eventBody, INSTANCE_ITEM_FIELD_NAME);
-    var resultMultilangValue = getAllFieldValues(items, INSTANCE_ITEM_FIELD_NAME, key -> true);
-    var searchFieldMultilangValue = getAllFieldValues(eventBody, null, key -> key.startsWith("item"));
-    resultMultilangValue.getPlainValues().addAll(searchFieldMultilangValue.getPlainValues());
-    resultMultilangValue.getMultilangValues().addAll(searchFieldMultilangValue.getMultilangValues());
-    return resultMultilangValue;
+  public Set<InstancePath> getPaths() {
+    return Set.of(INSTANCE, ITEMS);
+  }
+
+  @Override
+  public void visitInstance(Map<String, Object> instance, MultilangValue multilangValue) {
+    collectAllFieldValues(instance, null, ItemAllFieldValuesProcessor::isItemSearchField, multilangValue);
+  }
+
+  @Override
+  public void visitItem(Map<String, Object> item, MultilangValue multilangValue) {
+    collectAllFieldValues(item, INSTANCE_ITEM_FIELD_NAME, key -> true, multilangValue);
   }
 
   @Override
   protected boolean isIncludedField(String fieldName) {
     return includedFieldNames.contains(fieldName) || noneMatch(super.excludedFieldEndings, fieldName::endsWith);
   }
+
+  private static boolean isItemSearchField(String key) {
+    return key.startsWith("item") && !INSTANCE_ITEM_FIELD_NAME.equals(key);
+  }
 }
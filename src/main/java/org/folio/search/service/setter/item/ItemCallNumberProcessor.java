@@ -1,29 +1,47 @@
 package org.folio.search.service.setter.item;
 
-import static org.folio.search.utils.CollectionUtils.toLinkedHashSet;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static org.apache.commons.collections4.MapUtils.getString;
+import static org.folio.search.service.setter.instance.InstancePath.ITEMS;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Item;
-import org.folio.search.service.setter.FieldProcessor;
+import org.folio.search.service.setter.instance.InstanceFieldVisitor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.folio.search.utils.CallNumberUtils;
 import org.springframework.stereotype.Component;
 
 @Log4j2
 @Component
-public class ItemCallNumberProcessor implements FieldProcessor<Instance, Set<Long>> {
+public class ItemCallNumberProcessor implements InstanceFieldVisitor<Set<Long>, Set<Long>> {
 
   @Override
-  public Set<Long> getFieldValue(Instance instance) {
-    return toStreamSafe(instance.getItems())
-      .map(Item::getEffectiveShelvingOrder)
-      .filter(StringUtils::isNotBlank)
-      .map(CallNumberUtils::getCallNumberAsLong)
-      .filter(value -> value > 0)
-      .sorted()
-      .collect(toLinkedHashSet());
+  public Set<InstancePath> getPaths() {
+    return Set.of(ITEMS);
+  }
+
+  @Override
+  public Set<Long> createAccumulator() {
+    return new TreeSet<>();
+  }
+
+  @Override
+  public void visitItem(Map<String, Object> item, Set<Long> callNumbers) {
+    var effectiveShelvingOrder = getString(item, "effectiveShelvingOrder");
+    if (StringUtils.isBlank(effectiveShelvingOrder)) {
+      return;
+    }
+
+    var callNumber = CallNumberUtils.getCallNumberAsLong(effectiveShelvingOrder);
+    if (callNumber > 0) {
+      callNumbers.add(callNumber);
+    }
+  }
+
+  @Override
+  public Set<Long> getResult(Set<Long> callNumbers) {
+    return callNumbers;
   }
 }
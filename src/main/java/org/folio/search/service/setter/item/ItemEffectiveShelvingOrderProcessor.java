@@ -1,34 +1,50 @@
 package org.folio.search.service.setter.item;
 
+import static org.apache.commons.collections4.MapUtils.getString;
+import static org.folio.search.service.setter.instance.InstancePath.ITEMS;
+import static org.folio.search.utils.CallNumberUtils.getCallNumberTypeId;
 import static org.folio.search.utils.CallNumberUtils.normalizeEffectiveShelvingOrder;
-import static org.folio.search.utils.CollectionUtils.toLinkedHashSet;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import org.apache.commons.lang3.StringUtils;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Item;
 import org.folio.search.model.types.CallNumberType;
-import org.folio.search.service.setter.FieldProcessor;
+import org.folio.search.service.setter.instance.InstanceFieldVisitor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.springframework.stereotype.Component;
 
 @Component
-public class ItemEffectiveShelvingOrderProcessor implements FieldProcessor<Instance, Set<String>> {
+public class ItemEffectiveShelvingOrderProcessor implements InstanceFieldVisitor<Set<String>, Set<String>> {
 
   @Override
-  public Set<String> getFieldValue(Instance eventBody) {
-    return toStreamSafe(eventBody.getItems())
-      .map(this::getNormalizedEffectiveShelvingOrder)
-      .filter(StringUtils::isNotBlank)
-      .sorted()
-      .collect(toLinkedHashSet());
+  public Set<InstancePath> getPaths() {
+    return Set.of(ITEMS);
   }
 
-  private String getNormalizedEffectiveShelvingOrder(Item item) {
-    var effectiveShelvingOrder = item.getEffectiveShelvingOrder();
-    return Optional.ofNullable(item.getEffectiveCallNumberComponents())
-      .flatMap(components -> CallNumberType.fromId(components.getTypeId()))
+  @Override
+  public Set<String> createAccumulator() {
+    return new TreeSet<>();
+  }
+
+  @Override
+  public void visitItem(Map<String, Object> item, Set<String> shelvingOrders) {
+    var shelvingOrder = getNormalizedEffectiveShelvingOrder(item);
+    if (StringUtils.isNotBlank(shelvingOrder)) {
+      shelvingOrders.add(shelvingOrder);
+    }
+  }
+
+  @Override
+  public Set<String> getResult(Set<String> shelvingOrders) {
+    return shelvingOrders;
+  }
+
+  private String getNormalizedEffectiveShelvingOrder(Map<String, Object> item) {
+    var effectiveShelvingOrder = getString(item, "effectiveShelvingOrder");
+    return Optional.ofNullable(getCallNumberTypeId(item))
+      .flatMap(CallNumberType::fromId)
       .filter(callNumberType -> callNumberType.getNumber() < 5)
       .map(callNumberType -> effectiveShelvingOrder)
       .orElse(normalizeEffectiveShelvingOrder(effectiveShelvingOrder));
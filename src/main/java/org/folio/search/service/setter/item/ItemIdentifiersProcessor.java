@@ -1,28 +1,48 @@
 package org.folio.search.service.setter.item;
 
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static org.apache.commons.collections4.MapUtils.getString;
+import static org.folio.search.service.setter.instance.InstancePath.ITEMS;
+import static org.folio.search.utils.SearchConverterUtils.getStringStreamFromValue;
+import static org.folio.search.utils.SearchUtils.ID_FIELD;
 
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import one.util.streamex.StreamEx;
 import org.apache.commons.lang3.StringUtils;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.service.setter.FieldProcessor;
+import org.folio.search.service.setter.instance.InstanceFieldVisitor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.springframework.stereotype.Component;
 
 @Component
-public class ItemIdentifiersProcessor implements FieldProcessor<Instance, Set<String>> {
+public class ItemIdentifiersProcessor implements InstanceFieldVisitor<Set<String>, Set<String>> {
 
   @Override
-  public Set<String> getFieldValue(Instance instance) {
-    return toStreamSafe(instance.getItems())
-      .flatMap(item -> StreamEx.of(toStreamSafe(item.getFormerIds()))
-        .append(Stream.of(item.getHrid()))
-        .append(Stream.of(item.getAccessionNumber()))
-        .append(Stream.of(item.getId()))
-        .append(Stream.of(item.getItemIdentifier())))
-      .filter(StringUtils::isNotEmpty)
-      .collect(Collectors.toSet());
+  public Set<InstancePath> getPaths() {
+    return Set.of(ITEMS);
+  }
+
+  @Override
+  public Set<String> createAccumulator() {
+    return new LinkedHashSet<>();
+  }
+
+  @Override
+  public void visitItem(Map<String, Object> item, Set<String> identifiers) {
+    getStringStreamFromValue(item.get("formerIds")).forEach(formerId -> addIdentifier(formerId, identifiers));
+    addIdentifier(getString(item, "hrid"), identifiers);
+    addIdentifier(getString(item, "accessionNumber"), identifiers);
+    addIdentifier(getString(item, ID_FIELD), identifiers);
+    addIdentifier(getString(item, "itemIdentifier"), identifiers);
+  }
+
+  @Override
+  public Set<String> getResult(Set<String> identifiers) {
+    return identifiers;
+  }
+
+  private static void addIdentifier(String value, Set<String> identifiers) {
+    if (StringUtils.isNotEmpty(value)) {
+      identifiers.add(value);
+    }
   }
 }
@@ -1,28 +1,47 @@
 package org.folio.search.service.setter.item;
 
+import static org.apache.commons.collections4.MapUtils.getString;
+import static org.folio.search.service.setter.instance.InstancePath.ITEMS;
+import static org.folio.search.utils.CallNumberUtils.EFFECTIVE_CALL_NUMBER_COMPONENTS_FIELD;
 import static org.folio.search.utils.CallNumberUtils.normalizeCallNumberComponents;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static org.folio.search.utils.SearchConverterUtils.getMapValue;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.service.setter.FieldProcessor;
+import org.folio.search.service.setter.instance.InstanceFieldVisitor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.springframework.stereotype.Component;
 
 @Component
-public class ItemNormalizedCallNumbersProcessor implements FieldProcessor<Instance, Set<String>> {
+public class ItemNormalizedCallNumbersProcessor implements InstanceFieldVisitor<Set<String>, Set<String>> {
 
   @Override
-  public Set<String> getFieldValue(Instance instance) {
-    var result = new HashSet<String>();
-    toStreamSafe(instance.getItems())
-      .filter(items -> items.getEffectiveCallNumberComponents() != null)
-      .forEach(item -> {
-        var itemCallNumber = item.getEffectiveCallNumberComponents();
-        result.add(normalizeCallNumberComponents(itemCallNumber.getPrefix(), itemCallNumber.getCallNumber(),
-          itemCallNumber.getSuffix()));
-        result.add(normalizeCallNumberComponents(itemCallNumber.getCallNumber(), itemCallNumber.getSuffix()));
-      });
-    return result;
+  public Set<InstancePath> getPaths() {
+    return Set.of(ITEMS);
+  }
+
+  @Override
+  public Set<String> createAccumulator() {
+    return new HashSet<>();
+  }
+
+  @Override
+  public void visitItem(Map<String, Object> item, Set<String> callNumbers) {
+    var itemCallNumber = getMapValue(item, EFFECTIVE_CALL_NUMBER_COMPONENTS_FIELD);
+    if (itemCallNumber == null) {
+      return;
+    }
+
+    var prefix = getString(itemCallNumber, "prefix");
+    var callNumber = getString(itemCallNumber, "callNumber");
+    var suffix = getString(itemCallNumber, "suffix");
+    callNumbers.add(normalizeCallNumberComponents(prefix, callNumber, suffix));
+    callNumbers.add(normalizeCallNumberComponents(callNumber, suffix));
+  }
+
+  @Override
+  public Set<String> getResult(Set<String> callNumbers) {
+    return callNumbers;
   }
 }
@@ -1,33 +1,24 @@
 package org.folio.search.service.setter.item;
 
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static org.folio.search.service.setter.instance.InstancePath.ITEMS;
 
-import java.util.Collection;
-import java.util.stream.Stream;
-import org.apache.commons.collections.CollectionUtils;
-import org.folio.search.domain.dto.CirculationNote;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Item;
-import org.folio.search.domain.dto.Note;
+import java.util.Map;
+import java.util.Set;
 import org.folio.search.service.setter.instance.AbstractPublicNotesProcessor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ItemPublicNotesProcessor extends AbstractPublicNotesProcessor {
 
   @Override
-  protected Stream<Note> getNotes(Instance instance) {
-    return toStreamSafe(instance.getItems())
-      .map(Item::getNotes)
-      .filter(CollectionUtils::isNotEmpty)
-      .flatMap(Collection::stream);
+  public Set<InstancePath> getPaths() {
+    return Set.of(ITEMS);
   }
 
   @Override
-  protected Stream<CirculationNote> getCirculationNotes(Instance instance) {
-    return toStreamSafe(instance.getItems())
-      .map(Item::getCirculationNotes)
-      .filter(CollectionUtils::isNotEmpty)
-      .flatMap(Collection::stream);
+  public void visitItem(Map<String, Object> item, PublicNotes publicNotes) {
+    addNotes(item, publicNotes);
+    addCirculationNotes(item, publicNotes);
   }
 }
@@ -1,19 +1,23 @@
 package org.folio.search.service.setter.item;
 
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static org.folio.search.service.setter.instance.InstancePath.ITEMS;
 
-import java.util.stream.Stream;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Item;
-import org.folio.search.domain.dto.Tags;
+import java.util.Map;
+import java.util.Set;
 import org.folio.search.service.setter.instance.AbstractTagsProcessor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ItemTagsProcessor extends AbstractTagsProcessor {
 
   @Override
-  protected Stream<Tags> getTags(Instance instance) {
-    return toStreamSafe(instance.getItems()).map(Item::getTags);
+  public Set<InstancePath> getPaths() {
+    return Set.of(ITEMS);
+  }
+
+  @Override
+  public void visitItem(Map<String, Object> item, Set<String> tags) {
+    addTags(item, tags);
   }
 }
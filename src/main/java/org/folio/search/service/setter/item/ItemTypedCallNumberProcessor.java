@@ -1,44 +1,57 @@
 package org.folio.search.service.setter.item;
 
+import static org.apache.commons.collections4.MapUtils.getString;
 import static org.folio.search.client.InventoryReferenceDataClient.ReferenceDataType.CALL_NUMBER_TYPES;
 import static org.folio.search.model.client.CqlQueryParam.SOURCE;
 import static org.folio.search.model.types.CallNumberTypeSource.LOCAL;
 import static org.folio.search.service.browse.CallNumberBrowseService.FOLIO_CALL_NUMBER_TYPES_SOURCES;
+import static org.folio.search.service.setter.instance.InstancePath.ITEMS;
 import static org.folio.search.utils.CallNumberUtils.getCallNumberAsLong;
-import static org.folio.search.utils.CollectionUtils.toLinkedHashSet;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static org.folio.search.utils.CallNumberUtils.getCallNumberTypeId;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
-import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Item;
-import org.folio.search.domain.dto.ItemEffectiveCallNumberComponents;
 import org.folio.search.integration.ReferenceDataService;
 import org.folio.search.model.types.CallNumberType;
-import org.folio.search.service.setter.FieldProcessor;
+import org.folio.search.service.setter.instance.InstanceFieldVisitor;
+import org.folio.search.service.setter.instance.InstancePath;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
-public class ItemTypedCallNumberProcessor implements FieldProcessor<Instance, Set<Long>> {
+public class ItemTypedCallNumberProcessor implements InstanceFieldVisitor<Set<Long>, Set<Long>> {
 
   static final List<String> LOCAL_CALL_NUMBER_TYPES_SOURCES = Collections.singletonList(LOCAL.getSource());
 
   private final ReferenceDataService referenceDataService;
 
   @Override
-  public Set<Long> getFieldValue(Instance instance) {
-    return toStreamSafe(instance.getItems())
-      .map(this::toCallNumberLongRepresentation)
-      .filter(Objects::nonNull)
-      .filter(value -> value > 0)
-      .sorted()
-      .collect(toLinkedHashSet());
+  public Set<InstancePath> getPaths() {
+    return Set.of(ITEMS);
+  }
+
+  @Override
+  public Set<Long> createAccumulator() {
+    return new TreeSet<>();
+  }
+
+  @Override
+  public void visitItem(Map<String, Object> item, Set<Long> callNumbers) {
+    var callNumber = toCallNumberLongRepresentation(item);
+    if (callNumber != null && callNumber > 0) {
+      callNumbers.add(callNumber);
+    }
+  }
+
+  @Override
+  public Set<Long> getResult(Set<Long> callNumbers) {
+    return callNumbers;
   }
 
   public Optional<Integer> getCallNumberTypedPrefix(String callNumberTypeId) {
@@ -48,11 +61,9 @@ public class ItemTypedCallNumberProcessor implements FieldProcessor<Instance, Se
         ? Optional.of(CallNumberType.LOCAL.getNumber()) : Optional.empty());
   }
 
-  private Long toCallNumberLongRepresentation(Item item) {
-    var effectiveShelvingOrder = item.getEffectiveShelvingOrder();
-    var callNumberTypeId = Optional.ofNullable(item.getEffectiveCallNumberComponents())
-      .map(ItemEffectiveCallNumberComponents::getTypeId)
-      .orElse(null);
+  private Long toCallNumberLongRepresentation(Map<String, Object> item) {
+    var effectiveShelvingOrder = getString(item, "effectiveShelvingOrder");
+    var callNumberTypeId = getCallNumberTypeId(item);
     if (StringUtils.isAnyBlank(callNumberTypeId, effectiveShelvingOrder)) {
       return null;
     } else {
@@ -14,6 +14,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.experimental.UtilityClass;
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.RegExUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.search.domain.dto.CallNumberBrowseItem;
@@ -29,6 +30,11 @@ import org.springframework.util.Assert;
 @UtilityClass
 public class CallNumberUtils {
 
+  public static final String CALL_NUMBER_FIELD = "callNumber";
+  public static final String CALL_NUMBER_PREFIX_FIELD = "callNumberPrefix";
+  public static final String CALL_NUMBER_SUFFIX_FIELD = "callNumberSuffix";
+  public static final String EFFECTIVE_CALL_NUMBER_COMPONENTS_FIELD = "effectiveCallNumberComponents";
+
   private static final int CN_MAX_CHARS = 10;
   private static final char ASCII_SPACE = ' ';
   private static final int MAX_SUPPORTED_CHARACTERS = 52;
@@ -87,6 +93,17 @@ public class CallNumberUtils {
       .collect(joining(" "));
   }
 
+  /**
+   * Returns the call number type id from the effective call number components of the raw item.
+   *
+   * @param item - raw item event body as {@link Map} object
+   * @return call number type id as {@link String}, null if it is not specified
+   */
+  public static String getCallNumberTypeId(Map<String, Object> item) {
+    var components = SearchConverterUtils.getMapValue(item, EFFECTIVE_CALL_NUMBER_COMPONENTS_FIELD);
+    return components != null ? MapUtils.getString(components, "typeId") : null;
+  }
+
   /**
    * Checks if character is supported or not.
    *
@@ -1,10 +1,12 @@
 package org.folio.search.utils;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static org.apache.commons.collections4.MapUtils.getString;
 import static org.folio.search.utils.SearchUtils.ID_FIELD;
 import static org.folio.search.utils.SearchUtils.SOURCE_FIELD;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -94,6 +96,40 @@ public class SearchConverterUtils {
     return Stream.empty();
   }
 
+  /**
+   * Returns map value of the given field.
+   *
+   * @param map map to process
+   * @param key field name
+   * @return field value as {@link Map} object, null if the value is not a map
+   */
+  @SuppressWarnings("unchecked")
+  public static Map<String, Object> getMapValue(Map<String, Object> map, String key) {
+    return map.get(key) instanceof Map<?, ?> value ? (Map<String, Object>) value : null;
+  }
+
+  /**
+   * Returns map values from the list value of the given field, list elements that are not maps are skipped.
+   *
+   * @param map map to process
+   * @param key field name
+   * @return {@link List} with {@link Map} values, empty if the value is not a list
+   */
+  @SuppressWarnings("unchecked")
+  public static List<Map<String, Object>> getMapListValue(Map<String, Object> map, String key) {
+    if (!(map.get(key) instanceof List<?> list) || list.isEmpty()) {
+      return emptyList();
+    }
+
+    var values = new ArrayList<Map<String, Object>>(list.size());
+    for (var listValue : list) {
+      if (listValue instanceof Map<?, ?> mapValue) {
+        values.add((Map<String, Object>) mapValue);
+      }
+    }
+    return values;
+  }
+
   /**
    * Returns event payload from {@link ResourceEvent} object.
    *
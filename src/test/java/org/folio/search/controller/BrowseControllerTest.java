@@ -24,15 +24,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import org.folio.search.configuration.properties.SearchRequestExecutionProperties;
 import org.folio.search.domain.dto.Authority;
 import org.folio.search.model.BrowseResult;
+import org.folio.search.model.context.FolioExecutionContextBuilder;
 import org.folio.search.model.service.BrowseRequest;
+import org.folio.search.service.SearchRequestExecutor;
 import org.folio.search.service.browse.AuthorityBrowseService;
 import org.folio.search.service.browse.CallNumberBrowseService;
 import org.folio.search.service.browse.ContributorBrowseService;
 import org.folio.search.service.browse.SubjectBrowseService;
 import org.folio.search.service.consortium.TenantProvider;
 import org.folio.search.service.setter.SearchResponsePostProcessor;
+import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.integration.XOkapiHeaders;
 import org.folio.spring.test.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -46,7 +50,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 @UnitTest
 @WebMvcTest(BrowseController.class)
-@Import({ApiExceptionHandler.class})
+@Import({ApiExceptionHandler.class, SearchRequestExecutor.class, SearchRequestExecutionProperties.class})
 class BrowseControllerTest {
 
   @Autowired
@@ -61,6 +65,10 @@ class BrowseControllerTest {
   private ContributorBrowseService contributorBrowseService;
   @MockBean
   private TenantProvider tenantProvider;
+  @MockBean
+  private FolioExecutionContext folioExecutionContext;
+  @MockBean
+  private FolioExecutionContextBuilder contextBuilder;
   @Mock
   private Map<Class<?>, SearchResponsePostProcessor<?>> searchResponsePostProcessors = Collections.emptyMap();
 
@@ -20,9 +20,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.util.List;
 import java.util.stream.Stream;
+import org.folio.search.configuration.properties.SearchRequestExecutionProperties;
 import org.folio.search.exception.RequestValidationException;
+import org.folio.search.model.context.FolioExecutionContextBuilder;
 import org.folio.search.service.FacetService;
+import org.folio.search.service.SearchRequestExecutor;
 import org.folio.search.service.consortium.TenantProvider;
+import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.integration.XOkapiHeaders;
 import org.folio.spring.test.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,7 +41,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 
 @UnitTest
-@Import({ApiExceptionHandler.class})
+@Import({ApiExceptionHandler.class, SearchRequestExecutor.class, SearchRequestExecutionProperties.class})
 @WebMvcTest(FacetsController.class)
 class FacetsControllerTest {
 
@@ -45,6 +49,10 @@ class FacetsControllerTest {
   private FacetService facetService;
   @MockBean
   private TenantProvider tenantProvider;
+  @MockBean
+  private FolioExecutionContext folioExecutionContext;
+  @MockBean
+  private FolioExecutionContextBuilder contextBuilder;
   @Autowired
   private MockMvc mockMvc;
 
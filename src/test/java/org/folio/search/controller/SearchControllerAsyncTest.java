@@ -0,0 +1,207 @@
+package org.folio.search.controller;
+
+import static java.util.Collections.emptyList;
+import static org.awaitility.Awaitility.await;
+import static org.awaitility.Durations.FIVE_SECONDS;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.folio.search.utils.TestUtils.searchResult;
+import static org.folio.search.utils.TestUtils.searchServiceRequest;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.servlet.AsyncEvent;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import org.folio.search.configuration.properties.SearchRequestExecutionProperties;
+import org.folio.search.configuration.properties.SearchRequestExecutionProperties.EndpointSettings;
+import org.folio.search.domain.dto.Instance;
+import org.folio.search.exception.SearchServiceException;
+import org.folio.search.model.context.FolioExecutionContextBuilder;
+import org.folio.search.service.CursorSearchService;
+import org.folio.search.service.RawSourceSearchHelper;
+import org.folio.search.service.SearchRequestExecutor;
+import org.folio.search.service.SearchService;
+import org.folio.search.service.consortium.TenantProvider;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.test.type.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@UnitTest
+@Import({ApiExceptionHandler.class, SearchRequestExecutor.class,
+  SearchControllerAsyncTest.TestContextConfiguration.class})
+@WebMvcTest(SearchController.class)
+class SearchControllerAsyncTest {
+
+  private static final String QUERY = "title all \"test-query\"";
+
+  @MockBean
+  private SearchService searchService;
+  @MockBean
+  private CursorSearchService cursorSearchService;
+  @MockBean
+  private RawSourceSearchHelper rawSourceSearchHelper;
+  @MockBean
+  private TenantProvider tenantProvider;
+  @MockBean
+  private FolioExecutionContext folioExecutionContext;
+  @MockBean
+  private FolioExecutionContextBuilder contextBuilder;
+  @Autowired
+  private MockMvc mockMvc;
+
+  private final CountDownLatch searchReleased = new CountDownLatch(1);
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(tenantProvider.getTenant(TENANT_ID)).thenReturn(TENANT_ID);
+    lenient().when(contextBuilder.copyOf(any())).thenReturn(folioExecutionContext);
+  }
+
+  @AfterEach
+  void tearDown() {
+    searchReleased.countDown();
+  }
+
+  @Test
+  void search_positive_async() throws Exception {
+    when(searchService.search(searchServiceRequest(Instance.class, QUERY))).thenReturn(searchResult());
+
+    var mvcResult = mockMvc.perform(searchRequest())
+      .andExpect(request().asyncStarted())
+      .andReturn();
+
+    mockMvc.perform(asyncDispatch(mvcResult))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.totalRecords", is(0)))
+      .andExpect(jsonPath("$.instances", is(emptyList())));
+  }
+
+  @Test
+  void search_negative_asyncRequestFailed() throws Exception {
+    var exceptionMessage = String.format("Failed to parse CQL query [query: '%s']", QUERY);
+    when(searchService.search(searchServiceRequest(Instance.class, QUERY)))
+      .thenThrow(new SearchServiceException(exceptionMessage));
+
+    var mvcResult = mockMvc.perform(searchRequest())
+      .andExpect(request().asyncStarted())
+      .andReturn();
+
+    mockMvc.perform(asyncDispatch(mvcResult))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.total_records", is(1)))
+      .andExpect(jsonPath("$.errors[0].message", is(exceptionMessage)))
+      .andExpect(jsonPath("$.errors[0].type", is("SearchServiceException")))
+      .andExpect(jsonPath("$.errors[0].code", is("service_error")));
+  }
+
+  @Test
+  void search_negative_tooManyRequests() throws Exception {
+    var searchStarted = new CountDownLatch(1);
+    when(searchService.search(searchServiceRequest(Instance.class, QUERY))).thenAnswer(invocation -> {
+      searchStarted.countDown();
+      searchReleased.await();
+      return searchResult();
+    });
+
+    var runningRequest = mockMvc.perform(searchRequest())
+      .andExpect(request().asyncStarted())
+      .andReturn();
+    searchStarted.await();
+    var queuedRequest = mockMvc.perform(searchRequest())
+      .andExpect(request().asyncStarted())
+      .andReturn();
+
+    mockMvc.perform(searchRequest())
+      .andExpect(request().asyncNotStarted())
+      .andExpect(status().isTooManyRequests())
+      .andExpect(jsonPath("$.total_records", is(1)))
+      .andExpect(jsonPath("$.errors[0].message", is("Too many concurrent requests")))
+      .andExpect(jsonPath("$.errors[0].type", is("TaskRejectedException")))
+      .andExpect(jsonPath("$.errors[0].code", is("service_error")));
+
+    searchReleased.countDown();
+    mockMvc.perform(asyncDispatch(runningRequest))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.totalRecords", is(0)));
+    mockMvc.perform(asyncDispatch(queuedRequest))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.totalRecords", is(0)));
+  }
+
+  @Test
+  void search_negative_timeout() throws Exception {
+    var searchStarted = new CountDownLatch(1);
+    var searchInterrupted = new CountDownLatch(1);
+    when(searchService.search(searchServiceRequest(Instance.class, QUERY))).thenAnswer(invocation -> {
+      searchStarted.countDown();
+      try {
+        searchReleased.await();
+      } catch (InterruptedException e) {
+        searchInterrupted.countDown();
+        throw e;
+      }
+      return searchResult();
+    });
+
+    var mvcResult = mockMvc.perform(searchRequest())
+      .andExpect(request().asyncStarted())
+      .andReturn();
+    searchStarted.await();
+    triggerTimeout(mvcResult);
+
+    mockMvc.perform(asyncDispatch(mvcResult))
+      .andExpect(status().isServiceUnavailable())
+      .andExpect(jsonPath("$.total_records", is(1)))
+      .andExpect(jsonPath("$.errors[0].message", is("Request processing timed out")))
+      .andExpect(jsonPath("$.errors[0].type", is("AsyncRequestTimeoutException")))
+      .andExpect(jsonPath("$.errors[0].code", is("service_error")));
+    await().atMost(FIVE_SECONDS).until(() -> searchInterrupted.getCount() == 0);
+  }
+
+  private static MockHttpServletRequestBuilder searchRequest() {
+    return get("/search/instances")
+      .queryParam("query", QUERY)
+      .contentType(APPLICATION_JSON)
+      .header(XOkapiHeaders.TENANT, TENANT_ID);
+  }
+
+  private static void triggerTimeout(MvcResult mvcResult) throws IOException {
+    var asyncContext = (MockAsyncContext) mvcResult.getRequest().getAsyncContext();
+    for (var listener : asyncContext.getListeners()) {
+      listener.onTimeout(new AsyncEvent(asyncContext));
+    }
+  }
+
+  @TestConfiguration
+  static class TestContextConfiguration {
+
+    @Bean
+    SearchRequestExecutionProperties searchRequestExecutionProperties() {
+      var executionProperties = new SearchRequestExecutionProperties();
+      executionProperties.setAsyncEnabled(true);
+      executionProperties.setSearch(new EndpointSettings(1, 1));
+      return executionProperties;
+    }
+  }
+}
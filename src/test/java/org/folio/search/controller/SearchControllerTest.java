@@ -2,25 +2,42 @@ package org.folio.search.controller;
 
 import static java.util.Collections.emptyList;
 import static org.folio.search.support.base.ApiEndpoints.authoritySearchPath;
+import static org.folio.search.support.base.ApiEndpoints.instanceCursorSearchPath;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
 import static org.folio.search.utils.TestConstants.INDEX_NAME;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.folio.search.utils.TestUtils.searchResult;
 import static org.folio.search.utils.TestUtils.searchServiceRequest;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.List;
+import org.folio.search.configuration.properties.SearchRequestExecutionProperties;
 import org.folio.search.domain.dto.Authority;
 import org.folio.search.domain.dto.Instance;
+import org.folio.search.exception.RequestValidationException;
 import org.folio.search.exception.SearchOperationException;
 import org.folio.search.exception.SearchServiceException;
+import org.folio.search.model.CursorSearchResult;
+import org.folio.search.model.SimpleResourceRequest;
+import org.folio.search.model.context.FolioExecutionContextBuilder;
+import org.folio.search.model.service.CqlCursorSearchRequest;
+import org.folio.search.service.CursorSearchService;
+import org.folio.search.service.RawSourceSearchHelper;
+import org.folio.search.service.SearchRequestExecutor;
 import org.folio.search.service.SearchService;
 import org.folio.search.service.consortium.TenantProvider;
+import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.integration.XOkapiHeaders;
 import org.folio.spring.test.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,17 +48,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 
 @UnitTest
-@Import({ApiExceptionHandler.class})
+@Import({ApiExceptionHandler.class, SearchRequestExecutor.class, SearchRequestExecutionProperties.class})
 @WebMvcTest(SearchController.class)
 class SearchControllerTest {
 
   @MockBean
   private SearchService searchService;
   @MockBean
+  private CursorSearchService cursorSearchService;
+  @MockBean
+  private RawSourceSearchHelper rawSourceSearchHelper;
+  @MockBean
   private TenantProvider tenantProvider;
+  @MockBean
+  private FolioExecutionContext folioExecutionContext;
+  @MockBean
+  private FolioExecutionContextBuilder contextBuilder;
   @Autowired
   private MockMvc mockMvc;
 
@@ -90,6 +116,26 @@ class SearchControllerTest {
       .andExpect(jsonPath("$.instances", is(emptyList())));
   }
 
+  @Test
+  void search_positive_rawSource() throws Exception {
+    var cqlQuery = "title all \"test-query\"";
+    var expectedSearchRequest = searchServiceRequest(Instance.class, cqlQuery);
+
+    when(rawSourceSearchHelper.isApplicable(expectedSearchRequest)).thenReturn(true);
+    when(rawSourceSearchHelper.streamSearchResult(expectedSearchRequest, "instances"))
+      .thenReturn(ResponseEntity.ok().build());
+
+    var requestBuilder = get("/search/instances")
+      .queryParam("query", cqlQuery)
+      .queryParam("limit", "100")
+      .contentType(APPLICATION_JSON)
+      .header(XOkapiHeaders.TENANT, TENANT_ID);
+
+    mockMvc.perform(requestBuilder)
+      .andExpect(status().isOk());
+    verify(searchService, never()).search(any());
+  }
+
   @Test
   void search_offset_limit_10k() throws Exception {
 
@@ -190,4 +236,58 @@ class SearchControllerTest {
       .andExpect(jsonPath("$.errors[0].code", is("service_error")));
   }
 
+  @Test
+  void searchByCursor_positive() throws Exception {
+    var cqlQuery = "cql.allRecords=1";
+    var instance = new Instance().id(randomId());
+    var expectedRequest = CqlCursorSearchRequest.of(Instance.class, TENANT_ID, cqlQuery, "cursor", 10, false);
+
+    when(cursorSearchService.search(expectedRequest))
+      .thenReturn(CursorSearchResult.of(25, "nextCursor", List.of(instance)));
+
+    var requestBuilder = get(instanceCursorSearchPath())
+      .queryParam("query", cqlQuery)
+      .queryParam("cursor", "cursor")
+      .queryParam("limit", "10")
+      .contentType(APPLICATION_JSON)
+      .header(XOkapiHeaders.TENANT, TENANT_ID);
+
+    mockMvc.perform(requestBuilder)
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.totalRecords", is(25)))
+      .andExpect(jsonPath("$.nextCursor", is("nextCursor")))
+      .andExpect(jsonPath("$.instances[0].id", is(instance.getId())));
+  }
+
+  @Test
+  void searchByCursor_negative_invalidCursor() throws Exception {
+    var cqlQuery = "cql.allRecords=1";
+    var expectedRequest = CqlCursorSearchRequest.of(Instance.class, TENANT_ID, cqlQuery, "invalid", 100, false);
+
+    when(cursorSearchService.search(expectedRequest))
+      .thenThrow(new RequestValidationException("Invalid search cursor", "cursor", "invalid"));
+
+    var requestBuilder = get(instanceCursorSearchPath())
+      .queryParam("query", cqlQuery)
+      .queryParam("cursor", "invalid")
+      .contentType(APPLICATION_JSON)
+      .header(XOkapiHeaders.TENANT, TENANT_ID);
+
+    mockMvc.perform(requestBuilder)
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.errors[0].message", is("Invalid search cursor")))
+      .andExpect(jsonPath("$.errors[0].parameters[0].key", is("cursor")));
+  }
+
+  @Test
+  void closeCursor_positive() throws Exception {
+    var requestBuilder = delete(instanceCursorSearchPath())
+      .queryParam("cursor", "cursor")
+      .header(XOkapiHeaders.TENANT, TENANT_ID);
+
+    mockMvc.perform(requestBuilder)
+      .andExpect(status().isNoContent());
+
+    verify(cursorSearchService).close(SimpleResourceRequest.of(INSTANCE_RESOURCE, TENANT_ID), "cursor");
+  }
 }
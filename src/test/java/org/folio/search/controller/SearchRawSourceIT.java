@@ -0,0 +1,86 @@
+package org.folio.search.controller;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.sample.SampleAuthorities.getAuthoritySampleAsMap;
+import static org.folio.search.sample.SampleInstances.getSemanticWebAsMap;
+import static org.folio.search.support.base.ApiEndpoints.authoritySearchPath;
+import static org.folio.search.support.base.ApiEndpoints.instanceSearchPath;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
+import org.folio.search.domain.dto.Authority;
+import org.folio.search.domain.dto.Instance;
+import org.folio.search.support.base.BaseIntegrationTest;
+import org.folio.spring.test.type.IntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@IntegrationTest
+class SearchRawSourceIT extends BaseIntegrationTest {
+
+  private static final int LIMIT = 100;
+
+  @Autowired
+  private SearchQueryConfigurationProperties searchQueryConfiguration;
+
+  @BeforeAll
+  static void prepare() {
+    setUpTenant(List.of(
+      new TestData(Instance.class, singletonList(getSemanticWebAsMap()), 1),
+      new TestData(Authority.class, singletonList(getAuthoritySampleAsMap()), 30)
+    ), TENANT_ID);
+  }
+
+  @AfterAll
+  static void cleanUp() {
+    removeTenant();
+  }
+
+  @AfterEach
+  void resetRawSourceResponse() {
+    searchQueryConfiguration.setRawSourceResponseEnabled(false);
+  }
+
+  @MethodSource("testDataProvider")
+  @ParameterizedTest(name = "[{index}] path={0}, expandAll={2}")
+  @DisplayName("search result written from raw sources is equal to search result with converted records")
+  void search_positive_rawSourceResultEqualToConvertedResult(String path, String recordsField, boolean expandAll) {
+    searchQueryConfiguration.setRawSourceResponseEnabled(false);
+    var convertedResult = search(path, expandAll);
+
+    searchQueryConfiguration.setRawSourceResponseEnabled(true);
+    var rawSourceResult = search(path, expandAll);
+
+    assertThat(rawSourceResult.path("totalRecords")).isEqualTo(convertedResult.path("totalRecords"));
+    assertThat(rawSourceResult.path(recordsField)).isNotEmpty()
+      .containsExactlyInAnyOrderElementsOf(convertedResult.path(recordsField));
+  }
+
+  private static Stream<Arguments> testDataProvider() {
+    return Stream.of(
+      arguments(instanceSearchPath(), "instances", false),
+      arguments(instanceSearchPath(), "instances", true),
+      arguments(authoritySearchPath(), "authorities", false),
+      arguments(authoritySearchPath(), "authorities", true)
+    );
+  }
+
+  @SneakyThrows
+  private static JsonNode search(String path, boolean expandAll) {
+    var response = doSearch(path, TENANT_ID, "cql.allRecords=1", LIMIT, null, expandAll).andReturn().getResponse();
+    return OBJECT_MAPPER.readTree(response.getContentAsString());
+  }
+}
@@ -0,0 +1,161 @@
+package org.folio.search.cql;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.search.configuration.SearchCacheNames.CQL_QUERY_TEMPLATE_CACHE;
+import static org.folio.search.utils.SearchUtils.AUTHORITY_RESOURCE;
+import static org.folio.search.utils.SearchUtils.EMPTY_ARRAY;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.opensearch.index.query.MultiMatchQueryBuilder.Type.CROSS_FIELDS;
+import static org.opensearch.index.query.Operator.AND;
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
+import static org.opensearch.index.query.QueryBuilders.matchQuery;
+import static org.opensearch.index.query.QueryBuilders.multiMatchQuery;
+import static org.opensearch.index.query.QueryBuilders.rangeQuery;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.index.query.QueryBuilders.wildcardQuery;
+import static org.opensearch.search.sort.SortBuilders.fieldSort;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.cql.builders.ExactTermQueryBuilder;
+import org.folio.search.exception.RequestValidationException;
+import org.folio.spring.test.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+
+@UnitTest
+class CqlQueryTemplateCacheTest {
+
+  private static final String CQL_QUERY = "title all value and source==marc sortBy title/sort.descending";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final SearchCacheConfigurationProperties cacheConfiguration = new SearchCacheConfigurationProperties();
+  private final AtomicInteger conversions = new AtomicInteger();
+  private CqlQueryTemplateCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cacheConfiguration.setCqlQueryTemplateCacheEnabled(true);
+    cache = new CqlQueryTemplateCache(cacheConfiguration, meterRegistry);
+  }
+
+  @Test
+  void get_positive_convertedOnce() {
+    var actual = cache.get(CQL_QUERY, INSTANCE_RESOURCE, converter());
+    var cached = cache.get(" " + CQL_QUERY + " ", INSTANCE_RESOURCE, converter());
+
+    assertThat(actual).isEqualTo(expectedSearchSource()).isNotSameAs(cached);
+    assertThat(cached).isEqualTo(expectedSearchSource());
+    assertThat(conversions).hasValue(1);
+    assertThat(cacheGets("hit")).isEqualTo(1.0);
+    assertThat(cacheGets("miss")).isEqualTo(1.0);
+  }
+
+  @Test
+  void get_positive_copyModifiedByCaller() {
+    var actual = cache.get(CQL_QUERY, INSTANCE_RESOURCE, converter());
+    ((BoolQueryBuilder) actual.query()).filter(termQuery("tenantId", "member_tenant"));
+    actual.from(100).size(10);
+
+    assertThat(cache.get(CQL_QUERY, INSTANCE_RESOURCE, converter())).isEqualTo(expectedSearchSource());
+    assertThat(conversions).hasValue(1);
+  }
+
+  @Test
+  void get_positive_cachedPerResource() {
+    cache.get(CQL_QUERY, INSTANCE_RESOURCE, converter());
+    cache.get(CQL_QUERY, AUTHORITY_RESOURCE, converter());
+
+    assertThat(conversions).hasValue(2);
+  }
+
+  @Test
+  void get_positive_cacheDisabled() {
+    cacheConfiguration.setCqlQueryTemplateCacheEnabled(false);
+    cache = new CqlQueryTemplateCache(cacheConfiguration, meterRegistry);
+
+    cache.get(CQL_QUERY, INSTANCE_RESOURCE, converter());
+    var actual = cache.get(CQL_QUERY, INSTANCE_RESOURCE, converter());
+
+    assertThat(actual).isEqualTo(expectedSearchSource());
+    assertThat(conversions).hasValue(2);
+  }
+
+  @Test
+  void get_negative_conversionErrorIsNotCached() {
+    Supplier<SearchSourceBuilder> failingConverter = () -> {
+      conversions.incrementAndGet();
+      throw new RequestValidationException("Failed to parse CQL query", "query", CQL_QUERY);
+    };
+
+    assertThatThrownBy(() -> cache.get(CQL_QUERY, INSTANCE_RESOURCE, failingConverter))
+      .isInstanceOf(RequestValidationException.class);
+    assertThat(cache.get(CQL_QUERY, INSTANCE_RESOURCE, converter())).isEqualTo(expectedSearchSource());
+    assertThat(conversions).hasValue(2);
+  }
+
+  @MethodSource("searchSourceDataProvider")
+  @ParameterizedTest(name = "[{index}] {0}")
+  void get_positive_cachedCopyEqualToConvertedQuery(String name, SearchSourceBuilder searchSource) {
+    var converted = cache.get(CQL_QUERY, INSTANCE_RESOURCE, () -> searchSource);
+    var cached = cache.get(CQL_QUERY, INSTANCE_RESOURCE, () -> {
+      throw new AssertionError("Query template is not cached");
+    });
+
+    assertThat(converted).isEqualTo(searchSource);
+    assertThat(cached).isEqualTo(searchSource);
+  }
+
+  private Supplier<SearchSourceBuilder> converter() {
+    return () -> {
+      conversions.incrementAndGet();
+      return expectedSearchSource();
+    };
+  }
+
+  private double cacheGets(String result) {
+    return meterRegistry.get("cache.gets").tag("cache", CQL_QUERY_TEMPLATE_CACHE).tag("result", result)
+      .functionCounter().count();
+  }
+
+  private static Stream<Arguments> searchSourceDataProvider() {
+    var exactTermQueryBuilder = new ExactTermQueryBuilder();
+    return Stream.of(
+      arguments("script", new SearchSourceBuilder()
+        .query(exactTermQueryBuilder.getTermLevelQuery(EMPTY_ARRAY, "languages", INSTANCE_RESOURCE, "keyword"))),
+      arguments("multi_match", new SearchSourceBuilder()
+        .query(multiMatchQuery("value", "title.*", "source.*").operator(AND).type(CROSS_FIELDS))),
+      arguments("multi_match phrase", new SearchSourceBuilder()
+        .query(exactTermQueryBuilder.getQuery("value", INSTANCE_RESOURCE, emptyList(), "title.*", "source"))),
+      arguments("range", new SearchSourceBuilder()
+        .query(boolQuery().filter(rangeQuery("metadata.createdDate").gte("2021-03-01").lt("2021-03-02")))),
+      arguments("wildcard", new SearchSourceBuilder()
+        .query(boolQuery()
+          .should(wildcardQuery("plain_title", "*value").rewrite("constant_score"))
+          .should(wildcardQuery("source", "val*").rewrite("constant_score")))),
+      arguments("sorts", new SearchSourceBuilder()
+        .query(matchAllQuery())
+        .sort(fieldSort("sort_title").order(SortOrder.DESC))
+        .sort(fieldSort("sort_contributors").order(SortOrder.ASC).missing("_last")))
+    );
+  }
+
+  private static SearchSourceBuilder expectedSearchSource() {
+    return new SearchSourceBuilder()
+      .query(boolQuery().must(matchQuery("title", "value").operator(AND)).filter(termQuery("source", "marc")))
+      .sort(fieldSort("sort_title").order(SortOrder.DESC));
+  }
+}
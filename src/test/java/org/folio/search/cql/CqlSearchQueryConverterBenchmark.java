@@ -0,0 +1,111 @@
+package org.folio.search.cql;
+
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestUtils.keywordField;
+import static org.folio.search.utils.TestUtils.multilangField;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.search.sort.SortBuilders.fieldSort;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.cql.builders.AllTermQueryBuilder;
+import org.folio.search.cql.builders.AnyTermQueryBuilder;
+import org.folio.search.cql.builders.EqualTermQueryBuilder;
+import org.folio.search.cql.builders.ExactTermQueryBuilder;
+import org.folio.search.cql.builders.FulltextQueryBuilder;
+import org.folio.search.cql.builders.WildcardTermQueryBuilder;
+import org.folio.search.service.consortium.ConsortiumSearchHelper;
+import org.folio.search.service.metadata.LocalSearchFieldProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+/**
+ * Measures the number of CQL queries converted per second by {@link CqlSearchQueryConverter} with and without
+ * {@link CqlQueryTemplateCache}.
+ *
+ * <p>Queries are repeated in a round-robin manner, as the same queries are sent by UI and integrations over and
+ * over again. Can be started from the IDE using {@link #main(String[])} method.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CqlSearchQueryConverterBenchmark {
+
+  private static final List<String> QUERIES = List.of(
+    "cql.allRecords=1 sortby title",
+    "title all \"war and peace\"",
+    "keyword all \"semantic web\" and languages==\"eng\" and source==\"MARC\"",
+    "title any \"java programming\" or contributors.name=\"Tolstoy*\"",
+    "(title all \"history\" and staffSuppress==false) not discoverySuppress==true",
+    "id==\"4d47a6ff-7d2a-4c11-9e0f-2f7ef6d7a5f5\" or id==\"1c9b5a9f-3f55-4a3e-9b1a-5b0c1c8e7a0d\"");
+
+  @Param({"false", "true"})
+  private boolean cacheEnabled;
+
+  private CqlSearchQueryConverter converter;
+  private int queryIndex;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(CqlSearchQueryConverterBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  @Setup
+  public void setUp() {
+    var searchFieldProvider = mock(LocalSearchFieldProvider.class);
+    when(searchFieldProvider.getModifiedField(anyString(), anyString())).thenAnswer(inv -> inv.getArgument(0));
+    when(searchFieldProvider.getFields(anyString(), anyString())).thenReturn(Collections.emptyList());
+    when(searchFieldProvider.getFields(INSTANCE_RESOURCE, "keyword")).thenReturn(List.of("title.*", "source.*"));
+    when(searchFieldProvider.getPlainFieldByPath(eq(INSTANCE_RESOURCE), anyString()))
+      .thenReturn(Optional.of(keywordField()));
+    when(searchFieldProvider.getPlainFieldByPath(INSTANCE_RESOURCE, "title"))
+      .thenReturn(Optional.of(multilangField()));
+    when(searchFieldProvider.getPlainFieldByPath(INSTANCE_RESOURCE, "contributors.name"))
+      .thenReturn(Optional.of(multilangField()));
+
+    var termQueryBuilders = List.<FulltextQueryBuilder>of(new AllTermQueryBuilder(), new AnyTermQueryBuilder(),
+      new EqualTermQueryBuilder(), new ExactTermQueryBuilder(), new WildcardTermQueryBuilder());
+    termQueryBuilders.forEach(termQueryBuilder -> termQueryBuilder.setSearchFieldProvider(searchFieldProvider));
+
+    var cqlSortProvider = mock(CqlSortProvider.class);
+    when(cqlSortProvider.getSort(any(), anyString())).thenReturn(List.of(fieldSort("sort_title")));
+
+    var cacheConfiguration = new SearchCacheConfigurationProperties();
+    cacheConfiguration.setCqlQueryTemplateCacheEnabled(cacheEnabled);
+
+    converter = new CqlSearchQueryConverter(new CqlQueryParser(), cqlSortProvider, searchFieldProvider,
+      new CqlTermQueryConverter(searchFieldProvider, List.copyOf(termQueryBuilders), Map.of()),
+      mock(ConsortiumSearchHelper.class), new CqlQueryTemplateCache(cacheConfiguration, new SimpleMeterRegistry()));
+  }
+
+  @Benchmark
+  public SearchSourceBuilder convert() {
+    var query = QUERIES.get(queryIndex);
+    queryIndex = (queryIndex + 1) % QUERIES.size();
+    return converter.convert(query, INSTANCE_RESOURCE);
+  }
+}
@@ -30,9 +30,12 @@ import static org.opensearch.index.query.QueryBuilders.termQuery;
 import static org.opensearch.search.sort.SortBuilders.fieldSort;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
 import org.folio.search.cql.CqlSearchQueryConverterTest.ConverterTestConfiguration;
 import org.folio.search.exception.RequestValidationException;
 import org.folio.search.exception.SearchServiceException;
@@ -501,5 +504,29 @@ class CqlSearchQueryConverterTest {
     SearchTermProcessor oclcSearchTermProcessor() {
       return inputTerm -> inputTerm.replaceAll("0", "");
     }
+
+    @Bean
+    CqlQueryTemplateCache cqlQueryTemplateCache() {
+      var cacheConfiguration = new SearchCacheConfigurationProperties();
+      cacheConfiguration.setCqlQueryTemplateCacheEnabled(true);
+      return new CqlQueryTemplateCache(cacheConfiguration, new SimpleMeterRegistry()) {
+
+        /**
+         * Conversion results depend on stubs of each test, so each query is cached in a new query template cache,
+         * the cached copy returned to the test must be equal to the converted query.
+         */
+        @Override
+        public SearchSourceBuilder get(String query, String resource, Supplier<SearchSourceBuilder> converter) {
+          var converted = converter.get();
+          var templateCache = new CqlQueryTemplateCache(cacheConfiguration, new SimpleMeterRegistry());
+          templateCache.get(query, resource, () -> converted);
+          var cached = templateCache.get(query, resource, () -> {
+            throw new AssertionError("Query template is not cached");
+          });
+          assertThat(cached).isEqualTo(converted);
+          return cached;
+        }
+      };
+    }
   }
 }
@@ -2,6 +2,8 @@ package org.folio.search.integration;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.integration.FolioMessageBatchProcessor.FAILED_VALUES_METRIC_NAME;
+import static org.folio.search.integration.FolioMessageBatchProcessor.FALLBACK_METRIC_NAME;
 import static org.folio.search.utils.TestUtils.mapOf;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
@@ -9,6 +11,8 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -27,8 +31,13 @@ class FolioMessageBatchProcessorTest {
   private final RetryTemplate retryTemplate = spy(RetryTemplate.builder().maxAttempts(3).fixedBackoff(1).build());
   private final RetryTemplate customRetryTemplate = spy(RetryTemplate.builder().maxAttempts(5).fixedBackoff(1).build());
 
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
   private final FolioMessageBatchProcessor folioMessageBatchProcessor = new FolioMessageBatchProcessor(
-    mapOf("default", retryTemplate, "custom", customRetryTemplate), retryTemplate);
+    mapOf("default", retryTemplate, "custom", customRetryTemplate), retryTemplate,
+    new OneByOneBatchFallbackStrategy(), meterRegistry);
+  private final FolioMessageBatchProcessor bisectingBatchProcessor = new FolioMessageBatchProcessor(
+    mapOf("default", retryTemplate), retryTemplate, new BisectingBatchFallbackStrategy(), meterRegistry);
 
   @Test
   void consumeBatchWithFallback_positive() {
@@ -118,6 +127,60 @@ class FolioMessageBatchProcessorTest {
       verifyFailedMessage(list.get(1), 2);
       verifyFailedMessage(list.get(2), 3);
     });
+    assertThat(fallbackCount(FALLBACK_METRIC_NAME, "one-by-one")).isEqualTo(1.0);
+    assertThat(fallbackCount(FAILED_VALUES_METRIC_NAME, "one-by-one")).isEqualTo(3.0);
+  }
+
+  @Test
+  void consumeBatchWithFallback_positive_bisectingIsolatesPoisonValues() {
+    var consumedMessages = new ArrayList<Integer>();
+    var failedMessages = new ArrayList<Pair<Integer, Exception>>();
+    var consumedBatches = new ArrayList<List<Integer>>();
+    Consumer<List<Integer>> batchConsumer = values -> {
+      consumedBatches.add(List.copyOf(values));
+      if (values.contains(3) || values.contains(6)) {
+        throw new RuntimeException("error");
+      }
+      consumedMessages.addAll(values);
+    };
+
+    bisectingBatchProcessor.consumeBatchWithFallback(List.of(1, 2, 3, 4, 5, 6, 7, 8), null,
+      batchConsumer, (value, err) -> failedMessages.add(Pair.of(value, err)));
+
+    assertThat(consumedMessages).containsExactly(1, 2, 4, 5, 7, 8);
+    assertThat(failedMessages).hasSize(2).satisfies(list -> {
+      verifyFailedMessage(list.get(0), 3);
+      verifyFailedMessage(list.get(1), 6);
+    });
+    assertThat(consumedBatches).doesNotContain(List.of(1), List.of(2), List.of(7), List.of(8));
+    assertThat(fallbackCount(FALLBACK_METRIC_NAME, "bisect")).isEqualTo(1.0);
+    assertThat(fallbackCount(FAILED_VALUES_METRIC_NAME, "bisect")).isEqualTo(2.0);
+  }
+
+  @Test
+  void consumeBatchWithFallback_positive_bisectingRetriesSubBatches() {
+    var consumedMessages = new ArrayList<Integer>();
+    var failedMessages = new ArrayList<Pair<Integer, Exception>>();
+    var attemptsCounter = new AtomicInteger(1);
+    bisectingBatchProcessor.consumeBatchWithFallback(List.of(1, 2, 3), null,
+      attemptThrowingConsumer(consumedMessages, attemptsCounter, 12),
+      (value, err) -> failedMessages.add(Pair.of(value, err)));
+
+    assertThat(consumedMessages).containsExactly(3);
+    assertThat(failedMessages).hasSize(2).satisfies(list -> {
+      verifyFailedMessage(list.get(0), 1);
+      verifyFailedMessage(list.get(1), 2);
+    });
+  }
+
+  @Test
+  void consumeBatchWithFallback_positive_noFallbackMetricsForSuccessfulBatch() {
+    bisectingBatchProcessor.consumeBatchWithFallback(List.of(1, 2, 3), null, values -> { }, (value, err) -> { });
+    assertThat(meterRegistry.find(FALLBACK_METRIC_NAME).counter()).isNull();
+  }
+
+  private double fallbackCount(String metricName, String strategyName) {
+    return meterRegistry.get(metricName).tag("strategy", strategyName).counter().count();
   }
 
   private void verifyFailedMessage(Pair<Integer, Exception> value, int expectedValue) {
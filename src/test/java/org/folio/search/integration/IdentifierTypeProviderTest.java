@@ -0,0 +1,108 @@
+package org.folio.search.integration;
+
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.client.InventoryReferenceDataClient.ReferenceDataType.IDENTIFIER_TYPES;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.model.client.CqlQueryParam;
+import org.folio.search.model.context.FolioExecutionContextBuilder;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.test.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class IdentifierTypeProviderTest {
+
+  private static final List<String> ISBN_NAMES = List.of("ISBN", "Invalid ISBN");
+
+  @Mock
+  private ReferenceDataService referenceDataService;
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+  private final FolioExecutionContextBuilder contextBuilder = new FolioExecutionContextBuilder(null);
+
+  @BeforeEach
+  void setUp() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+  }
+
+  @Test
+  void getIdentifierTypeIds_positive_snapshotIsCached() {
+    var provider = identifierTypeProvider(Duration.ofMinutes(10));
+    mockLoadReferenceData(Set.of("isbn"));
+
+    assertThat(provider.getIdentifierTypeIds(ISBN_NAMES)).containsExactly("isbn");
+    assertThat(provider.getIdentifierTypeIds(ISBN_NAMES)).containsExactly("isbn");
+
+    verify(referenceDataService).loadReferenceData(IDENTIFIER_TYPES, CqlQueryParam.NAME, ISBN_NAMES);
+  }
+
+  @Test
+  void getIdentifierTypeIds_negative_emptySnapshotIsNotCached() {
+    var provider = identifierTypeProvider(Duration.ofMinutes(10));
+    mockLoadReferenceData(emptySet());
+
+    assertThat(provider.getIdentifierTypeIds(ISBN_NAMES)).isEmpty();
+    assertThat(provider.getIdentifierTypeIds(ISBN_NAMES)).isEmpty();
+
+    verify(referenceDataService, times(2)).loadReferenceData(IDENTIFIER_TYPES, CqlQueryParam.NAME, ISBN_NAMES);
+  }
+
+  @Test
+  void getIdentifierTypeIds_positive_snapshotIsLoadedAfterFailedLoad() {
+    var provider = identifierTypeProvider(Duration.ofMinutes(10));
+    mockLoadReferenceData(emptySet(), Set.of("isbn"));
+
+    assertThat(provider.getIdentifierTypeIds(ISBN_NAMES)).isEmpty();
+    assertThat(provider.getIdentifierTypeIds(ISBN_NAMES)).containsExactly("isbn");
+    assertThat(provider.getIdentifierTypeIds(ISBN_NAMES)).containsExactly("isbn");
+
+    verify(referenceDataService, times(2)).loadReferenceData(IDENTIFIER_TYPES, CqlQueryParam.NAME, ISBN_NAMES);
+  }
+
+  @Test
+  void getIdentifierTypeIds_positive_snapshotIsRefreshed() {
+    var provider = identifierTypeProvider(Duration.ofNanos(1));
+    mockLoadReferenceData(Set.of("isbn"), Set.of("isbn", "invalid-isbn"));
+
+    assertThat(provider.getIdentifierTypeIds(ISBN_NAMES)).containsExactly("isbn");
+    provider.getIdentifierTypeIds(ISBN_NAMES);
+    assertThat(provider.getIdentifierTypeIds(ISBN_NAMES)).containsExactlyInAnyOrder("isbn", "invalid-isbn");
+  }
+
+  @Test
+  void getIdentifierTypeIds_negative_previousSnapshotIsKeptIfRefreshReturnedNothing() {
+    var provider = identifierTypeProvider(Duration.ofNanos(1));
+    mockLoadReferenceData(Set.of("isbn"), emptySet());
+
+    assertThat(provider.getIdentifierTypeIds(ISBN_NAMES)).containsExactly("isbn");
+    provider.getIdentifierTypeIds(ISBN_NAMES);
+    assertThat(provider.getIdentifierTypeIds(ISBN_NAMES)).containsExactly("isbn");
+  }
+
+  private IdentifierTypeProvider identifierTypeProvider(Duration refreshInterval) {
+    var cacheProperties = new SearchCacheConfigurationProperties();
+    cacheProperties.setIdentifierTypesRefreshInterval(refreshInterval);
+    return new IdentifierTypeProvider(referenceDataService, folioExecutionContext, contextBuilder, cacheProperties,
+      Runnable::run);
+  }
+
+  @SafeVarargs
+  private void mockLoadReferenceData(Set<String> identifierTypeIds, Set<String>... nextIdentifierTypeIds) {
+    when(referenceDataService.loadReferenceData(IDENTIFIER_TYPES, CqlQueryParam.NAME, ISBN_NAMES))
+      .thenReturn(identifierTypeIds, nextIdentifierTypeIds);
+  }
+}
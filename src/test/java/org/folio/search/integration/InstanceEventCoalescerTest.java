@@ -0,0 +1,131 @@
+package org.folio.search.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.domain.dto.ResourceEventType.CREATE;
+import static org.folio.search.domain.dto.ResourceEventType.DELETE;
+import static org.folio.search.domain.dto.ResourceEventType.UPDATE;
+import static org.folio.search.integration.InstanceEventCoalescer.COALESCED_EVENTS_METRIC_NAME;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestUtils.mapOf;
+import static org.folio.search.utils.TestUtils.randomId;
+import static org.folio.search.utils.TestUtils.resourceEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.spring.test.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class InstanceEventCoalescerTest {
+
+  private static final String TOPIC = "inventory.instance";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final InstanceEventCoalescer coalescer = new InstanceEventCoalescer(meterRegistry);
+
+  @Test
+  void coalesce_positive_lastEventPerInstanceIsKept() {
+    var id1 = randomId();
+    var id2 = randomId();
+    var event1 = instanceEvent(id1, UPDATE, mapOf("id", id1));
+    var event2 = instanceEvent(id2, CREATE, mapOf("id", randomId(), "instanceId", id2));
+    var event3 = instanceEvent(id1, CREATE, mapOf("id", randomId(), "instanceId", id1));
+    var event4 = instanceEvent(id1, CREATE, mapOf("id", randomId(), "instanceId", id1));
+
+    var actual = coalescer.coalesce(records(event1, event2, event3, event4));
+
+    assertThat(actual).containsExactly(event4, event2);
+    assertThat(coalescedCount()).isEqualTo(2.0);
+  }
+
+  @Test
+  void coalesce_positive_deleteIsNotSupersededByCreate() {
+    var id = randomId();
+    var deleteEvent = instanceEvent(id, DELETE, null).old(mapOf("id", id));
+    var itemEvent = instanceEvent(id, CREATE, mapOf("id", randomId(), "instanceId", id));
+
+    var actual = coalescer.coalesce(records(deleteEvent, itemEvent));
+
+    assertThat(actual).containsExactly(deleteEvent);
+    assertThat(coalescedCount()).isEqualTo(1.0);
+  }
+
+  @Test
+  void coalesce_positive_moveEventsAreKept() {
+    var id = randomId();
+    var instanceEvent = instanceEvent(id, UPDATE, mapOf("id", id));
+    var moveEvent = instanceEvent(id, CREATE, mapOf("id", randomId(), "instanceId", id))
+      .old(mapOf("id", randomId(), "instanceId", randomId()));
+
+    var actual = coalescer.coalesce(records(instanceEvent, moveEvent));
+
+    assertThat(actual).containsExactly(instanceEvent, moveEvent);
+    assertThat(coalescedCount()).isZero();
+  }
+
+  @Test
+  void coalesce_positive_eventsOfDifferentTenantsAreKept() {
+    var id = randomId();
+    var event1 = instanceEvent(id, UPDATE, mapOf("id", id));
+    var event2 = instanceEvent(id, UPDATE, mapOf("id", id)).tenant("tenant2");
+
+    var actual = coalescer.coalesce(records(event1, event2));
+
+    assertThat(actual).containsExactly(event1, event2);
+  }
+
+  @Test
+  void coalesce_positive_lastEventIsSelectedByOffsetWithinPartition() {
+    var id = randomId();
+    var laterEvent = instanceEvent(id, UPDATE, mapOf("id", id));
+    var earlierEvent = instanceEvent(id, UPDATE, mapOf("id", id, "title", "old"));
+
+    var actual = coalescer.coalesce(List.of(
+      consumerRecord(laterEvent, 0, 5L), consumerRecord(earlierEvent, 0, 3L)));
+
+    assertThat(actual).containsExactly(laterEvent);
+  }
+
+  @Test
+  void coalesce_positive_eventsOfDifferentPartitionsAreOrderedByPoll() {
+    var id = randomId();
+    var event1 = instanceEvent(id, UPDATE, mapOf("id", id));
+    var event2 = instanceEvent(id, CREATE, mapOf("id", randomId(), "instanceId", id));
+
+    var actual = coalescer.coalesce(List.of(consumerRecord(event1, 0, 5L), consumerRecord(event2, 1, 3L)));
+
+    assertThat(actual).containsExactly(event2);
+  }
+
+  @Test
+  void coalesce_positive_eventsOfPreviousPollsAreNotCompared() {
+    var id = randomId();
+    var event = instanceEvent(id, UPDATE, mapOf("id", id));
+
+    assertThat(coalescer.coalesce(List.of(consumerRecord(event, 0, 1L)))).containsExactly(event);
+    assertThat(coalescer.coalesce(List.of(consumerRecord(event, 0, 1L)))).containsExactly(event);
+  }
+
+  private double coalescedCount() {
+    return meterRegistry.get(COALESCED_EVENTS_METRIC_NAME).counter().count();
+  }
+
+  private static ResourceEvent instanceEvent(String id, ResourceEventType type, Object newData) {
+    return resourceEvent(id, INSTANCE_RESOURCE, type, newData, null);
+  }
+
+  private static List<ConsumerRecord<String, ResourceEvent>> records(ResourceEvent... events) {
+    return Arrays.stream(events)
+      .map(event -> new ConsumerRecord<>(TOPIC, 0, 0, event.getId(), event))
+      .toList();
+  }
+
+  private static ConsumerRecord<String, ResourceEvent> consumerRecord(ResourceEvent event, int partition,
+                                                                      long offset) {
+    return new ConsumerRecord<>(TOPIC, partition, offset, event.getId(), event);
+  }
+}
@@ -23,6 +23,8 @@ import static org.folio.search.utils.TestUtils.setEnvProperty;
 import static org.folio.spring.integration.XOkapiHeaders.TENANT;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -124,7 +126,7 @@ class KafkaMessageListenerIT {
     var expectedEvent = instanceEvent();
     resourceKafkaTemplate.send(inventoryInstanceTopic(), INSTANCE_ID, instanceEvent());
     await().atMost(ONE_MINUTE).pollInterval(ONE_HUNDRED_MILLISECONDS).untilAsserted(() ->
-      verify(resourceService).indexInstancesById(List.of(expectedEvent)));
+      verify(resourceService).indexInstancesById(eq(List.of(expectedEvent)), anyLong()));
   }
 
   @Test
@@ -142,40 +144,40 @@ class KafkaMessageListenerIT {
     var expectedEvent = instanceEvent()._new(boundWithEvent.getNew());
     resourceKafkaTemplate.send(inventoryBoundWithTopic(), INSTANCE_ID, boundWithEvent);
     await().atMost(ONE_MINUTE).pollInterval(ONE_HUNDRED_MILLISECONDS).untilAsserted(() ->
-      verify(resourceService).indexInstancesById(List.of(expectedEvent)));
+      verify(resourceService).indexInstancesById(eq(List.of(expectedEvent)), anyLong()));
   }
 
   @Test
   void handleInstanceEvents_negative_tenantIndexNotInitialized() throws Exception {
     var idEvent = instanceEvent();
 
-    when(resourceService.indexInstancesById(List.of(idEvent))).thenThrow(
+    when(resourceService.indexInstancesById(eq(List.of(idEvent)), anyLong())).thenThrow(
       new SearchOperationException("Failed to upload events"));
 
     resourceKafkaTemplate.send(inventoryInstanceTopic(), INSTANCE_ID, instanceEvent()).get();
 
     await().atMost(FIVE_SECONDS).pollInterval(ONE_HUNDRED_MILLISECONDS).untilAsserted(() ->
-      verify(resourceService, times(3)).indexInstancesById(List.of(idEvent)));
+      verify(resourceService, times(3)).indexInstancesById(eq(List.of(idEvent)), anyLong()));
   }
 
   @Test
   void handleInstanceEvents_negative_tenantSchemaIsNotInitialized() throws Exception {
     var idEvent = instanceEvent();
 
-    when(resourceService.indexInstancesById(List.of(idEvent))).thenThrow(
+    when(resourceService.indexInstancesById(eq(List.of(idEvent)), anyLong())).thenThrow(
       new SQLGrammarException("could not extract ResultSet", new SQLException()));
 
     resourceKafkaTemplate.send(inventoryInstanceTopic(), INSTANCE_ID, instanceEvent()).get();
 
     await().atMost(FIVE_SECONDS).pollInterval(ONE_HUNDRED_MILLISECONDS).untilAsserted(() ->
-      verify(resourceService, times(3)).indexInstancesById(List.of(idEvent)));
+      verify(resourceService, times(3)).indexInstancesById(eq(List.of(idEvent)), anyLong()));
   }
 
   @Test
   void handleInstanceEvents_positive_splittingBatchToTheParts() {
     var ids = List.of(randomId(), randomId(), randomId());
 
-    when(resourceService.indexInstancesById(anyList())).thenAnswer(inv -> {
+    when(resourceService.indexInstancesById(anyList(), anyLong())).thenAnswer(inv -> {
       var resourceIdEvents = inv.<List<ResourceEvent>>getArgument(0);
       if (resourceIdEvents.size() == 3) {
         throw new SearchOperationException("Failed to save bulk");
@@ -191,9 +193,9 @@ class KafkaMessageListenerIT {
 
     var expectedEvents = ids.stream().map(KafkaMessageListenerIT::instanceEvent).toList();
     await().atMost(TEN_SECONDS).pollInterval(ONE_HUNDRED_MILLISECONDS).untilAsserted(() -> {
-      verify(resourceService).indexInstancesById(List.of(expectedEvents.get(0)));
-      verify(resourceService).indexInstancesById(List.of(expectedEvents.get(1)));
-      verify(resourceService, times(3)).indexInstancesById(List.of(expectedEvents.get(2)));
+      verify(resourceService).indexInstancesById(eq(List.of(expectedEvents.get(0))), anyLong());
+      verify(resourceService).indexInstancesById(eq(List.of(expectedEvents.get(1))), anyLong());
+      verify(resourceService, times(3)).indexInstancesById(eq(List.of(expectedEvents.get(2))), anyLong());
     });
   }
 
@@ -2,6 +2,7 @@ package org.folio.search.integration;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.configuration.RetryTemplateConfiguration.KAFKA_RETRY_TEMPLATE_NAME;
 import static org.folio.search.domain.dto.ResourceEventType.CREATE;
 import static org.folio.search.domain.dto.ResourceEventType.DELETE;
@@ -27,19 +28,27 @@ import static org.folio.search.utils.TestUtils.resourceEvent;
 import static org.folio.search.utils.TestUtils.toMap;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.retry.support.RetryTemplate.defaultInstance;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.domain.dto.Authority;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.domain.dto.ResourceEventType;
@@ -58,6 +67,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -65,10 +75,18 @@ class KafkaMessageListenerTest {
 
   @Spy
   private final FolioMessageBatchProcessor batchProcessor =
-    new FolioMessageBatchProcessor(emptyMap(), defaultInstance());
+    new FolioMessageBatchProcessor(emptyMap(), defaultInstance(),
+      new BisectingBatchFallbackStrategy(), new SimpleMeterRegistry());
   @Spy
   @SuppressWarnings("unused")
   private final JsonConverter jsonConverter = new JsonConverter(OBJECT_MAPPER);
+  @Spy
+  private final SearchConfigurationProperties searchConfigurationProperties = searchConfigurationProperties();
+  @Spy
+  private final SimpleAsyncTaskExecutor tenantEventsExecutor = new SimpleAsyncTaskExecutor();
+  @Spy
+  private final InstanceEventCoalescer instanceEventCoalescer =
+    new InstanceEventCoalescer(new SimpleMeterRegistry());
   @InjectMocks
   private KafkaMessageListener messageListener;
   @Mock
@@ -103,14 +121,12 @@ class KafkaMessageListenerTest {
       new ConsumerRecord<>(inventoryBoundWithTopic(), 0, 0, instanceId1, boundWithEvent)));
 
     var expectedEvents = List.of(
-      resourceEvent(instanceId1, INSTANCE_RESOURCE, CREATE, instanceEvent1.getNew(), null),
-      resourceEvent(instanceId2, INSTANCE_RESOURCE, CREATE, instanceEvent2.getNew(), null),
+      resourceEvent(instanceId1, INSTANCE_RESOURCE, CREATE, boundWithEvent.getNew(), null),
       resourceEvent(instanceId2, INSTANCE_RESOURCE, CREATE, itemEvent.getNew(), null),
-      resourceEvent(instanceId3, INSTANCE_RESOURCE, CREATE, holdingEvent1.getNew(), null),
-      resourceEvent(instanceId1, INSTANCE_RESOURCE, CREATE, boundWithEvent.getNew(), null)
+      resourceEvent(instanceId3, INSTANCE_RESOURCE, CREATE, holdingEvent1.getNew(), null)
     );
 
-    verify(resourceService).indexInstancesById(expectedEvents);
+    verify(resourceService).indexInstancesById(eq(expectedEvents), anyLong());
     verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
   }
 
@@ -126,19 +142,20 @@ class KafkaMessageListenerTest {
     var expectedEvent = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, eventTypeEnumValue, resourceBody.getNew(), null);
     var expectedEvents = List.of(expectedEvent);
 
-    verify(resourceService).indexInstancesById(expectedEvents);
+    verify(resourceService).indexInstancesById(eq(expectedEvents), anyLong());
     verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
   }
 
   @Test
   void handleEvents_negative_shouldLogFailedEvent() {
     var expectedEvent = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, mapOf("id", RESOURCE_ID));
-    when(resourceService.indexInstancesById(List.of(expectedEvent))).thenThrow(new RuntimeException("failed to save"));
+    when(resourceService.indexInstancesById(eq(List.of(expectedEvent)), anyLong()))
+      .thenThrow(new RuntimeException("failed to save"));
 
     var instanceEvent = resourceEvent(null, null, mapOf("id", RESOURCE_ID));
     messageListener.handleInstanceEvents(List.of(
       new ConsumerRecord<>(INVENTORY_INSTANCE_TOPIC, 0, 0, RESOURCE_ID, instanceEvent)));
-    verify(resourceService, times(3)).indexInstancesById(List.of(expectedEvent));
+    verify(resourceService, times(3)).indexInstancesById(eq(List.of(expectedEvent)), anyLong());
   }
 
   @Test
@@ -149,7 +166,7 @@ class KafkaMessageListenerTest {
 
     var expectedEvents = List.of(resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, REINDEX));
     verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
-    verify(resourceService).indexInstancesById(expectedEvents);
+    verify(resourceService).indexInstancesById(eq(expectedEvents), anyLong());
   }
 
   @Test
@@ -163,13 +180,94 @@ class KafkaMessageListenerTest {
       new ConsumerRecord<>(inventoryItemTopic(), 0, 0, RESOURCE_ID, itemEvent),
       new ConsumerRecord<>(inventoryHoldingTopic(), 0, 0, RESOURCE_ID, holdingEvent)));
 
-    var expectedEvents = List.of(
-      resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, CREATE, null, itemPayload),
-      resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, CREATE, null, holdingPayload));
-    verify(resourceService).indexInstancesById(expectedEvents);
+    var expectedEvents = List.of(resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, CREATE, null, holdingPayload));
+    verify(resourceService).indexInstancesById(eq(expectedEvents), anyLong());
     verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
   }
 
+  @Test
+  void handleEvents_positive_tenantSubBatchesContainOnlyOwnEvents() {
+    var instanceId1 = randomId();
+    var instanceId2 = randomId();
+    var instanceEvent1 = resourceEvent(null, null, mapOf("id", instanceId1));
+    var instanceEvent2 = resourceEvent(null, null, mapOf("id", instanceId2)).tenant("tenant2");
+
+    messageListener.handleInstanceEvents(List.of(
+      new ConsumerRecord<>(inventoryInstanceTopic(), 0, 0, instanceId1, instanceEvent1),
+      new ConsumerRecord<>(inventoryInstanceTopic(), 0, 0, instanceId2, instanceEvent2)));
+
+    verify(resourceService).indexInstancesById(eq(List.of(
+      resourceEvent(instanceId1, INSTANCE_RESOURCE, CREATE, instanceEvent1.getNew(), null))), anyLong());
+    verify(resourceService).indexInstancesById(eq(List.of(
+      resourceEvent(instanceId2, INSTANCE_RESOURCE, CREATE, instanceEvent2.getNew(), null).tenant("tenant2"))),
+      anyLong());
+    verify(executionService).executeSystemUserScoped(eq(TENANT_ID), any());
+    verify(executionService).executeSystemUserScoped(eq("tenant2"), any());
+    verifyNoInteractions(tenantEventsExecutor);
+  }
+
+  @Test
+  void handleEvents_positive_parallelTenantProcessing() {
+    searchConfigurationProperties.getIndexing().getTenantProcessing().setParallelEnabled(true);
+    var startedTenants = new CountDownLatch(2);
+    var processingThreads = ConcurrentHashMap.<String>newKeySet();
+    when(resourceService.indexInstancesById(anyList(), anyLong())).thenAnswer(inv -> {
+      processingThreads.add(Thread.currentThread().getName());
+      startedTenants.countDown();
+      assertThat(startedTenants.await(5, TimeUnit.SECONDS)).isTrue();
+      return null;
+    });
+
+    var instanceId1 = randomId();
+    var instanceId2 = randomId();
+    var instanceEvent1 = resourceEvent(null, null, mapOf("id", instanceId1));
+    var instanceEvent2 = resourceEvent(null, null, mapOf("id", instanceId2)).tenant("tenant2");
+
+    messageListener.handleInstanceEvents(List.of(
+      new ConsumerRecord<>(inventoryInstanceTopic(), 0, 0, instanceId1, instanceEvent1),
+      new ConsumerRecord<>(inventoryInstanceTopic(), 0, 0, instanceId2, instanceEvent2)));
+
+    assertThat(processingThreads).hasSize(2).doesNotContain(Thread.currentThread().getName());
+    verify(resourceService).indexInstancesById(eq(List.of(
+      resourceEvent(instanceId1, INSTANCE_RESOURCE, CREATE, instanceEvent1.getNew(), null))), anyLong());
+    verify(resourceService).indexInstancesById(eq(List.of(
+      resourceEvent(instanceId2, INSTANCE_RESOURCE, CREATE, instanceEvent2.getNew(), null).tenant("tenant2"))),
+      anyLong());
+  }
+
+  @Test
+  void handleEvents_positive_tenantSubBatchesLimitedPerTenant() throws Exception {
+    searchConfigurationProperties.getIndexing().getTenantProcessing().setParallelEnabled(true);
+    var blockingInstanceId = randomId();
+    var limitedInstanceId = randomId();
+    var otherTenantInstanceId = randomId();
+    var blockingBatchStarted = new CountDownLatch(1);
+    var blockingBatchReleased = new CountDownLatch(1);
+    var processingThreads = new ConcurrentHashMap<String, String>();
+    when(resourceService.indexInstancesById(anyList(), anyLong())).thenAnswer(inv -> {
+      var instanceId = inv.<List<ResourceEvent>>getArgument(0).get(0).getId();
+      processingThreads.put(instanceId, Thread.currentThread().getName());
+      if (instanceId.equals(blockingInstanceId)) {
+        blockingBatchStarted.countDown();
+        assertThat(blockingBatchReleased.await(5, TimeUnit.SECONDS)).isTrue();
+      }
+      return null;
+    });
+
+    var firstPoll = CompletableFuture.runAsync(() -> messageListener.handleInstanceEvents(List.of(
+      instanceRecord(blockingInstanceId, TENANT_ID), instanceRecord(randomId(), "tenant3"))));
+    assertThat(blockingBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    messageListener.handleInstanceEvents(List.of(
+      instanceRecord(limitedInstanceId, TENANT_ID), instanceRecord(otherTenantInstanceId, "tenant2")));
+    blockingBatchReleased.countDown();
+    firstPoll.get(5, TimeUnit.SECONDS);
+
+    var listenerThread = Thread.currentThread().getName();
+    assertThat(processingThreads.get(limitedInstanceId)).isEqualTo(listenerThread);
+    assertThat(processingThreads.get(otherTenantInstanceId)).isNotEqualTo(listenerThread);
+  }
+
   @Test
   void handleAuthorityEvent_positive() {
     var payload = toMap(new Authority().id(RESOURCE_ID));
@@ -275,4 +373,15 @@ class KafkaMessageListenerTest {
       eq(KAFKA_RETRY_TEMPLATE_NAME),
       any(), any());
   }
+
+  private static SearchConfigurationProperties searchConfigurationProperties() {
+    var searchConfigurationProperties = new SearchConfigurationProperties();
+    searchConfigurationProperties.setIndexing(new SearchConfigurationProperties.IndexingSettings());
+    return searchConfigurationProperties;
+  }
+
+  private static ConsumerRecord<String, ResourceEvent> instanceRecord(String instanceId, String tenant) {
+    var event = resourceEvent(null, null, mapOf("id", instanceId)).tenant(tenant);
+    return new ConsumerRecord<>(inventoryInstanceTopic(), 0, 0, instanceId, event);
+  }
 }
@@ -1,8 +1,11 @@
 package org.folio.search.integration;
 
 import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.search.domain.dto.ResourceEventType.CREATE;
 import static org.folio.search.domain.dto.ResourceEventType.UPDATE;
+import static org.folio.search.integration.KafkaMessageProducer.SEND_TIMER_NAME;
 import static org.folio.search.utils.SearchUtils.ID_FIELD;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
 import static org.folio.search.utils.SearchUtils.SOURCE_CONSORTIUM_PREFIX;
@@ -10,19 +13,27 @@ import static org.folio.search.utils.SearchUtils.SOURCE_FIELD;
 import static org.folio.search.utils.TestUtils.mapOf;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.folio.search.utils.TestUtils.resourceEvent;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.exception.SearchServiceException;
 import org.folio.search.service.consortium.ConsortiumTenantService;
 import org.folio.search.utils.JsonConverter;
 import org.folio.spring.test.type.UnitTest;
 import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -46,6 +57,16 @@ class KafkaMessageProducerTest {
   private KafkaTemplate<String, ResourceEvent> kafkaTemplate;
   @Mock
   private ConsortiumTenantService tenantService;
+  @Spy
+  private SearchConfigurationProperties searchConfigurationProperties = searchConfigurationProperties();
+  @Spy
+  private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(kafkaTemplate.send(ArgumentMatchers.<ProducerRecord<String, ResourceEvent>>any()))
+      .thenReturn(CompletableFuture.completedFuture(null));
+  }
 
   @Test
   void shouldSendTwoSubjectEvents_whenSubjectChanged() {
@@ -56,7 +77,7 @@ class KafkaMessageProducerTest {
       instanceObjectWithSubjects(instanceId, newSubjectObject),
       instanceObjectWithSubjects(instanceId, oldSubjectObject)
     );
-    producer.prepareAndSendSubjectEvents(singletonList(resourceEvent));
+    producer.prepareAndSendContributorAndSubjectEvents(singletonList(resourceEvent));
 
     verify(kafkaTemplate, times(2)).send(ArgumentMatchers.<ProducerRecord<String, ResourceEvent>>any());
   }
@@ -71,7 +92,7 @@ class KafkaMessageProducerTest {
       instanceObjectWithSubjects(instanceId, newContributorObject),
       instanceObjectWithSubjects(instanceId, oldContributorObject)
     );
-    producer.prepareAndSendSubjectEvents(singletonList(resourceEvent));
+    producer.prepareAndSendContributorAndSubjectEvents(singletonList(resourceEvent));
 
     verify(kafkaTemplate, never()).send(ArgumentMatchers.<ProducerRecord<String, ResourceEvent>>any());
   }
@@ -84,7 +105,7 @@ class KafkaMessageProducerTest {
     Map<String, String> instanceObject = instanceObjectWithSubjects(instanceId, newContributorObject);
     instanceObject.put(SOURCE_FIELD, SOURCE_CONSORTIUM_PREFIX + instanceObject.get(SOURCE_FIELD));
     var resourceEvent = resourceEvent(instanceId, INSTANCE_RESOURCE, CREATE, instanceObject, null);
-    producer.prepareAndSendSubjectEvents(singletonList(resourceEvent));
+    producer.prepareAndSendContributorAndSubjectEvents(singletonList(resourceEvent));
 
     verify(kafkaTemplate, never()).send(ArgumentMatchers.<ProducerRecord<String, ResourceEvent>>any());
   }
@@ -98,7 +119,7 @@ class KafkaMessageProducerTest {
       instanceObjectWithSubjects(instanceId, newSubjectObject),
       instanceObjectWithSubjects(instanceId, oldSubjectObject)
     );
-    producer.prepareAndSendSubjectEvents(singletonList(resourceEvent));
+    producer.prepareAndSendContributorAndSubjectEvents(singletonList(resourceEvent));
 
     verify(kafkaTemplate, never()).send(ArgumentMatchers.<ProducerRecord<String, ResourceEvent>>any());
   }
@@ -113,7 +134,7 @@ class KafkaMessageProducerTest {
       instanceObjectWithContributors(instanceId, newContributorObject),
       instanceObjectWithContributors(instanceId, oldContributorObject)
     );
-    producer.prepareAndSendContributorEvents(singletonList(resourceEvent));
+    producer.prepareAndSendContributorAndSubjectEvents(singletonList(resourceEvent));
 
     verify(kafkaTemplate, times(2)).send(ArgumentMatchers.<ProducerRecord<String, ResourceEvent>>any());
   }
@@ -129,7 +150,7 @@ class KafkaMessageProducerTest {
       instanceObjectWithContributors(instanceId, newContributorObject),
       instanceObjectWithContributors(instanceId, oldContributorObject)
     );
-    producer.prepareAndSendContributorEvents(singletonList(resourceEvent));
+    producer.prepareAndSendContributorAndSubjectEvents(singletonList(resourceEvent));
 
     verify(kafkaTemplate, never()).send(ArgumentMatchers.<ProducerRecord<String, ResourceEvent>>any());
   }
@@ -146,30 +167,68 @@ class KafkaMessageProducerTest {
       instanceObjectWithContributors(instanceId, newContributorObject),
       instanceObjectWithContributors(instanceId, oldContributorObject)
     );
-    producer.prepareAndSendContributorEvents(singletonList(resourceEvent));
+    producer.prepareAndSendContributorAndSubjectEvents(singletonList(resourceEvent));
 
     verify(kafkaTemplate, never()).send(ArgumentMatchers.<ProducerRecord<String, ResourceEvent>>any());
   }
 
   @Test
-  void prepareAndSendContributorEvents_positive_instancesWithoutContributors() {
+  void prepareAndSendContributorAndSubjectEvents_positive_instancesWithoutContributors() {
     var instanceId = randomId();
     var resourceEvent = resourceEvent(instanceId, INSTANCE_RESOURCE, CREATE, mapOf("id", instanceId), null);
-    producer.prepareAndSendContributorEvents(singletonList(resourceEvent));
+    producer.prepareAndSendContributorAndSubjectEvents(singletonList(resourceEvent));
 
     verify(kafkaTemplate, never()).send(ArgumentMatchers.<ProducerRecord<String, ResourceEvent>>any());
   }
 
   @Test
-  void prepareAndSendContributorEvents_positive_contributorWithoutTypeNameId() {
+  void prepareAndSendContributorAndSubjectEvents_positive_contributorWithoutTypeNameId() {
     var instanceId = randomId();
     var instanceObject = instanceObjectWithContributors(instanceId, mapOf("name", "John Smith"));
     var resourceEvent = resourceEvent(instanceId, INSTANCE_RESOURCE, CREATE, instanceObject, null);
-    producer.prepareAndSendContributorEvents(singletonList(resourceEvent));
+    producer.prepareAndSendContributorAndSubjectEvents(singletonList(resourceEvent));
 
     verify(kafkaTemplate).send(ArgumentMatchers.<ProducerRecord<String, ResourceEvent>>any());
   }
 
+  @Test
+  void prepareAndSendContributorAndSubjectEvents_positive() {
+    var instanceId = randomId();
+    var instanceObject = mapOf(ID_FIELD, instanceId, SOURCE_FIELD, "FOLIO",
+      "subjects", List.of(subjectObject("Medicine")),
+      "contributors", List.of(contributorObject(randomId(), "Skywalker, Luke")));
+    var resourceEvent = resourceEvent(instanceId, INSTANCE_RESOURCE, CREATE, instanceObject, null);
+
+    producer.prepareAndSendContributorAndSubjectEvents(singletonList(resourceEvent));
+
+    verify(kafkaTemplate, times(2)).send(ArgumentMatchers.<ProducerRecord<String, ResourceEvent>>any());
+    assertThat(meterRegistry.get(SEND_TIMER_NAME).tag("topic", "search.instance-subject").timer().count())
+      .isEqualTo(1);
+    assertThat(meterRegistry.get(SEND_TIMER_NAME).tag("topic", "search.instance-contributor").timer().count())
+      .isEqualTo(1);
+  }
+
+  @Test
+  void prepareAndSendContributorAndSubjectEvents_negative_sendFailed() {
+    when(kafkaTemplate.send(ArgumentMatchers.<ProducerRecord<String, ResourceEvent>>any()))
+      .thenReturn(CompletableFuture.failedFuture(new KafkaException("error")));
+    var instanceId = randomId();
+    var resourceEvent = resourceEvent(instanceId, INSTANCE_RESOURCE, CREATE,
+      instanceObjectWithSubjects(instanceId, subjectObject("Medicine")), null);
+    var resourceEvents = singletonList(resourceEvent);
+
+    assertThatThrownBy(() -> producer.prepareAndSendContributorAndSubjectEvents(resourceEvents))
+      .isInstanceOf(SearchServiceException.class)
+      .hasMessageStartingWith("Failed to send events to Kafka [records: 1");
+    assertThat(meterRegistry.get(SEND_TIMER_NAME).tag("result", "failure").timer().count()).isEqualTo(1);
+  }
+
+  private static SearchConfigurationProperties searchConfigurationProperties() {
+    var properties = new SearchConfigurationProperties();
+    properties.setIndexing(new SearchConfigurationProperties.IndexingSettings());
+    return properties;
+  }
+
   @NotNull
   private Map<String, String> instanceObjectWithContributors(String id, Map<String, String> contributorObject) {
     return mapOf(ID_FIELD, id, "contributors", List.of(contributorObject));
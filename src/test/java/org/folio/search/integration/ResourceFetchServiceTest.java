@@ -2,8 +2,14 @@ package org.folio.search.integration;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.awaitility.Durations.FIVE_SECONDS;
 import static org.folio.search.domain.dto.ResourceEventType.CREATE;
+import static org.folio.search.domain.dto.ResourceEventType.REINDEX;
 import static org.folio.search.domain.dto.ResourceEventType.UPDATE;
+import static org.folio.search.integration.ResourceFetchService.FETCH_SIZE_METRIC_NAME;
+import static org.folio.search.integration.ResourceFetchService.FETCH_TIMER_NAME;
+import static org.folio.search.integration.ResourceFetchService.INSTANCE_VIEW_CACHE_METRIC_NAME;
 import static org.folio.search.model.client.CqlQuery.exactMatchAny;
 import static org.folio.search.model.service.ResultList.asSinglePage;
 import static org.folio.search.utils.JsonConverter.MAP_TYPE_REFERENCE;
@@ -16,31 +22,49 @@ import static org.folio.search.utils.TestUtils.randomId;
 import static org.folio.search.utils.TestUtils.resourceEvent;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import org.folio.search.client.InventoryViewClient;
 import org.folio.search.client.InventoryViewClient.InstanceView;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.domain.dto.Holding;
 import org.folio.search.domain.dto.Instance;
 import org.folio.search.domain.dto.Item;
 import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.integration.ResourceFetchService.InstanceViewFetch;
+import org.folio.search.model.client.CqlQuery;
 import org.folio.search.model.client.CqlQueryParam;
+import org.folio.search.model.context.FolioExecutionContextBuilder;
 import org.folio.search.model.service.ResultList;
 import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionScopeExecutionContextManager;
 import org.folio.spring.test.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -52,6 +76,19 @@ class ResourceFetchServiceTest {
   private InventoryViewClient inventoryClient;
   @Mock
   private FolioExecutionContext context;
+  @Spy
+  private final FolioExecutionContextBuilder contextBuilder = new FolioExecutionContextBuilder(null);
+  @Spy
+  private final SearchConfigurationProperties searchConfigurationProperties = searchConfigurationProperties(1);
+  @Spy
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  @Spy
+  private final SimpleAsyncTaskExecutor inventoryFetchExecutor = new SimpleAsyncTaskExecutor();
+  @Spy
+  private final SearchCacheConfigurationProperties cacheConfigurationProperties =
+    new SearchCacheConfigurationProperties();
+  @Mock
+  private Cache<String, InstanceViewFetch> instanceViewCache;
 
   @BeforeEach
   void setUp() {
@@ -159,6 +196,168 @@ class ResourceFetchServiceTest {
     verify(inventoryClient, times(2)).getInstances(any(), anyInt());
   }
 
+  @Test
+  void fetchInstancesByIds_positive_concurrentPartitionsWithConfiguredBatchSize() {
+    var fetchSettings = searchConfigurationProperties.getIndexing().getInventoryFetch();
+    fetchSettings.setBatchSize(20);
+    fetchSettings.setMaxConcurrentRequests(3);
+    var events = generateResourceEvents();
+    var fetchingThreads = ConcurrentHashMap.<String>newKeySet();
+    var fetchTenants = ConcurrentHashMap.<String>newKeySet();
+    when(inventoryClient.getInstances(any(), anyInt())).thenAnswer(invocation -> {
+      fetchingThreads.add(Thread.currentThread().getName());
+      fetchTenants.add(FolioExecutionScopeExecutionContextManager.getFolioExecutionContext().getTenantId());
+      return asSinglePage(instanceViews(invocation.<CqlQuery>getArgument(0)));
+    });
+
+    var actual = resourceFetchService.fetchInstancesByIds(events);
+
+    assertThat(actual).extracting(ResourceEvent::getId)
+      .containsExactlyElementsOf(events.stream().map(ResourceEvent::getId).toList());
+    assertThat(fetchingThreads).doesNotContain(Thread.currentThread().getName());
+    assertThat(fetchTenants).containsExactly(TENANT_ID);
+    verify(inventoryClient, times(2)).getInstances(any(), eq(20));
+    verify(inventoryClient).getInstances(any(), eq(11));
+    verify(inventoryClient, times(3)).getInstances(any(), anyInt());
+    assertThat(meterRegistry.get(FETCH_TIMER_NAME).timer().count()).isEqualTo(3);
+    assertThat(meterRegistry.get(FETCH_SIZE_METRIC_NAME).summary().totalAmount()).isEqualTo(51.0);
+  }
+
+  @Test
+  void fetchInstancesByIds_positive_adaptiveBatchSize() {
+    var fetchSettings = searchConfigurationProperties.getIndexing().getInventoryFetch();
+    fetchSettings.setAdaptiveEnabled(true);
+    fetchSettings.setMaxResponseRecords(1);
+    var oversizedView = instanceView(new Instance().id(randomId())
+      .holdings(List.of(new Holding().id("holdingId"))).items(List.of(new Item().id("itemId"))), null);
+    when(inventoryClient.getInstances(any(), anyInt())).thenReturn(asSinglePage(List.of(oversizedView)));
+
+    resourceFetchService.fetchInstancesByIds(generateResourceEvents());
+    resourceFetchService.fetchInstancesByIds(generateResourceEvents());
+    fetchSettings.setMaxResponseRecords(5000);
+    resourceFetchService.fetchInstancesByIds(generateResourceEvents());
+    resourceFetchService.fetchInstancesByIds(generateResourceEvents());
+
+    verify(inventoryClient).getInstances(any(), eq(50));
+    verify(inventoryClient, times(4)).getInstances(any(), eq(12));
+    verify(inventoryClient).getInstances(any(), eq(3));
+    verify(inventoryClient, times(5)).getInstances(any(), eq(10));
+    verify(inventoryClient, times(2)).getInstances(any(), eq(1));
+    verify(inventoryClient, times(2)).getInstances(any(), eq(23));
+    verify(inventoryClient).getInstances(any(), eq(5));
+  }
+
+  @Test
+  void fetchInstancesByIds_positive_instanceViewCache() {
+    var cachingFetchService = cachingFetchService(Caffeine.newBuilder().build());
+
+    var events = List.of(resourceEvent(randomId(), INSTANCE_RESOURCE, REINDEX),
+      resourceEvent(randomId(), INSTANCE_RESOURCE, REINDEX));
+    var instanceId1 = events.get(0).getId();
+    var instanceId2 = events.get(1).getId();
+    when(inventoryClient.getInstances(exactMatchAny(CqlQueryParam.ID, List.of(instanceId1, instanceId2)), 2))
+      .thenReturn(asSinglePage(List.of(instanceView(new Instance().id(instanceId1).title("inst1"), null))));
+    when(inventoryClient.getInstances(exactMatchAny(CqlQueryParam.ID, List.of(instanceId2)), 1))
+      .thenReturn(asSinglePage(List.of(instanceView(new Instance().id(instanceId2).title("inst2"), null))));
+
+    var firstResult = cachingFetchService.fetchInstancesByIds(events);
+    var secondResult = cachingFetchService.fetchInstancesByIds(events);
+
+    assertThat(firstResult).extracting(ResourceEvent::getId).containsExactly(instanceId1);
+    assertThat(secondResult).extracting(ResourceEvent::getId).containsExactly(instanceId1, instanceId2);
+    assertThat(secondResult.get(0).getNew()).isEqualTo(firstResult.get(0).getNew())
+      .isNotSameAs(firstResult.get(0).getNew());
+    assertThat(meterRegistry.counter(INSTANCE_VIEW_CACHE_METRIC_NAME, "result", "hit").count()).isEqualTo(1);
+    assertThat(meterRegistry.counter(INSTANCE_VIEW_CACHE_METRIC_NAME, "result", "miss").count()).isEqualTo(3);
+  }
+
+  @Test
+  void fetchInstancesByIds_positive_instanceViewCachedBeforeUpdateIsNotUsed() {
+    var cachingFetchService = cachingFetchService(Caffeine.newBuilder().build());
+    var instanceId = randomId();
+    var query = exactMatchAny(CqlQueryParam.ID, List.of(instanceId));
+    when(inventoryClient.getInstances(query, 1)).thenReturn(
+      asSinglePage(List.of(instanceView(new Instance().id(instanceId).title("old"), null))),
+      asSinglePage(List.of(instanceView(new Instance().id(instanceId).title("new"), null))),
+      asSinglePage(List.of(instanceView(new Instance().id(instanceId).title("newest"), null))));
+
+    var reindexResult = cachingFetchService.fetchInstancesByIds(List.of(reindexEvent(instanceId)));
+    var updateReceivedTime = System.nanoTime();
+    var updateResult = cachingFetchService.fetchInstancesByIds(List.of(updateEvent(instanceId)), updateReceivedTime);
+    var sameTimeUpdateResult = cachingFetchService.fetchInstancesByIds(
+      List.of(updateEvent(instanceId)), updateReceivedTime);
+    var nextUpdateResult = cachingFetchService.fetchInstancesByIds(List.of(updateEvent(instanceId)), System.nanoTime());
+    var nextReindexResult = cachingFetchService.fetchInstancesByIds(List.of(reindexEvent(instanceId)));
+
+    assertThat(Stream.of(reindexResult, updateResult, sameTimeUpdateResult, nextUpdateResult, nextReindexResult))
+      .map(result -> ((Map<?, ?>) result.get(0).getNew()).get("title"))
+      .containsExactly("old", "new", "new", "newest", "newest");
+    verify(inventoryClient, times(3)).getInstances(query, 1);
+    assertThat(meterRegistry.counter(INSTANCE_VIEW_CACHE_METRIC_NAME, "result", "hit").count()).isEqualTo(2);
+  }
+
+  @Test
+  void fetchInstancesByIds_positive_inFlightFetchSharedWithEventsReceivedBeforeItStarted() throws Exception {
+    var cachingFetchService = cachingFetchService(Caffeine.newBuilder().build());
+    var instanceId = randomId();
+    var query = exactMatchAny(CqlQueryParam.ID, List.of(instanceId));
+    var fetchStarted = new CountDownLatch(1);
+    var fetchReleased = new CountDownLatch(1);
+    when(inventoryClient.getInstances(query, 1)).thenAnswer(invocation -> {
+      fetchStarted.countDown();
+      fetchReleased.await();
+      return asSinglePage(List.of(instanceView(new Instance().id(instanceId).title("new"), null)));
+    });
+
+    var receivedTime = System.nanoTime();
+    var firstResult = CompletableFuture.supplyAsync(() ->
+      cachingFetchService.fetchInstancesByIds(List.of(updateEvent(instanceId)), receivedTime));
+    fetchStarted.await();
+    var secondResult = CompletableFuture.supplyAsync(() ->
+      cachingFetchService.fetchInstancesByIds(List.of(updateEvent(instanceId)), receivedTime));
+    await().atMost(FIVE_SECONDS).until(() ->
+      meterRegistry.counter(INSTANCE_VIEW_CACHE_METRIC_NAME, "result", "hit").count() == 1);
+    fetchReleased.countDown();
+
+    assertThat(Stream.of(firstResult.get(), secondResult.get()))
+      .map(result -> ((Map<?, ?>) result.get(0).getNew()).get("title"))
+      .containsExactly("new", "new");
+    verify(inventoryClient).getInstances(query, 1);
+  }
+
+  private ResourceFetchService cachingFetchService(Cache<String, InstanceViewFetch> cache) {
+    var cacheProperties = new SearchCacheConfigurationProperties();
+    cacheProperties.setInstanceViewCacheEnabled(true);
+    return new ResourceFetchService(inventoryClient, context, contextBuilder,
+      searchConfigurationProperties, meterRegistry, inventoryFetchExecutor, cacheProperties, cache);
+  }
+
+  private static ResourceEvent reindexEvent(String instanceId) {
+    return resourceEvent(instanceId, INSTANCE_RESOURCE, REINDEX);
+  }
+
+  private static ResourceEvent updateEvent(String instanceId) {
+    return resourceEvent(instanceId, INSTANCE_RESOURCE, UPDATE,
+      mapOf("id", instanceId, "title", "new"), mapOf("id", instanceId, "title", "old"));
+  }
+
+  private static List<InstanceView> instanceViews(CqlQuery query) {
+    var matcher = Pattern.compile("[0-9a-f-]{36}").matcher(query.toString());
+    var instanceViews = new ArrayList<InstanceView>();
+    while (matcher.find()) {
+      instanceViews.add(instanceView(new Instance().id(matcher.group()).title("test"), null));
+    }
+    return instanceViews;
+  }
+
+  private static SearchConfigurationProperties searchConfigurationProperties(int maxConcurrentRequests) {
+    var indexingSettings = new SearchConfigurationProperties.IndexingSettings();
+    indexingSettings.getInventoryFetch().setMaxConcurrentRequests(maxConcurrentRequests);
+    var properties = new SearchConfigurationProperties();
+    properties.setIndexing(indexingSettings);
+    return properties;
+  }
+
   private static List<ResourceEvent> resourceEvents() {
     var updateEventId = randomId();
     return List.of(
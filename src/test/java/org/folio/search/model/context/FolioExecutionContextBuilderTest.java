@@ -0,0 +1,58 @@
+package org.folio.search.model.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.test.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class FolioExecutionContextBuilderTest {
+
+  private final FolioExecutionContextBuilder contextBuilder = new FolioExecutionContextBuilder(null);
+
+  @Mock
+  private FolioExecutionContext context;
+
+  @Test
+  void copyOf_positive() {
+    var headers = Map.<String, Collection<String>>of("x-okapi-tenant", List.of(TENANT_ID));
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(context.getOkapiUrl()).thenReturn("http://okapi:9130");
+    when(context.getToken()).thenReturn("token");
+    when(context.getAllHeaders()).thenReturn(headers);
+    when(context.getOkapiHeaders()).thenReturn(headers);
+
+    var actual = contextBuilder.copyOf(context);
+
+    assertThat(actual.getTenantId()).isEqualTo(TENANT_ID);
+    assertThat(actual.getOkapiUrl()).isEqualTo("http://okapi:9130");
+    assertThat(actual.getToken()).isEqualTo("token");
+    assertThat(actual.getAllHeaders()).isEqualTo(headers).isNotSameAs(headers);
+    assertThat(actual.getOkapiHeaders()).isEqualTo(headers).isNotSameAs(headers);
+  }
+
+  @Test
+  void builderFrom_positive_tenantOverridden() {
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(context.getOkapiUrl()).thenReturn("http://okapi:9130");
+    when(context.getToken()).thenReturn("token");
+
+    var actual = contextBuilder.builderFrom(context).withTenantId("member").build();
+
+    assertThat(actual.getTenantId()).isEqualTo("member");
+    assertThat(actual.getOkapiUrl()).isEqualTo("http://okapi:9130");
+    assertThat(actual.getToken()).isEqualTo("token");
+    assertThat(actual.getAllHeaders()).isEmpty();
+    assertThat(actual.getOkapiHeaders()).isEmpty();
+  }
+}
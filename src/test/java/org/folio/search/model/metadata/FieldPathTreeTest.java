@@ -0,0 +1,47 @@
+package org.folio.search.model.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestUtils.keywordField;
+import static org.folio.search.utils.TestUtils.mapOf;
+import static org.folio.search.utils.TestUtils.multilangField;
+
+import org.folio.spring.test.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class FieldPathTreeTest {
+
+  private final FieldPathTree tree = FieldPathTree.of(mapOf(
+    "id", keywordField(),
+    "title", multilangField(),
+    "notes.note", multilangField(),
+    "notes.type", keywordField()));
+
+  @Test
+  void getChild_positive_multilangFields() {
+    var root = tree.getRoot();
+
+    assertThat(root.getChild("title").isMultilang()).isTrue();
+    assertThat(root.getChild("notes").getChild("note").isMultilang()).isTrue();
+    assertThat(root.getChild("id").isMultilang()).isFalse();
+    assertThat(root.getChild("notes").getChild("type").isMultilang()).isFalse();
+    assertThat(root.getChild("notes").isMultilang()).isFalse();
+  }
+
+  @Test
+  void getChild_positive_plainFieldName() {
+    var root = tree.getRoot();
+
+    assertThat(root.getChild("plain_title")).isSameAs(root.getChild("title"));
+    assertThat(root.getChild("notes").getChild("plain_note").isMultilang()).isTrue();
+  }
+
+  @Test
+  void getChild_positive_unknownField() {
+    var unknownNode = tree.getRoot().getChild("unknown");
+
+    assertThat(unknownNode.isMultilang()).isFalse();
+    assertThat(unknownNode.getChild("title").isMultilang()).isFalse();
+    assertThat(FieldPathTree.EMPTY.getRoot().getChild("title").isMultilang()).isFalse();
+  }
+}
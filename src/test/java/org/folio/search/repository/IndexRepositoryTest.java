@@ -1,7 +1,9 @@
 package org.folio.search.repository;
 
+import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.search.configuration.SearchCacheNames.ES_INDICES_CACHE;
 import static org.folio.search.utils.SearchResponseHelper.getErrorFolioCreateIndexResponse;
 import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperationResponse;
 import static org.folio.search.utils.SearchResponseHelper.getSuccessFolioCreateIndexResponse;
@@ -11,11 +13,15 @@ import static org.folio.search.utils.TestConstants.INDEX_NAME;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.opensearch.client.RequestOptions.DEFAULT;
 
 import java.io.IOException;
 import java.util.List;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
 import org.folio.search.exception.SearchOperationException;
 import org.folio.spring.test.type.UnitTest;
 import org.junit.jupiter.api.Test;
@@ -23,18 +29,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
 import org.opensearch.action.admin.indices.refresh.RefreshRequest;
 import org.opensearch.action.admin.indices.refresh.RefreshResponse;
 import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.action.support.master.AcknowledgedResponse;
 import org.opensearch.client.IndicesClient;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.CreateIndexRequest;
 import org.opensearch.client.indices.CreateIndexResponse;
 import org.opensearch.client.indices.GetIndexRequest;
+import org.opensearch.client.indices.GetIndexResponse;
 import org.opensearch.client.indices.PutMappingRequest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +57,10 @@ class IndexRepositoryTest {
   private RestHighLevelClient restHighLevelClient;
   @Mock
   private IndicesClient indices;
+  @Spy
+  private CacheManager cacheManager = new ConcurrentMapCacheManager(ES_INDICES_CACHE);
+  @Spy
+  private SearchCacheConfigurationProperties cacheConfiguration = new SearchCacheConfigurationProperties();
 
   @Test
   void createIndex_positive() throws IOException {
@@ -167,6 +182,101 @@ class IndexRepositoryTest {
     assertThat(getIndexRequestCaptor.getValue().indices()).containsExactly(INDEX_NAME);
   }
 
+  @Test
+  void getExistingIndices_positive() throws IOException {
+    var getIndexRequestCaptor = ArgumentCaptor.forClass(GetIndexRequest.class);
+    var getIndexResponse = mock(GetIndexResponse.class);
+
+    when(restHighLevelClient.indices()).thenReturn(indices);
+    when(indices.get(getIndexRequestCaptor.capture(), eq(DEFAULT))).thenReturn(getIndexResponse);
+    when(getIndexResponse.getIndices()).thenReturn(new String[] {INDEX_NAME});
+
+    var actual = indexRepository.getExistingIndices(List.of(INDEX_NAME, "unknown_index"));
+
+    assertThat(actual).containsExactly(INDEX_NAME);
+    assertThat(getIndexRequestCaptor.getValue().indices()).containsExactly(INDEX_NAME, "unknown_index");
+    assertThat(getIndexRequestCaptor.getValue().indicesOptions()).isEqualTo(IndicesOptions.lenientExpandOpen());
+    assertThat(cacheManager.getCache(ES_INDICES_CACHE).get(INDEX_NAME, Boolean.class)).isTrue();
+    assertThat(cacheManager.getCache(ES_INDICES_CACHE).get("unknown_index")).isNull();
+  }
+
+  @Test
+  void getExistingIndices_positive_cachedIndices() throws IOException {
+    var getIndexRequestCaptor = ArgumentCaptor.forClass(GetIndexRequest.class);
+    var getIndexResponse = mock(GetIndexResponse.class);
+    cacheManager.getCache(ES_INDICES_CACHE).put(INDEX_NAME, true);
+
+    when(restHighLevelClient.indices()).thenReturn(indices);
+    when(indices.get(getIndexRequestCaptor.capture(), eq(DEFAULT))).thenReturn(getIndexResponse);
+    when(getIndexResponse.getIndices()).thenReturn(new String[0]);
+
+    var actual = indexRepository.getExistingIndices(List.of(INDEX_NAME, "unknown_index"));
+
+    assertThat(actual).containsExactly(INDEX_NAME);
+    assertThat(getIndexRequestCaptor.getValue().indices()).containsExactly("unknown_index");
+  }
+
+  @Test
+  void getExistingIndices_positive_absentIndicesCached() throws IOException {
+    var getIndexResponse = mock(GetIndexResponse.class);
+    when(restHighLevelClient.indices()).thenReturn(indices);
+    when(indices.get(any(GetIndexRequest.class), eq(DEFAULT))).thenReturn(getIndexResponse);
+    when(getIndexResponse.getIndices()).thenReturn(new String[0]);
+
+    assertThat(indexRepository.getExistingIndices(List.of(INDEX_NAME))).isEmpty();
+    assertThat(indexRepository.getExistingIndices(List.of(INDEX_NAME))).isEmpty();
+
+    verify(indices, times(1)).get(any(GetIndexRequest.class), eq(DEFAULT));
+  }
+
+  @Test
+  void getExistingIndices_positive_absentIndexCreated() throws IOException {
+    var getIndexResponse = mock(GetIndexResponse.class);
+    var createIndexResponse = mock(CreateIndexResponse.class);
+    when(restHighLevelClient.indices()).thenReturn(indices);
+    when(indices.get(any(GetIndexRequest.class), eq(DEFAULT))).thenReturn(getIndexResponse);
+    when(getIndexResponse.getIndices()).thenReturn(new String[0], new String[] {INDEX_NAME});
+    when(indices.create(any(CreateIndexRequest.class), eq(DEFAULT))).thenReturn(createIndexResponse);
+
+    assertThat(indexRepository.getExistingIndices(List.of(INDEX_NAME))).isEmpty();
+    indexRepository.createIndex(INDEX_NAME, EMPTY_OBJECT, EMPTY_OBJECT);
+
+    assertThat(indexRepository.getExistingIndices(List.of(INDEX_NAME))).containsExactly(INDEX_NAME);
+    verify(indices, times(2)).get(any(GetIndexRequest.class), eq(DEFAULT));
+  }
+
+  @Test
+  void getExistingIndices_positive_absentIndexDropped() throws IOException {
+    var getIndexResponse = mock(GetIndexResponse.class);
+    when(restHighLevelClient.indices()).thenReturn(indices);
+    when(indices.get(any(GetIndexRequest.class), eq(DEFAULT))).thenReturn(getIndexResponse);
+    when(getIndexResponse.getIndices()).thenReturn(new String[0]);
+    when(indices.delete(any(DeleteIndexRequest.class), eq(DEFAULT))).thenReturn(new AcknowledgedResponse(true));
+
+    assertThat(indexRepository.getExistingIndices(List.of(INDEX_NAME))).isEmpty();
+    indexRepository.dropIndex(INDEX_NAME);
+
+    assertThat(indexRepository.getExistingIndices(List.of(INDEX_NAME))).isEmpty();
+    verify(indices, times(2)).get(any(GetIndexRequest.class), eq(DEFAULT));
+  }
+
+  @Test
+  void getExistingIndices_positive_allIndicesCached() {
+    cacheManager.getCache(ES_INDICES_CACHE).put(INDEX_NAME, true);
+
+    var actual = indexRepository.getExistingIndices(List.of(INDEX_NAME));
+
+    assertThat(actual).containsExactly(INDEX_NAME);
+    verifyNoInteractions(restHighLevelClient);
+  }
+
+  @Test
+  void getExistingIndices_positive_emptyIndices() {
+    var actual = indexRepository.getExistingIndices(emptyList());
+    assertThat(actual).isEmpty();
+    verifyNoInteractions(restHighLevelClient);
+  }
+
   @Test
   void dropIndex_positive() throws IOException {
     var deleteIndexRequestCaptor = ArgumentCaptor.forClass(DeleteIndexRequest.class);
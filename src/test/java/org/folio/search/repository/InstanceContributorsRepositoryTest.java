@@ -27,6 +27,7 @@ import java.util.Set;
 import lombok.SneakyThrows;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.model.index.SearchDocumentBody;
+import org.folio.search.service.SearchResultCache;
 import org.folio.search.utils.JsonConverter;
 import org.folio.search.utils.SmileConverter;
 import org.folio.spring.test.type.UnitTest;
@@ -64,6 +65,8 @@ class InstanceContributorsRepositoryTest {
   private RestHighLevelClient elasticsearchClient;
   @Mock
   private IndexNameProvider indexNameProvider;
+  @Mock
+  private SearchResultCache searchResultCache;
   @Captor
   private ArgumentCaptor<BulkRequest> bulkRequestCaptor;
 
@@ -71,6 +74,7 @@ class InstanceContributorsRepositoryTest {
   void setUp() {
     repository.setElasticsearchClient(elasticsearchClient);
     repository.setIndexNameProvider(indexNameProvider);
+    repository.setSearchResultCache(searchResultCache);
     lenient().when(indexNameProvider.getIndexName(any(SearchDocumentBody.class))).thenReturn("index_name");
   }
 
@@ -134,7 +138,7 @@ class InstanceContributorsRepositoryTest {
     var body = mapOf("id", id, "instanceId", RESOURCE_ID, "name", "test", "nameTypeId", randomId(),
       "typeId", typeId, "authorityId", authorityId, "shared", true);
     var event = resourceEvent(id, CONTRIBUTOR_RESOURCE, CREATE, body, null);
-    return SearchDocumentBody.of(new BytesArray(SMILE_MAPPER.writeValueAsBytes(body)), SMILE, event, INDEX);
+    return SearchDocumentBody.forUpsert(new BytesArray(SMILE_MAPPER.writeValueAsBytes(body)), SMILE, event, INDEX);
   }
 
   private SearchConfigurationProperties getSearchConfigurationProperties() {
@@ -30,6 +30,7 @@ import lombok.SneakyThrows;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.domain.dto.ResourceEventType;
 import org.folio.search.model.index.SearchDocumentBody;
+import org.folio.search.service.SearchResultCache;
 import org.folio.search.utils.JsonConverter;
 import org.folio.search.utils.SmileConverter;
 import org.folio.spring.test.type.UnitTest;
@@ -62,6 +63,8 @@ class InstanceSubjectRepositoryTest {
   private InstanceSubjectRepository repository;
   @Mock
   private IndexNameProvider indexNameProvider;
+  @Mock
+  private SearchResultCache searchResultCache;
   @Spy
   private JsonConverter jsonConverter = new JsonConverter(OBJECT_MAPPER);
   @Spy
@@ -77,6 +80,7 @@ class InstanceSubjectRepositoryTest {
   void setUp() {
     repository.setElasticsearchClient(elasticsearchClient);
     repository.setIndexNameProvider(indexNameProvider);
+    repository.setSearchResultCache(searchResultCache);
     lenient().when(indexNameProvider.getIndexName(any(SearchDocumentBody.class))).thenReturn("index_name");
   }
 
@@ -174,7 +178,7 @@ class InstanceSubjectRepositoryTest {
     var authorityId = randomId();
     var body = mapOf("value", subject, "instanceId", RESOURCE_ID, "authorityId", authorityId, "shared", true);
     var event = resourceEvent(getDocumentId(subject, authorityId), INSTANCE_SUBJECT_RESOURCE, CREATE, body, null);
-    return SearchDocumentBody.of(new BytesArray(SMILE_MAPPER.writeValueAsBytes(body)), SMILE, event, INDEX);
+    return SearchDocumentBody.forUpsert(new BytesArray(SMILE_MAPPER.writeValueAsBytes(body)), SMILE, event, INDEX);
   }
 
   @SneakyThrows
@@ -187,7 +191,7 @@ class InstanceSubjectRepositoryTest {
     var body = mapOf("value", subject, "instanceId", instanceId);
     var event =
       resourceEvent(getDocumentId(subject, null), INSTANCE_SUBJECT_RESOURCE, ResourceEventType.DELETE, null, body);
-    return SearchDocumentBody.of(new BytesArray(SMILE_MAPPER.writeValueAsBytes(body)), SMILE, event, DELETE);
+    return SearchDocumentBody.forUpsert(new BytesArray(SMILE_MAPPER.writeValueAsBytes(body)), SMILE, event, DELETE);
   }
 
   @NotNull
@@ -4,21 +4,39 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.search.domain.dto.FolioIndexOperationResponse.StatusEnum.ERROR;
+import static org.folio.search.domain.dto.ResourceEventType.CREATE;
+import static org.folio.search.model.types.IndexActionType.INDEX;
 import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperationResponse;
 import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
+import static org.folio.search.utils.TestConstants.RESOURCE_ID;
+import static org.folio.search.utils.TestConstants.RESOURCE_NAME;
+import static org.folio.search.utils.TestUtils.randomId;
+import static org.folio.search.utils.TestUtils.resourceEvent;
 import static org.folio.search.utils.TestUtils.searchDocumentBody;
 import static org.folio.search.utils.TestUtils.searchDocumentBodyToDelete;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.client.RequestOptions.DEFAULT;
+import static org.opensearch.rest.RestStatus.BAD_REQUEST;
+import static org.opensearch.rest.RestStatus.TOO_MANY_REQUESTS;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.exception.SearchOperationException;
 import org.folio.search.model.index.SearchDocumentBody;
+import org.folio.search.service.SearchResultCache;
 import org.folio.spring.test.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,11 +45,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.DocWriteRequest.OpType;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.rest.RestStatus;
+import org.springframework.util.unit.DataSize;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +67,10 @@ class PrimaryResourceRepositoryTest {
   private RestHighLevelClient restHighLevelClient;
   @Mock
   private IndexNameProvider indexNameProvider;
+  @Mock
+  private SearchResultCache searchResultCache;
+
+  private final CountingExecutor retryExecutor = new CountingExecutor();
 
   @BeforeEach
   void setUp() {
@@ -66,6 +94,7 @@ class PrimaryResourceRepositoryTest {
       assertThat(requests.get(0)).isInstanceOf(IndexRequest.class);
       assertThat(requests.get(1)).isInstanceOf(DeleteRequest.class);
     });
+    verify(searchResultCache).invalidate(documentBodyToCreate.getTenant(), documentBodyToCreate.getResource());
   }
 
   @Test
@@ -96,5 +125,174 @@ class PrimaryResourceRepositoryTest {
       .hasCauseExactlyInstanceOf(IOException.class)
       .hasMessage("Failed to perform elasticsearch request "
         + "[index=index_name, type=bulkApi, message: err]");
+    verify(searchResultCache).invalidate(documentBody.getTenant(), documentBody.getResource());
+  }
+
+  @Test
+  void indexResourcesAsync_positive() {
+    resourceRepository.setSearchConfigurationProperties(searchConfigurationProperties());
+    var bulkResponse = mock(BulkResponse.class);
+    var bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+
+    when(bulkResponse.hasFailures()).thenReturn(false);
+    doAnswer(invocation -> {
+      invocation.<ActionListener<BulkResponse>>getArgument(2).onResponse(bulkResponse);
+      return null;
+    }).when(restHighLevelClient).bulkAsync(bulkRequestCaptor.capture(), eq(DEFAULT), any());
+
+    var documentBody = searchDocumentBody();
+    var response = resourceRepository.indexResourcesAsync(List.of(documentBody, searchDocumentBodyToDelete()));
+
+    assertThat(response).isCompletedWithValue(getSuccessIndexOperationResponse());
+    assertThat(bulkRequestCaptor.getValue().requests()).hasSize(2);
+    verify(searchResultCache).invalidate(documentBody.getTenant(), documentBody.getResource());
+  }
+
+  @Test
+  void indexResourcesAsync_negative_requestFailed() {
+    resourceRepository.setSearchConfigurationProperties(searchConfigurationProperties());
+    var documentBodies = singletonList(searchDocumentBody());
+    doAnswer(invocation -> {
+      invocation.<ActionListener<BulkResponse>>getArgument(2).onFailure(new IOException("err"));
+      return null;
+    }).when(restHighLevelClient).bulkAsync(any(BulkRequest.class), eq(DEFAULT), any());
+
+    var response = resourceRepository.indexResourcesAsync(documentBodies);
+
+    assertThat(response).isCompletedExceptionally();
+    assertThatThrownBy(response::join)
+      .hasCauseExactlyInstanceOf(SearchOperationException.class)
+      .hasRootCauseExactlyInstanceOf(IOException.class);
+    verify(searchResultCache).invalidate(documentBodies.get(0).getTenant(), documentBodies.get(0).getResource());
+  }
+
+  @Test
+  void indexResources_positive_splitByActionsKeepingDocumentRequestsTogether() throws IOException {
+    var properties = searchConfigurationProperties();
+    properties.getIndexing().getBulk().setMaxRequestActions(2);
+    resourceRepository.setSearchConfigurationProperties(properties);
+    var secondDocumentId = randomId();
+    var documents = List.of(searchDocumentBodyToDelete(), searchDocumentBody(), documentBody(secondDocumentId));
+    var successResponse = mock(BulkResponse.class);
+    var failedResponse = mock(BulkResponse.class);
+    var bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+    var pendingListeners = new ArrayDeque<Runnable>();
+
+    when(failedResponse.hasFailures()).thenReturn(true);
+    when(failedResponse.buildFailureMessage()).thenReturn("failure: " + secondDocumentId);
+    doAnswer(invocation -> {
+      BulkRequest request = invocation.getArgument(0);
+      var bulkResponse = request.requests().get(0).id().equals(secondDocumentId) ? failedResponse : successResponse;
+      pendingListeners.add(() -> invocation.<ActionListener<BulkResponse>>getArgument(2).onResponse(bulkResponse));
+      if (pendingListeners.size() == 2) {
+        pendingListeners.forEach(Runnable::run);
+      }
+      return null;
+    }).when(restHighLevelClient).bulkAsync(bulkRequestCaptor.capture(), eq(DEFAULT), any());
+
+    var response = resourceRepository.indexResources(documents);
+
+    assertThat(response).isEqualTo(getErrorIndexOperationResponse("failure: " + secondDocumentId));
+    verify(restHighLevelClient, never()).bulk(any(BulkRequest.class), eq(DEFAULT));
+    assertThat(bulkRequestCaptor.getAllValues()).hasSize(2).satisfies(requests -> {
+      assertThat(requests.get(0).requests()).extracting(DocWriteRequest::id).containsExactly(RESOURCE_ID, RESOURCE_ID);
+      assertThat(requests.get(1).requests()).extracting(DocWriteRequest::id).containsExactly(secondDocumentId);
+    });
+  }
+
+  @Test
+  void splitBulkRequest_positive_splitBySize() {
+    var properties = searchConfigurationProperties();
+    properties.getIndexing().getBulk().setMaxRequestSize(DataSize.ofBytes(1));
+    resourceRepository.setSearchConfigurationProperties(properties);
+    var bulkRequest = new BulkRequest()
+      .add(new IndexRequest("index_name").id(randomId()).source(Map.of("key", "value")))
+      .add(new IndexRequest("index_name").id(randomId()).source(Map.of("key", "value")));
+
+    var actual = resourceRepository.splitBulkRequest(bulkRequest);
+
+    assertThat(actual).hasSize(2).allSatisfy(request -> assertThat(request.numberOfActions()).isEqualTo(1));
+  }
+
+  @Test
+  void indexResources_positive_retryOnlyRejectedItems() throws IOException {
+    var properties = searchConfigurationProperties();
+    properties.getIndexing().getBulk().setItemRetryInitialBackoffMs(1);
+    resourceRepository.setSearchConfigurationProperties(properties);
+    resourceRepository.setBulkRetryExecutor(retryExecutor);
+    var invalidDocumentId = randomId();
+    var rejectedDocumentId = randomId();
+    var documents = List.of(documentBody(invalidDocumentId), documentBody(rejectedDocumentId));
+    var bulkResponse = new BulkResponse(new BulkItemResponse[] {
+      failedItem(0, invalidDocumentId, new IllegalArgumentException("mapping error"), BAD_REQUEST),
+      failedItem(1, rejectedDocumentId, new IllegalStateException("rejected"), TOO_MANY_REQUESTS)}, 10L);
+    var retryResponse = mock(BulkResponse.class);
+    var bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+
+    when(restHighLevelClient.bulk(bulkRequestCaptor.capture(), eq(DEFAULT))).thenReturn(bulkResponse, retryResponse);
+
+    var response = resourceRepository.indexResources(documents);
+
+    assertThat(response.getStatus()).isEqualTo(ERROR);
+    assertThat(response.getErrorMessage())
+      .startsWith("[index: index_name, id: " + invalidDocumentId + ", status: BAD_REQUEST")
+      .doesNotContain(rejectedDocumentId);
+    assertThat(bulkRequestCaptor.getAllValues()).hasSize(2);
+    assertThat(bulkRequestCaptor.getAllValues().get(1).requests())
+      .extracting(DocWriteRequest::id).containsExactly(rejectedDocumentId);
+    assertThat(retryExecutor.executedTasks).hasValue(1);
+  }
+
+  @Test
+  void indexResourcesAsync_positive_retryRejectedItemsOnRetryExecutor() {
+    var properties = searchConfigurationProperties();
+    properties.getIndexing().getBulk().setItemRetryInitialBackoffMs(1);
+    resourceRepository.setSearchConfigurationProperties(properties);
+    resourceRepository.setBulkRetryExecutor(retryExecutor);
+    var documentId = randomId();
+    var bulkResponse = new BulkResponse(new BulkItemResponse[] {
+      failedItem(0, documentId, new IllegalStateException("rejected"), TOO_MANY_REQUESTS)}, 10L);
+    var retryResponse = mock(BulkResponse.class);
+    var bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+    var responses = new ArrayDeque<>(List.of(bulkResponse, retryResponse));
+
+    doAnswer(invocation -> {
+      invocation.<ActionListener<BulkResponse>>getArgument(2).onResponse(responses.poll());
+      return null;
+    }).when(restHighLevelClient).bulkAsync(bulkRequestCaptor.capture(), eq(DEFAULT), any());
+
+    var response = resourceRepository.indexResourcesAsync(List.of(documentBody(documentId)));
+
+    assertThat(response.join()).isEqualTo(getSuccessIndexOperationResponse());
+    assertThat(bulkRequestCaptor.getAllValues()).hasSize(2);
+    assertThat(retryExecutor.executedTasks).hasValue(1);
+  }
+
+  private static final class CountingExecutor implements Executor {
+
+    private final AtomicInteger executedTasks = new AtomicInteger();
+
+    @Override
+    public void execute(Runnable command) {
+      executedTasks.incrementAndGet();
+      command.run();
+    }
+  }
+
+  private static BulkItemResponse failedItem(int itemId, String id, Exception cause, RestStatus status) {
+    var failure = new BulkItemResponse.Failure("index_name", id, cause, status);
+    return BulkItemResponse.failure(itemId, OpType.INDEX, failure);
+  }
+
+  private static SearchDocumentBody documentBody(String id) {
+    var document = searchDocumentBody();
+    return SearchDocumentBody.of(document.getDocumentBody(), document.getDataFormat(),
+      resourceEvent(id, RESOURCE_NAME, CREATE), INDEX);
+  }
+
+  private static SearchConfigurationProperties searchConfigurationProperties() {
+    var searchConfigurationProperties = new SearchConfigurationProperties();
+    searchConfigurationProperties.setIndexing(new SearchConfigurationProperties.IndexingSettings());
+    return searchConfigurationProperties;
   }
 }
@@ -17,6 +17,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.client.RequestOptions.DEFAULT;
 import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
@@ -43,6 +44,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.search.ClearScrollRequest;
 import org.opensearch.action.search.ClearScrollResponse;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.action.search.MultiSearchRequest;
 import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.MultiSearchResponse.Item;
@@ -55,6 +59,7 @@ import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.PointInTimeBuilder;
 import org.springframework.retry.RetryCallback;
 import org.springframework.retry.support.RetryTemplate;
 
@@ -94,6 +99,34 @@ class SearchRepositoryTest {
     assertThat(actual).isEqualTo(searchResponse);
   }
 
+  @Test
+  void openPointInTime_positive() throws IOException {
+    var createPitResponse = mock(CreatePitResponse.class);
+    when(createPitResponse.getId()).thenReturn("pitId");
+    when(esClient.createPit(any(CreatePitRequest.class), eq(DEFAULT))).thenReturn(createPitResponse);
+
+    var actual = searchRepository.openPointInTime(searchServiceRequest(Instance.class, "query"), KEEP_ALIVE_INTERVAL);
+    assertThat(actual).isEqualTo("pitId");
+  }
+
+  @Test
+  void searchPointInTime_positive() throws IOException {
+    var searchSource = searchSource().pointInTimeBuilder(new PointInTimeBuilder("pitId"));
+    var esSearchRequest = new SearchRequest().source(searchSource);
+
+    when(esClient.search(esSearchRequest, DEFAULT)).thenReturn(searchResponse);
+
+    var searchRequest = searchServiceRequest(Instance.class, "query");
+    var actual = searchRepository.searchPointInTime(searchRequest, searchSource);
+    assertThat(actual).isEqualTo(searchResponse);
+  }
+
+  @Test
+  void closePointInTime_positive() throws IOException {
+    searchRepository.closePointInTime(searchServiceRequest(Instance.class, "query"), "pitId");
+    verify(esClient).deletePit(any(DeletePitRequest.class), eq(DEFAULT));
+  }
+
   @Test
   @SuppressWarnings({"rawtypes", "unchecked"})
   void streamResourceIds_positive() throws Throwable {
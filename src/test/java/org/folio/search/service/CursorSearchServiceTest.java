@@ -0,0 +1,295 @@
+package org.folio.search.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.codec.digest.DigestUtils.sha256Hex;
+import static org.apache.commons.codec.digest.HmacAlgorithms.HMAC_SHA_256;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.search.model.types.ResponseGroupType.SEARCH;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
+import static org.folio.search.utils.TestUtils.randomId;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
+import static org.opensearch.search.builder.SearchSourceBuilder.searchSource;
+import static org.opensearch.search.sort.SortBuilders.fieldSort;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import org.apache.commons.codec.digest.HmacUtils;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.TotalHits.Relation;
+import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
+import org.folio.search.cql.CqlSearchQueryConverter;
+import org.folio.search.domain.dto.Instance;
+import org.folio.search.exception.RequestValidationException;
+import org.folio.search.exception.SearchOperationException;
+import org.folio.search.model.CursorSearchResult;
+import org.folio.search.model.SearchResult;
+import org.folio.search.model.SimpleResourceRequest;
+import org.folio.search.model.service.CqlCursorSearchRequest;
+import org.folio.search.model.service.SearchCursor;
+import org.folio.search.repository.SearchRepository;
+import org.folio.search.service.converter.ElasticsearchDocumentConverter;
+import org.folio.search.service.metadata.SearchFieldProvider;
+import org.folio.spring.test.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class CursorSearchServiceTest {
+
+  private static final String QUERY = "cql.allRecords=1";
+  private static final String PIT_ID = randomId();
+  private static final String QUERY_DIGEST = sha256Hex(QUERY);
+  private static final TimeValue KEEP_ALIVE = TimeValue.timeValueMinutes(5);
+  private static final String CURSOR_SECRET = "cursor-secret";
+
+  @Mock
+  private SearchRepository searchRepository;
+  @Mock
+  private SearchFieldProvider searchFieldProvider;
+  @Mock
+  private CqlSearchQueryConverter cqlSearchQueryConverter;
+  @Mock
+  private ElasticsearchDocumentConverter documentConverter;
+  @Mock
+  private SearchResponse searchResponse;
+  private CursorSearchService cursorSearchService;
+
+  @BeforeEach
+  void setUp() {
+    var searchQueryConfiguration = new SearchQueryConfigurationProperties();
+    searchQueryConfiguration.setCursorSecret(CURSOR_SECRET);
+    cursorSearchService = new CursorSearchService(OBJECT_MAPPER, searchRepository, searchFieldProvider,
+      cqlSearchQueryConverter, documentConverter, searchQueryConfiguration);
+    lenient().when(cqlSearchQueryConverter.convertForConsortia(QUERY, INSTANCE_RESOURCE))
+      .thenAnswer(invocation -> searchSource().query(matchAllQuery()));
+    lenient().when(searchFieldProvider.getSourceFields(INSTANCE_RESOURCE, SEARCH)).thenReturn(new String[] {"id"});
+  }
+
+  @Test
+  void search_positive_firstPage() throws Exception {
+    var request = request(null);
+    var records = List.of(new Instance().id("id1"), new Instance().id("id2"));
+
+    when(searchRepository.openPointInTime(request, KEEP_ALIVE)).thenReturn(PIT_ID);
+    when(searchRepository.searchPointInTime(any(), any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(searchHits("id1", "id2"));
+    when(documentConverter.convertToSearchResult(searchResponse, Instance.class))
+      .thenReturn(SearchResult.of(5, records));
+
+    var actual = cursorSearchService.search(request);
+
+    assertThat(actual.getTotalRecords()).isEqualTo(5);
+    assertThat(actual.getRecords()).isEqualTo(records);
+    assertThat(decode(actual.getNextCursor()))
+      .isEqualTo(new SearchCursor(PIT_ID, List.of("id2"), 5, TENANT_ID, QUERY_DIGEST));
+
+    var searchSource = captureSearchSource();
+    assertThat(searchSource.pointInTimeBuilder().getId()).isEqualTo(PIT_ID);
+    assertThat(searchSource.pointInTimeBuilder().getKeepAlive()).isEqualTo(KEEP_ALIVE);
+    assertThat(searchSource.sorts()).containsExactly(fieldSort("id").order(SortOrder.ASC));
+    assertThat(searchSource.searchAfter()).isNull();
+    assertThat(searchSource.trackTotalHitsUpTo()).isEqualTo(Integer.MAX_VALUE);
+    assertThat(searchSource.size()).isEqualTo(2);
+    verify(searchRepository, never()).closePointInTime(any(), anyString());
+  }
+
+  @Test
+  void search_positive_lastPage() throws Exception {
+    var cursor = encode(new SearchCursor(PIT_ID, List.of("id2"), 3, TENANT_ID, QUERY_DIGEST));
+    var request = request(cursor);
+    var records = List.of(new Instance().id("id3"));
+
+    when(searchRepository.searchPointInTime(any(), any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(searchHits("id3"));
+    when(documentConverter.convertToSearchResult(searchResponse, Instance.class))
+      .thenReturn(SearchResult.of(0, records));
+
+    var actual = cursorSearchService.search(request);
+
+    assertThat(actual).isEqualTo(CursorSearchResult.of(3, null, records));
+    var searchSource = captureSearchSource();
+    assertThat(searchSource.searchAfter()).containsExactly("id2");
+    assertThat(searchSource.trackTotalHitsUpTo()).isEqualTo(-1);
+    verify(searchRepository, never()).openPointInTime(any(), any());
+    verify(searchRepository).closePointInTime(request, PIT_ID);
+  }
+
+  @Test
+  void search_negative_invalidCursor() {
+    var request = request("invalid cursor");
+    assertThatThrownBy(() -> cursorSearchService.search(request))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Invalid search cursor");
+  }
+
+  @Test
+  void search_negative_tamperedCursor() throws Exception {
+    var cursor = encode(new SearchCursor(PIT_ID, List.of("id2"), 3, TENANT_ID, QUERY_DIGEST));
+    var signature = cursor.substring(cursor.lastIndexOf('.'));
+    var otherPayload = payload(new SearchCursor(randomId(), List.of("id2"), 3, TENANT_ID, QUERY_DIGEST));
+    var request = request(otherPayload + signature);
+
+    assertThatThrownBy(() -> cursorSearchService.search(request))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Invalid search cursor");
+    verify(searchRepository, never()).searchPointInTime(any(), any());
+  }
+
+  @Test
+  void search_negative_unsignedCursor() throws Exception {
+    var request = request(payload(new SearchCursor(PIT_ID, List.of("id2"), 3, TENANT_ID, QUERY_DIGEST)));
+    assertThatThrownBy(() -> cursorSearchService.search(request))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Invalid search cursor");
+  }
+
+  @Test
+  void search_negative_expiredCursor() throws Exception {
+    var cursor = encode(new SearchCursor(PIT_ID, List.of("id2"), 3, TENANT_ID, QUERY_DIGEST));
+    var request = request(cursor);
+    when(searchRepository.searchPointInTime(any(), any())).thenThrow(pointInTimeNotFoundException());
+
+    assertThatThrownBy(() -> cursorSearchService.search(request))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Search cursor is expired or closed");
+  }
+
+  @Test
+  void search_negative_cursorOfAnotherQuery() throws Exception {
+    var cursor = encode(new SearchCursor(PIT_ID, List.of("id2"), 3, TENANT_ID, sha256Hex("title all book")));
+    var request = request(cursor);
+    assertThatThrownBy(() -> cursorSearchService.search(request))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Search cursor is created for another query");
+  }
+
+  @Test
+  void search_negative_cursorOfAnotherTenant() throws Exception {
+    var cursor = encode(new SearchCursor(PIT_ID, List.of("id2"), 3, "other_tenant", QUERY_DIGEST));
+    var request = request(cursor);
+    assertThatThrownBy(() -> cursorSearchService.search(request))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Search cursor is created for another tenant");
+  }
+
+  @Test
+  void search_negative_firstPageFailed() {
+    var request = request(null);
+    when(searchRepository.openPointInTime(request, KEEP_ALIVE)).thenReturn(PIT_ID);
+    when(searchRepository.searchPointInTime(any(), any())).thenThrow(new SearchOperationException("error"));
+
+    assertThatThrownBy(() -> cursorSearchService.search(request)).isInstanceOf(SearchOperationException.class);
+    verify(searchRepository).closePointInTime(request, PIT_ID);
+  }
+
+  @Test
+  void close_positive() throws Exception {
+    var cursor = encode(new SearchCursor(PIT_ID, List.of("id2"), 3, TENANT_ID, QUERY_DIGEST));
+    var request = SimpleResourceRequest.of(INSTANCE_RESOURCE, TENANT_ID);
+
+    cursorSearchService.close(request, cursor);
+
+    verify(searchRepository).closePointInTime(request, PIT_ID);
+  }
+
+  @Test
+  void close_negative_tamperedCursor() throws Exception {
+    var cursor = encode(new SearchCursor(PIT_ID, List.of("id2"), 3, TENANT_ID, QUERY_DIGEST));
+    var signature = cursor.substring(cursor.lastIndexOf('.'));
+    var otherPayload = payload(new SearchCursor(randomId(), List.of("id2"), 3, TENANT_ID, QUERY_DIGEST));
+    var request = SimpleResourceRequest.of(INSTANCE_RESOURCE, TENANT_ID);
+
+    assertThatThrownBy(() -> cursorSearchService.close(request, otherPayload + signature))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Invalid search cursor");
+    verify(searchRepository, never()).closePointInTime(any(), anyString());
+  }
+
+  @Test
+  void close_negative_cursorOfAnotherTenant() throws Exception {
+    var cursor = encode(new SearchCursor(PIT_ID, List.of("id2"), 3, "other_tenant", QUERY_DIGEST));
+    var request = SimpleResourceRequest.of(INSTANCE_RESOURCE, TENANT_ID);
+
+    assertThatThrownBy(() -> cursorSearchService.close(request, cursor))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Search cursor is created for another tenant");
+    verify(searchRepository, never()).closePointInTime(any(), anyString());
+  }
+
+  @Test
+  void close_negative_expiredCursor() throws Exception {
+    var cursor = encode(new SearchCursor(PIT_ID, List.of("id2"), 3, TENANT_ID, QUERY_DIGEST));
+    var request = SimpleResourceRequest.of(INSTANCE_RESOURCE, TENANT_ID);
+    doThrow(pointInTimeNotFoundException()).when(searchRepository).closePointInTime(request, PIT_ID);
+
+    assertThatThrownBy(() -> cursorSearchService.close(request, cursor))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Search cursor is expired or closed");
+  }
+
+  private SearchSourceBuilder captureSearchSource() {
+    var captor = ArgumentCaptor.forClass(SearchSourceBuilder.class);
+    verify(searchRepository).searchPointInTime(any(), captor.capture());
+    return captor.getValue();
+  }
+
+  private static CqlCursorSearchRequest<Instance> request(String cursor) {
+    return CqlCursorSearchRequest.of(Instance.class, TENANT_ID, QUERY, cursor, 2, false);
+  }
+
+  private static SearchHits searchHits(String... ids) {
+    var hits = Arrays.stream(ids)
+      .map(id -> {
+        var hit = new SearchHit(0, id, null, null);
+        hit.sortValues(new Object[] {id}, new DocValueFormat[] {DocValueFormat.RAW});
+        return hit;
+      })
+      .toArray(SearchHit[]::new);
+    return new SearchHits(hits, new TotalHits(hits.length, Relation.EQUAL_TO), 1.0f);
+  }
+
+  private static SearchOperationException pointInTimeNotFoundException() {
+    var cause = new OpenSearchStatusException("No search context found", RestStatus.NOT_FOUND);
+    return new SearchOperationException("Failed to perform elasticsearch request", cause);
+  }
+
+  private static String encode(SearchCursor cursor) throws Exception {
+    var payload = payload(cursor);
+    var signature = new HmacUtils(HMAC_SHA_256, CURSOR_SECRET.getBytes(UTF_8)).hmac(payload.getBytes(UTF_8));
+    return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+  }
+
+  private static String payload(SearchCursor cursor) throws Exception {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(cursor));
+  }
+
+  private static SearchCursor decode(String cursor) throws Exception {
+    var payload = cursor.substring(0, cursor.lastIndexOf('.'));
+    return OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(payload), SearchCursor.class);
+  }
+}
@@ -81,6 +81,8 @@ class IndexServiceTest {
 
   @Mock
   private TenantProvider tenantProvider;
+  @Mock
+  private SearchResultCache searchResultCache;
 
   @BeforeEach
   void setUp() {
@@ -101,6 +103,7 @@ class IndexServiceTest {
 
     var indexResponse = indexService.createIndex(INSTANCE_RESOURCE, TENANT_ID);
     assertThat(indexResponse).isEqualTo(expectedResponse);
+    verify(searchResultCache).invalidate(TENANT_ID, INSTANCE_RESOURCE);
   }
 
   @ParameterizedTest
@@ -403,6 +406,7 @@ class IndexServiceTest {
     when(indexRepository.indexExists(INDEX_NAME)).thenReturn(true);
     indexService.dropIndex(INSTANCE_RESOURCE, TENANT_ID);
     verify(indexRepository).dropIndex(INDEX_NAME);
+    verify(searchResultCache).invalidate(TENANT_ID, INSTANCE_RESOURCE);
   }
 
   @Test
@@ -0,0 +1,112 @@
+package org.folio.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
+import org.folio.search.domain.dto.Authority;
+import org.folio.search.domain.dto.Instance;
+import org.folio.search.exception.SearchServiceException;
+import org.folio.search.model.service.CqlSearchRequest;
+import org.folio.search.service.converter.ElasticsearchDocumentConverter;
+import org.folio.spring.test.type.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.search.SearchResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class RawSourceSearchHelperTest {
+
+  private static final CqlSearchRequest<Instance> REQUEST =
+    CqlSearchRequest.of(Instance.class, TENANT_ID, "cql.allRecords=1", 100, 0, false);
+
+  @Mock
+  private SearchService searchService;
+  @Mock
+  private ElasticsearchDocumentConverter documentConverter;
+  @Mock
+  private SearchResponse searchResponse;
+  @Mock
+  private HttpServletResponse httpServletResponse;
+  @Mock
+  private ServletOutputStream outputStream;
+
+  private final SearchQueryConfigurationProperties searchQueryConfiguration = new SearchQueryConfigurationProperties();
+  private RawSourceSearchHelper rawSourceSearchHelper;
+
+  @BeforeEach
+  void setUp() {
+    rawSourceSearchHelper = new RawSourceSearchHelper(searchService, documentConverter, searchQueryConfiguration);
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void isApplicable_positive() {
+    searchQueryConfiguration.setRawSourceResponseEnabled(true);
+    assertThat(rawSourceSearchHelper.isApplicable(REQUEST)).isTrue();
+  }
+
+  @Test
+  void isApplicable_negative_disabled() {
+    assertThat(rawSourceSearchHelper.isApplicable(REQUEST)).isFalse();
+  }
+
+  @Test
+  void isApplicable_negative_numberOfTitlesRequested() {
+    searchQueryConfiguration.setRawSourceResponseEnabled(true);
+    var request = CqlSearchRequest.of(Authority.class, TENANT_ID, "cql.allRecords=1", 100, 0, false, true);
+    assertThat(rawSourceSearchHelper.isApplicable(request)).isFalse();
+  }
+
+  @Test
+  void streamSearchResult_positive() throws IOException {
+    mockHttpServletResponse();
+    when(searchService.searchRawSource(REQUEST)).thenReturn(searchResponse);
+
+    var actual = rawSourceSearchHelper.streamSearchResult(REQUEST, "instances");
+
+    assertThat(actual).isEqualTo(ResponseEntity.ok().build());
+    verify(httpServletResponse).setContentType(APPLICATION_JSON_VALUE);
+    verify(documentConverter).writeSearchResult(searchResponse, Instance.class, "instances", outputStream);
+  }
+
+  @Test
+  void streamSearchResult_negative_failedToWriteResponse() throws IOException {
+    mockHttpServletResponse();
+    when(searchService.searchRawSource(REQUEST)).thenReturn(searchResponse);
+    doThrow(new IOException("error")).when(documentConverter)
+      .writeSearchResult(searchResponse, Instance.class, "instances", outputStream);
+
+    assertThatThrownBy(() -> rawSourceSearchHelper.streamSearchResult(REQUEST, "instances"))
+      .isInstanceOf(SearchServiceException.class)
+      .hasMessage("Failed to write search result to response");
+  }
+
+  private void mockHttpServletResponse() throws IOException {
+    var servletRequestAttributes = mock(ServletRequestAttributes.class);
+    RequestContextHolder.setRequestAttributes(servletRequestAttributes);
+    when(servletRequestAttributes.getResponse()).thenReturn(httpServletResponse);
+    when(httpServletResponse.getOutputStream()).thenReturn(outputStream);
+  }
+}
@@ -2,7 +2,9 @@ package org.folio.search.service;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
 import static java.util.Optional.of;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.domain.dto.ResourceEventType.CREATE;
 import static org.folio.search.domain.dto.ResourceEventType.DELETE;
@@ -27,13 +29,18 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.configuration.properties.SearchConfigurationProperties.IndexingSettings;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.integration.KafkaMessageProducer;
@@ -57,6 +64,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @UnitTest
@@ -64,6 +72,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class ResourceServiceTest {
 
   private static final String CUSTOM_REPOSITORY_NAME = "org.folio.search.service.ResourceServiceTest$TestRepository#0";
+  private static final long RECEIVED_TIME = 1L;
 
   @Mock
   private IndexRepository indexRepository;
@@ -89,6 +98,8 @@ class ResourceServiceTest {
   private IndexNameProvider indexNameProvider;
   @Mock
   private Map<String, ResourceRepository> resourceRepositoryBeans;
+  @Spy
+  private SearchConfigurationProperties searchConfigurationProperties = searchConfigurationProperties();
   @InjectMocks
   private ResourceService indexService;
 
@@ -113,7 +124,7 @@ class ResourceServiceTest {
 
     when(searchDocumentConverter.convert(List.of(resourceEvent))).thenReturn(
       mapOf(INSTANCE_RESOURCE, List.of(searchBody)));
-    when(indexRepository.indexExists(indexName(TENANT_ID))).thenReturn(true);
+    mockIndexExistence(indexName(TENANT_ID), true);
     when(primaryResourceRepository.indexResources(List.of(searchBody))).thenReturn(expectedResponse);
     when(resourceDescriptionService.find(INSTANCE_RESOURCE)).thenReturn(of(resourceDescription(INSTANCE_RESOURCE)));
 
@@ -129,7 +140,7 @@ class ResourceServiceTest {
 
     when(searchDocumentConverter.convert(List.of(resourceEvent))).thenReturn(
       mapOf(INSTANCE_RESOURCE, List.of(searchBody)));
-    when(indexRepository.indexExists(indexName(TENANT_ID))).thenReturn(true);
+    mockIndexExistence(indexName(TENANT_ID), true);
     when(primaryResourceRepository.indexResources(List.of(searchBody))).thenReturn(expectedResponse);
     when(resourceDescriptionService.find(INSTANCE_RESOURCE)).thenReturn(of(resourceDescription(INSTANCE_RESOURCE)));
 
@@ -147,7 +158,7 @@ class ResourceServiceTest {
     when(resourceDescriptionService.find(INSTANCE_RESOURCE)).thenReturn(of(resourceDescriptionWithCustomRepository()));
     when(searchDocumentConverter.convert(List.of(resourceEvent))).thenReturn(
       mapOf(INSTANCE_RESOURCE, List.of(searchBody)));
-    when(indexRepository.indexExists(INDEX_NAME)).thenReturn(true);
+    mockIndexExistence(INDEX_NAME, true);
     when(resourceRepositoryBeans.containsKey(CUSTOM_REPOSITORY_NAME)).thenReturn(true);
     when(resourceRepositoryBeans.get(CUSTOM_REPOSITORY_NAME)).thenReturn(customResourceRepository);
     when(customResourceRepository.indexResources(List.of(searchBody))).thenReturn(expectedResponse);
@@ -160,7 +171,7 @@ class ResourceServiceTest {
   @Test
   void indexResources_negative() {
     var resourceEvents = List.of(resourceEvent(INSTANCE_RESOURCE, mapOf("id", randomId())));
-    when(indexRepository.indexExists(indexName(TENANT_ID))).thenReturn(false);
+    mockIndexExistence(indexName(TENANT_ID), false);
     when(primaryResourceRepository.indexResources(null)).thenReturn(getSuccessIndexOperationResponse());
     when(searchDocumentConverter.convert(emptyList())).thenReturn(emptyMap());
 
@@ -181,14 +192,14 @@ class ResourceServiceTest {
     var expectedResponse = getSuccessIndexOperationResponse();
     var expectedDocuments = List.of(searchDocumentBody());
 
-    when(indexRepository.indexExists(indexName(TENANT_ID))).thenReturn(true);
-    when(resourceFetchService.fetchInstancesByIds(resourceEvents)).thenReturn(List.of(resourceEvent));
+    mockIndexExistence(indexName(TENANT_ID), true);
+    when(resourceFetchService.fetchInstancesByIds(resourceEvents, RECEIVED_TIME)).thenReturn(List.of(resourceEvent));
     when(searchDocumentConverter.convert(List.of(resourceEvent))).thenReturn(
       mapOf(INSTANCE_RESOURCE, expectedDocuments));
     when(primaryResourceRepository.indexResources(expectedDocuments)).thenReturn(expectedResponse);
-    doNothing().when(kafkaMessageProducer).prepareAndSendContributorEvents(anyList());
+    doNothing().when(kafkaMessageProducer).prepareAndSendContributorAndSubjectEvents(anyList());
 
-    var actual = indexService.indexInstancesById(resourceEvents);
+    var actual = indexService.indexInstancesById(resourceEvents, RECEIVED_TIME);
     assertThat(actual).isEqualTo(expectedResponse);
   }
 
@@ -201,15 +212,16 @@ class ResourceServiceTest {
     var expectedResponse = getSuccessIndexOperationResponse();
     var searchBody = searchDocumentBody(asJsonString(newData));
 
-    when(resourceFetchService.fetchInstancesByIds(List.of(resourceEvent))).thenReturn(List.of(fetchedEvent));
+    when(resourceFetchService.fetchInstancesByIds(List.of(resourceEvent), RECEIVED_TIME))
+      .thenReturn(List.of(fetchedEvent));
     when(searchDocumentConverter.convert(List.of(fetchedEvent))).thenReturn(
       mapOf(INSTANCE_RESOURCE, List.of(searchBody)));
-    when(indexRepository.indexExists(indexName(TENANT_ID))).thenReturn(true);
+    mockIndexExistence(indexName(TENANT_ID), true);
     when(primaryResourceRepository.indexResources(List.of(searchBody))).thenReturn(expectedResponse);
     when(resourceDescriptionService.find(INSTANCE_RESOURCE)).thenReturn(of(resourceDescription(INSTANCE_RESOURCE)));
-    doNothing().when(kafkaMessageProducer).prepareAndSendContributorEvents(anyList());
+    doNothing().when(kafkaMessageProducer).prepareAndSendContributorAndSubjectEvents(anyList());
 
-    var response = indexService.indexInstancesById(List.of(resourceEvent));
+    var response = indexService.indexInstancesById(List.of(resourceEvent), RECEIVED_TIME);
     assertThat(response).isEqualTo(expectedResponse);
   }
 
@@ -225,14 +237,15 @@ class ResourceServiceTest {
     var expectedResponse = getSuccessIndexOperationResponse();
     var searchBodies = List.of(searchDocumentBody(asJsonString(oldData)), searchDocumentBody(asJsonString(newData)));
 
-    when(resourceFetchService.fetchInstancesByIds(List.of(oldEvent, newEvent))).thenReturn(fetchedEvents);
+    when(resourceFetchService.fetchInstancesByIds(List.of(oldEvent, newEvent), RECEIVED_TIME))
+      .thenReturn(fetchedEvents);
     when(searchDocumentConverter.convert(fetchedEvents)).thenReturn(mapOf(INSTANCE_RESOURCE, searchBodies));
-    when(indexRepository.indexExists(indexName(TENANT_ID))).thenReturn(true);
+    mockIndexExistence(indexName(TENANT_ID), true);
     when(primaryResourceRepository.indexResources(searchBodies)).thenReturn(expectedResponse);
     when(resourceDescriptionService.find(INSTANCE_RESOURCE)).thenReturn(of(resourceDescription(INSTANCE_RESOURCE)));
-    doNothing().when(kafkaMessageProducer).prepareAndSendContributorEvents(anyList());
+    doNothing().when(kafkaMessageProducer).prepareAndSendContributorAndSubjectEvents(anyList());
 
-    var response = indexService.indexInstancesById(List.of(resourceEvent));
+    var response = indexService.indexInstancesById(List.of(resourceEvent), RECEIVED_TIME);
     assertThat(response).isEqualTo(expectedResponse);
   }
 
@@ -241,16 +254,16 @@ class ResourceServiceTest {
     var expectedDocuments = List.of(searchDocumentBodyToDelete());
     var resourceEvents = List.of(resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, DELETE));
 
-    when(resourceFetchService.fetchInstancesByIds(emptyList())).thenReturn(emptyList());
+    when(resourceFetchService.fetchInstancesByIds(emptyList(), RECEIVED_TIME)).thenReturn(emptyList());
     when(searchDocumentConverter.convert(emptyList())).thenReturn(emptyMap());
     when(searchDocumentConverter.convert(resourceEvents)).thenReturn(mapOf(INSTANCE_RESOURCE, expectedDocuments));
-    when(indexRepository.indexExists(indexName(TENANT_ID))).thenReturn(true);
-    doNothing().when(kafkaMessageProducer).prepareAndSendContributorEvents(anyList());
+    mockIndexExistence(indexName(TENANT_ID), true);
+    doNothing().when(kafkaMessageProducer).prepareAndSendContributorAndSubjectEvents(anyList());
 
     var expectedResponse = getSuccessIndexOperationResponse();
     when(primaryResourceRepository.indexResources(expectedDocuments)).thenReturn(expectedResponse);
 
-    var actual = indexService.indexInstancesById(resourceEvents);
+    var actual = indexService.indexInstancesById(resourceEvents, RECEIVED_TIME);
     assertThat(actual).isEqualTo(expectedResponse);
   }
 
@@ -261,26 +274,26 @@ class ResourceServiceTest {
     var expectedResponse = getErrorIndexOperationResponse("Bulk failed: errors: ['test-error']");
     var expectedDocuments = List.of(searchDocumentBody());
 
-    when(indexRepository.indexExists(indexName(TENANT_ID))).thenReturn(true);
-    when(resourceFetchService.fetchInstancesByIds(resourceEvents)).thenReturn(List.of(resourceEvent));
+    mockIndexExistence(indexName(TENANT_ID), true);
+    when(resourceFetchService.fetchInstancesByIds(resourceEvents, RECEIVED_TIME)).thenReturn(List.of(resourceEvent));
     when(searchDocumentConverter.convert(List.of(resourceEvent))).thenReturn(
       mapOf(INSTANCE_RESOURCE, expectedDocuments));
     when(primaryResourceRepository.indexResources(expectedDocuments)).thenReturn(expectedResponse);
-    doNothing().when(kafkaMessageProducer).prepareAndSendContributorEvents(anyList());
+    doNothing().when(kafkaMessageProducer).prepareAndSendContributorAndSubjectEvents(anyList());
 
-    var actual = indexService.indexInstancesById(resourceEvents);
+    var actual = indexService.indexInstancesById(resourceEvents, RECEIVED_TIME);
     assertThat(actual).isEqualTo(expectedResponse);
   }
 
   @Test
   void indexResourcesById_positive_emptyList() {
-    var actual = indexService.indexInstancesById(emptyList());
+    var actual = indexService.indexInstancesById(emptyList(), RECEIVED_TIME);
     assertThat(actual).isEqualTo(getSuccessIndexOperationResponse());
   }
 
   @Test
   void indexResourcesById_positive_null() {
-    var actual = indexService.indexInstancesById(null);
+    var actual = indexService.indexInstancesById(null, RECEIVED_TIME);
     assertThat(actual).isEqualTo(getSuccessIndexOperationResponse());
   }
 
@@ -288,17 +301,75 @@ class ResourceServiceTest {
   void indexResourcesById_negative_indexNotExist() {
     var eventIds = List.of(resourceEvent(randomId(), INSTANCE_RESOURCE, CREATE));
 
-    when(indexRepository.indexExists(indexName(TENANT_ID))).thenReturn(false);
-    when(resourceFetchService.fetchInstancesByIds(emptyList())).thenReturn(emptyList());
+    mockIndexExistence(indexName(TENANT_ID), false);
+    when(resourceFetchService.fetchInstancesByIds(emptyList(), RECEIVED_TIME)).thenReturn(emptyList());
     when(searchDocumentConverter.convert(emptyList())).thenReturn(emptyMap());
     when(primaryResourceRepository.indexResources(null)).thenReturn(getSuccessIndexOperationResponse());
-    doNothing().when(kafkaMessageProducer).prepareAndSendContributorEvents(anyList());
+    doNothing().when(kafkaMessageProducer).prepareAndSendContributorAndSubjectEvents(anyList());
 
-    var actual = indexService.indexInstancesById(eventIds);
+    var actual = indexService.indexInstancesById(eventIds, RECEIVED_TIME);
 
     assertThat(actual).isEqualTo(getSuccessIndexOperationResponse());
   }
 
+  @Test
+  void indexResources_positive_asyncBulkPipeline() {
+    searchConfigurationProperties.getIndexing().getBulk().setAsyncEnabled(true);
+    searchConfigurationProperties.getIndexing().getBulk().setPipelineBatchSize(1);
+    var firstEvent = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, mapOf("id", RESOURCE_ID));
+    var secondEvent = resourceEvent(RESOURCE_ID_SECOND, INSTANCE_RESOURCE, mapOf("id", RESOURCE_ID_SECOND));
+    var firstBodies = List.of(searchDocumentBody());
+    var secondBodies = List.of(searchDocumentBodyToDelete());
+
+    mockIndexExistence(indexName(TENANT_ID), true);
+    when(resourceDescriptionService.find(INSTANCE_RESOURCE)).thenReturn(of(resourceDescription(INSTANCE_RESOURCE)));
+    when(searchDocumentConverter.convert(List.of(firstEvent))).thenReturn(mapOf(INSTANCE_RESOURCE, firstBodies));
+    when(searchDocumentConverter.convert(List.of(secondEvent))).thenReturn(mapOf(INSTANCE_RESOURCE, secondBodies));
+    when(primaryResourceRepository.indexResourcesAsync(firstBodies))
+      .thenReturn(completedFuture(getSuccessIndexOperationResponse()));
+    when(primaryResourceRepository.indexResourcesAsync(secondBodies))
+      .thenReturn(completedFuture(getErrorIndexOperationResponse("Bulk failed")));
+
+    var response = indexService.indexResources(List.of(firstEvent, secondEvent));
+
+    assertThat(response).isEqualTo(getErrorIndexOperationResponse("Bulk failed"));
+    verify(primaryResourceRepository, never()).indexResources(anyList());
+  }
+
+  @Test
+  void indexResourcesById_positive_asyncBulkPipelineKeepsSameIdEventsTogether() {
+    searchConfigurationProperties.getIndexing().getBulk().setAsyncEnabled(true);
+    searchConfigurationProperties.getIndexing().getBulk().setPipelineBatchSize(1);
+    var resourceEvents = List.of(
+      resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, UPDATE, mapOf("id", RESOURCE_ID), null),
+      resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, UPDATE, mapOf("id", RESOURCE_ID, "title", "new"), null));
+    var fetchedEvent = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, CREATE, mapOf("id", RESOURCE_ID), null);
+    var expectedDocuments = List.of(searchDocumentBody());
+
+    mockIndexExistence(indexName(TENANT_ID), true);
+    when(resourceFetchService.fetchInstancesByIds(resourceEvents, RECEIVED_TIME)).thenReturn(List.of(fetchedEvent));
+    when(searchDocumentConverter.convert(List.of(fetchedEvent))).thenReturn(
+      mapOf(INSTANCE_RESOURCE, expectedDocuments));
+    when(primaryResourceRepository.indexResourcesAsync(expectedDocuments))
+      .thenReturn(completedFuture(getSuccessIndexOperationResponse()));
+
+    var actual = indexService.indexInstancesById(resourceEvents, RECEIVED_TIME);
+
+    assertThat(actual).isEqualTo(getSuccessIndexOperationResponse());
+    verify(resourceFetchService).fetchInstancesByIds(resourceEvents, RECEIVED_TIME);
+  }
+
+  private void mockIndexExistence(String index, boolean exists) {
+    when(indexRepository.getExistingIndices(Set.of(index))).thenReturn(exists ? Set.of(index) : emptySet());
+  }
+
+  private static SearchConfigurationProperties searchConfigurationProperties() {
+    var indexingSettings = new IndexingSettings();
+    var searchConfigurationProperties = new SearchConfigurationProperties();
+    searchConfigurationProperties.setIndexing(indexingSettings);
+    return searchConfigurationProperties;
+  }
+
   private static ResourceDescription resourceDescriptionWithCustomRepository() {
     var resourceIndexingConfiguration = new ResourceIndexingConfiguration();
     resourceIndexingConfiguration.setResourceRepository(CUSTOM_REPOSITORY_NAME);
@@ -0,0 +1,137 @@
+package org.folio.search.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Compares blocking execution of search requests in servlet threads with their execution on the bounded executor
+ * used by {@link SearchRequestExecutor}, for a burst of concurrent requests with simulated search engine latency.
+ *
+ * <p>{@code *BurstTime} benchmarks measure the time to complete all requests of the burst (throughput),
+ * {@code *ProbeLatency} benchmarks measure the latency of a request to another endpoint sent right after the
+ * burst, i.e. how long it waits for a free servlet thread.</p>
+ *
+ * <p>Can be started from the IDE using {@link #main(String[])} method.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SearchRequestExecutionBenchmark {
+
+  private static final int SERVLET_THREADS = 50;
+  private static final long SEARCH_LATENCY_MS = 20;
+
+  @Param({"100", "400"})
+  private int burstSize;
+
+  @Param({"20", "50"})
+  private int searchConcurrency;
+
+  private ExecutorService servletThreads;
+  private ThreadPoolTaskExecutor searchExecutor;
+  private final List<Future<?>> pendingRequests = new ArrayList<>();
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(SearchRequestExecutionBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  @Setup
+  public void setUp() {
+    servletThreads = Executors.newFixedThreadPool(SERVLET_THREADS);
+    searchExecutor = new ThreadPoolTaskExecutor();
+    searchExecutor.setCorePoolSize(searchConcurrency);
+    searchExecutor.setMaxPoolSize(searchConcurrency);
+    searchExecutor.setQueueCapacity(burstSize);
+    searchExecutor.initialize();
+  }
+
+  @TearDown
+  public void tearDown() {
+    servletThreads.shutdownNow();
+    searchExecutor.shutdown();
+  }
+
+  @TearDown(Level.Invocation)
+  public void awaitPendingRequests() throws ExecutionException, InterruptedException {
+    for (var pendingRequest : pendingRequests) {
+      pendingRequest.get();
+    }
+    pendingRequests.clear();
+  }
+
+  @Benchmark
+  public void blockingBurstTime() throws ExecutionException, InterruptedException {
+    submitBlockingBurst();
+    awaitPendingRequests();
+  }
+
+  @Benchmark
+  public void asyncBurstTime() throws ExecutionException, InterruptedException {
+    submitAsyncBurst();
+    awaitPendingRequests();
+  }
+
+  @Benchmark
+  public Object blockingProbeLatency() throws ExecutionException, InterruptedException {
+    submitBlockingBurst();
+    return servletThreads.submit(() -> Boolean.TRUE).get();
+  }
+
+  @Benchmark
+  public Object asyncProbeLatency() throws ExecutionException, InterruptedException {
+    submitAsyncBurst();
+    return servletThreads.submit(() -> Boolean.TRUE).get();
+  }
+
+  private void submitBlockingBurst() {
+    for (int i = 0; i < burstSize; i++) {
+      pendingRequests.add(servletThreads.submit(SearchRequestExecutionBenchmark::search));
+    }
+  }
+
+  private void submitAsyncBurst() throws ExecutionException, InterruptedException {
+    var searchRequests = new ArrayList<Future<CompletableFuture<Void>>>(burstSize);
+    for (int i = 0; i < burstSize; i++) {
+      // servlet thread only submits the request and is released, as with deferred result processing
+      searchRequests.add(servletThreads.submit(() -> CompletableFuture.runAsync(
+        SearchRequestExecutionBenchmark::search, searchExecutor)));
+    }
+    for (var searchRequest : searchRequests) {
+      pendingRequests.add(searchRequest.get());
+    }
+  }
+
+  private static void search() {
+    try {
+      Thread.sleep(SEARCH_LATENCY_MS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,180 @@
+package org.folio.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.awaitility.Durations.FIVE_SECONDS;
+import static org.folio.search.service.SearchRequestExecutor.EndpointType.BROWSE;
+import static org.folio.search.service.SearchRequestExecutor.EndpointType.SEARCH;
+
+import java.util.concurrent.CountDownLatch;
+import org.folio.search.configuration.properties.SearchRequestExecutionProperties;
+import org.folio.search.configuration.properties.SearchRequestExecutionProperties.EndpointSettings;
+import org.folio.search.exception.SearchServiceException;
+import org.folio.search.model.context.FolioExecutionContextBuilder;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.test.type.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class SearchRequestExecutorTest {
+
+  private final SearchRequestExecutionProperties executionProperties = new SearchRequestExecutionProperties();
+  private final FolioExecutionContextBuilder contextBuilder = new FolioExecutionContextBuilder(null);
+
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+  private SearchRequestExecutor searchRequestExecutor;
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+    if (searchRequestExecutor != null) {
+      searchRequestExecutor.destroy();
+    }
+  }
+
+  @Test
+  void execute_positive_asyncDisabled() {
+    searchRequestExecutor = new SearchRequestExecutor(executionProperties, folioExecutionContext, contextBuilder);
+
+    var actual = searchRequestExecutor.execute(SEARCH, () -> "result");
+
+    assertThat(actual).isEqualTo(ResponseEntity.ok("result"));
+  }
+
+  @Test
+  void execute_positive_asyncEnabled() {
+    executionProperties.setAsyncEnabled(true);
+    searchRequestExecutor = new SearchRequestExecutor(executionProperties, folioExecutionContext, contextBuilder);
+    var asyncManager = prepareAsyncRequest();
+    var requestThread = Thread.currentThread();
+
+    var actual = searchRequestExecutor.execute(SEARCH, () -> Thread.currentThread() != requestThread);
+
+    assertThat(actual).isNull();
+    assertThat(asyncManager.isConcurrentHandlingStarted()).isTrue();
+    await().atMost(FIVE_SECONDS).until(asyncManager::hasConcurrentResult);
+    assertThat(asyncManager.getConcurrentResult()).isEqualTo(true);
+  }
+
+  @Test
+  void execute_negative_asyncEnabledAndRequestFailed() {
+    executionProperties.setAsyncEnabled(true);
+    searchRequestExecutor = new SearchRequestExecutor(executionProperties, folioExecutionContext, contextBuilder);
+    var asyncManager = prepareAsyncRequest();
+    var exception = new SearchServiceException("error");
+
+    var actual = searchRequestExecutor.execute(BROWSE, () -> {
+      throw exception;
+    });
+
+    assertThat(actual).isNull();
+    await().atMost(FIVE_SECONDS).until(asyncManager::hasConcurrentResult);
+    assertThat(asyncManager.getConcurrentResult()).isEqualTo(exception);
+  }
+
+  @Test
+  void execute_negative_concurrencyLimitExceeded() throws InterruptedException {
+    executionProperties.setAsyncEnabled(true);
+    executionProperties.setSearch(new EndpointSettings(1, 0));
+    searchRequestExecutor = new SearchRequestExecutor(executionProperties, folioExecutionContext, contextBuilder);
+    var asyncManager = prepareAsyncRequest();
+    var requestStarted = new CountDownLatch(1);
+    var requestReleased = new CountDownLatch(1);
+
+    searchRequestExecutor.execute(SEARCH, () -> {
+      requestStarted.countDown();
+      awaitQuietly(requestReleased);
+      return "result";
+    });
+    requestStarted.await();
+
+    prepareAsyncRequest();
+    assertThatThrownBy(() -> searchRequestExecutor.execute(SEARCH, () -> "result"))
+      .isInstanceOf(TaskRejectedException.class);
+
+    requestReleased.countDown();
+    await().atMost(FIVE_SECONDS).until(asyncManager::hasConcurrentResult);
+    assertThat(asyncManager.getConcurrentResult()).isEqualTo("result");
+  }
+
+  @Test
+  void executeInRequestThread_positive_asyncDisabled() {
+    searchRequestExecutor = new SearchRequestExecutor(executionProperties, folioExecutionContext, contextBuilder);
+    var actual = searchRequestExecutor.executeInRequestThread(SEARCH, () -> ResponseEntity.ok("result"));
+    assertThat(actual).isEqualTo(ResponseEntity.ok("result"));
+  }
+
+  @Test
+  void executeInRequestThread_positive_asyncEnabled() {
+    executionProperties.setAsyncEnabled(true);
+    searchRequestExecutor = new SearchRequestExecutor(executionProperties, folioExecutionContext, contextBuilder);
+    var requestThread = Thread.currentThread();
+
+    var actual = searchRequestExecutor.executeInRequestThread(SEARCH,
+      () -> ResponseEntity.ok(Thread.currentThread() == requestThread));
+
+    assertThat(actual).isEqualTo(ResponseEntity.ok(true));
+  }
+
+  @Test
+  void executeInRequestThread_negative_concurrencyLimitExceeded() throws InterruptedException {
+    executionProperties.setAsyncEnabled(true);
+    executionProperties.setSearch(new EndpointSettings(1, 0));
+    searchRequestExecutor = new SearchRequestExecutor(executionProperties, folioExecutionContext, contextBuilder);
+    var asyncManager = prepareAsyncRequest();
+    var requestStarted = new CountDownLatch(1);
+    var requestReleased = new CountDownLatch(1);
+
+    searchRequestExecutor.execute(SEARCH, () -> {
+      requestStarted.countDown();
+      awaitQuietly(requestReleased);
+      return "result";
+    });
+    requestStarted.await();
+
+    assertThatThrownBy(() -> searchRequestExecutor.executeInRequestThread(SEARCH, () -> ResponseEntity.ok("result")))
+      .isInstanceOf(TaskRejectedException.class)
+      .hasMessage("Concurrency limit of SEARCH requests is exceeded");
+    assertThat(searchRequestExecutor.executeInRequestThread(BROWSE, () -> ResponseEntity.ok("result")))
+      .isEqualTo(ResponseEntity.ok("result"));
+
+    requestReleased.countDown();
+    await().atMost(FIVE_SECONDS).until(asyncManager::hasConcurrentResult);
+    await().atMost(FIVE_SECONDS).untilAsserted(() -> assertThat(
+      searchRequestExecutor.executeInRequestThread(SEARCH, () -> ResponseEntity.ok("result")))
+      .isEqualTo(ResponseEntity.ok("result")));
+  }
+
+  private static WebAsyncManager prepareAsyncRequest() {
+    var request = new MockHttpServletRequest();
+    request.setAsyncSupported(true);
+    var asyncManager = WebAsyncUtils.getAsyncManager(request);
+    asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, new MockHttpServletResponse()));
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    return asyncManager;
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,188 @@
+package org.folio.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.configuration.SearchCacheNames.SEARCH_RESULT_CACHE;
+import static org.folio.search.service.SearchResultCache.SAVED_TIME_METRIC_NAME;
+import static org.folio.search.utils.SearchUtils.AUTHORITY_RESOURCE;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestConstants.CONSORTIUM_TENANT_ID;
+import static org.folio.search.utils.TestConstants.MEMBER_TENANT_ID;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
+import static org.folio.search.utils.TestUtils.randomId;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.domain.dto.Instance;
+import org.folio.search.model.SearchResult;
+import org.folio.search.model.service.CqlSearchRequest;
+import org.folio.search.service.consortium.TenantProvider;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.test.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class SearchResultCacheTest {
+
+  private static final String QUERY = "title all book";
+
+  @Mock
+  private TenantProvider tenantProvider;
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final SearchCacheConfigurationProperties cacheConfiguration = new SearchCacheConfigurationProperties();
+  private final AtomicInteger searches = new AtomicInteger();
+  private final String instanceId = randomId();
+  private SearchResultCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cacheConfiguration.setSearchResultCacheEnabled(true);
+    cache = new SearchResultCache(tenantProvider, folioExecutionContext, OBJECT_MAPPER, cacheConfiguration,
+      meterRegistry);
+    lenient().when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    lenient().when(tenantProvider.getTenant(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+  }
+
+  @Test
+  void get_positive_searchedOnce() {
+    var actual = cache.get(request(QUERY, 0), search());
+    var cached = cache.get(request(QUERY, 0), search());
+
+    assertThat(actual).isEqualTo(SearchResult.of(1, List.of(new Instance().id(instanceId))));
+    assertThat(cached).isEqualTo(actual).isNotSameAs(actual);
+    assertThat(searches).hasValue(1);
+    assertThat(cacheGets("hit")).isEqualTo(1.0);
+    assertThat(cacheGets("miss")).isEqualTo(1.0);
+    assertThat(meterRegistry.get(SAVED_TIME_METRIC_NAME).timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void get_positive_cachedPerRequestParameters() {
+    cache.get(request(QUERY, 0), search());
+    cache.get(request(QUERY, 10), search());
+    cache.get(request("title all other", 0), search());
+    cache.get(CqlSearchRequest.of(Instance.class, TENANT_ID, QUERY, 10, 0, true), search());
+
+    assertThat(searches).hasValue(4);
+  }
+
+  @Test
+  void get_positive_cachedPerContextTenant() {
+    lenient().when(folioExecutionContext.getTenantId()).thenReturn(MEMBER_TENANT_ID, CONSORTIUM_TENANT_ID);
+
+    cache.get(request(QUERY, 0), search());
+    cache.get(request(QUERY, 0), search());
+
+    assertThat(searches).hasValue(2);
+  }
+
+  @Test
+  void get_positive_invalidatedByWrite() {
+    cache.get(request(QUERY, 0), search());
+    cache.invalidate(TENANT_ID, INSTANCE_RESOURCE);
+    cache.get(request(QUERY, 0), search());
+
+    assertThat(searches).hasValue(2);
+  }
+
+  @Test
+  void get_positive_notCachedWithinRefreshDelayAfterWrite() {
+    cache.invalidate(TENANT_ID, INSTANCE_RESOURCE);
+    cache.get(request(QUERY, 0), search());
+    cache.get(request(QUERY, 0), search());
+
+    assertThat(searches).hasValue(2);
+  }
+
+  @Test
+  void get_positive_cachedAfterWriteWithoutRefreshDelay() {
+    cacheConfiguration.setSearchResultCacheRefreshDelay(Duration.ZERO);
+    cache = new SearchResultCache(tenantProvider, folioExecutionContext, OBJECT_MAPPER, cacheConfiguration,
+      meterRegistry);
+
+    cache.invalidate(TENANT_ID, INSTANCE_RESOURCE);
+    cache.get(request(QUERY, 0), search());
+    cache.get(request(QUERY, 0), search());
+
+    assertThat(searches).hasValue(1);
+  }
+
+  @Test
+  void get_positive_cachedRecordsNotModifiedByCaller() {
+    var actual = cache.get(request(QUERY, 0), search());
+    actual.getRecords().get(0).setTitle("modified title");
+    var cached = cache.get(request(QUERY, 0), search());
+    cached.getRecords().get(0).setTitle("modified title");
+    cached.getRecords().clear();
+
+    var cachedAgain = cache.get(request(QUERY, 0), search());
+
+    assertThat(cachedAgain.getRecords()).containsExactly(new Instance().id(instanceId));
+    assertThat(searches).hasValue(1);
+  }
+
+  @Test
+  void get_positive_invalidatedByWriteOfConsortiumMember() {
+    lenient().when(tenantProvider.getTenant(MEMBER_TENANT_ID)).thenReturn(CONSORTIUM_TENANT_ID);
+    var request = CqlSearchRequest.of(Instance.class, CONSORTIUM_TENANT_ID, QUERY, 10, 0, false);
+
+    cache.get(request, search());
+    cache.invalidate(MEMBER_TENANT_ID, INSTANCE_RESOURCE);
+    cache.get(request, search());
+
+    assertThat(searches).hasValue(2);
+  }
+
+  @Test
+  void get_positive_notInvalidatedByWriteOfOtherResource() {
+    cache.get(request(QUERY, 0), search());
+    cache.invalidate(TENANT_ID, AUTHORITY_RESOURCE);
+    cache.invalidate("other_tenant", INSTANCE_RESOURCE);
+    cache.get(request(QUERY, 0), search());
+
+    assertThat(searches).hasValue(1);
+  }
+
+  @Test
+  void get_positive_cacheDisabled() {
+    cacheConfiguration.setSearchResultCacheEnabled(false);
+    cache = new SearchResultCache(tenantProvider, folioExecutionContext, OBJECT_MAPPER, cacheConfiguration,
+      meterRegistry);
+
+    cache.get(request(QUERY, 0), search());
+    cache.get(request(QUERY, 0), search());
+
+    assertThat(searches).hasValue(2);
+  }
+
+  private Supplier<SearchResult<Instance>> search() {
+    return () -> {
+      searches.incrementAndGet();
+      return SearchResult.of(1, new ArrayList<>(List.of(new Instance().id(instanceId))));
+    };
+  }
+
+  private double cacheGets(String result) {
+    return meterRegistry.get("cache.gets").tag("cache", SEARCH_RESULT_CACHE).tag("result", result)
+      .functionCounter().count();
+  }
+
+  private static CqlSearchRequest<Instance> request(String query, int offset) {
+    return CqlSearchRequest.of(Instance.class, TENANT_ID, query, 10, offset, false);
+  }
+}
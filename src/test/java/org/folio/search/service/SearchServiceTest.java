@@ -10,15 +10,22 @@ import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.array;
 import static org.folio.search.utils.TestUtils.searchResult;
 import static org.folio.search.utils.TestUtils.searchServiceRequest;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.index.query.QueryBuilders.termQuery;
 import static org.opensearch.search.builder.SearchSourceBuilder.searchSource;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
 import org.folio.search.cql.CqlSearchQueryConverter;
 import org.folio.search.exception.RequestValidationException;
@@ -29,6 +36,7 @@ import org.folio.search.service.metadata.SearchFieldProvider;
 import org.folio.search.service.setter.SearchResponsePostProcessor;
 import org.folio.search.utils.TestUtils.TestResource;
 import org.folio.spring.test.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -63,6 +71,14 @@ class SearchServiceTest {
   private SearchPreferenceService searchPreferenceService;
   @Mock
   private Map<Class<?>, SearchResponsePostProcessor<?>> searchResponsePostProcessors = Collections.emptyMap();
+  @Mock
+  private SearchResultCache searchResultCache;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(searchResultCache.get(any(), any()))
+      .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+  }
 
   @Test
   void search_positive() {
@@ -110,4 +126,72 @@ class SearchServiceTest {
     var actual = searchService.search(searchRequest);
     assertThat(actual).isEqualTo(expectedSearchResult);
   }
+
+  @Test
+  void searchRawSource_positive() {
+    var searchRequest = searchServiceRequest(TestResource.class, SEARCH_QUERY);
+    var searchSourceBuilder = searchSource().query(ES_TERM_QUERY);
+    var expectedSourceBuilder = searchSource().query(ES_TERM_QUERY).size(100).from(0)
+      .trackTotalHits(true).fetchSource(array("field1", "field2"), null).timeout(new TimeValue(25000, MILLISECONDS));
+
+    when(searchFieldProvider.getSourceFields(RESOURCE_NAME, SEARCH)).thenReturn(new String[] {"field1", "field2"});
+    when(cqlSearchQueryConverter.convertForConsortia(SEARCH_QUERY, RESOURCE_NAME)).thenReturn(searchSourceBuilder);
+    when(searchRepository.search(eq(searchRequest), eq(expectedSourceBuilder), anyString())).thenReturn(searchResponse);
+    when(searchQueryConfig.getRequestTimeout()).thenReturn(Duration.ofSeconds(25));
+    when(searchPreferenceService.getPreferenceForString(anyString())).thenReturn("test");
+
+    var actual = searchService.searchRawSource(searchRequest);
+
+    assertThat(actual).isEqualTo(searchResponse);
+    verify(documentConverter, never()).convertToSearchResult(any(), any());
+    verify(searchResultCache, never()).get(any(), any());
+  }
+
+  @Test
+  void searchRawSource_positive_withExpandAll() {
+    var searchRequest = searchServiceRequest(TestResource.class, SEARCH_QUERY, true);
+    var searchSourceBuilder = searchSource().query(ES_TERM_QUERY);
+    var expectedSourceBuilder = searchSource().query(ES_TERM_QUERY).size(100).from(0)
+      .trackTotalHits(true).fetchSource(array("id", "plain_title"), null).timeout(new TimeValue(1000, MILLISECONDS));
+
+    when(searchFieldProvider.getAllSourceFields(RESOURCE_NAME)).thenReturn(new String[] {"id", "plain_title"});
+    when(cqlSearchQueryConverter.convertForConsortia(SEARCH_QUERY, RESOURCE_NAME)).thenReturn(searchSourceBuilder);
+    when(searchRepository.search(eq(searchRequest), eq(expectedSourceBuilder), anyString())).thenReturn(searchResponse);
+    when(searchQueryConfig.getRequestTimeout()).thenReturn(Duration.ofSeconds(1));
+    when(searchPreferenceService.getPreferenceForString(anyString())).thenReturn("test");
+
+    var actual = searchService.searchRawSource(searchRequest);
+    assertThat(actual).isEqualTo(searchResponse);
+  }
+
+  @Test
+  void searchRawSource_negative_sumOfOffsetAndLimitExceeds10000() {
+    var searchRequest = CqlSearchRequest.of(TestResource.class, TENANT_ID, SEARCH_QUERY, 500, 9600, false);
+    assertThatThrownBy(() -> searchService.searchRawSource(searchRequest))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("The sum of limit and offset should not exceed 10000.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void search_positive_postProcessedResultNotCached() {
+    var searchRequest = CqlSearchRequest.of(TestResource.class, TENANT_ID, SEARCH_QUERY, 100, 0, true, true);
+    var searchSourceBuilder = searchSource().query(ES_TERM_QUERY);
+    var expectedSearchResult = searchResult(TestResource.of(RESOURCE_ID));
+    var postProcessor = (SearchResponsePostProcessor<TestResource>) mock(SearchResponsePostProcessor.class);
+
+    when(searchResponsePostProcessors.get(TestResource.class)).thenAnswer(invocation -> postProcessor);
+    when(cqlSearchQueryConverter.convertForConsortia(SEARCH_QUERY, RESOURCE_NAME)).thenReturn(searchSourceBuilder);
+    when(searchRepository.search(eq(searchRequest), any(), anyString())).thenReturn(searchResponse);
+    when(documentConverter.convertToSearchResult(searchResponse, TestResource.class))
+      .thenReturn(expectedSearchResult);
+    when(searchQueryConfig.getRequestTimeout()).thenReturn(Duration.ofSeconds(1));
+    when(searchPreferenceService.getPreferenceForString(anyString())).thenReturn("test");
+
+    var actual = searchService.search(searchRequest);
+
+    assertThat(actual).isEqualTo(expectedSearchResult);
+    verify(postProcessor).process(List.of(TestResource.of(RESOURCE_ID)));
+    verify(searchResultCache, never()).get(any(), any());
+  }
 }
@@ -24,6 +24,8 @@ class FeatureConfigServiceDecoratorTest extends DecoratorBaseTest {
   private ConsortiumTenantExecutor consortiumTenantExecutor;
   @Mock
   private FeatureConfigService service;
+  @Mock
+  private TenantConfigSnapshotProvider tenantConfigSnapshotProvider;
   @InjectMocks
   private FeatureConfigServiceDecorator decorator;
 
@@ -64,6 +66,7 @@ class FeatureConfigServiceDecoratorTest extends DecoratorBaseTest {
     assertThat(actual).isEqualTo(expected);
     verify(service).create(expected);
     verify(consortiumTenantExecutor).execute(any());
+    verify(tenantConfigSnapshotProvider).refresh();
   }
 
   @Test
@@ -78,6 +81,7 @@ class FeatureConfigServiceDecoratorTest extends DecoratorBaseTest {
     assertThat(actual).isEqualTo(expected);
     verify(service).update(feature, expected);
     verify(consortiumTenantExecutor).execute(any());
+    verify(tenantConfigSnapshotProvider).refresh();
   }
 
   @Test
@@ -89,6 +93,7 @@ class FeatureConfigServiceDecoratorTest extends DecoratorBaseTest {
 
     verify(service).delete(feature);
     verify(consortiumTenantExecutor).run(any());
+    verify(tenantConfigSnapshotProvider).refresh();
   }
 
 }
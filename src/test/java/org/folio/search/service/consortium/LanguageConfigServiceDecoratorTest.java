@@ -26,6 +26,8 @@ class LanguageConfigServiceDecoratorTest extends DecoratorBaseTest {
   private ConsortiumTenantExecutor consortiumTenantExecutor;
   @Mock
   private LanguageConfigService service;
+  @Mock
+  private TenantConfigSnapshotProvider tenantConfigSnapshotProvider;
   @InjectMocks
   private LanguageConfigServiceDecorator decorator;
 
@@ -40,6 +42,7 @@ class LanguageConfigServiceDecoratorTest extends DecoratorBaseTest {
     assertThat(actual).isEqualTo(expected);
     verify(service).create(expected);
     verify(consortiumTenantExecutor).execute(any());
+    verify(tenantConfigSnapshotProvider).refresh();
   }
 
   @Test
@@ -54,6 +57,7 @@ class LanguageConfigServiceDecoratorTest extends DecoratorBaseTest {
     assertThat(actual).isEqualTo(expected);
     verify(service).update(code, expected);
     verify(consortiumTenantExecutor).execute(any());
+    verify(tenantConfigSnapshotProvider).refresh();
   }
 
   @Test
@@ -65,6 +69,7 @@ class LanguageConfigServiceDecoratorTest extends DecoratorBaseTest {
 
     verify(service).delete(code);
     verify(consortiumTenantExecutor).run(any());
+    verify(tenantConfigSnapshotProvider).refresh();
   }
 
   @Test
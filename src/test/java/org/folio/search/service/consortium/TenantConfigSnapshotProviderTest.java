@@ -0,0 +1,76 @@
+package org.folio.search.service.consortium;
+
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.domain.dto.TenantConfiguredFeature.SEARCH_ALL_FIELDS;
+import static org.folio.search.utils.TestConstants.CONSORTIUM_TENANT_ID;
+import static org.folio.search.utils.TestConstants.MEMBER_TENANT_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Set;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.domain.dto.TenantConfiguredFeature;
+import org.folio.search.model.config.TenantConfigSnapshot;
+import org.folio.search.service.FeatureConfigService;
+import org.folio.search.service.LanguageConfigService;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.test.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TenantConfigSnapshotProviderTest extends DecoratorBaseTest {
+
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+  @Mock
+  private TenantProvider tenantProvider;
+  @Mock
+  private ConsortiumTenantExecutor consortiumTenantExecutor;
+  @Mock
+  private LanguageConfigService languageConfigService;
+  @Mock
+  private FeatureConfigService featureConfigService;
+  private TenantConfigSnapshotProvider provider;
+
+  @BeforeEach
+  void setUp() {
+    provider = new TenantConfigSnapshotProvider(folioExecutionContext, tenantProvider, consortiumTenantExecutor,
+      languageConfigService, featureConfigService, new SearchCacheConfigurationProperties());
+    when(folioExecutionContext.getTenantId()).thenReturn(MEMBER_TENANT_ID);
+    when(tenantProvider.getTenant(MEMBER_TENANT_ID)).thenReturn(CONSORTIUM_TENANT_ID);
+    when(featureConfigService.isEnabled(any(TenantConfiguredFeature.class)))
+      .thenAnswer(invocation -> invocation.getArgument(0) == SEARCH_ALL_FIELDS);
+    mockExecutor(consortiumTenantExecutor);
+  }
+
+  @Test
+  void getSnapshot_positive_loadedOnce() {
+    when(languageConfigService.getAllLanguageCodes()).thenReturn(Set.of("eng"));
+
+    var expected = TenantConfigSnapshot.of(Set.of("eng"), Set.of(SEARCH_ALL_FIELDS));
+    assertThat(provider.getSnapshot()).isEqualTo(expected);
+    assertThat(provider.getSnapshot()).isEqualTo(expected);
+
+    verify(languageConfigService).getAllLanguageCodes();
+    verify(consortiumTenantExecutor).execute(any());
+  }
+
+  @Test
+  void refresh_positive_snapshotReplaced() {
+    when(languageConfigService.getAllLanguageCodes()).thenReturn(emptySet(), Set.of("eng", "fre"));
+
+    assertThat(provider.getSnapshot().getLanguageCodes()).isEmpty();
+    provider.refresh();
+
+    var actual = provider.getSnapshot();
+    assertThat(actual.getLanguageCodes()).containsExactlyInAnyOrder("eng", "fre");
+    assertThat(actual.isEnabled(SEARCH_ALL_FIELDS)).isTrue();
+  }
+}
@@ -1,5 +1,6 @@
 package org.folio.search.service.converter;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
@@ -16,6 +17,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -23,6 +26,7 @@ import java.util.stream.Stream;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.TotalHits.Relation;
 import org.folio.search.domain.dto.AlternativeTitle;
+import org.folio.search.domain.dto.Authority;
 import org.folio.search.domain.dto.Contributor;
 import org.folio.search.domain.dto.Identifiers;
 import org.folio.search.domain.dto.Instance;
@@ -42,6 +46,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 
@@ -180,4 +185,60 @@ class ElasticsearchDocumentConverterTest {
     var actual = elasticsearchDocumentConverter.convertToSearchResult(null, TestResource.class);
     assertThat(actual).isEqualTo(SearchResult.empty());
   }
+
+  @Test
+  void writeSearchResult_positive() throws IOException {
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getTotalHits()).thenReturn(new TotalHits(1, Relation.EQUAL_TO));
+    when(searchHits.getHits()).thenReturn(array(searchHit));
+    when(searchHit.getSourceRef()).thenReturn(new BytesArray("{\"id\":\"" + RESOURCE_ID + "\","
+      + "\"plain_title\":\"title value\",\"staffSuppress\":false,\"tags\":null,\"languages\":[\"eng\",null],"
+      + "\"contributors\":[{\"plain_name\":\"John\",\"primary\":null}],\"notes\":[{\"note\":\"value\"}]}"));
+
+    var outputStream = new ByteArrayOutputStream();
+    elasticsearchDocumentConverter.writeSearchResult(searchResponse, Instance.class, "instances", outputStream);
+
+    assertThat(OBJECT_MAPPER.readTree(outputStream.toByteArray())).isEqualTo(OBJECT_MAPPER.valueToTree(mapOf(
+      "totalRecords", 1, "instances", List.of(mapOf(
+        "id", RESOURCE_ID, "title", "title value", "staffSuppress", false,
+        "languages", List.of("eng"), "contributors", List.of(mapOf("name", "John")),
+        "notes", List.of(mapOf("note", "value", "staffOnly", false)),
+        "electronicAccess", emptyList(), "items", emptyList(), "holdings", emptyList())))));
+  }
+
+  @Test
+  void writeSearchResult_positive_unknownFieldsSkipped() throws IOException {
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getTotalHits()).thenReturn(new TotalHits(1, Relation.EQUAL_TO));
+    when(searchHits.getHits()).thenReturn(array(searchHit));
+    when(searchHit.getSourceRef()).thenReturn(new BytesArray("{\"id\":\"" + RESOURCE_ID + "\","
+      + "\"unknown\":{\"key\":[1,2]},\"notes\":[{\"value\":\"note value\",\"staffOnly\":true}]}"));
+
+    var outputStream = new ByteArrayOutputStream();
+    elasticsearchDocumentConverter.writeSearchResult(searchResponse, Authority.class, "authorities", outputStream);
+
+    assertThat(OBJECT_MAPPER.readTree(outputStream.toByteArray())).isEqualTo(OBJECT_MAPPER.valueToTree(mapOf(
+      "totalRecords", 1, "authorities", List.of(mapOf("id", RESOURCE_ID, "notes", List.of(emptyMap()))))));
+  }
+
+  @Test
+  void writeSearchResult_positive_emptySource() throws IOException {
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getTotalHits()).thenReturn(new TotalHits(1, Relation.EQUAL_TO));
+    when(searchHits.getHits()).thenReturn(array(searchHit));
+    when(searchHit.getSourceRef()).thenReturn(null);
+
+    var outputStream = new ByteArrayOutputStream();
+    elasticsearchDocumentConverter.writeSearchResult(searchResponse, Instance.class, "instances", outputStream);
+
+    assertThat(OBJECT_MAPPER.readTree(outputStream.toByteArray())).isEqualTo(OBJECT_MAPPER.valueToTree(mapOf(
+      "totalRecords", 1, "instances", List.of(new Instance()))));
+  }
+
+  @Test
+  void writeSearchResult_negative_responseIsNull() throws IOException {
+    var outputStream = new ByteArrayOutputStream();
+    elasticsearchDocumentConverter.writeSearchResult(null, Authority.class, "authorities", outputStream);
+    assertThat(outputStream.toString(UTF_8)).isEqualTo("{\"totalRecords\":0,\"authorities\":[]}");
+  }
 }
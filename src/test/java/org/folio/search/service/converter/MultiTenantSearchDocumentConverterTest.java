@@ -2,10 +2,13 @@ package org.folio.search.service.converter;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
 import static java.util.Optional.of;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.model.types.IndexActionType.DELETE;
 import static org.folio.search.model.types.IndexActionType.INDEX;
+import static org.folio.search.service.converter.MultiTenantSearchDocumentConverter.BATCH_SIZE_METRIC_NAME;
+import static org.folio.search.service.converter.MultiTenantSearchDocumentConverter.CONVERSION_TIMER_NAME;
 import static org.folio.search.utils.TestConstants.RESOURCE_ID;
 import static org.folio.search.utils.TestConstants.RESOURCE_NAME;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
@@ -17,39 +20,52 @@ import static org.folio.search.utils.TestUtils.resourceEvent;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import lombok.SneakyThrows;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.configuration.properties.SearchConfigurationProperties.IndexingSettings;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.search.model.config.TenantConfigSnapshot;
+import org.folio.search.model.context.FolioExecutionContextBuilder;
 import org.folio.search.model.index.SearchDocumentBody;
 import org.folio.search.model.metadata.ResourceDescription;
 import org.folio.search.model.metadata.ResourceIndexingConfiguration;
 import org.folio.search.model.types.IndexActionType;
 import org.folio.search.model.types.IndexingDataFormat;
 import org.folio.search.service.consortium.ConsortiumTenantExecutor;
+import org.folio.search.service.consortium.TenantConfigSnapshotProvider;
 import org.folio.search.service.converter.preprocessor.EventPreProcessor;
 import org.folio.search.service.metadata.ResourceDescriptionService;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.test.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.common.bytes.BytesArray;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
 class MultiTenantSearchDocumentConverterTest {
 
   private static final String CUSTOM_PRE_PROCESSOR = "testPreProcessor";
+  private static final TenantConfigSnapshot TENANT_CONFIG = TenantConfigSnapshot.of(emptySet(), emptySet());
 
   @InjectMocks
   private MultiTenantSearchDocumentConverter multiTenantConverter;
@@ -58,6 +74,8 @@ class MultiTenantSearchDocumentConverterTest {
   @Mock
   private ConsortiumTenantExecutor executionService;
   @Mock
+  private TenantConfigSnapshotProvider tenantConfigSnapshotProvider;
+  @Mock
   private EventPreProcessor customEventPreProcessor;
   @Mock
   private Map<String, EventPreProcessor> eventPreProcessorBeans;
@@ -65,6 +83,19 @@ class MultiTenantSearchDocumentConverterTest {
   private ResourceDescriptionService resourceDescriptionService;
   @Mock
   private FolioExecutionContext folioExecutionContext;
+  @Spy
+  private final FolioExecutionContextBuilder contextBuilder = new FolioExecutionContextBuilder(null);
+  @Spy
+  private final SearchConfigurationProperties searchConfigurationProperties = searchConfigurationProperties();
+  @Spy
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  @Spy
+  private final SimpleAsyncTaskExecutor documentConversionExecutor = new SimpleAsyncTaskExecutor();
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(tenantConfigSnapshotProvider.getSnapshot()).thenReturn(TENANT_CONFIG);
+  }
 
   @Test
   void convert_positive() {
@@ -79,10 +110,14 @@ class MultiTenantSearchDocumentConverterTest {
       resourceEvent(null, RESOURCE_NAME, mapOf("id", randomId())).tenant(tenant2).type(ResourceEventType.DELETE));
 
     when(resourceDescriptionService.find(RESOURCE_NAME)).thenReturn(of(resourceDescription(RESOURCE_NAME)));
-    when(searchDocumentConverter.convert(events.get(0))).thenReturn(of(searchDocument(events.get(0), INDEX)));
-    when(searchDocumentConverter.convert(events.get(1))).thenReturn(of(searchDocument(events.get(1), DELETE)));
-    when(searchDocumentConverter.convert(events.get(2))).thenReturn(of(searchDocument(events.get(2), INDEX)));
-    when(searchDocumentConverter.convert(events.get(3))).thenReturn(of(searchDocument(events.get(3), DELETE)));
+    when(searchDocumentConverter.convert(events.get(0), TENANT_CONFIG))
+      .thenReturn(of(searchDocument(events.get(0), INDEX)));
+    when(searchDocumentConverter.convert(events.get(1), TENANT_CONFIG))
+      .thenReturn(of(searchDocument(events.get(1), DELETE)));
+    when(searchDocumentConverter.convert(events.get(2), TENANT_CONFIG))
+      .thenReturn(of(searchDocument(events.get(2), INDEX)));
+    when(searchDocumentConverter.convert(events.get(3), TENANT_CONFIG))
+      .thenReturn(of(searchDocument(events.get(3), DELETE)));
 
     var actual = multiTenantConverter.convert(events);
 
@@ -102,8 +137,10 @@ class MultiTenantSearchDocumentConverterTest {
       resourceEvent(null, RESOURCE_NAME, mapOf("id", randomId())).tenant(tenant1).type(ResourceEventType.DELETE));
 
     when(resourceDescriptionService.find(RESOURCE_NAME)).thenReturn(of(resourceDescription(RESOURCE_NAME)));
-    when(searchDocumentConverter.convert(events.get(0))).thenReturn(of(searchDocument(events.get(0), INDEX)));
-    when(searchDocumentConverter.convert(events.get(1))).thenReturn(of(searchDocument(events.get(1), DELETE)));
+    when(searchDocumentConverter.convert(events.get(0), TENANT_CONFIG))
+      .thenReturn(of(searchDocument(events.get(0), INDEX)));
+    when(searchDocumentConverter.convert(events.get(1), TENANT_CONFIG))
+      .thenReturn(of(searchDocument(events.get(1), DELETE)));
     when(folioExecutionContext.getTenantId()).thenReturn(tenant1);
 
     var actual = multiTenantConverter.convert(events);
@@ -114,11 +151,50 @@ class MultiTenantSearchDocumentConverterTest {
     verifyNoInteractions(executionService);
   }
 
+  @Test
+  void convert_positive_parallelConversion() {
+    var conversionSettings = searchConfigurationProperties.getIndexing().getConversion();
+    conversionSettings.setParallelEnabled(true);
+    conversionSettings.setParallelThreshold(5);
+    var events = IntStream.range(0, 10)
+      .mapToObj(i -> resourceEvent(null, RESOURCE_NAME, mapOf("id", randomId())).tenant(TENANT_ID))
+      .toList();
+
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(resourceDescriptionService.find(RESOURCE_NAME)).thenReturn(of(resourceDescription(RESOURCE_NAME)));
+    when(searchDocumentConverter.convert(any(), eq(TENANT_CONFIG))).thenAnswer(invocation ->
+      of(searchDocument(invocation.getArgument(0), INDEX)));
+
+    var actual = multiTenantConverter.convert(events);
+
+    var expectedDocuments = events.stream().map(event -> searchDocument(event, INDEX)).toList();
+    assertThat(actual).isEqualTo(Map.of(RESOURCE_NAME, expectedDocuments));
+    verify(documentConversionExecutor, times(4)).execute(any());
+    assertThat(meterRegistry.get(CONVERSION_TIMER_NAME).timer().count()).isEqualTo(1);
+    var expectedBatchSize = expectedDocuments.stream().mapToLong(document -> document.getDocumentBody().length()).sum();
+    assertThat(meterRegistry.get(BATCH_SIZE_METRIC_NAME).summary().totalAmount()).isEqualTo(expectedBatchSize);
+  }
+
+  @Test
+  void convert_positive_parallelConversionBelowThreshold() {
+    searchConfigurationProperties.getIndexing().getConversion().setParallelEnabled(true);
+    var event = resourceEvent(RESOURCE_NAME, mapOf("id", RESOURCE_ID));
+
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(resourceDescriptionService.find(RESOURCE_NAME)).thenReturn(of(resourceDescription(RESOURCE_NAME)));
+    when(searchDocumentConverter.convert(event, TENANT_CONFIG)).thenReturn(of(searchDocument(event, INDEX)));
+
+    var actual = multiTenantConverter.convert(List.of(event));
+
+    assertThat(actual).isEqualTo(Map.of(RESOURCE_NAME, List.of(searchDocument(event, INDEX))));
+    verifyNoInteractions(documentConversionExecutor);
+  }
+
   @Test
   void convert_positive_singleEventThatIsNotConverted() {
     var event = resourceEvent(RESOURCE_NAME, mapOf("id", RESOURCE_ID));
     when(resourceDescriptionService.find(RESOURCE_NAME)).thenReturn(of(resourceDescription(RESOURCE_NAME)));
-    when(searchDocumentConverter.convert(event)).thenReturn(Optional.empty());
+    when(searchDocumentConverter.convert(event, TENANT_CONFIG)).thenReturn(Optional.empty());
     when(executionService.execute(eq(TENANT_ID), any())).thenAnswer(invocation ->
       invocation.<Supplier<List<SearchDocumentBody>>>getArgument(1).get());
 
@@ -132,7 +208,7 @@ class MultiTenantSearchDocumentConverterTest {
     var searchDocument = searchDocument(event, INDEX);
 
     when(resourceDescriptionService.find(RESOURCE_NAME)).thenReturn(of(resourceDescriptionWithPreProcessor()));
-    when(searchDocumentConverter.convert(event)).thenReturn(of(searchDocument));
+    when(searchDocumentConverter.convert(event, TENANT_CONFIG)).thenReturn(of(searchDocument));
     when(eventPreProcessorBeans.get(CUSTOM_PRE_PROCESSOR)).thenReturn(customEventPreProcessor);
     when(customEventPreProcessor.process(event)).thenReturn(List.of(event));
     when(executionService.execute(eq(TENANT_ID), any())).thenAnswer(invocation ->
@@ -160,6 +236,12 @@ class MultiTenantSearchDocumentConverterTest {
       IndexingDataFormat.SMILE, event, type);
   }
 
+  private static SearchConfigurationProperties searchConfigurationProperties() {
+    var searchConfigurationProperties = new SearchConfigurationProperties();
+    searchConfigurationProperties.setIndexing(new IndexingSettings());
+    return searchConfigurationProperties;
+  }
+
   private static ResourceDescription resourceDescriptionWithPreProcessor() {
     var configuration = new ResourceIndexingConfiguration();
     configuration.setEventPreProcessor(CUSTOM_PRE_PROCESSOR);
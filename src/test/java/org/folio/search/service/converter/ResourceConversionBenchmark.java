@@ -0,0 +1,111 @@
+package org.folio.search.service.converter;
+
+import static org.folio.search.utils.CollectionUtils.nullIfEmpty;
+import static org.folio.search.utils.TestUtils.readJsonFromFile;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.collections4.MapUtils;
+import org.folio.search.model.metadata.FieldDescription;
+import org.folio.search.model.metadata.ObjectFieldDescription;
+import org.folio.search.model.metadata.PlainFieldDescription;
+import org.folio.search.model.metadata.ResourceDescription;
+import org.folio.search.sample.SampleInstances;
+import org.folio.search.utils.SearchUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link ResourceConversionPlan} with the recursive walk over resource description fields, that was used
+ * by {@link SearchDocumentConverter} before, on the sample instance.
+ *
+ * <p>Can be started from the IDE using {@link #main(String[])} method, run with {@code -prof gc} option to compare
+ * allocation rates as well.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceConversionBenchmark {
+
+  private static final List<String> LANGUAGES = List.of("eng", "ger");
+
+  private Map<String, FieldDescription> fields;
+  private ResourceConversionPlan conversionPlan;
+  private Map<String, Object> instance;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ResourceConversionBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  @Setup
+  public void setUp() {
+    fields = readJsonFromFile("/model/instance.json", ResourceDescription.class).getFields();
+    conversionPlan = ResourceConversionPlan.compile(fields);
+    instance = SampleInstances.getSemanticWebAsMap();
+  }
+
+  @Benchmark
+  public Map<String, Object> recursiveFieldsWalk() {
+    return convertMapUsingResourceFields(instance, fields);
+  }
+
+  @Benchmark
+  public Map<String, Object> compiledConversionPlan() {
+    return conversionPlan.convert(instance, LANGUAGES);
+  }
+
+  private static Map<String, Object> convertMapUsingResourceFields(Map<String, Object> data,
+                                                                   Map<String, FieldDescription> fields) {
+    var resultMap = new LinkedHashMap<String, Object>();
+    fields.entrySet().forEach(entry -> resultMap.putAll(getFieldValue(data, entry)));
+    return nullIfEmpty(resultMap);
+  }
+
+  private static Map<String, Object> getFieldValue(Map<String, Object> data,
+                                                   Map.Entry<String, FieldDescription> descEntry) {
+    var fieldName = descEntry.getKey();
+    if (descEntry.getValue() instanceof PlainFieldDescription desc) {
+      var plainFieldValue = desc.isNotIndexed() ? null : MapUtils.getObject(data, fieldName, desc.getDefaultValue());
+      return plainFieldValue != null
+        ? SearchUtils.getPlainFieldValue(desc, fieldName, plainFieldValue, LANGUAGES)
+        : Map.of();
+    }
+
+    var properties = ((ObjectFieldDescription) descEntry.getValue()).getProperties();
+    var value = getObjectFieldValue(data.get(fieldName), properties);
+    return value != null ? Map.of(fieldName, value) : Map.of();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object getObjectFieldValue(Object value, Map<String, FieldDescription> subfields) {
+    if (value instanceof Map) {
+      return convertMapUsingResourceFields((Map<String, Object>) value, subfields);
+    }
+
+    if (value instanceof List) {
+      return ((List<Object>) value).stream()
+        .map(listValue -> getObjectFieldValue(listValue, subfields))
+        .filter(Objects::nonNull)
+        .toList();
+    }
+
+    return null;
+  }
+}
@@ -0,0 +1,73 @@
+package org.folio.search.service.converter;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.model.metadata.PlainFieldDescription.NONE_FIELD_TYPE;
+import static org.folio.search.utils.TestUtils.keywordField;
+import static org.folio.search.utils.TestUtils.keywordFieldWithDefaultValue;
+import static org.folio.search.utils.TestUtils.mapOf;
+import static org.folio.search.utils.TestUtils.multilangField;
+import static org.folio.search.utils.TestUtils.objectField;
+import static org.folio.search.utils.TestUtils.plainField;
+import static org.folio.search.utils.TestUtils.standardField;
+
+import java.util.List;
+import java.util.Map;
+import org.folio.search.model.metadata.FieldDescription;
+import org.folio.spring.test.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ResourceConversionPlanTest {
+
+  @Test
+  void convert_positive() {
+    var plan = ResourceConversionPlan.compile(mapOf(
+      "id", keywordField(),
+      "title", multilangField(),
+      "note", standardField(),
+      "code", standardField(false),
+      "source", keywordFieldWithDefaultValue("FOLIO"),
+      "notIndexed", plainField(NONE_FIELD_TYPE),
+      "identifiers", objectField(Map.of("value", keywordField()))));
+
+    var actual = plan.convert(mapOf(
+      "id", "id1",
+      "title", "title value",
+      "note", "note value",
+      "code", "code value",
+      "notIndexed", "value",
+      "identifiers", List.of(mapOf("value", "v1"), mapOf("type", "t2"), "invalid")), List.of("eng"));
+
+    assertThat(actual).isEqualTo(mapOf(
+      "id", "id1",
+      "title", mapOf("eng", "title value", "src", "title value"),
+      "plain_title", "title value",
+      "note", "note value",
+      "plain_note", "note value",
+      "code", "code value",
+      "source", "FOLIO",
+      "identifiers", List.of(mapOf("value", "v1"))));
+  }
+
+  @Test
+  void convert_positive_nestedObjects() {
+    var plan = ResourceConversionPlan.compile(Map.of(
+      "metadata", objectField(Map.of("createdDate", keywordField(), "notes", objectField(Map.of(
+        "note", multilangField()))))));
+
+    var actual = plan.convert(mapOf("metadata", mapOf("createdDate", "2021-01-01",
+      "notes", List.of(List.of(mapOf("note", "value"))))), emptyList());
+
+    assertThat(actual).isEqualTo(mapOf("metadata", mapOf("createdDate", "2021-01-01",
+      "notes", List.of(List.of(mapOf("note", mapOf("src", "value"), "plain_note", "value"))))));
+  }
+
+  @Test
+  void convert_positive_noValues() {
+    var plan = ResourceConversionPlan.compile(Map.<String, FieldDescription>of(
+      "id", keywordField(), "metadata", objectField(Map.of("createdDate", keywordField()))));
+
+    assertThat(plan.convert(mapOf("metadata", mapOf("updatedDate", "2021-01-01")), emptyList())).isNull();
+  }
+}
@@ -24,6 +24,7 @@ import static org.folio.search.utils.TestUtils.resourceDescription;
 import static org.folio.search.utils.TestUtils.resourceEvent;
 import static org.folio.search.utils.TestUtils.spyLambda;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -37,11 +38,12 @@ import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.configuration.properties.SearchConfigurationProperties.IndexingSettings;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.search.model.config.TenantConfigSnapshot;
 import org.folio.search.model.converter.ConversionContext;
 import org.folio.search.model.index.SearchDocumentBody;
 import org.folio.search.model.metadata.FieldDescription;
+import org.folio.search.model.metadata.ResourceIndexingConfiguration;
 import org.folio.search.model.types.IndexingDataFormat;
-import org.folio.search.service.consortium.LanguageConfigServiceDecorator;
 import org.folio.search.service.metadata.ResourceDescriptionService;
 import org.folio.search.utils.JsonConverter;
 import org.folio.search.utils.SmileConverter;
@@ -59,17 +61,19 @@ import org.opensearch.common.bytes.BytesReference;
 @ExtendWith(MockitoExtension.class)
 class SearchDocumentConverterTest {
 
+  private static final TenantConfigSnapshot EMPTY_TENANT_CONFIG = tenantConfig(emptySet());
+
   @Spy
   private final JsonConverter jsonConverter = new JsonConverter(OBJECT_MAPPER);
   @Spy
   private final SmileConverter smileConverter = new SmileConverter();
   private final Function<Map<String, Object>, BytesReference> resultDocumentConverter =
     spyLambda(Function.class, smileConverter::toSmile);
+  @Spy
+  private final StreamingDocumentWriter streamingDocumentWriter = new StreamingDocumentWriter(SMILE_MAPPER);
   @InjectMocks
   private SearchDocumentConverter documentMapper;
   @Mock
-  private LanguageConfigServiceDecorator languageConfigService;
-  @Mock
   private SearchFieldsProcessor searchFieldsProcessor;
   @Mock
   private ResourceDescriptionService descriptionService;
@@ -78,14 +82,15 @@ class SearchDocumentConverterTest {
 
   @Test
   void convert_positive() {
-    when(languageConfigService.getAllLanguageCodes()).thenReturn(Set.of("eng"));
+    var tenantConfig = tenantConfig(Set.of("eng"));
     when(descriptionService.get(RESOURCE_NAME)).thenReturn(
       resourceDescription(resourceDescriptionFields(), List.of("$.language")));
     var resourceEvent = resourceEvent(RESOURCE_NAME, testResourceBody());
 
-    var actual = documentMapper.convert(resourceEvent);
+    var actual = documentMapper.convert(resourceEvent, tenantConfig);
 
     assertThat(actual).isEqualTo(expectedSearchDocument(resourceEvent, expectedSearchDocumentBody()));
+    assertThat(actual.get().getUpsertPayload()).isNull();
   }
 
   @Test
@@ -95,35 +100,114 @@ class SearchDocumentConverterTest {
     searchConfig.getIndexing().setDataFormat(IndexingDataFormat.JSON);
     searchConfigurationProperties = spy(searchConfig);
     documentMapper = new SearchDocumentConverter(searchFieldsProcessor,
-      languageConfigService, descriptionService, searchConfig, jsonConverter::toJsonBytes);
+      descriptionService, searchConfig, jsonConverter::toJsonBytes, null);
+
+    var tenantConfig = tenantConfig(Set.of("eng"));
+    when(descriptionService.get(RESOURCE_NAME)).thenReturn(
+      resourceDescription(resourceDescriptionFields(), List.of("$.language")));
+    var resourceEvent = resourceEvent(RESOURCE_NAME, testResourceBody());
+
+    var expected = Optional.of(SearchDocumentBody.of(new BytesArray(asJsonString(expectedSearchDocumentBody())),
+      IndexingDataFormat.JSON, resourceEvent, INDEX));
+    var actual = documentMapper.convert(resourceEvent, tenantConfig);
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void convert_positive_streamingJson() {
+    var searchConfig = getSearchConfigurationProperties();
+    searchConfig.getIndexing().setDataFormat(IndexingDataFormat.JSON);
+    documentMapper = new SearchDocumentConverter(searchFieldsProcessor, descriptionService,
+      searchConfig, jsonConverter::toJsonBytes, new StreamingDocumentWriter(OBJECT_MAPPER));
 
-    when(languageConfigService.getAllLanguageCodes()).thenReturn(Set.of("eng"));
+    var tenantConfig = tenantConfig(Set.of("eng"));
     when(descriptionService.get(RESOURCE_NAME)).thenReturn(
       resourceDescription(resourceDescriptionFields(), List.of("$.language")));
     var resourceEvent = resourceEvent(RESOURCE_NAME, testResourceBody());
 
     var expected = Optional.of(SearchDocumentBody.of(new BytesArray(asJsonString(expectedSearchDocumentBody())),
       IndexingDataFormat.JSON, resourceEvent, INDEX));
-    var actual = documentMapper.convert(resourceEvent);
+    var actual = documentMapper.convert(resourceEvent, tenantConfig);
 
     assertThat(actual).isEqualTo(expected);
+    verifyNoInteractions(jsonConverter);
+  }
+
+  @Test
+  void convert_positive_streamingConversionDisabled() {
+    var searchConfig = getSearchConfigurationProperties();
+    searchConfig.getIndexing().setStreamingConversionEnabled(false);
+    documentMapper = new SearchDocumentConverter(searchFieldsProcessor, descriptionService,
+      searchConfig, resultDocumentConverter, streamingDocumentWriter);
+
+    var tenantConfig = tenantConfig(Set.of("eng"));
+    when(descriptionService.get(RESOURCE_NAME)).thenReturn(
+      resourceDescription(resourceDescriptionFields(), List.of("$.language")));
+    var resourceEvent = resourceEvent(RESOURCE_NAME, testResourceBody());
+
+    var actual = documentMapper.convert(resourceEvent, tenantConfig);
+
+    assertThat(actual).isEqualTo(expectedSearchDocument(resourceEvent, expectedSearchDocumentBody()));
+    verifyNoInteractions(streamingDocumentWriter);
+  }
+
+  @Test
+  void convert_positive_streamingEmptyDocument() {
+    when(descriptionService.get(RESOURCE_NAME)).thenReturn(resourceDescription(mapOf(
+      "identifiers", objectField(mapOf("value", keywordField())))));
+    var resourceEvent = resourceEvent(RESOURCE_NAME, mapOf("identifiers", mapOf("type", "isbn")));
+
+    var actual = documentMapper.convert(resourceEvent, EMPTY_TENANT_CONFIG);
+
+    assertThat(actual).isEqualTo(Optional.of(SearchDocumentBody.of(null, IndexingDataFormat.SMILE, resourceEvent,
+      INDEX)));
   }
 
   @Test
   void convert_deleteEvent() {
     var event = resourceEvent(RESOURCE_ID, RESOURCE_NAME, ResourceEventType.DELETE, null, emptyMap());
-    var actual = documentMapper.convert(event);
+    var actual = documentMapper.convert(event, EMPTY_TENANT_CONFIG);
     assertThat(actual).isPresent()
       .get()
       .isEqualTo(SearchDocumentBody.of(null, IndexingDataFormat.SMILE, event, DELETE));
   }
 
+  @Test
+  void convert_positive_eventPayloadRetainedForUpsertResource() {
+    var description = resourceDescription(mapOf("id", keywordField()));
+    description.setIndexingConfiguration(upsertIndexingConfiguration());
+    when(descriptionService.get(RESOURCE_NAME)).thenReturn(description);
+    var resourceEvent = resourceEvent(RESOURCE_NAME, mapOf("id", RESOURCE_ID, "instanceId", "instance id"));
+
+    var actual = documentMapper.convert(resourceEvent, EMPTY_TENANT_CONFIG);
+
+    assertThat(actual).isPresent().get()
+      .satisfies(document -> assertThat(document.getUpsertPayload()).isSameAs(resourceEvent.getNew()))
+      .satisfies(document -> assertThat(document.getAction()).isEqualTo(INDEX));
+  }
+
+  @Test
+  void convert_positive_deleteEventPayloadRetainedForUpsertResource() {
+    var description = resourceDescription(mapOf("id", keywordField()));
+    description.setIndexingConfiguration(upsertIndexingConfiguration());
+    when(descriptionService.find(RESOURCE_NAME)).thenReturn(Optional.of(description));
+    var oldPayload = mapOf("id", RESOURCE_ID, "instanceId", "instance id");
+    var event = resourceEvent(RESOURCE_ID, RESOURCE_NAME, ResourceEventType.DELETE, null, oldPayload);
+
+    var actual = documentMapper.convert(event, EMPTY_TENANT_CONFIG);
+
+    assertThat(actual).isEqualTo(Optional.of(SearchDocumentBody.forUpsert(null, IndexingDataFormat.SMILE, event,
+      DELETE)));
+    assertThat(actual.get().getUpsertPayload()).isSameAs(oldPayload);
+  }
+
   @Test
   void convert_negative_pathNotFound() {
     when(descriptionService.get(RESOURCE_NAME)).thenReturn(resourceDescription(
       mapOf("id", plainField("keyword"), "tenantId", keywordField(), "title", plainField("keyword"))));
     var resourceEvent = resourceEvent(RESOURCE_NAME, mapOf("id", RESOURCE_ID, "tenantId", TENANT_ID));
-    var actual = documentMapper.convert(resourceEvent);
+    var actual = documentMapper.convert(resourceEvent, EMPTY_TENANT_CONFIG);
     assertThat(actual).isEqualTo(
       expectedSearchDocument(resourceEvent, jsonObject("id", RESOURCE_ID, "tenantId", TENANT_ID)));
   }
@@ -135,14 +219,14 @@ class SearchDocumentConverterTest {
         "title", plainField("keyword"))));
     var resourceEvent = resourceEvent(RESOURCE_NAME, mapOf("id", RESOURCE_ID, "tenantId", TENANT_ID,
       "title", ""));
-    var actual = documentMapper.convert(resourceEvent);
+    var actual = documentMapper.convert(resourceEvent, EMPTY_TENANT_CONFIG);
     ObjectNode expectedJson = jsonObject("id", RESOURCE_ID, "tenantId", TENANT_ID, "title", "");
     assertThat(actual).isEqualTo(expectedSearchDocument(resourceEvent, expectedJson));
   }
 
   @Test
   void convert_positive_multilangResource() {
-    when(languageConfigService.getAllLanguageCodes()).thenReturn(Set.of("eng"));
+    var tenantConfig = tenantConfig(Set.of("eng"));
     when(descriptionService.get(RESOURCE_NAME)).thenReturn(resourceDescription(
       mapOf("id", plainField("keyword"), "tenantId", keywordField(), "title", multilangField()),
       List.of("$.lang1", "$.lang2", "$.lang3", "$.lang4", "$.lang5")));
@@ -157,7 +241,7 @@ class SearchDocumentConverterTest {
       "lang4", "eng",
       "lang5", true));
 
-    var actual = documentMapper.convert(resourceEvent);
+    var actual = documentMapper.convert(resourceEvent, tenantConfig);
 
     ObjectNode expectedJson =
       jsonObject("id", RESOURCE_ID, "tenantId", TENANT_ID,
@@ -178,7 +262,7 @@ class SearchDocumentConverterTest {
         mapOf("type", "issn", "value", "test-issn"),
         mapOf("type", "isbn"), "test-isbn-2")));
 
-    var actual = documentMapper.convert(resourceEvent);
+    var actual = documentMapper.convert(resourceEvent, EMPTY_TENANT_CONFIG);
 
     ObjectNode expectedJson = jsonObject("id", RESOURCE_ID, "tenantId", TENANT_ID,
       "identifiers", jsonArray(jsonObject("value", "test-isbn"), jsonObject("value", "test-issn")));
@@ -195,7 +279,7 @@ class SearchDocumentConverterTest {
 
     when(descriptionService.get(RESOURCE_NAME)).thenReturn(resourceDescription);
 
-    var actual = documentMapper.convert(resourceEvent);
+    var actual = documentMapper.convert(resourceEvent, EMPTY_TENANT_CONFIG);
 
     ObjectNode expectedJson = jsonObject("id", RESOURCE_ID, "tenantId", TENANT_ID,
       "alternativeTitle", jsonArray(jsonObject("value", jsonObject("src", "title1"), "plain_value", "title1")));
@@ -205,7 +289,7 @@ class SearchDocumentConverterTest {
   @Test
   void convert_negative_dataIsNull() {
     var resourceEvent = resourceEvent(RESOURCE_NAME, null);
-    var actual = documentMapper.convert(resourceEvent);
+    var actual = documentMapper.convert(resourceEvent, EMPTY_TENANT_CONFIG);
     assertThat(actual).isEmpty();
   }
 
@@ -215,12 +299,12 @@ class SearchDocumentConverterTest {
       "base", keywordField()));
     var resourceEvent = resourceEvent(RESOURCE_NAME, mapOf("id", RESOURCE_ID, "tenantId", TENANT_ID,
       "base", "base val"));
-    var expectedContext = ConversionContext.of(resourceEvent, desc, emptyList());
+    var expectedContext = ConversionContext.of(resourceEvent, desc, emptyList(), EMPTY_TENANT_CONFIG);
 
     when(descriptionService.get(RESOURCE_NAME)).thenReturn(desc);
     when(searchFieldsProcessor.getSearchFields(expectedContext)).thenReturn(mapOf("generated", "generated value"));
 
-    var actual = documentMapper.convert(resourceEvent);
+    var actual = documentMapper.convert(resourceEvent, EMPTY_TENANT_CONFIG);
 
     ObjectNode expectedJson = jsonObject(
       "id", RESOURCE_ID, "tenantId", TENANT_ID, "base", "base val", "generated", "generated value");
@@ -233,7 +317,7 @@ class SearchDocumentConverterTest {
       "id", keywordField(), "tenantId", keywordField(),
       "value", keywordFieldWithDefaultValue("default"))));
     var event = resourceEvent(RESOURCE_NAME, Map.of("id", RESOURCE_ID, "tenantId", TENANT_ID, "value", "aValue"));
-    var actual = documentMapper.convert(event);
+    var actual = documentMapper.convert(event, EMPTY_TENANT_CONFIG);
     ObjectNode expectedJson = jsonObject("id", RESOURCE_ID, "tenantId", TENANT_ID, "value", "aValue");
     assertThat(actual).isEqualTo(expectedSearchDocument(event, expectedJson));
   }
@@ -247,7 +331,7 @@ class SearchDocumentConverterTest {
     when(descriptionService.get(RESOURCE_NAME)).thenReturn(resourceDescription);
 
     var event = resourceEvent(RESOURCE_NAME, Map.of("id", RESOURCE_ID, "tenantId", TENANT_ID));
-    var actual = documentMapper.convert(event);
+    var actual = documentMapper.convert(event, EMPTY_TENANT_CONFIG);
 
     ObjectNode expectedJson = jsonObject("id", RESOURCE_ID, "tenantId", TENANT_ID, "value", "default");
     assertThat(actual).isEqualTo(expectedSearchDocument(event, expectedJson));
@@ -259,7 +343,7 @@ class SearchDocumentConverterTest {
       "id", keywordField(), "tenantId", keywordField(),
       "value", keywordFieldWithDefaultValue("default"))));
     var event = resourceEvent(RESOURCE_NAME, mapOf("id", RESOURCE_ID, "tenantId", TENANT_ID, "value", null));
-    var actual = documentMapper.convert(event);
+    var actual = documentMapper.convert(event, EMPTY_TENANT_CONFIG);
     ObjectNode expectedJson = jsonObject("id", RESOURCE_ID, "tenantId", TENANT_ID, "value", "default");
     assertThat(actual).isEqualTo(expectedSearchDocument(event, expectedJson));
   }
@@ -269,11 +353,11 @@ class SearchDocumentConverterTest {
     var event = resourceEvent(RESOURCE_NAME, mapOf("id", RESOURCE_ID, "tenantId", TENANT_ID,
       "language", "rus", "multilang_value", "value"));
 
-    when(languageConfigService.getAllLanguageCodes()).thenReturn(Set.of("eng", "fra"));
+    var tenantConfig = tenantConfig(Set.of("eng", "fra"));
     when(descriptionService.get(RESOURCE_NAME)).thenReturn(
       resourceDescription(resourceDescriptionFields(), List.of("$.language")));
 
-    var actual = documentMapper.convert(event);
+    var actual = documentMapper.convert(event, tenantConfig);
 
     ObjectNode expectedJson = jsonObject("id", RESOURCE_ID, "tenantId", TENANT_ID, "language", "rus",
       "multilang_value", jsonObject("src", "value"), "plain_multilang_value", "value");
@@ -288,12 +372,12 @@ class SearchDocumentConverterTest {
       mapOf("id", "item#3", "effectiveShelvingOrder", "C5"),
       mapOf("id", "item#4"))));
 
-    when(languageConfigService.getAllLanguageCodes()).thenReturn(emptySet());
+    var tenantConfig = tenantConfig(emptySet());
     when(descriptionService.get(RESOURCE_NAME)).thenReturn(
       resourceDescription(mapOf("id", keywordField(), "tenantId", keywordField(),
         "items", objectField(mapOf("id", keywordField(), "effectiveShelvingOrder", keywordField())))));
 
-    var actual = documentMapper.convert(event);
+    var actual = documentMapper.convert(event, tenantConfig);
 
     ObjectNode expectedJson = jsonObject(
       "id", RESOURCE_ID,
@@ -359,8 +443,19 @@ class SearchDocumentConverterTest {
   private SearchConfigurationProperties getSearchConfigurationProperties() {
     var indexSettings = new IndexingSettings();
     indexSettings.setDataFormat(IndexingDataFormat.SMILE);
+    indexSettings.setStreamingConversionEnabled(true);
     var searchConfigurationProperties = new SearchConfigurationProperties();
     searchConfigurationProperties.setIndexing(indexSettings);
     return searchConfigurationProperties;
   }
+
+  private static TenantConfigSnapshot tenantConfig(Set<String> languageCodes) {
+    return TenantConfigSnapshot.of(languageCodes, emptySet());
+  }
+
+  private static ResourceIndexingConfiguration upsertIndexingConfiguration() {
+    var indexingConfiguration = new ResourceIndexingConfiguration();
+    indexingConfiguration.setResourceRepository("instanceContributorsRepository");
+    return indexingConfiguration;
+  }
 }
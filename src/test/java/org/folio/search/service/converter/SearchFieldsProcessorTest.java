@@ -12,18 +12,23 @@ import static org.folio.search.utils.TestConstants.RESOURCE_NAME;
 import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
 import static org.folio.search.utils.TestUtils.mapOf;
 import static org.folio.search.utils.TestUtils.resourceEvent;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.commons.collections.MapUtils;
+import org.folio.search.domain.dto.Authority;
 import org.folio.search.domain.dto.Instance;
+import org.folio.search.model.config.TenantConfigSnapshot;
 import org.folio.search.model.converter.ConversionContext;
 import org.folio.search.model.metadata.ResourceDescription;
 import org.folio.search.model.metadata.SearchFieldDescriptor;
-import org.folio.search.service.consortium.FeatureConfigServiceDecorator;
 import org.folio.search.service.converter.SearchFieldsProcessorTest.TestContextConfiguration;
 import org.folio.search.service.setter.FieldProcessor;
+import org.folio.search.service.setter.holding.HoldingsTagsProcessor;
+import org.folio.search.service.setter.instance.TagsProcessor;
 import org.folio.search.utils.JsonConverter;
 import org.folio.spring.test.type.UnitTest;
 import org.junit.jupiter.api.DisplayName;
@@ -33,7 +38,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
-import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 
@@ -43,15 +48,16 @@ import org.springframework.context.annotation.Import;
 class SearchFieldsProcessorTest {
 
   private static final String FIELD = "generated";
+  private static final TenantConfigSnapshot EMPTY_TENANT_CONFIG = TenantConfigSnapshot.of(emptySet(), emptySet());
   @Autowired
   private SearchFieldsProcessor searchFieldsProcessor;
-  @MockBean
-  private FeatureConfigServiceDecorator featureConfigService;
+  @SpyBean
+  private JsonConverter jsonConverter;
 
   @Test
   void getSearchFields_positive_emptySearchFields() {
     var desc = description(Instance.class, emptyMap());
-    var ctx = ConversionContext.of(resourceEvent(), desc, emptyList());
+    var ctx = ConversionContext.of(resourceEvent(), desc, emptyList(), EMPTY_TENANT_CONFIG);
     var actual = searchFieldsProcessor.getSearchFields(ctx);
     assertThat(actual).isEqualTo(emptyMap());
   }
@@ -59,7 +65,7 @@ class SearchFieldsProcessorTest {
   @Test
   void getSearchFields_positive_instanceWithKeywordField() {
     var desc = description(Instance.class, mapOf(FIELD, searchField("instanceTitleProcessor", "keyword")));
-    var ctx = ConversionContext.of(resourceEvent(), desc, emptyList());
+    var ctx = ConversionContext.of(resourceEvent(), desc, emptyList(), EMPTY_TENANT_CONFIG);
     var actual = searchFieldsProcessor.getSearchFields(ctx);
     assertThat(actual).isEqualTo(mapOf(FIELD, "instance_title"));
   }
@@ -69,7 +75,20 @@ class SearchFieldsProcessorTest {
     var searchFieldDescriptor = searchField("mapFieldProcessor", "keyword");
     searchFieldDescriptor.setRawProcessing(true);
     var desc = description(Instance.class, mapOf(FIELD, searchFieldDescriptor));
-    var ctx = ConversionContext.of(resourceEvent(), desc, emptyList());
+    var ctx = ConversionContext.of(resourceEvent(), desc, emptyList(), EMPTY_TENANT_CONFIG);
+
+    var actual = searchFieldsProcessor.getSearchFields(ctx);
+
+    assertThat(actual).isEqualTo(mapOf(FIELD, "map_field"));
+  }
+
+  @Test
+  void getSearchFields_positive_typedResourceIsNotConvertedForRawProcessors() {
+    var searchFieldDescriptor = searchField("mapFieldProcessor", "keyword");
+    searchFieldDescriptor.setRawProcessing(true);
+    var desc = description(Authority.class, mapOf(FIELD, searchFieldDescriptor));
+    var ctx = ConversionContext.of(resourceEvent(RESOURCE_NAME, mapOf("metadata", "invalid")),
+      desc, emptyList(), EMPTY_TENANT_CONFIG);
 
     var actual = searchFieldsProcessor.getSearchFields(ctx);
 
@@ -82,8 +101,8 @@ class SearchFieldsProcessorTest {
     searchFieldDescriptor.setDependsOnFeature(SEARCH_ALL_FIELDS);
 
     var desc = description(Instance.class, mapOf(FIELD, searchFieldDescriptor));
-    when(featureConfigService.isEnabled(SEARCH_ALL_FIELDS)).thenReturn(true);
-    var ctx = ConversionContext.of(resourceEvent(), desc, emptyList());
+    var tenantConfig = TenantConfigSnapshot.of(emptySet(), Set.of(SEARCH_ALL_FIELDS));
+    var ctx = ConversionContext.of(resourceEvent(), desc, emptyList(), tenantConfig);
 
     var actual = searchFieldsProcessor.getSearchFields(ctx);
 
@@ -96,8 +115,7 @@ class SearchFieldsProcessorTest {
     searchFieldDescriptor.setDependsOnFeature(SEARCH_ALL_FIELDS);
 
     var desc = description(Instance.class, mapOf(FIELD, searchFieldDescriptor));
-    when(featureConfigService.isEnabled(SEARCH_ALL_FIELDS)).thenReturn(false);
-    var ctx = ConversionContext.of(resourceEvent(), desc, emptyList());
+    var ctx = ConversionContext.of(resourceEvent(), desc, emptyList(), EMPTY_TENANT_CONFIG);
 
     var actual = searchFieldsProcessor.getSearchFields(ctx);
 
@@ -109,17 +127,48 @@ class SearchFieldsProcessorTest {
     var searchField = searchField("instanceTitleProcessor", MULTILANG_FIELD_TYPE);
     var desc = description(Instance.class, mapOf(FIELD, searchField));
     var languages = singletonList("eng");
-    var ctx = ConversionContext.of(resourceEvent(), desc, languages);
+    var ctx = ConversionContext.of(resourceEvent(), desc, languages, EMPTY_TENANT_CONFIG);
 
     var actual = searchFieldsProcessor.getSearchFields(ctx);
 
     assertThat(actual).isEqualTo(getMultilangValue(FIELD, "instance_title", languages));
   }
 
+  @Test
+  void getSearchFields_positive_instanceFieldVisitors() {
+    var desc = description(Instance.class, mapOf(
+      "tags", searchField("tagsProcessor", "keyword"),
+      FIELD, searchField("instanceTitleProcessor", "keyword"),
+      "holdingsTags", searchField("holdingsTagsProcessor", "keyword")));
+    var instance = mapOf("tags", mapOf("tagList", List.of("tag1", " tag2 ")),
+      "holdings", List.of(mapOf("tags", mapOf("tagList", List.of("tag3")))));
+    var ctx = ConversionContext.of(resourceEvent(RESOURCE_NAME, instance), desc, emptyList(), EMPTY_TENANT_CONFIG);
+
+    var actual = searchFieldsProcessor.getSearchFields(ctx);
+
+    assertThat(actual).isEqualTo(mapOf(
+      "tags", Set.of("tag1", "tag2"), FIELD, "instance_title", "holdingsTags", Set.of("tag3")));
+  }
+
+  @Test
+  void getSearchFields_positive_instanceFieldVisitorsUseRawEventBody() {
+    var desc = description(Instance.class, mapOf(
+      "tags", searchField("tagsProcessor", "keyword"),
+      "holdingsTags", searchField("holdingsTagsProcessor", "keyword")));
+    var instance = mapOf("tags", mapOf("tagList", List.of("tag1")),
+      "holdings", List.of(mapOf("tags", mapOf("tagList", List.of("tag2")))));
+    var ctx = ConversionContext.of(resourceEvent(RESOURCE_NAME, instance), desc, emptyList(), EMPTY_TENANT_CONFIG);
+
+    var actual = searchFieldsProcessor.getSearchFields(ctx);
+
+    assertThat(actual).isEqualTo(mapOf("tags", Set.of("tag1"), "holdingsTags", Set.of("tag2")));
+    verifyNoInteractions(jsonConverter);
+  }
+
   @Test
   void getSearchFields_positive_testClass() {
     var desc = description(TestClass.class, mapOf(FIELD, searchField("testClassProcessor", "keyword")));
-    var ctx = ConversionContext.of(resourceEvent(), desc, emptyList());
+    var ctx = ConversionContext.of(resourceEvent(), desc, emptyList(), EMPTY_TENANT_CONFIG);
     var actual = searchFieldsProcessor.getSearchFields(ctx);
     assertThat(actual).isEqualTo(mapOf(FIELD, "test_class_value"));
   }
@@ -127,7 +176,7 @@ class SearchFieldsProcessorTest {
   @Test
   void getSearchFields_positive_rawMapResource() {
     var desc = description(null, mapOf(FIELD, searchField("mapFieldProcessor", "keyword")));
-    var ctx = ConversionContext.of(resourceEvent(RESOURCE_NAME, emptyMap()), desc, emptyList());
+    var ctx = ConversionContext.of(resourceEvent(RESOURCE_NAME, emptyMap()), desc, emptyList(), EMPTY_TENANT_CONFIG);
     var actual = searchFieldsProcessor.getSearchFields(ctx);
     assertThat(actual).isEqualTo(mapOf(FIELD, "map_field"));
   }
@@ -146,7 +195,8 @@ class SearchFieldsProcessorTest {
   })
   void getSearchFields_negative_parameterized(String processorName, String type) {
     var desc = description(null, mapOf(FIELD, searchField(processorName, "keyword")));
-    var ctx = ConversionContext.of(resourceEvent(RESOURCE_NAME, mapOf("type", type)), desc, emptyList());
+    var ctx = ConversionContext.of(resourceEvent(RESOURCE_NAME, mapOf("type", type)),
+      desc, emptyList(), EMPTY_TENANT_CONFIG);
     var actual = searchFieldsProcessor.getSearchFields(ctx);
     assertThat(actual).isEqualTo(emptyMap());
   }
@@ -179,6 +229,16 @@ class SearchFieldsProcessorTest {
       return value -> "instance_title";
     }
 
+    @Bean
+    TagsProcessor tagsProcessor() {
+      return new TagsProcessor();
+    }
+
+    @Bean
+    HoldingsTagsProcessor holdingsTagsProcessor() {
+      return new HoldingsTagsProcessor();
+    }
+
     @Bean
     FieldProcessor<Map<String, Object>, String> mapFieldProcessor() {
       return map -> "map_field";
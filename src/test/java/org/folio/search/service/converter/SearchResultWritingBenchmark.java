@@ -0,0 +1,106 @@
+package org.folio.search.service.converter;
+
+import static org.folio.search.utils.SearchUtils.getPathToFulltextPlainValue;
+import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
+import static org.folio.search.utils.TestUtils.array;
+import static org.folio.search.utils.TestUtils.readJsonFromFile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.TotalHits.Relation;
+import org.folio.search.domain.dto.Instance;
+import org.folio.search.domain.dto.InstanceSearchResult;
+import org.folio.search.model.metadata.ResourceDescription;
+import org.folio.search.sample.SampleInstances;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchResponseSections;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+
+/**
+ * Compares writing of instance search results converted to {@link Instance} objects with writing of raw document
+ * sources by {@link ElasticsearchDocumentConverter#writeSearchResult}, for the sample instance document filtered to
+ * all resource fields, as it is returned for {@code expandAll=true}.
+ *
+ * <p>Can be started from the IDE using {@link #main(String[])} method, run with {@code -prof gc} option to compare
+ * allocation rates as well.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchResultWritingBenchmark {
+
+  @Param({"100", "500"})
+  private int limit;
+
+  private ElasticsearchDocumentConverter documentConverter;
+  private BytesArray source;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(SearchResultWritingBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  @Setup
+  public void setUp() throws IOException {
+    var description = readJsonFromFile("/model/instance.json", ResourceDescription.class);
+    var searchFields = description.getSearchFields().keySet();
+    var includes = description.getFlattenFields().entrySet().stream()
+      .filter(entry -> !searchFields.contains(entry.getKey()))
+      .map(entry -> entry.getValue().hasFulltextIndex() ? getPathToFulltextPlainValue(entry.getKey()) : entry.getKey())
+      .toArray(String[]::new);
+
+    var document = ResourceConversionPlan.compile(description.getFields())
+      .convert(SampleInstances.getSemanticWebAsMap(), List.of("eng", "ger"));
+    source = new BytesArray(OBJECT_MAPPER.writeValueAsBytes(XContentMapValues.filter(document, includes, null)));
+    documentConverter = new ElasticsearchDocumentConverter(OBJECT_MAPPER);
+  }
+
+  @Benchmark
+  public void convertedResult() throws IOException {
+    var searchResult = documentConverter.convertToSearchResult(searchResponse(), Instance.class);
+    var instanceSearchResult = new InstanceSearchResult()
+      .instances(searchResult.getRecords())
+      .totalRecords(searchResult.getTotalRecords());
+    OBJECT_MAPPER.writeValue(OutputStream.nullOutputStream(), instanceSearchResult);
+  }
+
+  @Benchmark
+  public void rawSourceResult() throws IOException {
+    documentConverter.writeSearchResult(searchResponse(), Instance.class, "instances", OutputStream.nullOutputStream());
+  }
+
+  /**
+   * Creates new search hits for each invocation, because {@link SearchHit} caches source converted to map.
+   */
+  private SearchResponse searchResponse() {
+    var hits = new SearchHit[limit];
+    for (int i = 0; i < limit; i++) {
+      hits[i] = new SearchHit(i, String.valueOf(i), null, null).sourceRef(source);
+    }
+    var searchHits = new SearchHits(hits, new TotalHits(limit, Relation.EQUAL_TO), 1.0f);
+    var sections = new SearchResponseSections(searchHits, null, null, false, false, null, 0);
+    return new SearchResponse(sections, null, 1, 1, 0, 100, array(), null);
+  }
+}
@@ -1,11 +1,15 @@
 package org.folio.search.service.converter.preprocessor;
 
+import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.domain.dto.ResourceEventType.CREATE;
 import static org.folio.search.domain.dto.ResourceEventType.DELETE;
 import static org.folio.search.domain.dto.ResourceEventType.REINDEX;
 import static org.folio.search.domain.dto.ResourceEventType.UPDATE;
+import static org.folio.search.domain.dto.TenantConfiguredFeature.AUTHORITY_TRIMMED_REFERENCE_BODIES;
 import static org.folio.search.model.metadata.PlainFieldDescription.STANDARD_FIELD_TYPE;
+import static org.folio.search.model.types.ResponseGroupType.BROWSE;
+import static org.folio.search.model.types.ResponseGroupType.SEARCH;
 import static org.folio.search.utils.AuthoritySearchUtils.expectedAuthorityAsMap;
 import static org.folio.search.utils.SearchUtils.AUTHORITY_RESOURCE;
 import static org.folio.search.utils.TestConstants.RESOURCE_ID;
@@ -13,22 +17,27 @@ import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.keywordField;
 import static org.folio.search.utils.TestUtils.mapOf;
 import static org.folio.search.utils.TestUtils.objectField;
+import static org.folio.search.utils.TestUtils.plainField;
 import static org.folio.search.utils.TestUtils.resourceEvent;
 import static org.folio.search.utils.TestUtils.standardField;
 import static org.folio.search.utils.TestUtils.toMap;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.folio.search.domain.dto.Authority;
 import org.folio.search.domain.dto.Identifiers;
 import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.model.config.TenantConfigSnapshot;
 import org.folio.search.model.metadata.AuthorityFieldDescription;
 import org.folio.search.model.metadata.FieldDescription;
 import org.folio.search.model.metadata.ResourceDescription;
 import org.folio.search.service.consortium.ConsortiumTenantService;
+import org.folio.search.service.consortium.TenantConfigSnapshotProvider;
 import org.folio.search.service.metadata.ResourceDescriptionService;
 import org.folio.search.utils.TestUtils;
 import org.folio.spring.test.type.UnitTest;
@@ -49,11 +58,15 @@ class AuthorityEventPreProcessorTest {
   private ResourceDescriptionService resourceDescriptionService;
   @Mock
   private ConsortiumTenantService consortiumTenantService;
+  @Mock
+  private TenantConfigSnapshotProvider tenantConfigSnapshotProvider;
 
   @BeforeEach
   void setUp() {
     when(resourceDescriptionService.get(AUTHORITY_RESOURCE)).thenReturn(authorityResourceDescription());
     lenient().when(consortiumTenantService.getCentralTenant(TENANT_ID)).thenReturn(Optional.empty());
+    lenient().when(tenantConfigSnapshotProvider.getSnapshot())
+      .thenReturn(TenantConfigSnapshot.of(emptySet(), emptySet()));
     eventPreProcessor.init();
   }
 
@@ -145,6 +158,76 @@ class AuthorityEventPreProcessorTest {
       event("personalNameTitle0", expectedAuthorityAsMap(newAuthority, true, "personalNameTitle"))));
   }
 
+  @Test
+  void process_positive_trimReferenceBodies() {
+    enableTrimmedReferenceBodies();
+    var authority = mapOf("id", RESOURCE_ID, "personalName", "personal", "sftPersonalName", List.of("sft personal"),
+      "subjectHeadings", "a subject heading", "metadata", metadata(), "notes", List.of(note()));
+    var actual = eventPreProcessor.process(resourceEvent(AUTHORITY_RESOURCE, authority));
+    assertThat(actual).isEqualTo(List.of(
+      event("personalName0", mapOf("personalName", "personal", "id", RESOURCE_ID,
+        "subjectHeadings", "a subject heading", "metadata", metadata(), "notes", List.of(note()),
+        "tenantId", TENANT_ID)),
+      event("sftPersonalName0", mapOf("sftPersonalName", List.of("sft personal"), "id", RESOURCE_ID,
+        "subjectHeadings", "a subject heading", "metadata", mapOf("updatedDate", "2023-10-18"),
+        "tenantId", TENANT_ID))));
+  }
+
+  @Test
+  void process_positive_trimReferenceBodiesUpdateEvent() {
+    enableTrimmedReferenceBodies();
+    var newAuthority = mapOf("id", RESOURCE_ID, "saftPersonalName", List.of("saft personal"),
+      "notes", List.of(note()));
+    var oldAuthority = mapOf("id", RESOURCE_ID, "saftPersonalName", List.of("saft 1", "saft 2"),
+      "notes", List.of(note()));
+    var event = resourceEvent(AUTHORITY_RESOURCE, newAuthority).type(UPDATE).old(oldAuthority);
+    var actual = eventPreProcessor.process(event);
+    assertThat(actual).isEqualTo(List.of(
+      event("saftPersonalName0", mapOf("saftPersonalName", List.of("saft personal"), "id", RESOURCE_ID,
+        "tenantId", TENANT_ID)),
+      deleteEvent("saftPersonalName1")));
+  }
+
+  @Test
+  void process_positive_trimReferenceBodiesIsNotCheckedForDeleteEvent() {
+    var oldAuthority = new Authority().id(RESOURCE_ID).personalName("personal");
+    var event = resourceEvent(AUTHORITY_RESOURCE, null).type(DELETE).old(toMap(oldAuthority));
+    var actual = eventPreProcessor.process(event);
+    assertThat(actual).isEqualTo(List.of(deleteEvent("personalName0")));
+    verifyNoInteractions(tenantConfigSnapshotProvider);
+  }
+
+  @Test
+  void process_positive_trimReferenceBodiesKeepsSourceOnlyResponseFields() {
+    enableTrimmedReferenceBodies();
+    var responseField = plainField("source");
+    responseField.setShowInResponse(List.of(SEARCH, BROWSE));
+    var resourceDescription = authorityResourceDescription();
+    resourceDescription.getFields().put("sourceOnlyResponseField", responseField);
+    when(resourceDescriptionService.get(AUTHORITY_RESOURCE)).thenReturn(resourceDescription);
+    eventPreProcessor.init();
+
+    var authority = mapOf("id", RESOURCE_ID, "sftPersonalName", List.of("sft personal"),
+      "sourceOnlyResponseField", "a value", "notes", List.of(note()));
+    var actual = eventPreProcessor.process(resourceEvent(AUTHORITY_RESOURCE, authority));
+    assertThat(actual).isEqualTo(List.of(
+      event("sftPersonalName0", mapOf("sftPersonalName", List.of("sft personal"), "id", RESOURCE_ID,
+        "tenantId", TENANT_ID, "sourceOnlyResponseField", "a value"))));
+  }
+
+  private void enableTrimmedReferenceBodies() {
+    when(tenantConfigSnapshotProvider.getSnapshot())
+      .thenReturn(TenantConfigSnapshot.of(emptySet(), Set.of(AUTHORITY_TRIMMED_REFERENCE_BODIES)));
+  }
+
+  private static Map<String, Object> metadata() {
+    return mapOf("updatedDate", "2023-10-18", "updatedByUserId", "a user id");
+  }
+
+  private static Map<String, Object> note() {
+    return mapOf("noteTypeId", "a note type id", "note", "a note");
+  }
+
   private static ResourceEvent event(String prefix, Map<String, Object> body) {
     return resourceEvent(prefix + "_" + RESOURCE_ID, AUTHORITY_RESOURCE, body);
   }
@@ -200,13 +283,21 @@ class AuthorityEventPreProcessorTest {
       "uniformTitle", authorityField("uniformTitle"),
       "sftUniformTitle", authorityField("sftUniformTitle"),
       "saftUniformTitle", authorityField("saftUniformTitle"),
-      "shared", standardField()
+      "shared", standardField(),
+      "metadata", objectField(mapOf(
+        "updatedDate", plainField("date"),
+        "updatedByUserId", plainField("source"))),
+      "notes", objectField(mapOf(
+        "noteTypeId", plainField("source"),
+        "note", plainField("source")))
     ));
   }
 
   private static FieldDescription authorityField(String distinctType) {
     var fieldDescription = new AuthorityFieldDescription();
     fieldDescription.setDistinctType(distinctType);
+    fieldDescription.setAuthRefType(distinctType.startsWith("saft") ? "Auth/Ref"
+      : distinctType.startsWith("sft") ? "Reference" : "Authorized");
     fieldDescription.setIndex(STANDARD_FIELD_TYPE);
     return fieldDescription;
   }
@@ -0,0 +1,133 @@
+package org.folio.search.service.converter.preprocessor;
+
+import static org.folio.search.domain.dto.TenantConfiguredFeature.AUTHORITY_TRIMMED_REFERENCE_BODIES;
+import static org.folio.search.utils.SearchUtils.AUTHORITY_RESOURCE;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
+import static org.folio.search.utils.TestUtils.readJsonFromFile;
+import static org.folio.search.utils.TestUtils.resourceEvent;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.search.domain.dto.TenantConfiguredFeature;
+import org.folio.search.model.config.TenantConfigSnapshot;
+import org.folio.search.model.metadata.ResourceDescription;
+import org.folio.search.sample.SampleAuthorities;
+import org.folio.search.service.consortium.ConsortiumTenantService;
+import org.folio.search.service.consortium.TenantConfigSnapshotProvider;
+import org.folio.search.service.metadata.ResourceDescriptionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares full and trimmed reference bodies of authority documents produced by {@link AuthorityEventPreProcessor} on
+ * the sample authority with additional notes.
+ *
+ * <p>Benchmarks measure the number of authority create and update events divided per second. The number of documents
+ * per authority, the number of documents written or deleted on update and their size (serialized JSON bytes per
+ * authority, as index size estimate) are logged on setup. Trimming changes only the size, not the number of
+ * documents.</p>
+ *
+ * <p>Can be started from the IDE using {@link #main(String[])} method, run with {@code -prof gc} option to compare
+ * allocation rates as well.</p>
+ */
+@Log4j2
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorityReferenceBodiesBenchmark {
+
+  private static final int NOTES_COUNT = 10;
+
+  @Param({"false", "true"})
+  private boolean trimReferenceBodies;
+
+  private AuthorityEventPreProcessor eventPreProcessor;
+  private Map<String, Object> oldAuthority;
+  private Map<String, Object> newAuthority;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(AuthorityReferenceBodiesBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    var resourceDescriptionService = mock(ResourceDescriptionService.class);
+    when(resourceDescriptionService.get(AUTHORITY_RESOURCE))
+      .thenReturn(readJsonFromFile("/model/authority.json", ResourceDescription.class));
+    var consortiumTenantService = mock(ConsortiumTenantService.class);
+    when(consortiumTenantService.getCentralTenant(TENANT_ID)).thenReturn(Optional.empty());
+    var tenantConfigSnapshotProvider = mock(TenantConfigSnapshotProvider.class);
+    Set<TenantConfiguredFeature> enabledFeatures = trimReferenceBodies
+      ? Set.of(AUTHORITY_TRIMMED_REFERENCE_BODIES)
+      : Set.of();
+    when(tenantConfigSnapshotProvider.getSnapshot())
+      .thenReturn(TenantConfigSnapshot.of(Collections.emptySet(), enabledFeatures));
+
+    eventPreProcessor = new AuthorityEventPreProcessor(resourceDescriptionService, consortiumTenantService,
+      tenantConfigSnapshotProvider);
+    eventPreProcessor.init();
+
+    oldAuthority = authorityWithNotes();
+    newAuthority = new LinkedHashMap<>(oldAuthority);
+    newAuthority.put("saftPersonalName", List.of("an updated saft personal name"));
+
+    var documents = createAuthority();
+    var documentsSize = 0L;
+    for (var event : documents) {
+      documentsSize += OBJECT_MAPPER.writeValueAsBytes(event.getNew()).length;
+    }
+    log.info("Authority documents [trimReferenceBodies: {}, count: {}, updateCount: {}, size: {} bytes]",
+      trimReferenceBodies, documents.size(), updateAuthority().size(), documentsSize);
+  }
+
+  @Benchmark
+  public List<ResourceEvent> createAuthority() {
+    return eventPreProcessor.process(resourceEvent(AUTHORITY_RESOURCE, new LinkedHashMap<>(oldAuthority)));
+  }
+
+  @Benchmark
+  public List<ResourceEvent> updateAuthority() {
+    var event = resourceEvent(AUTHORITY_RESOURCE, new LinkedHashMap<>(newAuthority))
+      .type(ResourceEventType.UPDATE)
+      .old(oldAuthority);
+    return eventPreProcessor.process(event);
+  }
+
+  private static Map<String, Object> authorityWithNotes() {
+    var authority = new LinkedHashMap<>(SampleAuthorities.getAuthoritySampleAsMap());
+    var notes = new ArrayList<Map<String, Object>>();
+    for (int i = 0; i < NOTES_COUNT; i++) {
+      notes.add(Map.of("noteTypeId", "note type " + i, "note", "a general note about the authority heading " + i));
+    }
+    authority.put("notes", notes);
+    return authority;
+  }
+}
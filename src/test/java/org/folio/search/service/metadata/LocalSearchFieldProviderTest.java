@@ -100,6 +100,35 @@ class LocalSearchFieldProviderTest {
     assertThat(actual).isNull();
   }
 
+  @Test
+  void getAllSourceFields_positive() {
+    var actual = getSearchFieldProvider().getAllSourceFields(RESOURCE_NAME);
+    assertThat(actual).containsExactlyInAnyOrder("id", "plain_allInstance", "plain_allItems", "plain_allHoldings",
+      "contributors.plain_name", "plain_title1", "title2.sub1", "title2.plain_sub2", "title2.sub3.sub4",
+      "title2.sub3.plain_sub5", "source", "oldFieldName");
+  }
+
+  @Test
+  void getAllSourceFields_positive_searchFieldShownInResponse() {
+    var shownSearchField = searchField();
+    shownSearchField.setShowInResponse(List.of(SEARCH));
+    var description = resourceDescription(mapOf("id", plainField("keyword", List.of(SEARCH))),
+      mapOf("search1", shownSearchField, "search2", searchField()));
+    var searchFieldProvider = new LocalSearchFieldProvider(metadataResourceProvider, emptyMap());
+    when(metadataResourceProvider.getResourceDescriptions()).thenReturn(List.of(description));
+    when(metadataResourceProvider.getSearchFieldTypes()).thenReturn(searchFieldTypes());
+    searchFieldProvider.init();
+
+    var actual = searchFieldProvider.getAllSourceFields(RESOURCE_NAME);
+    assertThat(actual).containsExactlyInAnyOrder("id", "search1");
+  }
+
+  @Test
+  void getAllSourceFields_positive_nonExistingResource() {
+    var actual = getSearchFieldProvider().getAllSourceFields("unknown-resource");
+    assertThat(actual).isNull();
+  }
+
   @Test
   void getModifiedField_positive() {
     var fieldName = "field";
@@ -186,6 +215,18 @@ class LocalSearchFieldProviderTest {
     assertThat(actual).isEqualTo(expected);
   }
 
+  @ParameterizedTest
+  @DisplayName("getFieldPathTree_parameterized")
+  @CsvSource({"id,false", "allItems,true", "title1,true", "title2,false", "title2.sub1,false", "title2.sub2,true"})
+  void getFieldPathTree_parameterized(String fieldName, boolean expected) {
+    when(metadataResourceProvider.getResourceDescription(RESOURCE_NAME)).thenReturn(Optional.of(resourceDescription()));
+    var node = getSearchFieldProvider().getFieldPathTree(RESOURCE_NAME).getRoot();
+    for (var name : fieldName.split("\\.")) {
+      node = node.getChild(name);
+    }
+    assertThat(node.isMultilang()).isEqualTo(expected);
+  }
+
   @Test
   void init_validateSearchAliases_failedToCreateAliasOnKeywordFacetField() {
     var plainField = plainField(List.of("alias"), FACET);
@@ -0,0 +1,81 @@
+package org.folio.search.service.setter;
+
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestUtils.readJsonFromFile;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.folio.search.model.metadata.ResourceDescription;
+import org.folio.search.model.service.MultilangValue;
+import org.folio.search.sample.SampleInstances;
+import org.folio.search.service.metadata.SearchFieldProvider;
+import org.folio.search.service.setter.holding.HoldingAllFieldValuesProcessor;
+import org.folio.search.service.setter.instance.InstanceAllFieldValuesProcessor;
+import org.folio.search.service.setter.item.ItemAllFieldValuesProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures all-field-values processors on the sample instance, using the field path tree of the instance resource
+ * description.
+ *
+ * <p>Can be started from the IDE using {@link #main(String[])} method, run with {@code -prof gc} option to compare
+ * allocation rates as well.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AllFieldValuesProcessorBenchmark {
+
+  private final InstanceAllFieldValuesProcessor instanceProcessor = new InstanceAllFieldValuesProcessor();
+  private final HoldingAllFieldValuesProcessor holdingProcessor = new HoldingAllFieldValuesProcessor();
+  private final ItemAllFieldValuesProcessor itemProcessor = new ItemAllFieldValuesProcessor();
+  private Map<String, Object> instance;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(AllFieldValuesProcessorBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  @Setup
+  public void setUp() {
+    var resourceDescription = readJsonFromFile("/model/instance.json", ResourceDescription.class);
+    var searchFieldProvider = mock(SearchFieldProvider.class);
+    when(searchFieldProvider.getFieldPathTree(INSTANCE_RESOURCE)).thenReturn(resourceDescription.getFieldPathTree());
+
+    instanceProcessor.setSearchFieldProvider(searchFieldProvider);
+    holdingProcessor.setSearchFieldProvider(searchFieldProvider);
+    itemProcessor.setSearchFieldProvider(searchFieldProvider);
+    instance = SampleInstances.getSemanticWebAsMap();
+  }
+
+  @Benchmark
+  public MultilangValue instanceAllFieldValues() {
+    return instanceProcessor.getFieldValue(instance);
+  }
+
+  @Benchmark
+  public MultilangValue holdingAllFieldValues() {
+    return holdingProcessor.getFieldValue(instance);
+  }
+
+  @Benchmark
+  public MultilangValue itemAllFieldValues() {
+    return itemProcessor.getFieldValue(instance);
+  }
+}
@@ -3,7 +3,6 @@ package org.folio.search.service.setter.authority;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.folio.search.client.InventoryReferenceDataClient.ReferenceDataType.IDENTIFIER_TYPES;
 import static org.folio.search.utils.TestConstants.LCCN_IDENTIFIER_TYPE_ID;
 import static org.folio.search.utils.TestUtils.authorityWithIdentifiers;
 import static org.folio.search.utils.TestUtils.identifier;
@@ -16,8 +15,7 @@ import java.util.stream.Stream;
 import org.apache.commons.collections.CollectionUtils;
 import org.folio.search.domain.dto.Authority;
 import org.folio.search.domain.dto.Identifiers;
-import org.folio.search.integration.ReferenceDataService;
-import org.folio.search.model.client.CqlQueryParam;
+import org.folio.search.integration.IdentifierTypeProvider;
 import org.folio.spring.test.type.UnitTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,7 +34,7 @@ class LccnProcessorTest {
   @InjectMocks
   private LccnProcessor lccnProcessor;
   @Mock
-  private ReferenceDataService referenceDataService;
+  private IdentifierTypeProvider identifierTypeProvider;
 
   @MethodSource("lccnDataProvider")
   @DisplayName("getFieldValue_parameterized")
@@ -76,8 +74,6 @@ class LccnProcessorTest {
   }
 
   private void mockFetchReferenceData(Set<String> referenceData) {
-    when(referenceDataService.fetchReferenceData(IDENTIFIER_TYPES, CqlQueryParam.NAME,
-      lccnProcessor.getIdentifierNames()))
-      .thenReturn(referenceData);
+    when(identifierTypeProvider.getIdentifierTypeIds(lccnProcessor.getIdentifierNames())).thenReturn(referenceData);
   }
 }
@@ -3,19 +3,18 @@ package org.folio.search.service.setter.holding;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestUtils.fieldPathTree;
 import static org.folio.search.utils.TestUtils.mapOf;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.folio.search.utils.TestUtils.toMap;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
-import java.util.Set;
 import org.folio.search.domain.dto.Holding;
 import org.folio.search.domain.dto.Instance;
 import org.folio.search.domain.dto.Note;
 import org.folio.search.domain.dto.Tags;
+import org.folio.search.model.metadata.FieldPathTree;
 import org.folio.search.model.service.MultilangValue;
 import org.folio.search.service.metadata.SearchFieldProvider;
 import org.folio.spring.test.type.UnitTest;
@@ -32,7 +31,8 @@ class HoldingAllFieldValuesProcessorTest {
 
   private static final String HOLDING_ID_1 = randomId();
   private static final String HOLDING_ID_2 = randomId();
-  private static final Set<String> MULTILANG_VALUE_PATHS = Set.of("holdings.notes.note", "holdings.tags.tagList");
+  private static final FieldPathTree FIELD_PATH_TREE = fieldPathTree(
+    "holdings.notes.note", "holdings.tags.tagList", "holdingsPublicNotes");
 
   @InjectMocks
   private HoldingAllFieldValuesProcessor processor;
@@ -42,13 +42,11 @@ class HoldingAllFieldValuesProcessorTest {
   @BeforeEach
   void setUp() {
     processor.setSearchFieldProvider(searchFieldProvider);
+    when(searchFieldProvider.getFieldPathTree(INSTANCE_RESOURCE)).thenReturn(FIELD_PATH_TREE);
   }
 
   @Test
   void getFieldValue_positive() {
-    when(searchFieldProvider.isMultilangField(eq(INSTANCE_RESOURCE), anyString())).thenAnswer(inv ->
-      MULTILANG_VALUE_PATHS.contains(inv.<String>getArgument(1)));
-
     var actual = processor.getFieldValue(toMap(
       new Instance().id(randomId()).holdings(List.of(holding1(), holding2()))));
 
@@ -59,9 +57,6 @@ class HoldingAllFieldValuesProcessorTest {
 
   @Test
   void getFieldValue_holdingFieldsFromSearchGeneratedValues() {
-    when(searchFieldProvider.isMultilangField(INSTANCE_RESOURCE, "holdingsPublicNotes")).thenReturn(true);
-    when(searchFieldProvider.isMultilangField(INSTANCE_RESOURCE, "holdingsFullCallNumbers")).thenReturn(false);
-
     var actual = processor.getFieldValue(mapOf(
       "holdingsPublicNotes", List.of("note1", "note2"),
       "holdingsFullCallNumbers", List.of("callNumber1", "callNumber2")));
@@ -1,6 +1,7 @@
 package org.folio.search.service.setter.holding;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestUtils.toMap;
 
 import java.util.List;
 import org.folio.search.domain.dto.Holding;
@@ -17,7 +18,7 @@ class HoldingsCallNumberComponentsProcessorTest {
     var holdings = List.of(holdingWithCallNumber("prefix1", "cn1", "suffix1"),
       holdingWithCallNumber("prefix2", "cn2", "suffix2"));
 
-    assertThat(processor.getFieldValue(new Instance().holdings(holdings)))
+    assertThat(processor.getFieldValue(toMap(new Instance().holdings(holdings))))
       .containsExactlyInAnyOrder("prefix1 cn1 suffix1", "prefix2 cn2 suffix2");
   }
 
@@ -28,19 +29,19 @@ class HoldingsCallNumberComponentsProcessorTest {
       holdingWithCallNumber("prefix2", "cn2", null),
       holdingWithCallNumber(null, "cn3", null));
 
-    assertThat(processor.getFieldValue(new Instance().holdings(holdings)))
+    assertThat(processor.getFieldValue(toMap(new Instance().holdings(holdings))))
       .containsExactlyInAnyOrder("cn1 suffix1", "prefix2 cn2", "cn3");
   }
 
   @Test
   void shouldReturnEmptySetWhenNoHoldings() {
-    assertThat(processor.getFieldValue(new Instance())).isEmpty();
+    assertThat(processor.getFieldValue(toMap(new Instance()))).isEmpty();
   }
 
   @Test
   void shouldReturnEmptySetWhenHoldingsHasNoCallNumber() {
     var holdings = List.of(new Holding(), new Holding());
-    assertThat(processor.getFieldValue(new Instance().holdings(holdings))).isEmpty();
+    assertThat(processor.getFieldValue(toMap(new Instance().holdings(holdings)))).isEmpty();
   }
 
   private Holding holdingWithCallNumber(String prefix, String cn, String suffix) {
@@ -3,6 +3,7 @@ package org.folio.search.service.setter.holding;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.utils.TestUtils.randomId;
+import static org.folio.search.utils.TestUtils.toMap;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.util.Arrays;
@@ -27,7 +28,7 @@ class HoldingsIdentifiersProcessorTest {
   @DisplayName("getFieldValue_parameterized")
   @ParameterizedTest(name = "[{index}] instance with {0}, expected={2}")
   void getFieldValue_parameterized(@SuppressWarnings("unused") String name, Instance eventBody, List<String> expected) {
-    var actual = holdingsIdentifiersProcessor.getFieldValue(eventBody);
+    var actual = holdingsIdentifiersProcessor.getFieldValue(toMap(eventBody));
     assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
   }
 
@@ -1,6 +1,7 @@
 package org.folio.search.service.setter.holding;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestUtils.toMap;
 
 import java.util.List;
 import org.folio.search.domain.dto.Holding;
@@ -17,7 +18,7 @@ class HoldingsNormalizedCallNumbersProcessorTest {
     var holdings = List.of(holdingWithCallNumber("Rare Books", "S537.N56 C82", "++"),
       holdingWithCallNumber("Oversize", "ABC123.1 .R15 2018", "Curriculum Materials Collection"));
 
-    assertThat(processor.getFieldValue(new Instance().holdings(holdings)))
+    assertThat(processor.getFieldValue(toMap(new Instance().holdings(holdings))))
       .containsExactlyInAnyOrder("rarebookss537n56c82", "s537n56c82",
         "oversizeabc1231r152018curriculummaterialscollection", "abc1231r152018curriculummaterialscollection");
   }
@@ -31,19 +32,19 @@ class HoldingsNormalizedCallNumbersProcessorTest {
       holdingWithCallNumber("prefix3", null, null),
       holdingWithCallNumber(null, null, null));
 
-    assertThat(processor.getFieldValue(new Instance().holdings(holdings)))
+    assertThat(processor.getFieldValue(toMap(new Instance().holdings(holdings))))
       .containsExactlyInAnyOrder("cn1suffix1", "prefix2cn2", "cn2", "cn3", "prefix3", "");
   }
 
   @Test
   void shouldReturnEmptySetWhenNoHoldings() {
-    assertThat(processor.getFieldValue(new Instance())).isEmpty();
+    assertThat(processor.getFieldValue(toMap(new Instance()))).isEmpty();
   }
 
   @Test
   void shouldReturnEmptySetWhenHoldingsHasNoCallNumber() {
     var holdings = List.of(new Holding(), new Holding());
-    assertThat(processor.getFieldValue(new Instance().holdings(holdings))).isEmpty();
+    assertThat(processor.getFieldValue(toMap(new Instance().holdings(holdings)))).isEmpty();
   }
 
   private Holding holdingWithCallNumber(String prefix, String cn, String suffix) {
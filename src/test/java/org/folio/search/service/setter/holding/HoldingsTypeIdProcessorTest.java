@@ -2,6 +2,7 @@ package org.folio.search.service.setter.holding;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestUtils.toMap;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.util.Arrays;
@@ -23,7 +24,7 @@ class HoldingsTypeIdProcessorTest {
   @DisplayName("getFieldValue_parameterized")
   @ParameterizedTest(name = "[{index}] instance with {0}, expected={2}")
   void getFieldValue_parameterized(@SuppressWarnings("unused") String name, Instance instance, List<String> expected) {
-    var actual = holdingsTypeIdProcessor.getFieldValue(instance);
+    var actual = holdingsTypeIdProcessor.getFieldValue(toMap(instance));
     assertThat(actual).containsExactlyElementsOf(expected);
   }
 
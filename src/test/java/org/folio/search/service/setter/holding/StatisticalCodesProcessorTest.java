@@ -3,6 +3,7 @@ package org.folio.search.service.setter.holding;
 import static java.util.Collections.emptyList;
 import static java.util.List.of;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestUtils.toMap;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.util.List;
@@ -25,7 +26,7 @@ class StatisticalCodesProcessorTest {
   @DisplayName("getFieldValue_parameterized")
   @ParameterizedTest(name = "[{index}] instance with {0}, expected={2}")
   void getFieldValue_parameterized(@SuppressWarnings("unused") String name, Instance instance, List<String> expected) {
-    var actual = processor.getFieldValue(instance);
+    var actual = processor.getFieldValue(toMap(instance));
     assertThat(actual).containsExactlyElementsOf(expected);
   }
 
@@ -3,6 +3,7 @@ package org.folio.search.service.setter.instance;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.utils.TestUtils.tags;
+import static org.folio.search.utils.TestUtils.toMap;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.util.List;
@@ -23,7 +24,7 @@ class InstanceAbstractTagsProcessorTest {
   @DisplayName("getFieldValue_parameterized")
   @ParameterizedTest(name = "[{index}] instance with {0}, expected={2}")
   void getFieldValue_parameterized(@SuppressWarnings("unused") String name, Instance eventBody, List<String> expected) {
-    var actual = tagsProcessor.getFieldValue(eventBody);
+    var actual = tagsProcessor.getFieldValue(toMap(eventBody));
     assertThat(actual).containsExactlyElementsOf(expected);
   }
 
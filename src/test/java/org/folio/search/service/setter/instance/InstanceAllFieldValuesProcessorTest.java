@@ -7,12 +7,11 @@ import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestUtils.fieldPathTree;
 import static org.folio.search.utils.TestUtils.mapOf;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.folio.search.utils.TestUtils.toMap;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.lenient;
 
 import java.util.List;
 import org.folio.search.domain.dto.Holding;
@@ -43,6 +42,8 @@ class InstanceAllFieldValuesProcessorTest {
   @BeforeEach
   void setUp() {
     processor.setSearchFieldProvider(searchFieldProvider);
+    lenient().when(searchFieldProvider.getFieldPathTree(INSTANCE_RESOURCE))
+      .thenReturn(fieldPathTree("title", "subjects.value"));
   }
 
   @Test
@@ -54,15 +55,12 @@ class InstanceAllFieldValuesProcessorTest {
   @Test
   void getFieldValue_positive_multilangTitle() {
     var instanceId = randomId();
-    when(searchFieldProvider.isMultilangField(INSTANCE_RESOURCE, "id")).thenReturn(false);
-    when(searchFieldProvider.isMultilangField(INSTANCE_RESOURCE, "title")).thenReturn(true);
     var actual = processor.getFieldValue(toMap(new Instance().id(instanceId).title("my resource")));
     assertThat(actual).isEqualTo(MultilangValue.of(singleton(instanceId), newLinkedHashSet("my resource")));
   }
 
   @Test
   void getFieldValue_positive_multilangSubjects() {
-    when(searchFieldProvider.isMultilangField(INSTANCE_RESOURCE, "subjects.value")).thenReturn(true);
     var actual =
       processor.getFieldValue(
         toMap(new Instance().subjects(List.of(new Subject().value("subject1"), new Subject().value("subject2")))));
@@ -76,7 +74,6 @@ class InstanceAllFieldValuesProcessorTest {
       new Identifiers().identifierTypeId(randomId()).value("1-56619-909-3")))));
     assertThat(actual).isEqualTo(MultilangValue.of(
       newLinkedHashSet("978-1-56619-909-4", "1-56619-909-3"), emptySet()));
-    verify(searchFieldProvider, times(2)).isMultilangField(INSTANCE_RESOURCE, "identifiers.value");
   }
 
   @Test
@@ -85,14 +82,12 @@ class InstanceAllFieldValuesProcessorTest {
       new Note().note("public note").staffOnly(false),
       new Note().note("private note").staffOnly(true)))));
     assertThat(actual).isEqualTo(MultilangValue.of(newLinkedHashSet("public note", "private note"), emptySet()));
-    verify(searchFieldProvider, times(2)).isMultilangField(INSTANCE_RESOURCE, "notes.note");
   }
 
   @Test
   void getFieldValue_positive_classification() {
     var actual = processor.getFieldValue(mapOf("matchKey", "123456"));
     assertThat(actual).isEqualTo(MultilangValue.of(newLinkedHashSet("123456"), emptySet()));
-    verify(searchFieldProvider).isMultilangField(INSTANCE_RESOURCE, "matchKey");
   }
 
   @Test
@@ -100,13 +95,10 @@ class InstanceAllFieldValuesProcessorTest {
     var isbnValues = newLinkedHashSet("1-56619-909-3", "1566199093", "9781566199093");
     var actual = processor.getFieldValue(mapOf("isbn", isbnValues));
     assertThat(actual).isEqualTo(MultilangValue.of(isbnValues, emptySet()));
-    verify(searchFieldProvider, times(3)).isMultilangField(INSTANCE_RESOURCE, "isbn");
   }
 
   @Test
   void getFieldValue_positive_multilangTitleValue() {
-    when(searchFieldProvider.isMultilangField(INSTANCE_RESOURCE, "title")).thenReturn(true);
-
     var value = "titleValue";
     var actual = processor.getFieldValue(mapOf("plain_title", value, "title", mapOf("src", value, "eng", value)));
 
@@ -155,6 +147,5 @@ class InstanceAllFieldValuesProcessorTest {
       .items(List.of(new Item().id(randomId()).barcode("000333"), new Item().id(randomId()).hrid("i1")))
       .holdings(List.of(new Holding().id(randomId()).hrid("h1")))));
     assertThat(actual).isEqualTo(MultilangValue.of(singleton(instanceId), emptySet()));
-    verify(searchFieldProvider).isMultilangField(INSTANCE_RESOURCE, "id");
   }
 }
@@ -0,0 +1,137 @@
+package org.folio.search.service.setter.instance;
+
+import static org.apache.commons.collections4.MapUtils.getString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.service.setter.instance.InstancePath.HOLDINGS;
+import static org.folio.search.service.setter.instance.InstancePath.INSTANCE;
+import static org.folio.search.service.setter.instance.InstancePath.ITEMS;
+import static org.folio.search.utils.SearchUtils.ID_FIELD;
+import static org.folio.search.utils.TestUtils.mapOf;
+import static org.folio.search.utils.TestUtils.tags;
+import static org.folio.search.utils.TestUtils.toMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.folio.search.domain.dto.Holding;
+import org.folio.search.domain.dto.Instance;
+import org.folio.search.domain.dto.Item;
+import org.folio.search.service.setter.holding.HoldingsTagsProcessor;
+import org.folio.search.service.setter.holding.HoldingsTypeIdProcessor;
+import org.folio.search.service.setter.item.ItemEffectiveShelvingOrderProcessor;
+import org.folio.search.service.setter.item.ItemTagsProcessor;
+import org.folio.spring.test.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class InstanceTraversalTest {
+
+  @Test
+  void traverse_positive_singleWalkForAllVisitors() {
+    var instance = new Instance().tags(tags("instance tag"))
+      .holdings(Arrays.asList(new Holding().id("h1").tags(tags("holding tag")), null, new Holding().id("h2")))
+      .items(List.of(new Item().id("i1").tags(tags("item tag"))));
+    var recordingVisitor = new RecordingVisitor(Set.of(INSTANCE, HOLDINGS, ITEMS));
+
+    var actual = InstanceTraversal.traverse(toMap(instance), Map.<String, InstanceFieldVisitor<?, ?>>of(
+      "tags", new TagsProcessor(),
+      "holdingsTags", new HoldingsTagsProcessor(),
+      "itemTags", new ItemTagsProcessor(),
+      "visitedIds", recordingVisitor));
+
+    assertThat(actual).isEqualTo(mapOf(
+      "tags", Set.of("instance tag"),
+      "holdingsTags", Set.of("holding tag"),
+      "itemTags", Set.of("item tag"),
+      "visitedIds", List.of("instance", "h1", "h2", "i1")));
+  }
+
+  @Test
+  void traverse_positive_holdingsAndItemsVisitors() {
+    var instance = new Instance().statisticalCodeIds(List.of("sc1"))
+      .holdings(List.of(new Holding().holdingsTypeId(" type1 ").statisticalCodeIds(List.of("sc2"))))
+      .items(List.of(new Item().effectiveShelvingOrder("B 2").statisticalCodeIds(List.of("sc3", " ")),
+        new Item().effectiveShelvingOrder("A 1")));
+
+    var actual = InstanceTraversal.traverse(toMap(instance), Map.<String, InstanceFieldVisitor<?, ?>>of(
+      "statisticalCodes", new StatisticalCodesProcessor(),
+      "holdingsTypeId", new HoldingsTypeIdProcessor(),
+      "itemEffectiveShelvingOrder", new ItemEffectiveShelvingOrderProcessor()));
+
+    assertThat(actual).isEqualTo(mapOf(
+      "statisticalCodes", Set.of("sc1", "sc2", "sc3"),
+      "holdingsTypeId", Set.of("type1"),
+      "itemEffectiveShelvingOrder", Set.of("A 1", "B 2")));
+    assertThat((Set<?>) actual.get("itemEffectiveShelvingOrder")).containsExactly("A 1", "B 2");
+  }
+
+  @Test
+  void traverse_positive_onlyDeclaredPathsAreVisited() {
+    var instance = new Instance()
+      .holdings(List.of(new Holding().id("h1")))
+      .items(List.of(new Item().id("i1")));
+
+    var actual = InstanceTraversal.traverse(toMap(instance), new RecordingVisitor(Set.of(ITEMS)));
+
+    assertThat(actual).containsExactly("i1");
+  }
+
+  @Test
+  void traverse_negative_failedVisitorIsExcluded() {
+    var instance = new Instance().tags(tags("tag")).holdings(List.of(new Holding().id("h1")));
+
+    var actual = InstanceTraversal.traverse(toMap(instance), Map.<String, InstanceFieldVisitor<?, ?>>of(
+      "failed", new FailingVisitor(),
+      "tags", new TagsProcessor()));
+
+    assertThat(actual).isEqualTo(mapOf("tags", Set.of("tag")));
+  }
+
+  private record RecordingVisitor(Set<InstancePath> paths) implements InstanceFieldVisitor<List<String>, List<String>> {
+
+    @Override
+    public Set<InstancePath> getPaths() {
+      return paths;
+    }
+
+    @Override
+    public List<String> createAccumulator() {
+      return new ArrayList<>();
+    }
+
+    @Override
+    public void visitInstance(Map<String, Object> instance, List<String> visitedIds) {
+      visitedIds.add("instance");
+    }
+
+    @Override
+    public void visitHolding(Map<String, Object> holding, List<String> visitedIds) {
+      visitedIds.add(getString(holding, ID_FIELD));
+    }
+
+    @Override
+    public void visitItem(Map<String, Object> item, List<String> visitedIds) {
+      visitedIds.add(getString(item, ID_FIELD));
+    }
+
+    @Override
+    public List<String> getResult(List<String> visitedIds) {
+      return visitedIds;
+    }
+  }
+
+  private static final class FailingVisitor extends AbstractTagsProcessor {
+
+    @Override
+    public Set<InstancePath> getPaths() {
+      return Set.of(HOLDINGS);
+    }
+
+    @Override
+    public void visitHolding(Map<String, Object> holding, Set<String> tags) {
+      throw new IllegalStateException("error");
+    }
+  }
+}
@@ -2,24 +2,32 @@ package org.folio.search.service.setter.instance;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.folio.search.client.InventoryReferenceDataClient.ReferenceDataType.IDENTIFIER_TYPES;
+import static org.folio.isbn.IsbnUtil.convertTo13DigitNumber;
+import static org.folio.isbn.IsbnUtil.isValid10DigitNumber;
 import static org.folio.search.utils.TestConstants.INVALID_ISBN_IDENTIFIER_TYPE_ID;
 import static org.folio.search.utils.TestConstants.ISBN_IDENTIFIER_TYPE_ID;
 import static org.folio.search.utils.TestUtils.identifier;
 import static org.folio.search.utils.TestUtils.instanceWithIdentifiers;
 import static org.folio.search.utils.TestUtils.setOf;
+import static org.folio.search.utils.TestUtils.toMap;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.CharUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.search.domain.dto.Identifiers;
 import org.folio.search.domain.dto.Instance;
-import org.folio.search.integration.ReferenceDataService;
-import org.folio.search.model.client.CqlQueryParam;
+import org.folio.search.integration.IdentifierTypeProvider;
 import org.folio.spring.test.type.UnitTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,10 +43,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class IsbnProcessorTest {
 
+  private static final long RANDOM_SEED = 20231018L;
+  private static final int RANDOM_VALUES_COUNT = 50_000;
+  private static final List<String> RANDOM_VALUE_PREFIXES = List.of(
+    "", "", "978", "979", "978-", "979 ", "97", " ", "\t", "047144250X", "0-471-44250-X", "1 86197 271-7");
+  private static final String RANDOM_VALUE_CHARACTERS =
+    "01234567890123456789012345678901234567899X- - -  \t\n\u000B\f\r(a)*";
+
   @InjectMocks
   private IsbnProcessor isbnProcessor;
   @Mock
-  private ReferenceDataService referenceDataService;
+  private IdentifierTypeProvider identifierTypeProvider;
 
   @MethodSource("isbnDataProvider")
   @DisplayName("getFieldValue_parameterized")
@@ -49,17 +64,28 @@ class IsbnProcessorTest {
       mockFetchReferenceData(identifiers);
     }
 
-    var actual = isbnProcessor.getFieldValue(instance);
+    var actual = isbnProcessor.getFieldValue(toMap(instance));
     assertThat(actual).containsExactlyElementsOf(expected);
   }
 
   @Test
   void getFieldValue_negative_failedToLoadReferenceData() {
     mockFetchReferenceData(emptySet());
-    var actual = isbnProcessor.getFieldValue(instanceWithIdentifiers(isbn("123456")));
+    var actual = isbnProcessor.getFieldValue(toMap(instanceWithIdentifiers(isbn("123456"))));
     assertThat(actual).isEmpty();
   }
 
+  @Test
+  void normalizeIsbn_positive_sameAsRegexImplementation() {
+    var random = new Random(RANDOM_SEED);
+    for (var i = 0; i < RANDOM_VALUES_COUNT; i++) {
+      var value = randomIsbnValue(random);
+      assertThat(isbnProcessor.normalizeIsbn(value))
+        .as("normalizeIsbn(\"%s\")", value)
+        .isEqualTo(RegexIsbnNormalizer.normalizeIsbn(value));
+    }
+  }
+
   private static Stream<Arguments> isbnDataProvider() {
     return Stream.of(
       arguments("all empty fields", new Instance(), emptyList()),
@@ -121,8 +147,76 @@ class IsbnProcessorTest {
   }
 
   private void mockFetchReferenceData(Set<String> referenceData) {
-    when(referenceDataService.fetchReferenceData(IDENTIFIER_TYPES, CqlQueryParam.NAME,
-      isbnProcessor.getIdentifierNames()))
-      .thenReturn(referenceData);
+    when(identifierTypeProvider.getIdentifierTypeIds(isbnProcessor.getIdentifierNames())).thenReturn(referenceData);
+  }
+
+  private static String randomIsbnValue(Random random) {
+    var value = new StringBuilder(RANDOM_VALUE_PREFIXES.get(random.nextInt(RANDOM_VALUE_PREFIXES.size())));
+    var length = random.nextInt(20);
+    for (var i = 0; i < length; i++) {
+      value.append(RANDOM_VALUE_CHARACTERS.charAt(random.nextInt(RANDOM_VALUE_CHARACTERS.length())));
+    }
+    return value.toString();
+  }
+
+  /**
+   * Regular expression based implementation of ISBN normalization used to verify the char-scanning one.
+   */
+  private static final class RegexIsbnNormalizer {
+
+    private static final String SEP = "[-\\s]";
+    private static final String GROUP_1 = "(\\d{1,5})";
+    private static final String GROUP_2 = "(\\d{1,7})";
+    private static final String GROUP_3 = "(\\d{1,6})";
+    private static final Pattern ISBN10_REGEX = Pattern.compile(
+      "^(?:(\\d{9}[\\dX])|(" + GROUP_1 + SEP + GROUP_2 + SEP + GROUP_3 + SEP + "([\\dX])))");
+    private static final Pattern ISBN13_REGEX = Pattern.compile(
+      "^(978|979)(?:(\\d{10})|(" + SEP + GROUP_1 + SEP + GROUP_2 + SEP + GROUP_3 + SEP + "(\\d)))");
+
+    static List<String> normalizeIsbn(String value) {
+      String isbnValue = StringUtils.trim(value).replaceAll("\\s+", " ");
+      if (StringUtils.isEmpty(isbnValue)) {
+        return emptyList();
+      }
+      var isbn13Matcher = ISBN13_REGEX.matcher(isbnValue);
+      if (isbn13Matcher.find()) {
+        return getNormalizedIsbnValue(isbn13Matcher, singletonList(isbn13Matcher.group(0)));
+      }
+
+      var isbn10Matcher = ISBN10_REGEX.matcher(isbnValue);
+      if (isbn10Matcher.find() && isValid10DigitNumber(isbn10Matcher.group(0))) {
+        var isbn10Value = isbn10Matcher.group(0);
+        return getNormalizedIsbnValue(isbn10Matcher, List.of(isbn10Value, convertTo13DigitNumber(isbn10Value)));
+      }
+
+      return List.of(replaceCharactersBetweenDigits(isbnValue));
+    }
+
+    private static List<String> getNormalizedIsbnValue(Matcher isbnRegexMatcher, List<String> isbnValues) {
+      var normalizedIsbnTokens = new ArrayList<String>();
+      for (String isbnValue : isbnValues) {
+        normalizedIsbnTokens.add(isbnValue.replace("-", "").replace(" ", ""));
+      }
+      var isbnQualifierValue = isbnRegexMatcher.replaceFirst("").trim();
+      if (StringUtils.isNotBlank(isbnQualifierValue)) {
+        normalizedIsbnTokens.add(isbnQualifierValue);
+      }
+      return normalizedIsbnTokens;
+    }
+
+    private static String replaceCharactersBetweenDigits(String value) {
+      var resultBuilder = new StringBuilder(value.length());
+      resultBuilder.append(value.charAt(0));
+      for (var i = 1; i < value.length() - 1; i++) {
+        var current = value.charAt(i);
+        var betweenDigits = CharUtils.isAsciiNumeric(value.charAt(i - 1))
+          && CharUtils.isAsciiNumeric(value.charAt(i + 1));
+        if (!(betweenDigits && (current == ' ' || current == '-'))) {
+          resultBuilder.append(current);
+        }
+      }
+      resultBuilder.append(value.charAt(value.length() - 1));
+      return resultBuilder.toString();
+    }
   }
 }
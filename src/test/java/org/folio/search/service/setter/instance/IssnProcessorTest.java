@@ -3,13 +3,13 @@ package org.folio.search.service.setter.instance;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.folio.search.client.InventoryReferenceDataClient.ReferenceDataType.IDENTIFIER_TYPES;
 import static org.folio.search.utils.TestConstants.INVALID_ISSN_IDENTIFIER_TYPE_ID;
 import static org.folio.search.utils.TestConstants.ISBN_IDENTIFIER_TYPE_ID;
 import static org.folio.search.utils.TestConstants.ISSN_IDENTIFIER_TYPE_ID;
 import static org.folio.search.utils.TestConstants.LINKING_ISSN_IDENTIFIER_TYPE_ID;
 import static org.folio.search.utils.TestUtils.identifier;
 import static org.folio.search.utils.TestUtils.instanceWithIdentifiers;
+import static org.folio.search.utils.TestUtils.toMap;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.when;
 
@@ -19,8 +19,7 @@ import java.util.stream.Stream;
 import org.apache.commons.collections.CollectionUtils;
 import org.folio.search.domain.dto.Identifiers;
 import org.folio.search.domain.dto.Instance;
-import org.folio.search.integration.ReferenceDataService;
-import org.folio.search.model.client.CqlQueryParam;
+import org.folio.search.integration.IdentifierTypeProvider;
 import org.folio.spring.test.type.UnitTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,7 +38,7 @@ class IssnProcessorTest {
   @InjectMocks
   private IssnProcessor issnProcessor;
   @Mock
-  private ReferenceDataService referenceDataService;
+  private IdentifierTypeProvider identifierTypeProvider;
 
   @MethodSource("issnDataProvider")
   @DisplayName("getFieldValue_parameterized")
@@ -52,14 +51,14 @@ class IssnProcessorTest {
       mockFetchReferenceData(identifiers);
     }
 
-    var actual = issnProcessor.getFieldValue(instance);
+    var actual = issnProcessor.getFieldValue(toMap(instance));
     assertThat(actual).containsExactlyElementsOf(expected);
   }
 
   @Test
   void getFieldValue_negative_failedToLoadReferenceData() {
     mockFetchReferenceData(emptySet());
-    var actual = issnProcessor.getFieldValue(instanceWithIdentifiers(issn("123456")));
+    var actual = issnProcessor.getFieldValue(toMap(instanceWithIdentifiers(issn("123456"))));
     assertThat(actual).isEmpty();
   }
 
@@ -100,8 +99,6 @@ class IssnProcessorTest {
   }
 
   private void mockFetchReferenceData(Set<String> referenceData) {
-    when(referenceDataService.fetchReferenceData(IDENTIFIER_TYPES, CqlQueryParam.NAME,
-      issnProcessor.getIdentifierNames()))
-      .thenReturn(referenceData);
+    when(identifierTypeProvider.getIdentifierTypeIds(issnProcessor.getIdentifierNames())).thenReturn(referenceData);
   }
 }
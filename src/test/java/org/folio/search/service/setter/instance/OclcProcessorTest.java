@@ -3,23 +3,25 @@ package org.folio.search.service.setter.instance;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.folio.search.client.InventoryReferenceDataClient.ReferenceDataType.IDENTIFIER_TYPES;
 import static org.folio.search.utils.TestConstants.CANCELED_OCLC_IDENTIFIER_TYPE_ID;
 import static org.folio.search.utils.TestConstants.OCLC_IDENTIFIER_TYPE_ID;
 import static org.folio.search.utils.TestUtils.identifier;
 import static org.folio.search.utils.TestUtils.instanceWithIdentifiers;
 import static org.folio.search.utils.TestUtils.setOf;
+import static org.folio.search.utils.TestUtils.toMap;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.search.domain.dto.Identifiers;
 import org.folio.search.domain.dto.Instance;
-import org.folio.search.integration.ReferenceDataService;
-import org.folio.search.model.client.CqlQueryParam;
+import org.folio.search.integration.IdentifierTypeProvider;
 import org.folio.spring.test.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,10 +36,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class OclcProcessorTest {
 
+  private static final long RANDOM_SEED = 20231018L;
+  private static final int RANDOM_VALUES_COUNT = 50_000;
+  private static final List<String> RANDOM_VALUE_PREFIXES = List.of("", "(OCoLC)", "ocm", "(OCoLC)ocm", "  ", "\u2003");
+  private static final String RANDOM_VALUE_CHARACTERS =
+    "0001234567890123456789- -  \t\n\u000B\f\r\u2003\u001C\u00A0(OCoLC)*";
+  private static final Pattern OCLC_REGEX = Pattern.compile("([1-9][\\d\\-]*)");
+  private static final Pattern WHITESPACE_REGEX = Pattern.compile("\\s+");
+
   @InjectMocks
   private OclcProcessor oclcProcessor;
   @Mock
-  private ReferenceDataService referenceDataService;
+  private IdentifierTypeProvider identifierTypeProvider;
 
   private static Stream<Arguments> oclcDataProvider() {
     return Stream.of(
@@ -97,20 +107,60 @@ class OclcProcessorTest {
       mockFetchReferenceData(identifiers);
     }
 
-    var actual = oclcProcessor.getFieldValue(instance);
+    var actual = oclcProcessor.getFieldValue(toMap(instance));
     assertThat(actual).containsExactlyElementsOf(expected);
   }
 
   @Test
   void getFieldValue_negative_failedToLoadReferenceData() {
     mockFetchReferenceData(emptySet());
-    var actual = oclcProcessor.getFieldValue(instanceWithIdentifiers(oclc("123456")));
+    var actual = oclcProcessor.getFieldValue(toMap(instanceWithIdentifiers(oclc("123456"))));
     assertThat(actual).isEmpty();
   }
 
+  @Test
+  void normalizeOclc_positive_sameAsRegexImplementation() {
+    var random = new Random(RANDOM_SEED);
+    for (var i = 0; i < RANDOM_VALUES_COUNT; i++) {
+      var value = randomOclcValue(random);
+      assertThat(oclcProcessor.normalizeOclc(value))
+        .as("normalizeOclc(\"%s\")", value)
+        .isEqualTo(normalizeOclcUsingRegex(value));
+    }
+  }
+
   private void mockFetchReferenceData(Set<String> referenceData) {
-    when(referenceDataService.fetchReferenceData(IDENTIFIER_TYPES, CqlQueryParam.NAME,
-      oclcProcessor.getIdentifierNames()))
-      .thenReturn(referenceData);
+    when(identifierTypeProvider.getIdentifierTypeIds(oclcProcessor.getIdentifierNames())).thenReturn(referenceData);
+  }
+
+  private static String randomOclcValue(Random random) {
+    var value = new StringBuilder(RANDOM_VALUE_PREFIXES.get(random.nextInt(RANDOM_VALUE_PREFIXES.size())));
+    var length = random.nextInt(20);
+    for (var i = 0; i < length; i++) {
+      value.append(RANDOM_VALUE_CHARACTERS.charAt(random.nextInt(RANDOM_VALUE_CHARACTERS.length())));
+    }
+    return value.toString();
+  }
+
+  /**
+   * Regular expression based implementation of OCLC normalization used to verify the char-scanning one.
+   */
+  private static String normalizeOclcUsingRegex(String value) {
+    var oclcValue = WHITESPACE_REGEX.matcher(StringUtils.trim(value)).replaceAll("-");
+    if (StringUtils.isBlank(oclcValue)) {
+      return null;
+    }
+
+    var sb = new StringBuilder();
+    var matcher = OCLC_REGEX.matcher(oclcValue);
+    if (matcher.find()) {
+      sb.append(matcher.group(0));
+    }
+
+    if (value.charAt(value.length() - 1) == '*') {
+      sb.append('*');
+    }
+
+    return sb.toString();
   }
 }
@@ -2,6 +2,7 @@ package org.folio.search.service.setter.instance;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestUtils.toMap;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.util.Arrays;
@@ -24,7 +25,7 @@ class PublicNotesProcessorTest {
   @DisplayName("getFieldValue_parameterized")
   @ParameterizedTest(name = "[{index}] instance with {0}, expected={2}")
   void getFieldValue_parameterized(@SuppressWarnings("unused") String name, Instance eventBody, List<String> expected) {
-    var actual = publicNotesProcessor.getFieldValue(eventBody);
+    var actual = publicNotesProcessor.getFieldValue(toMap(eventBody));
     assertThat(actual).containsExactlyElementsOf(expected);
   }
 
@@ -2,6 +2,7 @@ package org.folio.search.service.setter.instance;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestUtils.toMap;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import org.folio.search.domain.dto.Contributor;
@@ -19,7 +20,7 @@ class SortContributorsProcessorTest {
       .addContributorsItem(new Contributor().name("first"))
       .addContributorsItem(new Contributor().name("second"));
 
-    assertThat(processor.getFieldValue(map)).isEqualTo("first");
+    assertThat(processor.getFieldValue(toMap(map))).isEqualTo("first");
   }
 
   @Test
@@ -28,21 +29,21 @@ class SortContributorsProcessorTest {
       .addContributorsItem(new Contributor().name("first"))
       .addContributorsItem(new Contributor().name("second").primary(true));
 
-    assertThat(processor.getFieldValue(map)).isEqualTo("second");
+    assertThat(processor.getFieldValue(toMap(map))).isEqualTo("second");
   }
 
   @Test
   void shouldReturnNullIfEmptyMap() {
-    assertNull(processor.getFieldValue(new Instance()));
+    assertNull(processor.getFieldValue(toMap(new Instance())));
   }
 
   @Test
   void shouldReturnNullIfNoContributors() {
-    assertNull(processor.getFieldValue(new Instance().title("title")));
+    assertNull(processor.getFieldValue(toMap(new Instance().title("title"))));
   }
 
   @Test
   void shouldReturnNullIfContributorsIsEmpty() {
-    assertNull(processor.getFieldValue(new Instance().contributors(emptyList())));
+    assertNull(processor.getFieldValue(toMap(new Instance().contributors(emptyList()))));
   }
 }
@@ -1,6 +1,7 @@
 package org.folio.search.service.setter.instance;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestUtils.toMap;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.util.stream.Stream;
@@ -19,7 +20,7 @@ class SortTitleProcessorTest {
   @DisplayName("getFieldValue_parameterized")
   @ParameterizedTest(name = "[{index}] instance with {0}, expected={2}")
   void getFieldValue_parameterized(@SuppressWarnings("unused") String name, Instance eventBody, String expected) {
-    var actual = sortTitleProcessor.getFieldValue(eventBody);
+    var actual = sortTitleProcessor.getFieldValue(toMap(eventBody));
     assertThat(actual).isEqualTo(expected);
   }
 
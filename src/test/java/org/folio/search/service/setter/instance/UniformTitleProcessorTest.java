@@ -9,6 +9,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.client.InventoryReferenceDataClient.ReferenceDataType.ALTERNATIVE_TITLE_TYPES;
 import static org.folio.search.utils.TestConstants.RESOURCE_ID;
 import static org.folio.search.utils.TestUtils.randomId;
+import static org.folio.search.utils.TestUtils.toMap;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.when;
 
@@ -68,7 +69,7 @@ class UniformTitleProcessorTest {
   void getFieldValue_parameterized(@SuppressWarnings("unused") String name, Instance instance, List<String> expected) {
     when(referenceDataService.fetchReferenceData(ALTERNATIVE_TITLE_TYPES, CqlQueryParam.NAME, UNIFORM_TITLES))
       .thenReturn(singleton(UNIFORM_TITLE_TYPE_ID));
-    var actual = uniformTitleProcessor.getFieldValue(instance);
+    var actual = uniformTitleProcessor.getFieldValue(toMap(instance));
     assertThat(actual).containsExactlyElementsOf(expected);
   }
 
@@ -76,8 +77,8 @@ class UniformTitleProcessorTest {
   void getFieldValue_negative() {
     when(referenceDataService.fetchReferenceData(ALTERNATIVE_TITLE_TYPES, CqlQueryParam.NAME, UNIFORM_TITLES))
       .thenReturn(emptySet());
-    var actual = uniformTitleProcessor.getFieldValue(new Instance().id(RESOURCE_ID)
-      .alternativeTitles(List.of(alternativeTitle(UNIFORM_TITLE_TYPE_ID, "value"))));
+    var actual = uniformTitleProcessor.getFieldValue(toMap(new Instance().id(RESOURCE_ID)
+      .alternativeTitles(List.of(alternativeTitle(UNIFORM_TITLE_TYPE_ID, "value")))));
     assertThat(actual).isEmpty();
   }
 }
@@ -1,6 +1,7 @@
 package org.folio.search.service.setter.item;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestUtils.toMap;
 
 import java.util.List;
 import org.folio.search.domain.dto.Instance;
@@ -18,7 +19,7 @@ class EffectiveCallNumberComponentsProcessorTest {
     var items = List.of(itemWithCallNumber("prefix1", "cn1", "suffix1"),
       itemWithCallNumber("prefix2", "cn2", "suffix2"));
 
-    assertThat(processor.getFieldValue(new Instance().items(items)))
+    assertThat(processor.getFieldValue(toMap(new Instance().items(items))))
       .containsExactlyInAnyOrder("prefix1 cn1 suffix1", "prefix2 cn2 suffix2");
   }
 
@@ -29,13 +30,13 @@ class EffectiveCallNumberComponentsProcessorTest {
       itemWithCallNumber("prefix2", "cn2", null),
       itemWithCallNumber(null, "cn3", null));
 
-    assertThat(processor.getFieldValue(new Instance().items(items)))
+    assertThat(processor.getFieldValue(toMap(new Instance().items(items))))
       .containsExactlyInAnyOrder("cn1 suffix1", "prefix2 cn2", "cn3");
   }
 
   @Test
   void shouldReturnEmptySetWhenNoItems() {
-    assertThat(processor.getFieldValue(new Instance())).isEmpty();
+    assertThat(processor.getFieldValue(toMap(new Instance()))).isEmpty();
   }
 
   @Test
@@ -43,7 +44,7 @@ class EffectiveCallNumberComponentsProcessorTest {
     var items = List.of(new Item(), new Item(),
       new Item().effectiveCallNumberComponents(new ItemEffectiveCallNumberComponents()));
 
-    assertThat(processor.getFieldValue(new Instance().items(items))).isEmpty();
+    assertThat(processor.getFieldValue(toMap(new Instance().items(items)))).isEmpty();
   }
 
   private Item itemWithCallNumber(String prefix, String cn, String suffix) {
@@ -3,20 +3,19 @@ package org.folio.search.service.setter.item;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestUtils.fieldPathTree;
 import static org.folio.search.utils.TestUtils.mapOf;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.folio.search.utils.TestUtils.toMap;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
-import java.util.Set;
 import org.folio.search.domain.dto.Instance;
 import org.folio.search.domain.dto.Item;
 import org.folio.search.domain.dto.ItemEffectiveCallNumberComponents;
 import org.folio.search.domain.dto.Note;
 import org.folio.search.domain.dto.Tags;
+import org.folio.search.model.metadata.FieldPathTree;
 import org.folio.search.model.service.MultilangValue;
 import org.folio.search.service.metadata.SearchFieldProvider;
 import org.folio.spring.test.type.UnitTest;
@@ -33,7 +32,8 @@ class ItemAllFieldValuesProcessorTest {
 
   private static final String ITEM_ID_1 = randomId();
   private static final String ITEM_ID_2 = randomId();
-  private static final Set<String> MULTILANG_VALUE_PATHS = Set.of("items.notes.note", "items.tags.tagList");
+  private static final FieldPathTree FIELD_PATH_TREE = fieldPathTree(
+    "items.notes.note", "items.tags.tagList", "itemPublicNotes");
 
   @InjectMocks
   private ItemAllFieldValuesProcessor processor;
@@ -43,13 +43,11 @@ class ItemAllFieldValuesProcessorTest {
   @BeforeEach
   void setUp() {
     processor.setSearchFieldProvider(searchFieldProvider);
+    when(searchFieldProvider.getFieldPathTree(INSTANCE_RESOURCE)).thenReturn(FIELD_PATH_TREE);
   }
 
   @Test
   void getFieldValue_positive() {
-    when(searchFieldProvider.isMultilangField(eq(INSTANCE_RESOURCE), anyString())).thenAnswer(inv ->
-      MULTILANG_VALUE_PATHS.contains(inv.<String>getArgument(1)));
-
     var actual = processor.getFieldValue(toMap(
       new Instance().id(randomId()).items(List.of(item1(), item2()))));
 
@@ -60,9 +58,6 @@ class ItemAllFieldValuesProcessorTest {
 
   @Test
   void getFieldValue_holdingFieldsFromSearchGeneratedValues() {
-    when(searchFieldProvider.isMultilangField(INSTANCE_RESOURCE, "itemPublicNotes")).thenReturn(true);
-    when(searchFieldProvider.isMultilangField(INSTANCE_RESOURCE, "itemFullCallNumbers")).thenReturn(false);
-
     var actual = processor.getFieldValue(mapOf(
       "itemPublicNotes", List.of("note1", "note2"),
       "itemFullCallNumbers", List.of("callNumber1", "callNumber2")));
@@ -1,6 +1,7 @@
 package org.folio.search.service.setter.item;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestUtils.toMap;
 
 import java.util.List;
 import org.folio.search.domain.dto.Instance;
@@ -16,14 +17,14 @@ class ItemCallNumberProcessorTest {
   @Test
   void getFieldValue_multipleValue_positive() {
     var eventBody = instance(item("HD 11"), item("HD 12"), item("HD 11"));
-    var actual = callNumberProcessor.getFieldValue(eventBody);
+    var actual = callNumberProcessor.getFieldValue(toMap(eventBody));
     assertThat(actual).containsExactly(4408940162027048960L, 4408940181797658624L);
   }
 
   @Test
   void getFieldValue_emptyAfterNormalization() {
     var eventBody = instance(item("()[]"));
-    var actual = callNumberProcessor.getFieldValue(eventBody);
+    var actual = callNumberProcessor.getFieldValue(toMap(eventBody));
     assertThat(actual).isEmpty();
   }
 
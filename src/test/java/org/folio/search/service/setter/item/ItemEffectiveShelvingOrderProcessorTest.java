@@ -1,6 +1,7 @@
 package org.folio.search.service.setter.item;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestUtils.toMap;
 
 import java.util.List;
 import org.folio.search.domain.dto.Instance;
@@ -21,7 +22,7 @@ class ItemEffectiveShelvingOrderProcessorTest {
       new Item().effectiveShelvingOrder("F-132,23"),
       new Item().effectiveShelvingOrder("unknown"),
       new Item().effectiveShelvingOrder("[]](測試)")));
-    var actual = itemEffectiveShelvingOrderProcessor.getFieldValue(instance);
+    var actual = itemEffectiveShelvingOrderProcessor.getFieldValue(toMap(instance));
     assertThat(actual).containsExactly("A1", "F-132,23", "UNKNOWN");
   }
 
@@ -3,6 +3,7 @@ package org.folio.search.service.setter.item;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.utils.TestUtils.randomId;
+import static org.folio.search.utils.TestUtils.toMap;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.util.Arrays;
@@ -27,7 +28,7 @@ class ItemIdentifiersProcessorTest {
   @DisplayName("getFieldValue_parameterized")
   @ParameterizedTest(name = "[{index}] instance with {0}, expected={2}")
   void getFieldValue_parameterized(@SuppressWarnings("unused") String name, Instance eventBody, List<String> expected) {
-    var actual = itemIdentifiersProcessor.getFieldValue(eventBody);
+    var actual = itemIdentifiersProcessor.getFieldValue(toMap(eventBody));
     assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
   }
 
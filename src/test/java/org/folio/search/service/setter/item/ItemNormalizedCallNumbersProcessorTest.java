@@ -1,6 +1,7 @@
 package org.folio.search.service.setter.item;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestUtils.toMap;
 
 import java.util.List;
 import org.folio.search.domain.dto.Instance;
@@ -18,7 +19,7 @@ class ItemNormalizedCallNumbersProcessorTest {
     var items = List.of(itemWithCallNumber("Rare Books", "S537.N56 C82", "++"),
       itemWithCallNumber("Oversize", "ABC123.1 .R15 2018", "Curriculum Materials Collection"));
 
-    assertThat(processor.getFieldValue(new Instance().items(items)))
+    assertThat(processor.getFieldValue(toMap(new Instance().items(items))))
       .containsExactlyInAnyOrder("rarebookss537n56c82", "s537n56c82",
         "oversizeabc1231r152018curriculummaterialscollection", "abc1231r152018curriculummaterialscollection");
   }
@@ -30,19 +31,19 @@ class ItemNormalizedCallNumbersProcessorTest {
       itemWithCallNumber("prefix2", "cn2", null),
       itemWithCallNumber(null, "cn3", null));
 
-    assertThat(processor.getFieldValue(new Instance().items(items)))
+    assertThat(processor.getFieldValue(toMap(new Instance().items(items))))
       .containsExactlyInAnyOrder("cn1suffix1", "prefix2cn2", "cn2", "cn3");
   }
 
   @Test
   void shouldReturnEmptySetWhenNoItems() {
-    assertThat(processor.getFieldValue(new Instance())).isEmpty();
+    assertThat(processor.getFieldValue(toMap(new Instance()))).isEmpty();
   }
 
   @Test
   void shouldReturnEmptySetWhenItemsHasNoCallNumber() {
     var items = List.of(new Item(), new Item());
-    assertThat(processor.getFieldValue(new Instance().items(items))).isEmpty();
+    assertThat(processor.getFieldValue(toMap(new Instance().items(items)))).isEmpty();
   }
 
   private Item itemWithCallNumber(String prefix, String cn, String suffix) {
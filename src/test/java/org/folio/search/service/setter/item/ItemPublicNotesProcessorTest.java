@@ -2,6 +2,7 @@ package org.folio.search.service.setter.item;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestUtils.toMap;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.util.Arrays;
@@ -25,7 +26,7 @@ class ItemPublicNotesProcessorTest {
   @DisplayName("getFieldValue_parameterized")
   @ParameterizedTest(name = "[{index}] instance with {0}, expected={2}")
   void getFieldValue_parameterized(@SuppressWarnings("unused") String name, Instance eventBody, List<String> expected) {
-    var actual = itemPublicNotesProcessor.getFieldValue(eventBody);
+    var actual = itemPublicNotesProcessor.getFieldValue(toMap(eventBody));
     assertThat(actual).containsExactlyElementsOf(expected);
   }
 
@@ -1,6 +1,7 @@
 package org.folio.search.service.setter.item;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestUtils.toMap;
 
 import java.util.List;
 import java.util.UUID;
@@ -38,7 +39,7 @@ class ItemTypedCallNumberProcessorTest {
       item("HD 11", CallNumberType.SUDOC.getId()),
       item("HD 11", CallNumberType.OTHER.getId())
     );
-    var actual = processor.getFieldValue(eventBody);
+    var actual = processor.getFieldValue(toMap(eventBody));
     assertThat(actual).containsExactly(229342416757269504L,
       373897522706326528L,
       518452628655383552L,
@@ -51,7 +52,7 @@ class ItemTypedCallNumberProcessorTest {
   @MethodSource("emptyCallNumberAfterProcessingSource")
   void getFieldValue_emptyCallNumberAfterProcessing(String effectiveShelvingOrder, String callNumberTypeId) {
     var eventBody = instance(item(effectiveShelvingOrder, callNumberTypeId));
-    var actual = processor.getFieldValue(eventBody);
+    var actual = processor.getFieldValue(toMap(eventBody));
     assertThat(actual).isEmpty();
   }
 
@@ -12,6 +12,10 @@ public class ApiEndpoints {
     return "/search/instances";
   }
 
+  public static String instanceCursorSearchPath() {
+    return "/search/instances/cursor";
+  }
+
   public static String authoritySearchPath() {
     return "/search/authorities";
   }
@@ -10,6 +10,7 @@ import static org.folio.search.model.types.CallNumberType.LC;
 import static org.folio.search.model.types.CallNumberType.NLM;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.getShelfKeyFromCallNumber;
+import static org.folio.search.utils.TestUtils.mapOf;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.opensearch.index.query.QueryBuilders.boolQuery;
@@ -110,6 +111,18 @@ class CallNumberUtilsTest {
     assertThat(actual).isEqualTo("prefix cn");
   }
 
+  @Test
+  void getCallNumberTypeId_positive() {
+    var actual = CallNumberUtils.getCallNumberTypeId(
+      mapOf("effectiveCallNumberComponents", mapOf("typeId", "type1", "callNumber", "cn")));
+    assertThat(actual).isEqualTo("type1");
+  }
+
+  @Test
+  void getCallNumberTypeId_negative_noComponents() {
+    assertThat(CallNumberUtils.getCallNumberTypeId(mapOf("effectiveShelvingOrder", "cn"))).isNull();
+  }
+
   @Test
   void getNormalizedCallNumber_positive() {
     var actual = CallNumberUtils.normalizeCallNumberComponents(null, "94 NF 14/1:3792-3835", null);
@@ -78,6 +78,7 @@ import org.folio.search.domain.dto.Tags;
 import org.folio.search.model.SearchResult;
 import org.folio.search.model.index.SearchDocumentBody;
 import org.folio.search.model.metadata.FieldDescription;
+import org.folio.search.model.metadata.FieldPathTree;
 import org.folio.search.model.metadata.ObjectFieldDescription;
 import org.folio.search.model.metadata.PlainFieldDescription;
 import org.folio.search.model.metadata.ResourceDescription;
@@ -443,6 +444,14 @@ public class TestUtils {
     return field;
   }
 
+  public static FieldPathTree fieldPathTree(String... multilangFieldPaths) {
+    var flattenFields = new LinkedHashMap<String, PlainFieldDescription>();
+    for (var path : multilangFieldPaths) {
+      flattenFields.put(path, multilangField());
+    }
+    return FieldPathTree.of(flattenFields);
+  }
+
   public static PlainFieldDescription standardFulltextField() {
     return plainField(STANDARD_FIELD_TYPE, emptyList());
   }